@@ -2,6 +2,7 @@ plugins {
 	java
 	id("org.springframework.boot") version "3.4.1"
 	id("io.spring.dependency-management") version "1.1.7"
+	id("me.champeau.jmh") version "0.7.2"
 	jacoco
 }
 
@@ -12,6 +13,9 @@ java {
 	sourceCompatibility = JavaVersion.VERSION_21
 }
 
+// Self-contained load test harness run against a started application, see the README
+val loadtest: SourceSet by sourceSets.creating
+
 repositories {
 	mavenCentral()
 }
@@ -27,11 +31,19 @@ dependencies {
 
 	implementation("org.springframework.boot:spring-boot-starter")
 	implementation("org.springframework.boot:spring-boot-starter-web")
+	implementation("org.springframework.boot:spring-boot-starter-webflux")
 	implementation("org.springframework.boot:spring-boot-starter-data-jpa")
 	implementation("org.springframework.boot:spring-boot-starter-validation")
+	implementation("org.springframework.boot:spring-boot-starter-actuator")
+	implementation("io.micrometer:micrometer-registry-prometheus")
+	implementation("com.github.ben-manes.caffeine:caffeine")
+	implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-cbor")
 	implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:$OPEN_API")
 	implementation("org.javamoney:moneta:$MONETA")
 	implementation("com.h2database:h2:$H2")
+	implementation("org.springframework:spring-r2dbc")
+	implementation("io.r2dbc:r2dbc-h2")
+	implementation("io.r2dbc:r2dbc-pool")
 
 	compileOnly("org.projectlombok:lombok:$LOMBOK")
 
@@ -54,6 +66,31 @@ dependencies {
 	testAnnotationProcessor("org.projectlombok:lombok:$LOMBOK")
 }
 
+jmh {
+	jmhVersion.set("1.37")
+	// Report allocation rate and bytes allocated per operation alongside every benchmark
+	profilers.add("gc")
+	resultFormat.set("JSON")
+	resultsFile.set(layout.buildDirectory.file("jmh/results.json"))
+	providers.gradleProperty("jmhIncludes").orNull?.let { includes.add(it) }
+	providers.gradleProperty("jmhRows").orNull?.let {
+		benchmarkParameters.put("rows", objects.listProperty(String::class.java).value(it.split(",")))
+	}
+}
+
+listOf(
+	"generateCatalog" to "CatalogGenerator",
+	"loadTest" to "LoadDriver"
+).forEach { (name, mainClass) ->
+	tasks.register<JavaExec>(name) {
+		group = "load test"
+		description = "Runs the $mainClass of the load test harness, configured with -Ploadtest.* properties"
+		classpath = loadtest.runtimeClasspath
+		this.mainClass.set("com.challenge.productservice.loadtest.$mainClass")
+		systemProperties(providers.gradlePropertiesPrefixedBy("loadtest.").get())
+	}
+}
+
 jacoco {
 	toolVersion = "0.8.12"
 }
@@ -0,0 +1,112 @@
+package com.challenge.productservice.benchmark;
+
+import com.challenge.productservice.ProductServiceApplication;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Starts the application for benchmarks and fills its database.
+ */
+public final class BenchmarkApplication {
+
+    private static final int INSERT_BATCH_SIZE = 10_000;
+
+    private BenchmarkApplication() {}
+
+    /**
+     * Starts the application without a web server and on a fresh in-memory database. Properties are given as
+     * {@code name=value} and take precedence over {@code application.yml}.
+     */
+    public static ConfigurableApplicationContext start(String... properties) {
+        return run(WebApplicationType.NONE, properties);
+    }
+
+    /**
+     * Same as {@link #start(String...)}, but also starts the web server on a random port, available through
+     * {@link #port(ConfigurableApplicationContext)}.
+     */
+    public static ConfigurableApplicationContext startWebServer(String... properties) {
+        List<String> arguments = new ArrayList<>(List.of(properties));
+        arguments.add("server.port=0");
+        return run(WebApplicationType.SERVLET, arguments.toArray(String[]::new));
+    }
+
+    /**
+     * Same as {@link #startWebServer(String...)}, with the {@code reactive} profile serving the price lookups from
+     * WebFlux.
+     */
+    public static ConfigurableApplicationContext startReactiveWebServer(String... properties) {
+        List<String> arguments = new ArrayList<>(List.of(properties));
+        arguments.add("server.port=0");
+        arguments.add("spring.profiles.active=reactive");
+        return run(WebApplicationType.REACTIVE, arguments.toArray(String[]::new));
+    }
+
+    public static int port(ConfigurableApplicationContext context) {
+        return ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    private static ConfigurableApplicationContext run(WebApplicationType webApplicationType, String... properties) {
+        List<String> arguments = new ArrayList<>(List.of(
+            "--spring.datasource.url=jdbc:h2:mem:benchmark-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+            "--spring.jpa.show-sql=false",
+            "--spring.h2.console.enabled=false",
+            "--logging.level.root=WARN"
+        ));
+        for (String property : properties) {
+            arguments.add("--" + property);
+        }
+        return new SpringApplicationBuilder(ProductServiceApplication.class)
+            .web(webApplicationType)
+            .run(arguments.toArray(String[]::new));
+    }
+
+    public static void insertPrices(ConfigurableApplicationContext context, int rows) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        BenchmarkDataset.forEachPrice(rows, price -> {
+            batch.add(toRow(price));
+            if (batch.size() == INSERT_BATCH_SIZE) {
+                insert(jdbcTemplate, batch);
+                batch.clear();
+            }
+        });
+        insert(jdbcTemplate, batch);
+    }
+
+    private static Object[] toRow(ProductPrice price) {
+        return new Object[] {
+            UUID.randomUUID(),
+            price.brandId().value(),
+            Timestamp.valueOf(price.startDate()),
+            Timestamp.valueOf(price.endDate()),
+            price.priceList(),
+            price.productId().value(),
+            price.priority(),
+            price.price().amount(),
+            price.price().currency().getCurrencyCode()
+        };
+    }
+
+    private static void insert(JdbcTemplate jdbcTemplate, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+            """
+            INSERT INTO prices (id, brand_id, start_date, end_date, price_list, product_id, priority, price, currency)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """,
+            rows
+        );
+    }
+}
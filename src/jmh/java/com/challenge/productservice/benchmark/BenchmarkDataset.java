@@ -0,0 +1,128 @@
+package com.challenge.productservice.benchmark;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.Price;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceQuery;
+import com.challenge.productservice.infrastructure.database.ProductPriceSource;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+/**
+ * Deterministic dataset shaped like {@code data.sql}: every product has a base price covering the whole period plus
+ * three overlapping promotions with a higher priority.
+ */
+public final class BenchmarkDataset {
+
+    public static final int PRICES_PER_PRODUCT = 4;
+    public static final int BRANDS = 3;
+    public static final long FIRST_PRODUCT_ID = 10_000;
+    public static final LocalDateTime PERIOD_START = LocalDateTime.parse("2020-06-14T00:00:00");
+    public static final LocalDateTime PERIOD_END = LocalDateTime.parse("2020-12-31T23:59:59");
+
+    private static final CurrencyUnit EUR = Monetary.getCurrency("EUR");
+
+    private BenchmarkDataset() {}
+
+    public static long products(int rows) {
+        return Math.max(1, rows / PRICES_PER_PRODUCT);
+    }
+
+    public static void forEachPrice(int rows, Consumer<ProductPrice> consumer) {
+        long products = products(rows);
+        for (long product = 0; product < products; product++) {
+            ProductId productId = new ProductId(FIRST_PRODUCT_ID + product);
+            BrandId brandId = new BrandId(1 + product % BRANDS);
+            LocalDateTime day = PERIOD_START.plusDays(product % 150);
+            consumer.accept(price(brandId, productId, PERIOD_START, PERIOD_END, 1, 0, "35.50"));
+            consumer.accept(price(brandId, productId, day.plusHours(15), day.plusHours(18).plusMinutes(30), 2, 1, "25.45"));
+            consumer.accept(price(brandId, productId, day.plusDays(1), day.plusDays(1).plusHours(11), 3, 1, "30.50"));
+            consumer.accept(price(brandId, productId, day.plusDays(1).plusHours(16), PERIOD_END, 4, 1, "38.95"));
+        }
+    }
+
+    public static List<ProductPrice> prices(int rows) {
+        List<ProductPrice> prices = new ArrayList<>(rows);
+        forEachPrice(rows, prices::add);
+        return prices;
+    }
+
+    /**
+     * Source serving the given prices, for the repositories loaded from memory.
+     */
+    public static ProductPriceSource source(List<ProductPrice> prices) {
+        return new ProductPriceSource() {
+            @Override
+            public List<ProductPrice> getAllProductPrices() {
+                return prices;
+            }
+
+            @Override
+            public List<ProductPrice> getAllProductPrices(ProductId productId, BrandId brandId) {
+                return prices.stream()
+                    .filter(price -> price.productId().equals(productId) && price.brandId().equals(brandId))
+                    .toList();
+            }
+
+            @Override
+            public List<ProductPrice> getOverlappingProductPrices(
+                ProductId productId,
+                BrandId brandId,
+                LocalDateTime from,
+                LocalDateTime to
+            ) {
+                return getAllProductPrices(productId, brandId).stream()
+                    .filter(price -> !price.startDate().isAfter(to) && !price.endDate().isBefore(from))
+                    .toList();
+            }
+        };
+    }
+
+    /**
+     * Random lookups over existing products, spread across the whole period.
+     */
+    public static ProductPriceQuery[] queries(int rows, int count) {
+        SplittableRandom random = new SplittableRandom(42);
+        long products = products(rows);
+        long periodSeconds = Duration.between(PERIOD_START, PERIOD_END).toSeconds();
+        ProductPriceQuery[] queries = new ProductPriceQuery[count];
+        for (int i = 0; i < count; i++) {
+            long product = random.nextLong(products);
+            queries[i] = new ProductPriceQuery(
+                new ProductId(FIRST_PRODUCT_ID + product),
+                new BrandId(1 + product % BRANDS),
+                PERIOD_START.plusSeconds(random.nextLong(periodSeconds))
+            );
+        }
+        return queries;
+    }
+
+    private static ProductPrice price(
+        BrandId brandId,
+        ProductId productId,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        int priceList,
+        int priority,
+        String amount
+    ) {
+        return new ProductPrice(
+            brandId,
+            startDate,
+            endDate,
+            priceList,
+            productId,
+            priority,
+            new Price(new BigDecimal(amount), EUR)
+        );
+    }
+}
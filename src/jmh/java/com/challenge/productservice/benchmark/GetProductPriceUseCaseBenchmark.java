@@ -0,0 +1,85 @@
+package com.challenge.productservice.benchmark;
+
+import com.challenge.productservice.application.getproductprice.GetProductPriceRequest;
+import com.challenge.productservice.application.getproductprice.GetProductPriceResponse;
+import com.challenge.productservice.application.getproductprice.GetProductPriceUseCase;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceQuery;
+import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import com.challenge.productservice.infrastructure.database.ProductPriceSource;
+import com.challenge.productservice.infrastructure.database.inmemory.IntervalTreeProductPriceRepository;
+import com.challenge.productservice.infrastructure.database.inmemory.TimelineProductPriceRepository;
+import com.challenge.productservice.infrastructure.database.mapped.MappedProductPriceRepository;
+import com.challenge.productservice.infrastructure.database.sharded.ShardedProductPriceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class GetProductPriceUseCaseBenchmark {
+
+    private static final int QUERIES = 1024;
+
+    @Param({"interval-tree", "timeline", "mapped", "sharded"})
+    public String repository;
+
+    @Param({"10000", "1000000"})
+    public int rows;
+
+    private GetProductPriceUseCase useCase;
+    private GetProductPriceRequest[] requests;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<ProductPrice> prices = BenchmarkDataset.prices(rows);
+        ProductPriceSource source = BenchmarkDataset.source(prices);
+        ProductPriceRepository productPriceRepository = switch (repository) {
+            case "interval-tree" -> new IntervalTreeProductPriceRepository(source);
+            case "timeline" -> new TimelineProductPriceRepository(source);
+            case "mapped" -> new MappedProductPriceRepository(
+                source,
+                Path.of(System.getProperty("java.io.tmpdir")),
+                0
+            );
+            case "sharded" -> new ShardedProductPriceRepository(
+                source,
+                Runtime.getRuntime().availableProcessors(),
+                new SimpleMeterRegistry()
+            );
+            default -> throw new IllegalArgumentException("Unknown repository " + repository);
+        };
+        useCase = new GetProductPriceUseCase(productPriceRepository);
+
+        ProductPriceQuery[] queries = BenchmarkDataset.queries(rows, QUERIES);
+        requests = new GetProductPriceRequest[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            requests[i] = new GetProductPriceRequest(queries[i].productId(), queries[i].brandId(), queries[i].validAt());
+        }
+    }
+
+    @Benchmark
+    public GetProductPriceResponse execute() {
+        GetProductPriceRequest request = requests[next++ & (QUERIES - 1)];
+        return useCase.execute(request);
+    }
+}
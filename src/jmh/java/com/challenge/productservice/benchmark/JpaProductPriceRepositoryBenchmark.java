@@ -0,0 +1,94 @@
+package com.challenge.productservice.benchmark;
+
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceQuery;
+import com.challenge.productservice.infrastructure.database.JpaProductPriceRepository;
+import com.challenge.productservice.infrastructure.database.mapper.ProductPriceMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Point-in-time lookups through the JPA adapter against an H2 database holding {@code rows} prices.
+ * <p>
+ * {@link #getProductPrice()} is the path used by the service, letting the database resolve the winning price and
+ * fetching only that row. {@link #getProductPrices()} fetches every candidate projected straight into rows and
+ * {@link #getProductPricesThroughEntities()} hydrates managed entities first, to compare the three.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class JpaProductPriceRepositoryBenchmark {
+
+    private static final int QUERIES = 1024;
+
+    @Param({"10000", "1000000", "10000000"})
+    public int rows;
+
+    /**
+     * Whether the lookup index of {@code schema.sql} is kept. Without it, every lookup scans the whole table.
+     */
+    @Param({"true", "false"})
+    public boolean lookupIndex;
+
+    private ConfigurableApplicationContext context;
+    private JpaProductPriceRepository repository;
+    private ProductPriceQuery[] queries;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        if (!lookupIndex) {
+            context.getBean(JdbcTemplate.class).execute("DROP INDEX idx_prices_lookup");
+        }
+        BenchmarkApplication.insertPrices(context, rows);
+        repository = context.getBean(JpaProductPriceRepository.class);
+        queries = BenchmarkDataset.queries(rows, QUERIES);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<ProductPrice> getProductPrice() {
+        ProductPriceQuery query = queries[next++ & (QUERIES - 1)];
+        return repository.getProductPrice(query.productId(), query.brandId(), query.validAt());
+    }
+
+    @Benchmark
+    public List<ProductPrice> getProductPrices() {
+        ProductPriceQuery query = queries[next++ & (QUERIES - 1)];
+        return repository.getProductPrices(query.productId(), query.brandId(), query.validAt());
+    }
+
+    @Benchmark
+    public List<ProductPrice> getProductPricesThroughEntities() {
+        ProductPriceQuery query = queries[next++ & (QUERIES - 1)];
+        return repository.findProductPrices(query.productId().value(), query.brandId().value(), query.validAt())
+            .stream()
+            .map(ProductPriceMapper::toDomain)
+            .toList();
+    }
+}
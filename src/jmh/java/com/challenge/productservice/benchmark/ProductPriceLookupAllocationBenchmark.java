@@ -0,0 +1,86 @@
+package com.challenge.productservice.benchmark;
+
+import com.challenge.productservice.application.getproductprice.GetProductPriceUseCase;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceQuery;
+import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import com.challenge.productservice.infrastructure.config.ProductPriceHttpCacheProperties;
+import com.challenge.productservice.infrastructure.database.ProductPriceSource;
+import com.challenge.productservice.infrastructure.database.inmemory.IntervalTreeProductPriceRepository;
+import com.challenge.productservice.infrastructure.database.inmemory.TimelineProductPriceRepository;
+import com.challenge.productservice.infrastructure.database.mapped.MappedProductPriceRepository;
+import com.challenge.productservice.infrastructure.entrypoint.rest.ProductPriceController;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A lookup from the controller down to the in-memory repositories, without the HTTP and JSON layers. Run with the
+ * {@code gc} profiler, {@code gc.alloc.rate.norm} reports the bytes allocated per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ProductPriceLookupAllocationBenchmark {
+
+    private static final int QUERIES = 1024;
+
+    @Param({"interval-tree", "timeline", "mapped"})
+    public String repository;
+
+    @Param({"1000000"})
+    public int rows;
+
+    private ProductPriceController controller;
+    private ProductPriceQuery[] queries;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<ProductPrice> prices = BenchmarkDataset.prices(rows);
+        ProductPriceSource source = BenchmarkDataset.source(prices);
+        ProductPriceRepository productPriceRepository = switch (repository) {
+            case "interval-tree" -> new IntervalTreeProductPriceRepository(source);
+            case "timeline" -> new TimelineProductPriceRepository(source);
+            case "mapped" -> new MappedProductPriceRepository(
+                source,
+                Path.of(System.getProperty("java.io.tmpdir")),
+                0
+            );
+            default -> throw new IllegalArgumentException("Unknown repository " + repository);
+        };
+        controller = new ProductPriceController(
+            new GetProductPriceUseCase(productPriceRepository),
+            new ProductPriceHttpCacheProperties(Duration.ofHours(1))
+        );
+        queries = BenchmarkDataset.queries(rows, QUERIES);
+    }
+
+    @Benchmark
+    public ResponseEntity<Object> getProductPrice() {
+        ProductPriceQuery query = queries[next++ & (QUERIES - 1)];
+        return controller.getProductPrice(
+            query.productId().value(),
+            query.brandId().value(),
+            query.validAt()
+        );
+    }
+}
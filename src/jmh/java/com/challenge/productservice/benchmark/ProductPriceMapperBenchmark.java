@@ -0,0 +1,60 @@
+package com.challenge.productservice.benchmark;
+
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.infrastructure.database.entity.ProductPriceEntity;
+import com.challenge.productservice.infrastructure.database.mapper.ProductPriceMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductPriceMapperBenchmark {
+
+    private ProductPriceEntity entity;
+
+    @Setup
+    public void setUp() {
+        entity = new ProductPriceEntity();
+        entity.setId(UUID.randomUUID());
+        entity.setBrandId(1);
+        entity.setStartDate(LocalDateTime.parse("2020-06-14T00:00:00"));
+        entity.setEndDate(LocalDateTime.parse("2020-12-31T23:59:59"));
+        entity.setPriceList(1);
+        entity.setProductId(35455);
+        entity.setPriority(0);
+        entity.setPrice(new BigDecimal("35.50"));
+        entity.setCurrency("EUR");
+    }
+
+    @Benchmark
+    public ProductPrice toDomain() {
+        return ProductPriceMapper.toDomain(entity);
+    }
+
+    /**
+     * Currency lookup the mapper did on every row before caching currencies, as a baseline.
+     */
+    @Benchmark
+    public CurrencyUnit getCurrencyFromMonetary() {
+        return Monetary.getCurrency(entity.getCurrency());
+    }
+}
@@ -0,0 +1,102 @@
+package com.challenge.productservice.benchmark;
+
+import com.challenge.productservice.infrastructure.config.ObjectMapperConfig;
+import com.challenge.productservice.infrastructure.entrypoint.rest.response.BatchProductPriceResponse;
+import com.challenge.productservice.infrastructure.entrypoint.rest.response.ProductPriceResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization done by the controller when answering {@code GET /prices} and {@code POST /prices/batch}, using the
+ * application mappers of the JSON format and of the CBOR format answered to clients accepting {@code application/cbor}.
+ * <p>
+ * The size of every payload, the bytes sent on the wire, is printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductPriceResponseSerializationBenchmark {
+
+    private static final int BATCH_ITEMS = 100;
+
+    @Param({"json", "cbor"})
+    public String format;
+
+    private ObjectWriter writer;
+    private ObjectWriter batchWriter;
+    private ProductPriceResponse response;
+    private BatchProductPriceResponse batchResponse;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        ObjectMapperConfig objectMapperConfig = new ObjectMapperConfig();
+        ObjectMapper objectMapper = switch (format) {
+            case "json" -> objectMapperConfig.objectMapper();
+            case "cbor" -> objectMapperConfig.cborMapper();
+            default -> throw new IllegalArgumentException("Unknown format " + format);
+        };
+        writer = objectMapper.writerFor(ProductPriceResponse.class);
+        batchWriter = objectMapper.writerFor(BatchProductPriceResponse.class);
+        response = new ProductPriceResponse(
+            35455,
+            1,
+            1,
+            LocalDateTime.parse("2020-06-14T00:00:00"),
+            LocalDateTime.parse("2020-12-31T23:59:59"),
+            new BigDecimal("35.50"),
+            "EUR"
+        );
+
+        LocalDateTime validAt = LocalDateTime.parse("2020-06-14T16:00:00");
+        List<BatchProductPriceResponse.Item> items = new ArrayList<>(BATCH_ITEMS);
+        for (int i = 0; i < BATCH_ITEMS; i++) {
+            items.add(new BatchProductPriceResponse.Item(
+                response.productId() + i,
+                response.brandId(),
+                validAt,
+                BatchProductPriceResponse.Status.FOUND,
+                response
+            ));
+        }
+        batchResponse = new BatchProductPriceResponse(items);
+
+        System.out.printf(
+            "%n%s: %d bytes per price, %d bytes per batch of %d prices%n",
+            format,
+            writeProductPrice().length,
+            writeBatch().length,
+            BATCH_ITEMS
+        );
+    }
+
+    @Benchmark
+    public byte[] writeProductPrice() throws JsonProcessingException {
+        return writer.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] writeBatch() throws JsonProcessingException {
+        return batchWriter.writeValueAsBytes(batchResponse);
+    }
+}
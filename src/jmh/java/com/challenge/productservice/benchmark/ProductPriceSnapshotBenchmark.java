@@ -0,0 +1,70 @@
+package com.challenge.productservice.benchmark;
+
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.infrastructure.database.JpaProductPriceRepository;
+import com.challenge.productservice.infrastructure.database.snapshot.ProductPriceSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time spent loading every price at startup, from the database holding {@code rows} prices or from a snapshot of
+ * them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class ProductPriceSnapshotBenchmark {
+
+    @Param({"10000", "1000000", "10000000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private JpaProductPriceRepository repository;
+    private Path snapshot;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        context = BenchmarkApplication.start();
+        BenchmarkApplication.insertPrices(context, rows);
+        repository = context.getBean(JpaProductPriceRepository.class);
+        snapshot = Files.createTempFile("prices", ".snapshot");
+        ProductPriceSnapshot.write(snapshot, BenchmarkDataset.prices(rows));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        Files.deleteIfExists(snapshot);
+    }
+
+    @Benchmark
+    public List<ProductPrice> loadFromDatabase() {
+        return repository.getAllProductPrices();
+    }
+
+    @Benchmark
+    public List<ProductPrice> loadFromSnapshot() {
+        return ProductPriceSnapshot.read(snapshot);
+    }
+}
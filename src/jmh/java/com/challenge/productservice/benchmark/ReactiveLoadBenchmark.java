@@ -0,0 +1,105 @@
+package com.challenge.productservice.benchmark;
+
+import com.challenge.productservice.domain.productprice.ProductPriceQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load test of {@code GET /prices} over HTTP, with many more concurrent clients than database connections, served by
+ * Spring MVC on the Tomcat thread pool reading through JPA, or by the {@code reactive} profile on the Netty event
+ * loop reading through R2DBC. Both read over the same number of connections, and as the H2 driver blocks, the
+ * reactive lookups run on as many threads as connections, so neither stack reads the database without blocking.
+ * <p>
+ * Throughput and the p99 of the sample time mode are the figures to compare between both stacks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Threads(256)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ReactiveLoadBenchmark {
+
+    private static final int QUERIES = 1024;
+    private static final int CONNECTION_POOL_SIZE = 10;
+
+    @Param({"mvc", "reactive"})
+    public String stack;
+
+    @Param({"100000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private URI[] uris;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = switch (stack) {
+            case "mvc" -> BenchmarkApplication.startWebServer(
+                "spring.datasource.hikari.maximum-pool-size=" + CONNECTION_POOL_SIZE,
+                "spring.datasource.hikari.connection-timeout=60s"
+            );
+            case "reactive" -> BenchmarkApplication.startReactiveWebServer(
+                "product-service.reactive.max-connections=" + CONNECTION_POOL_SIZE
+            );
+            default -> throw new IllegalArgumentException("Unknown stack " + stack);
+        };
+        BenchmarkApplication.insertPrices(context, rows);
+        httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+
+        String baseUri = "http://localhost:" + BenchmarkApplication.port(context) + "/prices";
+        ProductPriceQuery[] queries = BenchmarkDataset.queries(rows, QUERIES);
+        uris = new URI[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            ProductPriceQuery query = queries[i];
+            uris[i] = URI.create(baseUri
+                + "?productId=" + query.productId().value()
+                + "&brandId=" + query.brandId().value()
+                + "&validAt=" + query.validAt());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        httpClient.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int getProductPrice() throws IOException, InterruptedException {
+        URI uri = uris[ThreadLocalRandom.current().nextInt(QUERIES)];
+        HttpResponse<byte[]> response = httpClient.send(
+            HttpRequest.newBuilder(uri).GET().build(),
+            HttpResponse.BodyHandlers.ofByteArray()
+        );
+        if (response.statusCode() != 200 && response.statusCode() != 404) {
+            throw new IllegalStateException("Unexpected status " + response.statusCode() + " for " + uri);
+        }
+        return response.statusCode();
+    }
+}
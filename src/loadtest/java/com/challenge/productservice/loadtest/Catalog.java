@@ -0,0 +1,111 @@
+package com.challenge.productservice.loadtest;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+/**
+ * Deterministic catalog of {@code brands * productsPerBrand} products, generated from the seed of the settings so
+ * that the load driver knows which products exist without reading it back.
+ * <p>
+ * Every product has a base price with priority 0 covering the whole period, and promotions starting at random dates
+ * that overlap it and often each other. Most promotions are short flash sales, some last days and a few months, and
+ * their priorities range from 1 to 3, with higher ones being rarer.
+ */
+public final class Catalog {
+
+    public static final String CSV_HEADER =
+        "brand_id,start_date,end_date,price_list,product_id,priority,price,currency";
+    public static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    public static final long FIRST_PRODUCT_ID = 1_000_000;
+
+    private final LoadTestSettings settings;
+
+    public Catalog(LoadTestSettings settings) {
+        this.settings = settings;
+    }
+
+    public record Row(
+        long brandId,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        int priceList,
+        long productId,
+        int priority,
+        BigDecimal price
+    ) {
+
+        public String toCsv() {
+            return brandId + "," + DATE_FORMAT.format(startDate) + "," + DATE_FORMAT.format(endDate)
+                + "," + priceList + "," + productId + "," + priority + "," + price.toPlainString() + ",EUR";
+        }
+    }
+
+    /**
+     * Product and brand of the product with the given index, from 0 to {@link LoadTestSettings#products()}. Consecutive
+     * indexes belong to different brands, so that the hottest products are spread across every brand.
+     */
+    public long productId(long index) {
+        return FIRST_PRODUCT_ID + index / settings.brands();
+    }
+
+    public long brandId(long index) {
+        return 1 + index % settings.brands();
+    }
+
+    public void forEachRow(Consumer<Row> consumer) {
+        SplittableRandom random = new SplittableRandom(settings.seed());
+        LocalDateTime periodStart = settings.periodStart();
+        LocalDateTime periodEnd = settings.periodEnd();
+        long periodSeconds = settings.periodDays() * 86_400L;
+
+        for (long index = 0; index < settings.products(); index++) {
+            long brandId = brandId(index);
+            long productId = productId(index);
+            BigDecimal basePrice = amount(random, 5, 200);
+            consumer.accept(new Row(brandId, periodStart, periodEnd, 1, productId, 0, basePrice));
+
+            for (int promotion = 1; promotion < settings.pricesPerProduct(); promotion++) {
+                LocalDateTime startDate = periodStart.plusSeconds(random.nextLong(periodSeconds));
+                LocalDateTime endDate = startDate.plusSeconds(promotionSeconds(random));
+                consumer.accept(new Row(
+                    brandId,
+                    startDate,
+                    endDate.isAfter(periodEnd) ? periodEnd : endDate,
+                    promotion + 1,
+                    productId,
+                    priority(random),
+                    basePrice.multiply(BigDecimal.valueOf(random.nextInt(50, 95)))
+                        .movePointLeft(2)
+                        .setScale(2, RoundingMode.HALF_UP)
+                ));
+            }
+        }
+    }
+
+    private static long promotionSeconds(SplittableRandom random) {
+        double kind = random.nextDouble();
+        if (kind < 0.6) {
+            return random.nextLong(3_600, 2 * 86_400);
+        }
+        if (kind < 0.9) {
+            return random.nextLong(2 * 86_400, 14 * 86_400);
+        }
+        return random.nextLong(30 * 86_400, 90 * 86_400);
+    }
+
+    private static int priority(SplittableRandom random) {
+        double priority = random.nextDouble();
+        if (priority < 0.6) {
+            return 1;
+        }
+        return priority < 0.9 ? 2 : 3;
+    }
+
+    private static BigDecimal amount(SplittableRandom random, int min, int max) {
+        return BigDecimal.valueOf(random.nextLong(min * 100L, max * 100L), 2);
+    }
+}
@@ -0,0 +1,68 @@
+package com.challenge.productservice.loadtest;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Writes the {@link Catalog} described by the {@link LoadTestSettings} as a CSV feed and, unless
+ * {@code loadtest.import} is {@code false}, uploads it to {@code POST /prices/import} of the running application.
+ */
+public final class CatalogGenerator {
+
+    private CatalogGenerator() {}
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        Path catalogFile = settings.catalogFile();
+
+        long rows = write(new Catalog(settings), catalogFile);
+        System.out.printf("Wrote %,d prices of %,d products to %s%n", rows, settings.products(), catalogFile);
+
+        if (settings.importCatalog()) {
+            upload(settings, catalogFile);
+        }
+    }
+
+    private static long write(Catalog catalog, Path catalogFile) throws IOException {
+        if (catalogFile.getParent() != null) {
+            Files.createDirectories(catalogFile.getParent());
+        }
+        long[] rows = {0};
+        try (BufferedWriter writer = Files.newBufferedWriter(catalogFile)) {
+            writer.write(Catalog.CSV_HEADER);
+            writer.newLine();
+            catalog.forEachRow(row -> {
+                try {
+                    writer.write(row.toCsv());
+                    writer.newLine();
+                    rows[0]++;
+                } catch (IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+            });
+        }
+        return rows[0];
+    }
+
+    private static void upload(LoadTestSettings settings, Path catalogFile) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(settings.baseUri().resolve("/prices/import"))
+            .header("Content-Type", "text/csv")
+            .POST(HttpRequest.BodyPublishers.ofFile(catalogFile))
+            .build();
+        HttpResponse<String> response;
+        try (HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build()) {
+            response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        }
+        System.out.printf("Import answered %d: %s%n", response.statusCode(), response.body());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Import of " + catalogFile + " failed");
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.challenge.productservice.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Latencies of the responses received by one client, in nanoseconds. Every latency is kept, so percentiles are exact
+ * rather than approximated by buckets; a minute at 50k requests per second takes about 24MB.
+ */
+final class LatencyRecorder {
+
+    private long[] latencies = new long[1 << 16];
+    private int size;
+
+    void record(long latencyNanos) {
+        if (size == latencies.length) {
+            latencies = Arrays.copyOf(latencies, size * 2);
+        }
+        latencies[size++] = latencyNanos;
+    }
+
+    int size() {
+        return size;
+    }
+
+    static long[] merge(Iterable<LatencyRecorder> recorders) {
+        int total = 0;
+        for (LatencyRecorder recorder : recorders) {
+            total += recorder.size;
+        }
+        long[] merged = new long[total];
+        int offset = 0;
+        for (LatencyRecorder recorder : recorders) {
+            System.arraycopy(recorder.latencies, 0, merged, offset, recorder.size);
+            offset += recorder.size;
+        }
+        Arrays.sort(merged);
+        return merged;
+    }
+
+    /**
+     * Nearest-rank percentile of latencies already sorted by {@link #merge(Iterable)}.
+     */
+    static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+        return sorted[Math.clamp(rank - 1, 0, sorted.length - 1)];
+    }
+}
@@ -0,0 +1,157 @@
+package com.challenge.productservice.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Sends {@code GET /prices} lookups of the {@link Catalog} described by the {@link LoadTestSettings} to the running
+ * application and reports the throughput, the latency percentiles and the status codes.
+ * <p>
+ * Each of the {@code concurrency} clients runs on its own virtual thread and sends its next lookup as soon as the
+ * previous one is answered. Products are picked with a Zipf distribution, so a few hot products get most of the
+ * lookups like in a real catalog, and dates are picked uniformly over the period of the catalog. Nothing is measured
+ * during the warmup.
+ * <p>
+ * Since clients wait for their responses, a slow response delays the lookups queued behind it instead of being
+ * measured by them, so latencies under saturation are lower bounds. Compare runs at the same concurrency.
+ */
+public final class LoadDriver {
+
+    private static final List<String> PERCENTILES = List.of("50", "90", "99", "99.9");
+
+    private final LoadTestSettings settings;
+    private final Catalog catalog;
+    private final ZipfSampler products;
+    private final HttpClient client;
+
+    private LoadDriver(LoadTestSettings settings, HttpClient client) {
+        this.settings = settings;
+        this.catalog = new Catalog(settings);
+        this.products = new ZipfSampler(settings.products(), settings.zipfExponent());
+        this.client = client;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        try (HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build()) {
+            new LoadDriver(settings, client).run();
+        }
+    }
+
+    private void run() throws InterruptedException {
+        System.out.printf(
+            "Sending lookups of %,d products to %s from %d clients: %s warmup, %s measured%n",
+            settings.products(),
+            settings.baseUri(),
+            settings.concurrency(),
+            settings.warmup(),
+            settings.duration()
+        );
+
+        long measureFrom = System.nanoTime() + settings.warmup().toNanos();
+        long measureUntil = measureFrom + settings.duration().toNanos();
+        List<Client> clients = new ArrayList<>(settings.concurrency());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int index = 0; index < settings.concurrency(); index++) {
+                Client client = new Client(new SplittableRandom(settings.seed() + index), measureFrom, measureUntil);
+                clients.add(client);
+                executor.execute(client);
+            }
+        }
+
+        report(clients);
+    }
+
+    private void report(List<Client> clients) {
+        long[] latencies = LatencyRecorder.merge(clients.stream().map(Client::latencies).toList());
+        Map<String, Long> outcomes = new TreeMap<>();
+        for (Client client : clients) {
+            client.outcomes().forEach((outcome, count) -> outcomes.merge(outcome, count, Long::sum));
+        }
+        long requests = outcomes.values().stream().mapToLong(Long::longValue).sum();
+
+        System.out.printf("Requests:   %,d%n", requests);
+        System.out.printf("Throughput: %,.1f requests/s%n", requests / (settings.duration().toNanos() / 1e9));
+        System.out.printf("Outcomes:   %s%n", outcomes);
+        for (String percentile : PERCENTILES) {
+            long latency = LatencyRecorder.percentile(latencies, Double.parseDouble(percentile));
+            System.out.printf("%-11s %.3f ms%n", "p" + percentile + ":", millis(latency));
+        }
+        System.out.printf("%-11s %.3f ms%n", "max:", millis(LatencyRecorder.percentile(latencies, 100)));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    private URI lookup(SplittableRandom random) {
+        long index = products.next(random);
+        LocalDateTime validAt = settings.periodStart()
+            .plusSeconds(random.nextLong(settings.periodDays() * 86_400L));
+        return settings.baseUri().resolve(
+            "/prices?productId=" + catalog.productId(index)
+                + "&brandId=" + catalog.brandId(index)
+                + "&validAt=" + Catalog.DATE_FORMAT.format(validAt)
+        );
+    }
+
+    private final class Client implements Runnable {
+
+        private final SplittableRandom random;
+        private final long measureFrom;
+        private final long measureUntil;
+        private final LatencyRecorder latencies = new LatencyRecorder();
+        private final Map<String, Long> outcomes = new TreeMap<>();
+
+        private Client(SplittableRandom random, long measureFrom, long measureUntil) {
+            this.random = random;
+            this.measureFrom = measureFrom;
+            this.measureUntil = measureUntil;
+        }
+
+        @Override
+        public void run() {
+            long sentAt;
+            while ((sentAt = System.nanoTime()) < measureUntil) {
+                HttpRequest request = HttpRequest.newBuilder(lookup(random)).GET().build();
+                String outcome;
+                try {
+                    outcome = String.valueOf(client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode());
+                } catch (IOException exception) {
+                    outcome = exception.getClass().getSimpleName();
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                long receivedAt = System.nanoTime();
+                if (sentAt >= measureFrom && receivedAt <= measureUntil) {
+                    latencies.record(receivedAt - sentAt);
+                    outcomes.merge(outcome, 1L, Long::sum);
+                }
+            }
+        }
+
+        LatencyRecorder latencies() {
+            return latencies;
+        }
+
+        Map<String, Long> outcomes() {
+            return outcomes;
+        }
+    }
+}
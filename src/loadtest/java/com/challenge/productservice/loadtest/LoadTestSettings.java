@@ -0,0 +1,85 @@
+package com.challenge.productservice.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Settings of the catalog and the load, read from {@code loadtest.*} system properties. The Gradle tasks pass every
+ * {@code -Ploadtest.*} project property through, so for example {@code -Ploadtest.concurrency=128} sets
+ * {@link #concurrency()}.
+ *
+ * @param baseUri            address of the running application
+ * @param brands             brands of the catalog
+ * @param productsPerBrand   products of every brand
+ * @param pricesPerProduct   prices of every product: a base price covering the whole period plus overlapping
+ *                           promotions
+ * @param periodStart        first date covered by the catalog
+ * @param periodDays         days covered by the catalog
+ * @param seed               seed of the catalog and of the lookups, so that runs can be compared
+ * @param zipfExponent       skew of the lookups towards the hottest products, 0 for a uniform spread
+ * @param concurrency        clients sending requests at the same time, each one waiting for its response before
+ *                           sending the next one
+ * @param warmup             time spent sending requests before measuring
+ * @param duration           time measured
+ * @param catalogFile        CSV file the catalog is written to
+ * @param importCatalog      whether to send the written catalog to the import endpoint of the application
+ */
+public record LoadTestSettings(
+    URI baseUri,
+    int brands,
+    int productsPerBrand,
+    int pricesPerProduct,
+    LocalDateTime periodStart,
+    int periodDays,
+    long seed,
+    double zipfExponent,
+    int concurrency,
+    Duration warmup,
+    Duration duration,
+    Path catalogFile,
+    boolean importCatalog
+) {
+
+    private static final String PREFIX = "loadtest.";
+
+    public LoadTestSettings {
+        if (brands < 1 || productsPerBrand < 1 || pricesPerProduct < 1 || periodDays < 1 || concurrency < 1) {
+            throw new IllegalArgumentException("Catalog sizes, period and concurrency must be positive");
+        }
+        if (zipfExponent < 0) {
+            throw new IllegalArgumentException("Zipf exponent must not be negative");
+        }
+    }
+
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+            URI.create(property("baseUri", "http://localhost:8080")),
+            Integer.parseInt(property("brands", "3")),
+            Integer.parseInt(property("productsPerBrand", "100000")),
+            Integer.parseInt(property("pricesPerProduct", "4")),
+            LocalDateTime.parse(property("periodStart", "2020-06-14T00:00:00")),
+            Integer.parseInt(property("periodDays", "365")),
+            Long.parseLong(property("seed", "42")),
+            Double.parseDouble(property("zipfExponent", "1.0")),
+            Integer.parseInt(property("concurrency", "64")),
+            Duration.parse(property("warmup", "PT10S")),
+            Duration.parse(property("duration", "PT60S")),
+            Path.of(property("catalogFile", "build/loadtest/catalog.csv")),
+            Boolean.parseBoolean(property("import", "true"))
+        );
+    }
+
+    public long products() {
+        return (long) brands * productsPerBrand;
+    }
+
+    public LocalDateTime periodEnd() {
+        return periodStart.plusDays(periodDays).minusSeconds(1);
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty(PREFIX + name, defaultValue);
+    }
+}
@@ -0,0 +1,35 @@
+package com.challenge.productservice.loadtest;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Picks indexes from 0 to {@code n - 1} with the probability of index {@code k} proportional to
+ * {@code 1 / (k + 1)^exponent}, so that index 0 is the hottest. The cumulative distribution is computed once and
+ * every sample is a binary search over it.
+ */
+final class ZipfSampler {
+
+    private final double[] cumulative;
+
+    ZipfSampler(long n, double exponent) {
+        if (n > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many products to sample: " + n);
+        }
+        cumulative = new double[(int) n];
+        double total = 0;
+        for (int index = 0; index < cumulative.length; index++) {
+            total += 1 / Math.pow(index + 1, exponent);
+            cumulative[index] = total;
+        }
+        for (int index = 0; index < cumulative.length; index++) {
+            cumulative[index] /= total;
+        }
+    }
+
+    int next(SplittableRandom random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int insertionPoint = index >= 0 ? index : -index - 1;
+        return Math.min(insertionPoint, cumulative.length - 1);
+    }
+}
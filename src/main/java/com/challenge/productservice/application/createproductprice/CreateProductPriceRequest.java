@@ -0,0 +1,7 @@
+package com.challenge.productservice.application.createproductprice;
+
+import com.challenge.productservice.domain.productprice.ProductPrice;
+
+public record CreateProductPriceRequest(
+    ProductPrice productPrice
+) {}
@@ -0,0 +1,7 @@
+package com.challenge.productservice.application.createproductprice;
+
+import com.challenge.productservice.domain.productprice.ProductPriceId;
+
+public record CreateProductPriceResponse(
+    ProductPriceId id
+) {}
@@ -0,0 +1,27 @@
+package com.challenge.productservice.application.createproductprice;
+
+import com.challenge.productservice.domain.productprice.ProductPriceEventPublisher;
+import com.challenge.productservice.domain.productprice.ProductPriceId;
+import com.challenge.productservice.domain.productprice.ProductPriceWriteRepository;
+import com.challenge.productservice.domain.productprice.ProductPricesChangedEvent;
+
+public class CreateProductPriceUseCase {
+
+    private final ProductPriceWriteRepository productPriceWriteRepository;
+    private final ProductPriceEventPublisher productPriceEventPublisher;
+
+    public CreateProductPriceUseCase(
+        ProductPriceWriteRepository productPriceWriteRepository,
+        ProductPriceEventPublisher productPriceEventPublisher
+    ) {
+        this.productPriceWriteRepository = productPriceWriteRepository;
+        this.productPriceEventPublisher = productPriceEventPublisher;
+    }
+
+    public CreateProductPriceResponse execute(CreateProductPriceRequest request) {
+        ProductPriceId id = productPriceWriteRepository.create(request.productPrice());
+        productPriceEventPublisher.publish(ProductPricesChangedEvent.of(request.productPrice()));
+
+        return new CreateProductPriceResponse(id);
+    }
+}
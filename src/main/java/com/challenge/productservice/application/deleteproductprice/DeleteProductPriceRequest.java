@@ -0,0 +1,7 @@
+package com.challenge.productservice.application.deleteproductprice;
+
+import com.challenge.productservice.domain.productprice.ProductPriceId;
+
+public record DeleteProductPriceRequest(
+    ProductPriceId id
+) {}
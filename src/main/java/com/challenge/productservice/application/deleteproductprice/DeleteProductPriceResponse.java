@@ -0,0 +1,10 @@
+package com.challenge.productservice.application.deleteproductprice;
+
+public abstract sealed class DeleteProductPriceResponse {
+
+    private DeleteProductPriceResponse() {}
+
+    public static final class Deleted extends DeleteProductPriceResponse {}
+
+    public static final class ProductPriceNotFound extends DeleteProductPriceResponse {}
+}
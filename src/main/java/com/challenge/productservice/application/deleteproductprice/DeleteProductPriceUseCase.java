@@ -0,0 +1,34 @@
+package com.challenge.productservice.application.deleteproductprice;
+
+import com.challenge.productservice.application.deleteproductprice.DeleteProductPriceResponse.Deleted;
+import com.challenge.productservice.application.deleteproductprice.DeleteProductPriceResponse.ProductPriceNotFound;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceEventPublisher;
+import com.challenge.productservice.domain.productprice.ProductPriceWriteRepository;
+import com.challenge.productservice.domain.productprice.ProductPricesChangedEvent;
+
+import java.util.Optional;
+
+public class DeleteProductPriceUseCase {
+
+    private final ProductPriceWriteRepository productPriceWriteRepository;
+    private final ProductPriceEventPublisher productPriceEventPublisher;
+
+    public DeleteProductPriceUseCase(
+        ProductPriceWriteRepository productPriceWriteRepository,
+        ProductPriceEventPublisher productPriceEventPublisher
+    ) {
+        this.productPriceWriteRepository = productPriceWriteRepository;
+        this.productPriceEventPublisher = productPriceEventPublisher;
+    }
+
+    public DeleteProductPriceResponse execute(DeleteProductPriceRequest request) {
+        Optional<ProductPrice> deleted = productPriceWriteRepository.delete(request.id());
+        if (deleted.isEmpty()) {
+            return new ProductPriceNotFound();
+        }
+
+        productPriceEventPublisher.publish(ProductPricesChangedEvent.of(deleted.get()));
+        return new Deleted();
+    }
+}
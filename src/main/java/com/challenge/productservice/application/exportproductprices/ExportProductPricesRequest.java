@@ -0,0 +1,10 @@
+package com.challenge.productservice.application.exportproductprices;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+
+import java.time.LocalDateTime;
+
+public record ExportProductPricesRequest(
+    BrandId brandId,
+    LocalDateTime validAt
+) {}
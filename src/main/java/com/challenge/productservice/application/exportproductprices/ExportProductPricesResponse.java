@@ -0,0 +1,8 @@
+package com.challenge.productservice.application.exportproductprices;
+
+import java.time.Duration;
+
+public record ExportProductPricesResponse(
+    long exportedProducts,
+    Duration elapsed
+) {}
@@ -0,0 +1,36 @@
+package com.challenge.productservice.application.exportproductprices;
+
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceExportRepository;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+/**
+ * Exports the price of every product of a brand at a given date. Prices are handed to the output one by one as they
+ * are resolved, so the memory used does not depend on the number of products.
+ */
+public class ExportProductPricesUseCase {
+
+    private final ProductPriceExportRepository productPriceExportRepository;
+
+    public ExportProductPricesUseCase(ProductPriceExportRepository productPriceExportRepository) {
+        this.productPriceExportRepository = productPriceExportRepository;
+    }
+
+    public ExportProductPricesResponse execute(ExportProductPricesRequest request, Consumer<ProductPrice> output) {
+        long start = System.nanoTime();
+        long[] exportedProducts = {0};
+
+        productPriceExportRepository.forEachWinningProductPrice(
+            request.brandId(),
+            request.validAt(),
+            productPrice -> {
+                output.accept(productPrice);
+                exportedProducts[0]++;
+            }
+        );
+
+        return new ExportProductPricesResponse(exportedProducts[0], Duration.ofNanos(System.nanoTime() - start));
+    }
+}
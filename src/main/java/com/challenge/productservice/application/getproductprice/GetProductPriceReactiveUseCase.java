@@ -0,0 +1,28 @@
+package com.challenge.productservice.application.getproductprice;
+
+import com.challenge.productservice.application.getproductprice.GetProductPriceResponse.ProductPriceNotFound;
+import com.challenge.productservice.application.getproductprice.GetProductPriceResponse.Successful;
+import com.challenge.productservice.domain.productprice.ReactiveProductPriceRepository;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Same as {@link GetProductPriceUseCase#execute(GetProductPriceRequest)}, completing once the repository has read the
+ * price instead of blocking until then.
+ */
+public class GetProductPriceReactiveUseCase {
+
+    private final ReactiveProductPriceRepository productPriceRepository;
+
+    public GetProductPriceReactiveUseCase(ReactiveProductPriceRepository productPriceRepository) {
+        this.productPriceRepository = productPriceRepository;
+    }
+
+    public CompletionStage<GetProductPriceResponse> execute(GetProductPriceRequest request) {
+        return productPriceRepository.getWinningProductPrice(request.productId(), request.brandId(), request.validAt())
+            .thenApply(productPrice -> productPrice.isPresent()
+                ? new Successful(productPrice.get().productPrice(), productPrice.get().validUntil())
+                : new ProductPriceNotFound()
+            );
+    }
+}
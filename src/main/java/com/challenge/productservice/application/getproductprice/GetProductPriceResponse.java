@@ -5,15 +5,22 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 
+import java.time.LocalDateTime;
+
 public abstract sealed class GetProductPriceResponse {
 
     private GetProductPriceResponse() {}
 
+    /**
+     * The resolved price, along with the last date it keeps being the resolved one, which is the requested date when
+     * the repository cannot tell.
+     */
     @Data
     @AllArgsConstructor
     @EqualsAndHashCode(callSuper = false)
     public static final class Successful extends GetProductPriceResponse {
         private final ProductPrice productPrice;
+        private final LocalDateTime validUntil;
     }
 
     public static final class ProductPriceNotFound extends GetProductPriceResponse {}
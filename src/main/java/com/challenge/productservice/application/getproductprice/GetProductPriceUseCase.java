@@ -3,10 +3,13 @@ package com.challenge.productservice.application.getproductprice;
 import com.challenge.productservice.application.getproductprice.GetProductPriceResponse.ProductPriceNotFound;
 import com.challenge.productservice.application.getproductprice.GetProductPriceResponse.Successful;
 import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceQuery;
 import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import com.challenge.productservice.domain.productprice.WinningProductPrice;
 
-import java.util.Comparator;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public class GetProductPriceUseCase {
@@ -18,15 +21,40 @@ public class GetProductPriceUseCase {
     }
 
     public GetProductPriceResponse execute(GetProductPriceRequest request) {
-        List<ProductPrice> productPrices = productPriceRepository.getProductPrices(
+        Optional<WinningProductPrice> productPrice = productPriceRepository.getWinningProductPrice(
             request.productId(),
             request.brandId(),
             request.validAt()
         );
 
-        Optional<ProductPrice> productPrice = productPrices.stream()
-            .max(Comparator.comparingInt(ProductPrice::priority));
+        return toResponse(productPrice);
+    }
+
+    /**
+     * Resolves many requests with a single call to the repository. Responses are returned in the same order as the
+     * requests.
+     */
+    public List<GetProductPriceResponse> executeBatch(List<GetProductPriceRequest> requests) {
+        List<ProductPriceQuery> queries = requests.stream()
+            .map(request -> new ProductPriceQuery(request.productId(), request.brandId(), request.validAt()))
+            .toList();
+        Map<ProductPriceQuery, List<ProductPrice>> productPrices = productPriceRepository.getProductPrices(queries);
+
+        return queries.stream()
+            .map(query -> resolve(productPrices.getOrDefault(query, List.of()), query.validAt()))
+            .toList();
+    }
+
+    private GetProductPriceResponse resolve(List<ProductPrice> productPrices, LocalDateTime validAt) {
+        return toResponse(productPrices.stream()
+            .max(ProductPrice.PRECEDENCE)
+            .map(productPrice -> new WinningProductPrice(productPrice, validAt))
+        );
+    }
 
-        return productPrice.isPresent() ? new Successful(productPrice.get()) : new ProductPriceNotFound();
+    private GetProductPriceResponse toResponse(Optional<WinningProductPrice> productPrice) {
+        return productPrice.isPresent()
+            ? new Successful(productPrice.get().productPrice(), productPrice.get().validUntil())
+            : new ProductPriceNotFound();
     }
 }
@@ -0,0 +1,13 @@
+package com.challenge.productservice.application.getproductpricetimeline;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ProductId;
+
+import java.time.LocalDateTime;
+
+public record GetProductPriceTimelineRequest(
+    ProductId productId,
+    BrandId brandId,
+    LocalDateTime from,
+    LocalDateTime to
+) {}
@@ -0,0 +1,13 @@
+package com.challenge.productservice.application.getproductpricetimeline;
+
+import com.challenge.productservice.domain.productprice.PriceTimeline.Segment;
+
+import java.util.List;
+
+/**
+ * Consecutive, non-overlapping ranges of the requested dates along with the price winning in each of them. Dates
+ * without any price are left out, so there may be gaps between segments.
+ */
+public record GetProductPriceTimelineResponse(
+    List<Segment> segments
+) {}
@@ -0,0 +1,35 @@
+package com.challenge.productservice.application.getproductpricetimeline;
+
+import com.challenge.productservice.domain.productprice.PriceTimeline;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceHistoryRepository;
+
+import java.util.List;
+
+/**
+ * Resolves the winning price at every date of a range with a single query for the prices overlapping it, flattened
+ * into a {@link PriceTimeline}.
+ */
+public class GetProductPriceTimelineUseCase {
+
+    private final ProductPriceHistoryRepository productPriceHistoryRepository;
+
+    public GetProductPriceTimelineUseCase(ProductPriceHistoryRepository productPriceHistoryRepository) {
+        this.productPriceHistoryRepository = productPriceHistoryRepository;
+    }
+
+    public GetProductPriceTimelineResponse execute(GetProductPriceTimelineRequest request) {
+        if (request.to().isBefore(request.from())) {
+            throw new IllegalArgumentException("Range must not end before it starts");
+        }
+        List<ProductPrice> productPrices = productPriceHistoryRepository.getOverlappingProductPrices(
+            request.productId(),
+            request.brandId(),
+            request.from(),
+            request.to()
+        );
+
+        PriceTimeline timeline = PriceTimeline.of(productPrices);
+        return new GetProductPriceTimelineResponse(timeline.segmentsBetween(request.from(), request.to()));
+    }
+}
@@ -0,0 +1,12 @@
+package com.challenge.productservice.application.importproductprices;
+
+import com.challenge.productservice.domain.productprice.ProductPrice;
+
+import java.util.stream.Stream;
+
+/**
+ * Prices to import, read lazily from their source as the import consumes them.
+ */
+public record ImportProductPricesRequest(
+    Stream<ProductPrice> productPrices
+) {}
@@ -0,0 +1,14 @@
+package com.challenge.productservice.application.importproductprices;
+
+import java.time.Duration;
+
+public record ImportProductPricesResponse(
+    long importedRows,
+    Duration elapsed
+) {
+
+    public double rowsPerSecond() {
+        long elapsedNanos = Math.max(elapsed.toNanos(), 1);
+        return importedRows * 1_000_000_000d / elapsedNanos;
+    }
+}
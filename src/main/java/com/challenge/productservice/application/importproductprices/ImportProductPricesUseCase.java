@@ -0,0 +1,63 @@
+package com.challenge.productservice.application.importproductprices;
+
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceEventPublisher;
+import com.challenge.productservice.domain.productprice.ProductPriceWriteRepository;
+import com.challenge.productservice.domain.productprice.ProductPricesChangedEvent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Imports a feed of prices of any size in chunks of a fixed number of rows, each one stored atomically, so that only
+ * one chunk is held in memory at a time. If the feed fails midway, the chunks stored before the failure are kept.
+ * <p>
+ * Every product and brand of a chunk is notified as changed in a single event once the chunk is stored.
+ */
+public class ImportProductPricesUseCase {
+
+    private final ProductPriceWriteRepository productPriceWriteRepository;
+    private final ProductPriceEventPublisher productPriceEventPublisher;
+    private final int chunkSize;
+
+    public ImportProductPricesUseCase(
+        ProductPriceWriteRepository productPriceWriteRepository,
+        ProductPriceEventPublisher productPriceEventPublisher,
+        int chunkSize
+    ) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.productPriceWriteRepository = productPriceWriteRepository;
+        this.productPriceEventPublisher = productPriceEventPublisher;
+        this.chunkSize = chunkSize;
+    }
+
+    public ImportProductPricesResponse execute(ImportProductPricesRequest request) {
+        long start = System.nanoTime();
+        long importedRows = 0;
+        List<ProductPrice> chunk = new ArrayList<>(chunkSize);
+
+        Iterator<ProductPrice> productPrices = request.productPrices().iterator();
+        while (productPrices.hasNext()) {
+            chunk.add(productPrices.next());
+            if (chunk.size() == chunkSize) {
+                importedRows += save(chunk);
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importedRows += save(chunk);
+        }
+
+        return new ImportProductPricesResponse(importedRows, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private int save(List<ProductPrice> chunk) {
+        productPriceWriteRepository.saveAll(chunk);
+        productPriceEventPublisher.publish(ProductPricesChangedEvent.of(chunk));
+        return chunk.size();
+    }
+}
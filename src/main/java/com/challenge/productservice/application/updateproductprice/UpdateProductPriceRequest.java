@@ -0,0 +1,9 @@
+package com.challenge.productservice.application.updateproductprice;
+
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceId;
+
+public record UpdateProductPriceRequest(
+    ProductPriceId id,
+    ProductPrice productPrice
+) {}
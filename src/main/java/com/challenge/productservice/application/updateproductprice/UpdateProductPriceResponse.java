@@ -0,0 +1,10 @@
+package com.challenge.productservice.application.updateproductprice;
+
+public abstract sealed class UpdateProductPriceResponse {
+
+    private UpdateProductPriceResponse() {}
+
+    public static final class Updated extends UpdateProductPriceResponse {}
+
+    public static final class ProductPriceNotFound extends UpdateProductPriceResponse {}
+}
@@ -0,0 +1,42 @@
+package com.challenge.productservice.application.updateproductprice;
+
+import com.challenge.productservice.application.updateproductprice.UpdateProductPriceResponse.ProductPriceNotFound;
+import com.challenge.productservice.application.updateproductprice.UpdateProductPriceResponse.Updated;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceEventPublisher;
+import com.challenge.productservice.domain.productprice.ProductPriceWriteRepository;
+import com.challenge.productservice.domain.productprice.ProductPricesChangedEvent;
+
+import java.util.List;
+import java.util.Optional;
+
+public class UpdateProductPriceUseCase {
+
+    private final ProductPriceWriteRepository productPriceWriteRepository;
+    private final ProductPriceEventPublisher productPriceEventPublisher;
+
+    public UpdateProductPriceUseCase(
+        ProductPriceWriteRepository productPriceWriteRepository,
+        ProductPriceEventPublisher productPriceEventPublisher
+    ) {
+        this.productPriceWriteRepository = productPriceWriteRepository;
+        this.productPriceEventPublisher = productPriceEventPublisher;
+    }
+
+    /**
+     * Replaces a price. When the price moves to another product or brand, both the previous and the new one are
+     * notified as changed in the same event.
+     */
+    public UpdateProductPriceResponse execute(UpdateProductPriceRequest request) {
+        Optional<ProductPrice> previous = productPriceWriteRepository.update(request.id(), request.productPrice());
+        if (previous.isEmpty()) {
+            return new ProductPriceNotFound();
+        }
+
+        productPriceEventPublisher.publish(
+            ProductPricesChangedEvent.of(List.of(request.productPrice(), previous.get()))
+        );
+
+        return new Updated();
+    }
+}
@@ -0,0 +1,137 @@
+package com.challenge.productservice.domain.productprice;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+
+/**
+ * Non-overlapping view of a set of prices of the same product and brand.
+ * <p>
+ * Every segment holds the price that wins, according to {@link ProductPrice#PRECEDENCE}, for all the dates it
+ * covers, so resolving the price at a given date is a single binary search.
+ */
+public final class PriceTimeline {
+
+    private static final PriceTimeline EMPTY = new PriceTimeline(List.of());
+
+    private final List<Segment> segments;
+    private final LocalDateTime[] startDates;
+
+    private PriceTimeline(List<Segment> segments) {
+        this.segments = segments;
+        this.startDates = segments.stream().map(Segment::startDate).toArray(LocalDateTime[]::new);
+    }
+
+    public static PriceTimeline empty() {
+        return EMPTY;
+    }
+
+    public static PriceTimeline of(Collection<ProductPrice> productPrices) {
+        if (productPrices.isEmpty()) {
+            return EMPTY;
+        }
+
+        // Work with half-open ranges [startDate, endDate + 1ns) so consecutive segments share their boundaries
+        TreeSet<LocalDateTime> boundaries = new TreeSet<>();
+        productPrices.forEach(price -> {
+            boundaries.add(price.startDate());
+            boundaries.add(exclusiveEnd(price));
+        });
+        ProductPrice[] byStartDate = productPrices.toArray(ProductPrice[]::new);
+        Arrays.sort(byStartDate, Comparator.comparing(ProductPrice::startDate));
+
+        PriorityQueue<ProductPrice> candidates = new PriorityQueue<>(ProductPrice.PRECEDENCE.reversed());
+        List<Segment> segments = new ArrayList<>();
+        int next = 0;
+        LocalDateTime segmentStart = null;
+        ProductPrice segmentWinner = null;
+
+        for (LocalDateTime boundary : boundaries) {
+            while (next < byStartDate.length && !byStartDate[next].startDate().isAfter(boundary)) {
+                candidates.add(byStartDate[next++]);
+            }
+            while (!candidates.isEmpty() && !exclusiveEnd(candidates.peek()).isAfter(boundary)) {
+                candidates.poll();
+            }
+
+            ProductPrice winner = candidates.peek();
+            if (winner == segmentWinner) {
+                continue;
+            }
+            if (segmentWinner != null) {
+                segments.add(new Segment(segmentStart, boundary.minusNanos(1), segmentWinner));
+            }
+            segmentStart = boundary;
+            segmentWinner = winner;
+        }
+
+        return new PriceTimeline(List.copyOf(segments));
+    }
+
+    public Optional<ProductPrice> priceAt(LocalDateTime date) {
+        int index = indexAt(date);
+        return index < 0 ? Optional.empty() : Optional.of(segments.get(index).productPrice());
+    }
+
+    public Optional<Segment> segmentAt(LocalDateTime date) {
+        int index = indexAt(date);
+        return index < 0 ? Optional.empty() : Optional.of(segments.get(index));
+    }
+
+    public List<Segment> segments() {
+        return segments;
+    }
+
+    /**
+     * Segments covering any date between both dates, included, cut so that none starts before {@code from} or ends
+     * after {@code to}.
+     */
+    public List<Segment> segmentsBetween(LocalDateTime from, LocalDateTime to) {
+        return segments.stream()
+            .filter(segment -> !segment.endDate().isBefore(from) && !segment.startDate().isAfter(to))
+            .map(segment -> new Segment(
+                segment.startDate().isBefore(from) ? from : segment.startDate(),
+                segment.endDate().isAfter(to) ? to : segment.endDate(),
+                segment.productPrice()
+            ))
+            .toList();
+    }
+
+    public boolean isEmpty() {
+        return segments.isEmpty();
+    }
+
+    /**
+     * Position of the segment covering the date, or -1 when there is none.
+     */
+    private int indexAt(LocalDateTime date) {
+        int index = Arrays.binarySearch(startDates, date);
+        if (index < 0) {
+            // Take the last segment starting before the date
+            index = -index - 2;
+        }
+        if (index < 0 || segments.get(index).endDate().isBefore(date)) {
+            return -1;
+        }
+        return index;
+    }
+
+    private static LocalDateTime exclusiveEnd(ProductPrice productPrice) {
+        return productPrice.endDate().plusNanos(1);
+    }
+
+    /**
+     * Range of dates, both ends included, in which the given price wins.
+     */
+    public record Segment(
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        ProductPrice productPrice
+    ) {}
+}
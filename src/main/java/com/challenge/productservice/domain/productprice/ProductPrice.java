@@ -1,6 +1,7 @@
 package com.challenge.productservice.domain.productprice;
 
 import java.time.LocalDateTime;
+import java.util.Comparator;
 
 public record ProductPrice(
     BrandId brandId,
@@ -10,4 +11,14 @@ public record ProductPrice(
     ProductId productId,
     int priority,
     Price price
-) {}
+) {
+
+    /**
+     * Orders overlapping prices from the losing to the winning one: the highest priority wins, ties are broken by the
+     * most recent start date and then by the highest price list, so the resolved price is always deterministic.
+     */
+    public static final Comparator<ProductPrice> PRECEDENCE = Comparator
+        .comparingInt(ProductPrice::priority)
+        .thenComparing(ProductPrice::startDate)
+        .thenComparingInt(ProductPrice::priceList);
+}
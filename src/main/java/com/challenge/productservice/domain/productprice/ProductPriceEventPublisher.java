@@ -0,0 +1,5 @@
+package com.challenge.productservice.domain.productprice;
+
+public interface ProductPriceEventPublisher {
+    void publish(ProductPricesChangedEvent event);
+}
@@ -0,0 +1,13 @@
+package com.challenge.productservice.domain.productprice;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+public interface ProductPriceExportRepository {
+
+    /**
+     * Passes the winning price at the date of every product of the brand to the consumer, ordered by product. Prices
+     * are read as they are consumed, so brands of any size are exported without holding them in memory.
+     */
+    void forEachWinningProductPrice(BrandId brandId, LocalDateTime validAt, Consumer<ProductPrice> consumer);
+}
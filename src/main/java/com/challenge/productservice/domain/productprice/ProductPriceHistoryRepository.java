@@ -0,0 +1,17 @@
+package com.challenge.productservice.domain.productprice;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ProductPriceHistoryRepository {
+
+    /**
+     * Prices of the product and brand valid at any moment between both dates, included.
+     */
+    List<ProductPrice> getOverlappingProductPrices(
+        ProductId productId,
+        BrandId brandId,
+        LocalDateTime from,
+        LocalDateTime to
+    );
+}
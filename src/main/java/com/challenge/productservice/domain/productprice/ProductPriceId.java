@@ -0,0 +1,5 @@
+package com.challenge.productservice.domain.productprice;
+
+import java.util.UUID;
+
+public record ProductPriceId(UUID value) {}
@@ -1,8 +1,44 @@
 package com.challenge.productservice.domain.productprice;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 public interface ProductPriceRepository {
     List<ProductPrice> getProductPrices(ProductId productId, BrandId brandId, LocalDateTime validAt);
+
+    /**
+     * Returns only the price that applies at the given date, the one with the highest {@link ProductPrice#PRECEDENCE}
+     * among the valid ones. Implementations able to resolve it at the source should override it to avoid fetching
+     * every candidate.
+     */
+    default Optional<ProductPrice> getProductPrice(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        return getProductPrices(productId, brandId, validAt).stream()
+            .max(ProductPrice.PRECEDENCE);
+    }
+
+    /**
+     * Same as {@link #getProductPrice(ProductId, BrandId, LocalDateTime)}, along with the last date the price keeps
+     * winning. Implementations that cannot tell report it as valid only at the given date.
+     */
+    default Optional<WinningProductPrice> getWinningProductPrice(
+        ProductId productId,
+        BrandId brandId,
+        LocalDateTime validAt
+    ) {
+        return getProductPrice(productId, brandId, validAt)
+            .map(productPrice -> new WinningProductPrice(productPrice, validAt));
+    }
+
+    default Map<ProductPriceQuery, List<ProductPrice>> getProductPrices(Collection<ProductPriceQuery> queries) {
+        Map<ProductPriceQuery, List<ProductPrice>> result = new HashMap<>();
+        queries.forEach(query -> result.put(
+            query,
+            getProductPrices(query.productId(), query.brandId(), query.validAt())
+        ));
+        return result;
+    }
 }
@@ -0,0 +1,26 @@
+package com.challenge.productservice.domain.productprice;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ProductPriceWriteRepository {
+
+    /**
+     * Stores the given prices atomically: either all of them are stored or none is.
+     */
+    void saveAll(List<ProductPrice> productPrices);
+
+    ProductPriceId create(ProductPrice productPrice);
+
+    /**
+     * Replaces the price with the given id.
+     *
+     * @return the price before being replaced, or empty if there is no price with that id
+     */
+    Optional<ProductPrice> update(ProductPriceId id, ProductPrice productPrice);
+
+    /**
+     * @return the deleted price, or empty if there is no price with that id
+     */
+    Optional<ProductPrice> delete(ProductPriceId id);
+}
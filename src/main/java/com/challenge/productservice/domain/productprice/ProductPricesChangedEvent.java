@@ -0,0 +1,43 @@
+package com.challenge.productservice.domain.productprice;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Raised after the prices of one or more products and brands have been created, updated or deleted, so that anything
+ * derived from them can be refreshed for those products alone. Changes made together, like the rows of an imported
+ * chunk, are raised as a single event.
+ */
+public record ProductPricesChangedEvent(
+    Set<ChangedProduct> products
+) {
+
+    public ProductPricesChangedEvent {
+        products = Set.copyOf(products);
+    }
+
+    public ProductPricesChangedEvent(ProductId productId, BrandId brandId) {
+        this(Set.of(new ChangedProduct(productId, brandId)));
+    }
+
+    public static ProductPricesChangedEvent of(ProductPrice productPrice) {
+        return new ProductPricesChangedEvent(productPrice.productId(), productPrice.brandId());
+    }
+
+    /**
+     * Every product and brand of the prices, each one once.
+     */
+    public static ProductPricesChangedEvent of(Collection<ProductPrice> productPrices) {
+        Set<ChangedProduct> products = new LinkedHashSet<>();
+        productPrices.forEach(productPrice -> products.add(
+            new ChangedProduct(productPrice.productId(), productPrice.brandId())
+        ));
+        return new ProductPricesChangedEvent(products);
+    }
+
+    public record ChangedProduct(
+        ProductId productId,
+        BrandId brandId
+    ) {}
+}
@@ -0,0 +1,24 @@
+package com.challenge.productservice.domain.productprice;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Non-blocking counterpart of {@link ProductPriceRepository}: lookups return straight away and complete once the
+ * price is read, without holding the calling thread while waiting for it.
+ * <p>
+ * Results are {@link CompletionStage completion stages} to keep the domain free of any reactive library, adapters
+ * bridge them to the types of their own stack.
+ */
+public interface ReactiveProductPriceRepository {
+
+    /**
+     * See {@link ProductPriceRepository#getWinningProductPrice(ProductId, BrandId, LocalDateTime)}.
+     */
+    CompletionStage<Optional<WinningProductPrice>> getWinningProductPrice(
+        ProductId productId,
+        BrandId brandId,
+        LocalDateTime validAt
+    );
+}
@@ -0,0 +1,46 @@
+package com.challenge.productservice.domain.productprice;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Optional;
+
+/**
+ * Price winning at a date, along with the last date it keeps winning: until it ends or another price takes over.
+ */
+public record WinningProductPrice(ProductPrice productPrice, LocalDateTime validUntil) {
+
+    /**
+     * A price starting after the winner while it is still valid takes over when its priority is at least the same,
+     * as the most recent start date breaks ties. Prices with a lower priority never do.
+     *
+     * @param nextStartDate start date of the first price taking over, or {@code null} when none does
+     */
+    public static WinningProductPrice of(ProductPrice productPrice, LocalDateTime nextStartDate) {
+        LocalDateTime validUntil = nextStartDate == null || nextStartDate.isAfter(productPrice.endDate())
+            ? productPrice.endDate()
+            : nextStartDate.minusNanos(1);
+        return new WinningProductPrice(productPrice, validUntil);
+    }
+
+    /**
+     * Resolves the price winning at the date among the prices of a product and brand, and when it stops winning.
+     */
+    public static Optional<WinningProductPrice> resolve(Collection<ProductPrice> productPrices, LocalDateTime validAt) {
+        return productPrices.stream()
+            .filter(productPrice -> !productPrice.startDate().isAfter(validAt))
+            .filter(productPrice -> !productPrice.endDate().isBefore(validAt))
+            .max(ProductPrice.PRECEDENCE)
+            .map(winner -> of(winner, productPrices.stream()
+                .filter(productPrice -> productPrice.startDate().isAfter(validAt))
+                .filter(productPrice -> takesOver(productPrice, winner))
+                .map(ProductPrice::startDate)
+                .min(Comparator.naturalOrder())
+                .orElse(null)
+            ));
+    }
+
+    public static boolean takesOver(ProductPrice productPrice, ProductPrice winner) {
+        return productPrice.priority() >= winner.priority();
+    }
+}
@@ -1,24 +1,168 @@
 package com.challenge.productservice.infrastructure.config;
 
+import com.challenge.productservice.domain.productprice.ProductPriceExportRepository;
 import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import com.challenge.productservice.domain.productprice.ProductPriceWriteRepository;
+import com.challenge.productservice.infrastructure.database.JdbcProductPriceExportRepository;
+import com.challenge.productservice.infrastructure.database.JdbcProductPriceWriteRepository;
 import com.challenge.productservice.infrastructure.database.JpaProductPriceRepository;
+import com.challenge.productservice.infrastructure.database.ProductPriceSource;
+import com.challenge.productservice.infrastructure.database.bloom.BloomFilterProductPriceRepository;
+import com.challenge.productservice.infrastructure.database.cache.CachingProductPriceRepository;
+import com.challenge.productservice.infrastructure.database.concurrency.ConcurrencyLimit;
+import com.challenge.productservice.infrastructure.database.concurrency.ConcurrencyLimitedProductPriceRepository;
+import com.challenge.productservice.infrastructure.database.concurrency.ConcurrencyLimitedProductPriceSource;
+import com.challenge.productservice.infrastructure.database.inmemory.IntervalTreeProductPriceRepository;
+import com.challenge.productservice.infrastructure.database.inmemory.TimelineProductPriceRepository;
+import com.challenge.productservice.infrastructure.database.mapped.MappedProductPriceRepository;
+import com.challenge.productservice.infrastructure.database.sharded.ShardedProductPriceRepository;
+import com.challenge.productservice.infrastructure.database.singleflight.SingleFlightProductPriceRepository;
+import com.challenge.productservice.infrastructure.database.snapshot.SnapshotProductPriceSource;
+import com.challenge.productservice.infrastructure.entrypoint.actuator.ProductPriceReloadEndpoint;
+import com.challenge.productservice.infrastructure.entrypoint.actuator.ProductPriceSnapshotEndpoint;
+import com.challenge.productservice.infrastructure.metrics.MeteredProductPriceRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
 
 
 @Configuration
 @EnableJpaRepositories(basePackages = "com.challenge.productservice.infrastructure.database")
+@EnableConfigurationProperties({
+    ProductPriceRepositoryProperties.class,
+    ProductPriceImportProperties.class,
+    ProductPriceExportProperties.class
+})
 public class DatabaseConfig {
 
     private final JpaProductPriceRepository jpaProductPriceRepository;
+    private final ProductPriceRepositoryProperties productPriceRepositoryProperties;
+    private final ProductPriceImportProperties productPriceImportProperties;
+    private final ProductPriceExportProperties productPriceExportProperties;
 
-    public DatabaseConfig(JpaProductPriceRepository jpaProductPriceRepository) {
+    public DatabaseConfig(
+        JpaProductPriceRepository jpaProductPriceRepository,
+        ProductPriceRepositoryProperties productPriceRepositoryProperties,
+        ProductPriceImportProperties productPriceImportProperties,
+        ProductPriceExportProperties productPriceExportProperties
+    ) {
         this.jpaProductPriceRepository = jpaProductPriceRepository;
+        this.productPriceRepositoryProperties = productPriceRepositoryProperties;
+        this.productPriceImportProperties = productPriceImportProperties;
+        this.productPriceExportProperties = productPriceExportProperties;
+    }
+
+    @Bean
+    public ProductPriceWriteRepository productPriceWriteRepository(
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager
+    ) {
+        return new JdbcProductPriceWriteRepository(
+            jdbcTemplate,
+            transactionManager,
+            productPriceImportProperties.batchSize()
+        );
+    }
+
+    @Bean
+    public ProductPriceExportRepository productPriceExportRepository(
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager
+    ) {
+        return new JdbcProductPriceExportRepository(
+            jdbcTemplate,
+            transactionManager,
+            productPriceExportProperties.fetchSize()
+        );
+    }
+
+    @Bean
+    public ProductPriceRepository productPriceRepository(MeterRegistry meterRegistry) {
+        ProductPriceSource productPriceSource = switch (productPriceRepositoryProperties.type()) {
+            case JPA, CACHED -> jpaProductPriceRepository;
+            case INTERVAL_TREE, TIMELINE, MAPPED, SHARDED -> inMemorySource();
+        };
+        ProductPriceRepository repository = switch (productPriceRepositoryProperties.type()) {
+            case JPA -> jpaRepository(meterRegistry);
+            case CACHED -> new CachingProductPriceRepository(
+                jpaProductPriceRepository,
+                productPriceRepositoryProperties.cache().maximumSize(),
+                meterRegistry
+            );
+            case INTERVAL_TREE -> new IntervalTreeProductPriceRepository(productPriceSource);
+            case TIMELINE -> new TimelineProductPriceRepository(productPriceSource);
+            case MAPPED -> new MappedProductPriceRepository(
+                productPriceSource,
+                Path.of(productPriceRepositoryProperties.mapped().directory()),
+                productPriceRepositoryProperties.mapped().maxChangedProducts()
+            );
+            case SHARDED -> new ShardedProductPriceRepository(
+                productPriceSource,
+                productPriceRepositoryProperties.sharded().shards(),
+                meterRegistry
+            );
+        };
+        ProductPriceRepositoryProperties.BloomFilter bloomFilter = productPriceRepositoryProperties.bloomFilter();
+        if (bloomFilter.enabled()) {
+            repository = new BloomFilterProductPriceRepository(
+                repository,
+                productPriceSource,
+                bloomFilter.expectedKeys(),
+                bloomFilter.falsePositiveRate(),
+                meterRegistry
+            );
+        }
+        return new MeteredProductPriceRepository(repository, meterRegistry);
     }
 
     @Bean
-    public ProductPriceRepository productPriceRepository() {
-        return jpaProductPriceRepository;
+    public ProductPriceReloadEndpoint productPriceReloadEndpoint(ProductPriceRepository productPriceRepository) {
+        return new ProductPriceReloadEndpoint(productPriceRepository);
+    }
+
+    @Bean
+    @ConditionalOnProperty("product-service.price-repository.snapshot.path")
+    public ProductPriceSnapshotEndpoint productPriceSnapshotEndpoint() {
+        return new ProductPriceSnapshotEndpoint(
+            jpaProductPriceRepository,
+            Path.of(productPriceRepositoryProperties.snapshot().path())
+        );
+    }
+
+    private ProductPriceSource inMemorySource() {
+        ProductPriceRepositoryProperties.Snapshot snapshot = productPriceRepositoryProperties.snapshot();
+        if (!snapshot.enabled()) {
+            return jpaProductPriceRepository;
+        }
+        return new SnapshotProductPriceSource(Path.of(snapshot.path()), jpaProductPriceRepository);
+    }
+
+    /**
+     * With single flight enabled the concurrency limit is placed below it, so that the lookups waiting for one already
+     * in flight do not hold a permit.
+     */
+    private ProductPriceRepository jpaRepository(MeterRegistry meterRegistry) {
+        ProductPriceRepositoryProperties.ConcurrencyLimit limit = productPriceRepositoryProperties.concurrencyLimit();
+        ConcurrencyLimit concurrencyLimit = limit.enabled()
+            ? new ConcurrencyLimit(limit.maxConcurrentLookups(), limit.acquireTimeout(), meterRegistry)
+            : null;
+
+        ProductPriceRepositoryProperties.SingleFlight singleFlight = productPriceRepositoryProperties.singleFlight();
+        if (singleFlight.enabled()) {
+            ProductPriceSource source = concurrencyLimit == null
+                ? jpaProductPriceRepository
+                : new ConcurrencyLimitedProductPriceSource(jpaProductPriceRepository, concurrencyLimit);
+            return new SingleFlightProductPriceRepository(source, singleFlight.bucket(), meterRegistry);
+        }
+        return concurrencyLimit == null
+            ? jpaProductPriceRepository
+            : new ConcurrencyLimitedProductPriceRepository(jpaProductPriceRepository, concurrencyLimit);
     }
 }
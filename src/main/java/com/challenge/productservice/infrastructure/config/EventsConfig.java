@@ -0,0 +1,29 @@
+package com.challenge.productservice.infrastructure.config;
+
+import com.challenge.productservice.domain.productprice.ProductPriceEventPublisher;
+import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import com.challenge.productservice.infrastructure.events.ProductPricesChangedEventListener;
+import com.challenge.productservice.infrastructure.events.SpringProductPriceEventPublisher;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class EventsConfig {
+
+    @Bean
+    public ProductPriceEventPublisher productPriceEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+        return new SpringProductPriceEventPublisher(applicationEventPublisher);
+    }
+
+    @Bean
+    public ProductPricesChangedEventListener productPricesChangedEventListener(
+        ProductPriceRepository productPriceRepository,
+        ProductPriceRepositoryProperties productPriceRepositoryProperties
+    ) {
+        return new ProductPricesChangedEventListener(
+            productPriceRepository,
+            productPriceRepositoryProperties.refresh().maxProducts()
+        );
+    }
+}
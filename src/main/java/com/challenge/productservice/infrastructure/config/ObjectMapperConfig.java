@@ -1,10 +1,12 @@
 package com.challenge.productservice.infrastructure.config;
 
+import com.challenge.productservice.infrastructure.entrypoint.rest.cbor.CompactCborModule;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -22,4 +24,18 @@ public class ObjectMapperConfig {
             .build()
             .registerModule(new JavaTimeModule());
     }
+
+    /**
+     * Mapper of the {@code application/cbor} format, writing the same properties as the JSON one with numeric dates
+     * and amounts.
+     */
+    @Bean
+    public CBORMapper cborMapper() {
+        return CBORMapper.builder()
+            .serializationInclusion(JsonInclude.Include.NON_NULL)
+            .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+            .addModule(new JavaTimeModule())
+            .addModule(new CompactCborModule())
+            .build();
+    }
 }
@@ -0,0 +1,10 @@
+package com.challenge.productservice.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "product-service.price-export")
+public record ProductPriceExportProperties(
+    @DefaultValue("1000") int fetchSize,
+    @DefaultValue("1000") int flushSize
+) {}
@@ -0,0 +1,10 @@
+package com.challenge.productservice.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "product-service.price-import")
+public record ProductPriceImportProperties(
+    @DefaultValue("10000") int chunkSize,
+    @DefaultValue("1000") int batchSize
+) {}
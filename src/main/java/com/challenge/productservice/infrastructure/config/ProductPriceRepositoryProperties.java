@@ -0,0 +1,110 @@
+package com.challenge.productservice.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "product-service.price-repository")
+public record ProductPriceRepositoryProperties(
+    @DefaultValue("jpa") Type type,
+    @DefaultValue Cache cache,
+    @DefaultValue SingleFlight singleFlight,
+    @DefaultValue ConcurrencyLimit concurrencyLimit,
+    @DefaultValue Snapshot snapshot,
+    @DefaultValue Mapped mapped,
+    @DefaultValue Sharded sharded,
+    @DefaultValue BloomFilter bloomFilter,
+    @DefaultValue Refresh refresh
+) {
+
+    public enum Type {
+        JPA,
+        CACHED,
+        INTERVAL_TREE,
+        TIMELINE,
+        MAPPED,
+        SHARDED
+    }
+
+    public record Cache(
+        @DefaultValue("100000") long maximumSize
+    ) {}
+
+    public record SingleFlight(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("1m") Duration bucket
+    ) {}
+
+    public record ConcurrencyLimit(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("10") int maxConcurrentLookups,
+        @DefaultValue("1s") Duration acquireTimeout
+    ) {}
+
+    /**
+     * @param path file the in-memory types load every price from at startup, when it exists. Disabled when empty
+     */
+    public record Snapshot(
+        @DefaultValue("") String path
+    ) {
+
+        public boolean enabled() {
+            return !path.isBlank();
+        }
+    }
+
+    /**
+     * @param directory          where the file of the mapped type is created, the temporary directory of the system by
+     *                           default
+     * @param maxChangedProducts products refreshed on the heap since the file was created, all of them written to a new
+     *                           file once there are more
+     */
+    public record Mapped(
+        String directory,
+        @DefaultValue("10000") int maxChangedProducts
+    ) {
+
+        public Mapped {
+            if (directory == null || directory.isBlank()) {
+                directory = System.getProperty("java.io.tmpdir");
+            }
+        }
+    }
+
+    /**
+     * @param expectedKeys      products and brands the filter is sized for, grown to the number of products and brands
+     *                          stored when there are more
+     * @param falsePositiveRate share of the lookups of unknown products still reaching the repository
+     */
+    public record BloomFilter(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("1000000") long expectedKeys,
+        @DefaultValue("0.01") double falsePositiveRate
+    ) {}
+
+    /**
+     * @param maxProducts products refreshed from a single change, like a chunk of an import, above which the whole
+     *                    repository is reloaded instead
+     */
+    public record Refresh(
+        @DefaultValue("1000") int maxProducts
+    ) {}
+
+    /**
+     * @param shards partitions of the sharded type, the number of available processors when 0
+     */
+    public record Sharded(
+        @DefaultValue("0") int shards
+    ) {
+
+        public Sharded {
+            if (shards < 0) {
+                throw new IllegalArgumentException("Shards must not be negative");
+            }
+            if (shards == 0) {
+                shards = Runtime.getRuntime().availableProcessors();
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.challenge.productservice.infrastructure.config;
+
+import com.challenge.productservice.application.getproductprice.GetProductPriceReactiveUseCase;
+import com.challenge.productservice.domain.productprice.ReactiveProductPriceRepository;
+import com.challenge.productservice.infrastructure.database.r2dbc.R2dbcProductPriceRepository;
+import io.r2dbc.h2.H2ConnectionConfiguration;
+import io.r2dbc.h2.H2ConnectionFactory;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Beans of the {@code reactive} profile, which serves price lookups from WebFlux and reads them through R2DBC.
+ * <p>
+ * The R2DBC connections are opened on the same H2 database as the JDBC data source, so lookups see the prices written
+ * through JPA and JDBC. The connection factory is not exposed as a bean, as the data source would back off otherwise.
+ * <p>
+ * Tomcat is on the classpath for the servlet stack, and Spring Boot prefers it to Netty for reactive applications too,
+ * so the Netty server factory is declared here for WebFlux to run on its event loops.
+ */
+@Configuration
+@Profile("reactive")
+@EnableConfigurationProperties(ProductPriceReactiveProperties.class)
+public class ReactiveConfig {
+
+    private static final String H2_URL_PREFIX = "jdbc:h2:";
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean
+    public R2dbcProductPriceRepository reactiveProductPriceRepository(
+        DataSourceProperties dataSourceProperties,
+        ProductPriceReactiveProperties reactiveProperties
+    ) {
+        String url = dataSourceProperties.determineUrl();
+        if (url == null || !url.startsWith(H2_URL_PREFIX)) {
+            throw new IllegalStateException("The reactive profile only supports H2 databases, got " + url);
+        }
+        H2ConnectionFactory connectionFactory = new H2ConnectionFactory(H2ConnectionConfiguration.builder()
+            .url(url.substring(H2_URL_PREFIX.length()))
+            .username(dataSourceProperties.determineUsername())
+            .password(dataSourceProperties.determinePassword())
+            .build()
+        );
+        ConnectionPool connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+            .initialSize(reactiveProperties.maxConnections())
+            .maxSize(reactiveProperties.maxConnections())
+            .build()
+        );
+        return new R2dbcProductPriceRepository(connectionPool, reactiveProperties.maxConnections());
+    }
+
+    @Bean
+    public GetProductPriceReactiveUseCase getProductPriceReactiveUseCase(
+        ReactiveProductPriceRepository reactiveProductPriceRepository
+    ) {
+        return new GetProductPriceReactiveUseCase(reactiveProductPriceRepository);
+    }
+}
@@ -0,0 +1,38 @@
+package com.challenge.productservice.infrastructure.config;
+
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+
+@Configuration
+@EnableConfigurationProperties({
+    ProductPriceHttpCacheProperties.class,
+    ProductPriceExportProperties.class
+})
+public class RestConfig {
+
+    /**
+     * Answers requests accepting {@code application/cbor} on the servlet stack, replacing the converter Spring MVC
+     * registers with a default mapper.
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(CBORMapper cborMapper) {
+        return new MappingJackson2CborHttpMessageConverter(cborMapper);
+    }
+
+    /**
+     * Same as {@link #cborHttpMessageConverter(CBORMapper)} on the reactive stack, which has no CBOR codec by default.
+     */
+    @Bean
+    public CodecCustomizer cborCodecCustomizer(CBORMapper cborMapper) {
+        return configurer -> {
+            configurer.customCodecs().register(new Jackson2CborEncoder(cborMapper));
+            configurer.customCodecs().register(new Jackson2CborDecoder(cborMapper));
+        };
+    }
+}
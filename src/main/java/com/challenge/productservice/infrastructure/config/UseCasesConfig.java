@@ -1,7 +1,20 @@
 package com.challenge.productservice.infrastructure.config;
 
+import com.challenge.productservice.application.createproductprice.CreateProductPriceUseCase;
+import com.challenge.productservice.application.deleteproductprice.DeleteProductPriceUseCase;
+import com.challenge.productservice.application.exportproductprices.ExportProductPricesUseCase;
 import com.challenge.productservice.application.getproductprice.GetProductPriceUseCase;
+import com.challenge.productservice.application.getproductpricetimeline.GetProductPriceTimelineUseCase;
+import com.challenge.productservice.application.importproductprices.ImportProductPricesUseCase;
+import com.challenge.productservice.application.updateproductprice.UpdateProductPriceUseCase;
+import com.challenge.productservice.domain.productprice.ProductPriceEventPublisher;
+import com.challenge.productservice.domain.productprice.ProductPriceExportRepository;
+import com.challenge.productservice.domain.productprice.ProductPriceHistoryRepository;
 import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import com.challenge.productservice.domain.productprice.ProductPriceWriteRepository;
+import com.challenge.productservice.infrastructure.metrics.MeteredExportProductPricesUseCase;
+import com.challenge.productservice.infrastructure.metrics.MeteredGetProductPriceUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -10,8 +23,61 @@ public class UseCasesConfig {
 
     @Bean
     public GetProductPriceUseCase getProductPriceUseCase(
-        ProductPriceRepository productPriceRepository
+        ProductPriceRepository productPriceRepository,
+        MeterRegistry meterRegistry
     ) {
-        return new GetProductPriceUseCase(productPriceRepository);
+        return new MeteredGetProductPriceUseCase(productPriceRepository, meterRegistry);
+    }
+
+    @Bean
+    public GetProductPriceTimelineUseCase getProductPriceTimelineUseCase(
+        ProductPriceHistoryRepository productPriceHistoryRepository
+    ) {
+        return new GetProductPriceTimelineUseCase(productPriceHistoryRepository);
+    }
+
+    @Bean
+    public ImportProductPricesUseCase importProductPricesUseCase(
+        ProductPriceWriteRepository productPriceWriteRepository,
+        ProductPriceEventPublisher productPriceEventPublisher,
+        ProductPriceImportProperties productPriceImportProperties
+    ) {
+        return new ImportProductPricesUseCase(
+            productPriceWriteRepository,
+            productPriceEventPublisher,
+            productPriceImportProperties.chunkSize()
+        );
+    }
+
+    @Bean
+    public ExportProductPricesUseCase exportProductPricesUseCase(
+        ProductPriceExportRepository productPriceExportRepository,
+        MeterRegistry meterRegistry
+    ) {
+        return new MeteredExportProductPricesUseCase(productPriceExportRepository, meterRegistry);
+    }
+
+    @Bean
+    public CreateProductPriceUseCase createProductPriceUseCase(
+        ProductPriceWriteRepository productPriceWriteRepository,
+        ProductPriceEventPublisher productPriceEventPublisher
+    ) {
+        return new CreateProductPriceUseCase(productPriceWriteRepository, productPriceEventPublisher);
+    }
+
+    @Bean
+    public UpdateProductPriceUseCase updateProductPriceUseCase(
+        ProductPriceWriteRepository productPriceWriteRepository,
+        ProductPriceEventPublisher productPriceEventPublisher
+    ) {
+        return new UpdateProductPriceUseCase(productPriceWriteRepository, productPriceEventPublisher);
+    }
+
+    @Bean
+    public DeleteProductPriceUseCase deleteProductPriceUseCase(
+        ProductPriceWriteRepository productPriceWriteRepository,
+        ProductPriceEventPublisher productPriceEventPublisher
+    ) {
+        return new DeleteProductPriceUseCase(productPriceWriteRepository, productPriceEventPublisher);
     }
 }
@@ -0,0 +1,102 @@
+package com.challenge.productservice.infrastructure.database;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceExportRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * Reads the winning prices of a brand through a forward-only cursor fetching {@code fetchSize} rows per round trip
+ * to the database, so only one fetch is held in memory however many products the brand has.
+ * <p>
+ * Rows are sorted by product and then by {@link ProductPrice#PRECEDENCE}, from the winning one, so the winner of each
+ * product is the first of its rows and the rest are skipped without being mapped.
+ */
+public class JdbcProductPriceExportRepository implements ProductPriceExportRepository {
+
+    private static final String SELECT_VALID_AT = """
+        SELECT brand_id, start_date, end_date, price_list, product_id, priority, price, currency
+        FROM prices
+        WHERE brand_id = ?
+        AND start_date <= ?
+        AND end_date >= ?
+        ORDER BY product_id, priority DESC, start_date DESC, price_list DESC
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int fetchSize;
+
+    public JdbcProductPriceExportRepository(
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        int fetchSize
+    ) {
+        if (fetchSize < 1) {
+            throw new IllegalArgumentException("Fetch size must be positive");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Runs in a read-only transaction, as some drivers only honour the fetch size with auto-commit disabled and
+     * otherwise load the whole result at once.
+     */
+    @Override
+    public void forEachWinningProductPrice(
+        BrandId brandId,
+        LocalDateTime validAt,
+        Consumer<ProductPrice> consumer
+    ) {
+        WinnerPerProduct winnerPerProduct = new WinnerPerProduct(consumer);
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(
+            connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                    SELECT_VALID_AT,
+                    ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY
+                );
+                statement.setFetchSize(fetchSize);
+                statement.setLong(1, brandId.value());
+                statement.setObject(2, validAt);
+                statement.setObject(3, validAt);
+                return statement;
+            },
+            winnerPerProduct
+        ));
+    }
+
+    private static final class WinnerPerProduct implements RowCallbackHandler {
+
+        private final Consumer<ProductPrice> consumer;
+        private boolean first = true;
+        private long productId;
+
+        private WinnerPerProduct(Consumer<ProductPrice> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void processRow(ResultSet resultSet) throws SQLException {
+            long rowProductId = resultSet.getLong("product_id");
+            if (!first && rowProductId == productId) {
+                return;
+            }
+            first = false;
+            productId = rowProductId;
+            consumer.accept(JdbcProductPriceWriteRepository.toProductPrice(resultSet, resultSet.getRow()));
+        }
+    }
+}
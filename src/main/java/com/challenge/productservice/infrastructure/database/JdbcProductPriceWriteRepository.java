@@ -0,0 +1,141 @@
+package com.challenge.productservice.infrastructure.database;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.Price;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceId;
+import com.challenge.productservice.domain.productprice.ProductPriceWriteRepository;
+import com.challenge.productservice.infrastructure.money.Currencies;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Writes prices with plain JDBC, without going through the persistence context. Bulk inserts are sent in batches of
+ * {@code batchSize} rows per round trip to the database.
+ */
+public class JdbcProductPriceWriteRepository implements ProductPriceWriteRepository {
+
+    private static final String INSERT = """
+        INSERT INTO prices (id, brand_id, start_date, end_date, price_list, product_id, priority, price, currency)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+    private static final String SELECT_FOR_UPDATE = """
+        SELECT brand_id, start_date, end_date, price_list, product_id, priority, price, currency
+        FROM prices
+        WHERE id = ?
+        FOR UPDATE
+        """;
+    private static final String UPDATE = """
+        UPDATE prices
+        SET brand_id = ?, start_date = ?, end_date = ?, price_list = ?, product_id = ?, priority = ?, price = ?,
+            currency = ?
+        WHERE id = ?
+        """;
+    private static final String DELETE = "DELETE FROM prices WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public JdbcProductPriceWriteRepository(
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        int batchSize
+    ) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void saveAll(List<ProductPrice> productPrices) {
+        transactionTemplate.executeWithoutResult(
+            status -> jdbcTemplate.batchUpdate(INSERT, productPrices, batchSize, JdbcProductPriceWriteRepository::insert)
+        );
+    }
+
+    @Override
+    public ProductPriceId create(ProductPrice productPrice) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update(INSERT, statement -> {
+            statement.setObject(1, id);
+            setColumns(statement, 2, productPrice);
+        });
+        return new ProductPriceId(id);
+    }
+
+    @Override
+    public Optional<ProductPrice> update(ProductPriceId id, ProductPrice productPrice) {
+        return transactionTemplate.execute(status -> {
+            Optional<ProductPrice> previous = findForUpdate(id);
+            previous.ifPresent(ignored -> jdbcTemplate.update(UPDATE, statement -> {
+                setColumns(statement, 1, productPrice);
+                statement.setObject(9, id.value());
+            }));
+            return previous;
+        });
+    }
+
+    @Override
+    public Optional<ProductPrice> delete(ProductPriceId id) {
+        return transactionTemplate.execute(status -> {
+            Optional<ProductPrice> deleted = findForUpdate(id);
+            deleted.ifPresent(ignored -> jdbcTemplate.update(DELETE, id.value()));
+            return deleted;
+        });
+    }
+
+    private Optional<ProductPrice> findForUpdate(ProductPriceId id) {
+        return jdbcTemplate.query(SELECT_FOR_UPDATE, JdbcProductPriceWriteRepository::toProductPrice, id.value())
+            .stream()
+            .findFirst();
+    }
+
+    private static void insert(PreparedStatement statement, ProductPrice productPrice) throws SQLException {
+        statement.setObject(1, UUID.randomUUID());
+        setColumns(statement, 2, productPrice);
+    }
+
+    /**
+     * Sets the columns of the price, in table order, starting from the given parameter index.
+     */
+    private static void setColumns(PreparedStatement statement, int first, ProductPrice productPrice)
+        throws SQLException {
+        statement.setLong(first, productPrice.brandId().value());
+        statement.setObject(first + 1, productPrice.startDate());
+        statement.setObject(first + 2, productPrice.endDate());
+        statement.setInt(first + 3, productPrice.priceList());
+        statement.setLong(first + 4, productPrice.productId().value());
+        statement.setInt(first + 5, productPrice.priority());
+        statement.setBigDecimal(first + 6, productPrice.price().amount());
+        statement.setString(first + 7, productPrice.price().currency().getCurrencyCode());
+    }
+
+    static ProductPrice toProductPrice(ResultSet resultSet, int rowNumber) throws SQLException {
+        return new ProductPrice(
+            new BrandId(resultSet.getLong("brand_id")),
+            resultSet.getObject("start_date", LocalDateTime.class),
+            resultSet.getObject("end_date", LocalDateTime.class),
+            resultSet.getInt("price_list"),
+            new ProductId(resultSet.getLong("product_id")),
+            resultSet.getInt("priority"),
+            new Price(
+                resultSet.getBigDecimal("price"),
+                Currencies.of(resultSet.getString("currency"))
+            )
+        );
+    }
+}
@@ -3,18 +3,38 @@ package com.challenge.productservice.infrastructure.database;
 import com.challenge.productservice.domain.productprice.BrandId;
 import com.challenge.productservice.domain.productprice.ProductId;
 import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceHistoryRepository;
+import com.challenge.productservice.domain.productprice.ProductPriceQuery;
 import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import com.challenge.productservice.domain.productprice.WinningProductPrice;
 import com.challenge.productservice.infrastructure.database.entity.ProductPriceEntity;
 import com.challenge.productservice.infrastructure.database.mapper.ProductPriceMapper;
+import com.challenge.productservice.infrastructure.database.projection.ProductPriceKeyRow;
+import com.challenge.productservice.infrastructure.database.projection.ProductPriceRow;
+import com.challenge.productservice.infrastructure.database.projection.WinningProductPriceRow;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+
+public interface JpaProductPriceRepository extends
+    JpaRepository<ProductPriceEntity, UUID>,
+    ProductPriceRepository,
+    ProductPriceHistoryRepository,
+    ProductPriceSource,
+    ProductPriceRowBatchRepository {
 
-public interface JpaProductPriceRepository extends JpaRepository<ProductPriceEntity, UUID>, ProductPriceRepository {
     @Query("""
         SELECT p FROM ProductPriceEntity p
         WHERE p.productId = :productId
@@ -28,11 +48,222 @@ public interface JpaProductPriceRepository extends JpaRepository<ProductPriceEnt
         @Param("validAt") LocalDateTime validAt
     );
 
+    /**
+     * Same as {@link #findProductPrices(Long, Long, LocalDateTime)}, but projects the columns into unmanaged rows and
+     * runs in a read-only transaction, so no entity is hydrated, tracked or flushed.
+     */
+    @Transactional(readOnly = true)
+    @Query("""
+        SELECT new com.challenge.productservice.infrastructure.database.projection.ProductPriceRow(
+            p.brandId, p.startDate, p.endDate, p.priceList, p.productId, p.priority, p.price, p.currency
+        )
+        FROM ProductPriceEntity p
+        WHERE p.productId = :productId
+        AND p.brandId = :brandId
+        AND p.startDate <= :validAt
+        AND p.endDate >= :validAt
+    """)
+    List<ProductPriceRow> findProductPriceRows(
+        @Param("productId") Long productId,
+        @Param("brandId") Long brandId,
+        @Param("validAt") LocalDateTime validAt
+    );
+
+    /**
+     * Returns the rows valid at the given date ordered by {@link ProductPrice#PRECEDENCE}, from the winning one.
+     * Called with a limit of one, the database resolves the winning price and only that row is fetched.
+     */
+    @Transactional(readOnly = true)
+    @Query("""
+        SELECT new com.challenge.productservice.infrastructure.database.projection.ProductPriceRow(
+            p.brandId, p.startDate, p.endDate, p.priceList, p.productId, p.priority, p.price, p.currency
+        )
+        FROM ProductPriceEntity p
+        WHERE p.productId = :productId
+        AND p.brandId = :brandId
+        AND p.startDate <= :validAt
+        AND p.endDate >= :validAt
+        ORDER BY p.priority DESC, p.startDate DESC, p.priceList DESC
+    """)
+    List<ProductPriceRow> findProductPriceRowsByPrecedence(
+        @Param("productId") Long productId,
+        @Param("brandId") Long brandId,
+        @Param("validAt") LocalDateTime validAt,
+        Limit limit
+    );
+
+    /**
+     * Same as {@link #findProductPriceRowsByPrecedence(Long, Long, LocalDateTime, Limit)}, along with the start date of
+     * the first price taking over from each row, computed by a correlated subquery so that the winning price and when
+     * it stops winning are read in a single round trip. See
+     * {@link WinningProductPrice#takesOver(ProductPrice, ProductPrice)}.
+     */
+    @Transactional(readOnly = true)
+    @Query("""
+        SELECT new com.challenge.productservice.infrastructure.database.projection.WinningProductPriceRow(
+            p.brandId, p.startDate, p.endDate, p.priceList, p.productId, p.priority, p.price, p.currency,
+            (
+                SELECT MIN(n.startDate) FROM ProductPriceEntity n
+                WHERE n.productId = p.productId
+                AND n.brandId = p.brandId
+                AND n.startDate > :validAt
+                AND n.startDate <= p.endDate
+                AND n.priority >= p.priority
+            )
+        )
+        FROM ProductPriceEntity p
+        WHERE p.productId = :productId
+        AND p.brandId = :brandId
+        AND p.startDate <= :validAt
+        AND p.endDate >= :validAt
+        ORDER BY p.priority DESC, p.startDate DESC, p.priceList DESC
+    """)
+    List<WinningProductPriceRow> findWinningProductPriceRowsByPrecedence(
+        @Param("productId") Long productId,
+        @Param("brandId") Long brandId,
+        @Param("validAt") LocalDateTime validAt,
+        Limit limit
+    );
+
+    /**
+     * Prices overlapping the range, projected into unmanaged rows in a read-only transaction as they feed lookups: the
+     * cache loader, single flight and the timeline.
+     */
+    @Transactional(readOnly = true)
+    @Query("""
+        SELECT new com.challenge.productservice.infrastructure.database.projection.ProductPriceRow(
+            p.brandId, p.startDate, p.endDate, p.priceList, p.productId, p.priority, p.price, p.currency
+        )
+        FROM ProductPriceEntity p
+        WHERE p.productId = :productId
+        AND p.brandId = :brandId
+        AND p.startDate <= :to
+        AND p.endDate >= :from
+    """)
+    List<ProductPriceRow> findOverlappingProductPriceRows(
+        @Param("productId") Long productId,
+        @Param("brandId") Long brandId,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to
+    );
+
+    @Transactional(readOnly = true)
+    @Query("""
+        SELECT new com.challenge.productservice.infrastructure.database.projection.ProductPriceRow(
+            p.brandId, p.startDate, p.endDate, p.priceList, p.productId, p.priority, p.price, p.currency
+        )
+        FROM ProductPriceEntity p
+        WHERE p.productId = :productId
+        AND p.brandId = :brandId
+    """)
+    List<ProductPriceRow> findAllProductPriceRows(@Param("productId") Long productId, @Param("brandId") Long brandId);
+
+    @Transactional(readOnly = true)
+    @Query("""
+        SELECT DISTINCT new com.challenge.productservice.infrastructure.database.projection.ProductPriceKeyRow(
+            p.brandId, p.productId
+        )
+        FROM ProductPriceEntity p
+    """)
+    List<ProductPriceKeyRow> findProductPriceKeyRows();
+
     @Override
     default List<ProductPrice> getProductPrices(ProductId productId, BrandId brandId, LocalDateTime validAt) {
-        List<ProductPriceEntity> entities = findProductPrices(productId.value(), brandId.value(), validAt);
+        List<ProductPriceRow> rows = findProductPriceRows(productId.value(), brandId.value(), validAt);
+
+        return rows.stream()
+            .map(ProductPriceMapper::toDomain)
+            .toList();
+    }
+
+    @Override
+    default Optional<ProductPrice> getProductPrice(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        return findProductPriceRowsByPrecedence(productId.value(), brandId.value(), validAt, Limit.of(1)).stream()
+            .findFirst()
+            .map(ProductPriceMapper::toDomain);
+    }
+
+    @Override
+    default Optional<WinningProductPrice> getWinningProductPrice(
+        ProductId productId,
+        BrandId brandId,
+        LocalDateTime validAt
+    ) {
+        return findWinningProductPriceRowsByPrecedence(productId.value(), brandId.value(), validAt, Limit.of(1))
+            .stream()
+            .findFirst()
+            .map(ProductPriceMapper::toDomain);
+    }
+
+    /**
+     * Resolves all the queries with a single query, matching each one on its own product, brand and date. See
+     * {@link ProductPriceRowBatchRepositoryImpl}.
+     */
+    @Override
+    default Map<ProductPriceQuery, List<ProductPrice>> getProductPrices(Collection<ProductPriceQuery> queries) {
+        Map<ProductPriceQuery, List<ProductPrice>> result = new HashMap<>();
+        findProductPriceRows(queries).forEach((query, rows) -> result.put(
+            query,
+            rows.stream().map(ProductPriceMapper::toDomain).toList()
+        ));
+        return result;
+    }
+
+    /**
+     * Reads the prices through the cursor of {@link #forEachProductPriceInKeyOrder(Consumer)}, so no entity is
+     * hydrated or tracked alongside the prices returned.
+     */
+    @Override
+    default List<ProductPrice> getAllProductPrices() {
+        List<ProductPrice> productPrices = new ArrayList<>();
+        forEachProductPriceInKeyOrder(productPrices::add);
+        return productPrices;
+    }
+
+    /**
+     * Reads the prices through a cursor, so only one fetch of rows is held in memory. See
+     * {@link ProductPriceRowBatchRepositoryImpl}.
+     */
+    @Override
+    default void forEachProductPriceInKeyOrder(Consumer<ProductPrice> consumer) {
+        forEachProductPriceRowInKeyOrder(row -> consumer.accept(ProductPriceMapper.toDomain(row)));
+    }
+
+    @Override
+    default List<ProductPrice> getAllProductPrices(ProductId productId, BrandId brandId) {
+        return findAllProductPriceRows(productId.value(), brandId.value()).stream()
+            .map(ProductPriceMapper::toDomain)
+            .toList();
+    }
+
+    /**
+     * Reads the prices of every product and brand with a single query. See {@link ProductPriceRowBatchRepositoryImpl}.
+     */
+    @Override
+    default Map<ProductPriceKey, List<ProductPrice>> getAllProductPrices(Collection<ProductPriceKey> keys) {
+        Map<ProductPriceKey, List<ProductPrice>> result = new HashMap<>();
+        findProductPriceRowsByKey(keys).forEach((key, rows) -> result.put(
+            key,
+            rows.stream().map(ProductPriceMapper::toDomain).toList()
+        ));
+        return result;
+    }
 
-        return entities.stream()
+    @Override
+    default List<ProductPriceKey> getAllProductPriceKeys() {
+        return findProductPriceKeyRows().stream()
+            .map(row -> new ProductPriceKey(new BrandId(row.brandId()), new ProductId(row.productId())))
+            .toList();
+    }
+
+    @Override
+    default List<ProductPrice> getOverlappingProductPrices(
+        ProductId productId,
+        BrandId brandId,
+        LocalDateTime from,
+        LocalDateTime to
+    ) {
+        return findOverlappingProductPriceRows(productId.value(), brandId.value(), from, to).stream()
             .map(ProductPriceMapper::toDomain)
             .toList();
     }
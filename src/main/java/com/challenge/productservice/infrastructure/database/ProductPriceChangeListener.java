@@ -0,0 +1,22 @@
+package com.challenge.productservice.infrastructure.database;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ProductId;
+
+import java.util.Collection;
+
+/**
+ * Implemented by the repositories holding prices read from the database, to refresh only the product and brand whose
+ * prices changed. Decorators forward the notification to the repository they wrap.
+ */
+public interface ProductPriceChangeListener {
+    void onProductPricesChanged(ProductId productId, BrandId brandId);
+
+    /**
+     * Refreshes many products and brands changed together. Repositories able to refresh them at once, with a single
+     * read of the source and a single new version of their index, should override it.
+     */
+    default void onProductPricesChanged(Collection<ProductPriceKey> keys) {
+        keys.forEach(key -> onProductPricesChanged(key.productId(), key.brandId()));
+    }
+}
@@ -0,0 +1,12 @@
+package com.challenge.productservice.infrastructure.database;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+
+public record ProductPriceKey(BrandId brandId, ProductId productId) {
+
+    public static ProductPriceKey of(ProductPrice productPrice) {
+        return new ProductPriceKey(productPrice.brandId(), productPrice.productId());
+    }
+}
@@ -0,0 +1,31 @@
+package com.challenge.productservice.infrastructure.database;
+
+import com.challenge.productservice.domain.productprice.ProductPriceQuery;
+import com.challenge.productservice.infrastructure.database.projection.ProductPriceRow;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Batch lookups of {@link JpaProductPriceRepository}, written in SQL as JPQL cannot join the prices on a list of
+ * values nor read them through a cursor.
+ */
+public interface ProductPriceRowBatchRepository {
+
+    /**
+     * Rows of the product and brand of each query valid at its date, with every query of the collection as a key.
+     */
+    Map<ProductPriceQuery, List<ProductPriceRow>> findProductPriceRows(Collection<ProductPriceQuery> queries);
+
+    /**
+     * Every row of each product and brand, with every key of the collection as a key.
+     */
+    Map<ProductPriceKey, List<ProductPriceRow>> findProductPriceRowsByKey(Collection<ProductPriceKey> keys);
+
+    /**
+     * Passes every row to the consumer sorted by brand, product and start date, as they are read from the database.
+     */
+    void forEachProductPriceRowInKeyOrder(Consumer<ProductPriceRow> consumer);
+}
@@ -0,0 +1,156 @@
+package com.challenge.productservice.infrastructure.database;
+
+import com.challenge.productservice.domain.productprice.ProductPriceQuery;
+import com.challenge.productservice.infrastructure.database.projection.ProductPriceRow;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Joins the prices on a {@code VALUES} list holding the product, brand and date of every query, so each query only
+ * matches the rows of its own product and brand valid at its own date, each one read through the lookup index.
+ * <p>
+ * Picked up by Spring Data as the implementation of {@link ProductPriceRowBatchRepository} for
+ * {@link JpaProductPriceRepository}.
+ */
+public class ProductPriceRowBatchRepositoryImpl implements ProductPriceRowBatchRepository {
+
+    private static final String SELECT_VALID_AT = """
+        SELECT q.value_index, p.brand_id, p.start_date, p.end_date, p.price_list, p.product_id, p.priority, p.price,
+            p.currency
+        FROM (VALUES %s) AS q(value_index, brand_id, product_id, valid_at)
+        JOIN prices p
+        ON p.brand_id = q.brand_id
+        AND p.product_id = q.product_id
+        AND p.start_date <= q.valid_at
+        AND p.end_date >= q.valid_at
+        """;
+    private static final String QUERY_VALUES =
+        "(CAST(? AS INT), CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS TIMESTAMP))";
+    private static final String SELECT_BY_KEY = """
+        SELECT q.value_index, p.brand_id, p.start_date, p.end_date, p.price_list, p.product_id, p.priority, p.price,
+            p.currency
+        FROM (VALUES %s) AS q(value_index, brand_id, product_id)
+        JOIN prices p
+        ON p.brand_id = q.brand_id
+        AND p.product_id = q.product_id
+        """;
+    private static final String KEY_VALUES = "(CAST(? AS INT), CAST(? AS BIGINT), CAST(? AS BIGINT))";
+    private static final String SELECT_IN_KEY_ORDER = """
+        SELECT brand_id, start_date, end_date, price_list, product_id, priority, price, currency
+        FROM prices
+        ORDER BY brand_id, product_id, start_date
+        """;
+    private static final int FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProductPriceRowBatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<ProductPriceQuery, List<ProductPriceRow>> findProductPriceRows(Collection<ProductPriceQuery> queries) {
+        List<ProductPriceQuery> distinctQueries = new ArrayList<>(new LinkedHashSet<>(queries));
+        return find(SELECT_VALID_AT, QUERY_VALUES, distinctQueries, (query, parameters) -> {
+            parameters.add(query.brandId().value());
+            parameters.add(query.productId().value());
+            parameters.add(query.validAt());
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<ProductPriceKey, List<ProductPriceRow>> findProductPriceRowsByKey(Collection<ProductPriceKey> keys) {
+        List<ProductPriceKey> distinctKeys = new ArrayList<>(new LinkedHashSet<>(keys));
+        return find(SELECT_BY_KEY, KEY_VALUES, distinctKeys, (key, parameters) -> {
+            parameters.add(key.brandId().value());
+            parameters.add(key.productId().value());
+        });
+    }
+
+    /**
+     * Reads the rows through a forward-only cursor fetching {@value #FETCH_SIZE} rows per round trip, in the order of
+     * the lookup index. Runs in a read-only transaction, as some drivers only honour the fetch size with auto-commit
+     * disabled and otherwise load the whole result at once.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachProductPriceRowInKeyOrder(Consumer<ProductPriceRow> consumer) {
+        jdbcTemplate.query(
+            connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                    SELECT_IN_KEY_ORDER,
+                    ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY
+                );
+                statement.setFetchSize(FETCH_SIZE);
+                return statement;
+            },
+            (RowCallbackHandler) resultSet -> consumer.accept(toRow(resultSet))
+        );
+    }
+
+    /**
+     * Runs the statement with one row of values per key, led by the position of the key, which tells the key each
+     * price read belongs to.
+     */
+    private <K> Map<K, List<ProductPriceRow>> find(
+        String select,
+        String values,
+        List<K> keys,
+        KeyParameters<K> keyParameters
+    ) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+        Map<K, List<ProductPriceRow>> result = HashMap.newHashMap(keys.size());
+        List<Object> parameters = new ArrayList<>();
+        for (int index = 0; index < keys.size(); index++) {
+            result.put(keys.get(index), new ArrayList<>());
+            parameters.add(index);
+            keyParameters.add(keys.get(index), parameters);
+        }
+
+        jdbcTemplate.query(
+            select.formatted(String.join(", ", Collections.nCopies(keys.size(), values))),
+            resultSet -> {
+                result.get(keys.get(resultSet.getInt("value_index"))).add(toRow(resultSet));
+            },
+            parameters.toArray()
+        );
+        return result;
+    }
+
+    private static ProductPriceRow toRow(ResultSet resultSet) throws SQLException {
+        return new ProductPriceRow(
+            resultSet.getLong("brand_id"),
+            resultSet.getObject("start_date", LocalDateTime.class),
+            resultSet.getObject("end_date", LocalDateTime.class),
+            resultSet.getInt("price_list"),
+            resultSet.getLong("product_id"),
+            resultSet.getInt("priority"),
+            resultSet.getBigDecimal("price"),
+            resultSet.getString("currency")
+        );
+    }
+
+    @FunctionalInterface
+    private interface KeyParameters<K> {
+        void add(K key, List<Object> parameters);
+    }
+}
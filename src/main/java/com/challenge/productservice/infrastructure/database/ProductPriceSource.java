@@ -0,0 +1,70 @@
+package com.challenge.productservice.infrastructure.database;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Source of truth used to populate in-memory price structures.
+ */
+public interface ProductPriceSource {
+
+    /**
+     * Order of {@link #forEachProductPriceInKeyOrder(Consumer)}: by brand, product and start date.
+     */
+    Comparator<ProductPrice> KEY_ORDER = Comparator
+        .comparingLong((ProductPrice productPrice) -> productPrice.brandId().value())
+        .thenComparingLong(productPrice -> productPrice.productId().value())
+        .thenComparing(ProductPrice::startDate);
+
+    List<ProductPrice> getAllProductPrices();
+
+    /**
+     * Passes every price to the consumer in {@link #KEY_ORDER}, so they can be written out as they are read instead of
+     * being held on the heap. Sorts the result of {@link #getAllProductPrices()} unless overridden.
+     */
+    default void forEachProductPriceInKeyOrder(Consumer<ProductPrice> consumer) {
+        getAllProductPrices().stream()
+            .sorted(KEY_ORDER)
+            .forEach(consumer);
+    }
+
+    List<ProductPrice> getAllProductPrices(ProductId productId, BrandId brandId);
+
+    /**
+     * Prices of each product and brand, with every key as an entry of the map, empty when it has no prices.
+     */
+    default Map<ProductPriceKey, List<ProductPrice>> getAllProductPrices(Collection<ProductPriceKey> keys) {
+        Map<ProductPriceKey, List<ProductPrice>> result = new HashMap<>();
+        keys.forEach(key -> result.put(key, getAllProductPrices(key.productId(), key.brandId())));
+        return result;
+    }
+
+    /**
+     * Every product and brand with at least one price, each one once.
+     */
+    default List<ProductPriceKey> getAllProductPriceKeys() {
+        return getAllProductPrices().stream()
+            .map(ProductPriceKey::of)
+            .distinct()
+            .toList();
+    }
+
+    /**
+     * Prices of the product and brand valid at any moment between both dates, included.
+     */
+    List<ProductPrice> getOverlappingProductPrices(
+        ProductId productId,
+        BrandId brandId,
+        LocalDateTime from,
+        LocalDateTime to
+    );
+}
@@ -0,0 +1,14 @@
+package com.challenge.productservice.infrastructure.database;
+
+/**
+ * Implemented by the repositories holding prices read from the database, to reload all of them at once, for example
+ * after the table was changed outside of the service. Lookups keep being answered from the previous prices until the
+ * new ones are published. Decorators forward the reload to the repository they wrap.
+ */
+public interface ReloadableProductPriceRepository {
+
+    /**
+     * @return whether any price was reloaded, {@code false} when the repository reads the database on every lookup
+     */
+    boolean reload();
+}
@@ -0,0 +1,195 @@
+package com.challenge.productservice.infrastructure.database.bloom;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceQuery;
+import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import com.challenge.productservice.domain.productprice.WinningProductPrice;
+import com.challenge.productservice.infrastructure.database.ProductPriceChangeListener;
+import com.challenge.productservice.infrastructure.database.ProductPriceKey;
+import com.challenge.productservice.infrastructure.database.ProductPriceSource;
+import com.challenge.productservice.infrastructure.database.ReloadableProductPriceRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Answers lookups of products and brands without any price without reaching the repository it wraps.
+ * <p>
+ * Every product and brand with prices is added to a {@link ProductPriceKeyBloomFilter} when it is created and on every
+ * reload, and products are added as their prices change. Products missing from the filter are definitely unknown, so
+ * their lookups return nothing straight away; the others, including the few false positives, go to the repository.
+ * Prices deleted afterwards leave their product in the filter until the next reload, which only makes their lookups
+ * reach the repository.
+ */
+public class BloomFilterProductPriceRepository
+    implements ProductPriceRepository, ProductPriceChangeListener, ReloadableProductPriceRepository {
+
+    public static final String LOOKUPS = "product.price.lookup.bloom.filter";
+    public static final String FALSE_POSITIVE_PROBABILITY = "product.price.lookup.bloom.filter.false.positives";
+
+    private final ProductPriceRepository delegate;
+    private final ProductPriceSource productPriceSource;
+    private final long expectedKeys;
+    private final double falsePositiveRate;
+    private final Counter filtered;
+    private final Counter found;
+    private final Counter notFound;
+    private volatile ProductPriceKeyBloomFilter filter;
+
+    public BloomFilterProductPriceRepository(
+        ProductPriceRepository delegate,
+        ProductPriceSource productPriceSource,
+        long expectedKeys,
+        double falsePositiveRate,
+        MeterRegistry meterRegistry
+    ) {
+        this.delegate = delegate;
+        this.productPriceSource = productPriceSource;
+        this.expectedKeys = expectedKeys;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filtered = lookupCounter(meterRegistry, "filtered");
+        this.found = lookupCounter(meterRegistry, "found");
+        this.notFound = lookupCounter(meterRegistry, "not_found");
+        Gauge.builder(FALSE_POSITIVE_PROBABILITY, this, repository -> repository.filter.expectedFalsePositiveRate())
+            .description("Probability of an unknown product passing the filter, given the bits set so far")
+            .register(meterRegistry);
+        rebuild();
+    }
+
+    @Override
+    public List<ProductPrice> getProductPrices(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        if (isAbsent(productId, brandId)) {
+            return List.of();
+        }
+        List<ProductPrice> productPrices = delegate.getProductPrices(productId, brandId, validAt);
+        record(!productPrices.isEmpty());
+        return productPrices;
+    }
+
+    @Override
+    public Optional<ProductPrice> getProductPrice(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        if (isAbsent(productId, brandId)) {
+            return Optional.empty();
+        }
+        Optional<ProductPrice> productPrice = delegate.getProductPrice(productId, brandId, validAt);
+        record(productPrice.isPresent());
+        return productPrice;
+    }
+
+    @Override
+    public Optional<WinningProductPrice> getWinningProductPrice(
+        ProductId productId,
+        BrandId brandId,
+        LocalDateTime validAt
+    ) {
+        if (isAbsent(productId, brandId)) {
+            return Optional.empty();
+        }
+        Optional<WinningProductPrice> productPrice = delegate.getWinningProductPrice(productId, brandId, validAt);
+        record(productPrice.isPresent());
+        return productPrice;
+    }
+
+    /**
+     * Only the queries of products that might have prices are sent to the repository, the others get no prices.
+     */
+    @Override
+    public Map<ProductPriceQuery, List<ProductPrice>> getProductPrices(Collection<ProductPriceQuery> queries) {
+        Map<ProductPriceQuery, List<ProductPrice>> result = new HashMap<>();
+        List<ProductPriceQuery> candidates = new ArrayList<>();
+        for (ProductPriceQuery query : queries) {
+            if (isAbsent(query.productId(), query.brandId())) {
+                result.put(query, List.of());
+            } else {
+                candidates.add(query);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return result;
+        }
+
+        Map<ProductPriceQuery, List<ProductPrice>> productPrices = delegate.getProductPrices(candidates);
+        for (ProductPriceQuery query : candidates) {
+            List<ProductPrice> candidatePrices = productPrices.getOrDefault(query, List.of());
+            record(!candidatePrices.isEmpty());
+            result.put(query, candidatePrices);
+        }
+        return result;
+    }
+
+    /**
+     * Adds the product before the repository it wraps is refreshed, so its new prices are never filtered out.
+     */
+    @Override
+    public synchronized void onProductPricesChanged(ProductId productId, BrandId brandId) {
+        filter.add(new ProductPriceKey(brandId, productId));
+        if (delegate instanceof ProductPriceChangeListener listener) {
+            listener.onProductPricesChanged(productId, brandId);
+        }
+    }
+
+    @Override
+    public synchronized void onProductPricesChanged(Collection<ProductPriceKey> keys) {
+        keys.forEach(filter::add);
+        if (delegate instanceof ProductPriceChangeListener listener) {
+            listener.onProductPricesChanged(keys);
+        }
+    }
+
+    /**
+     * Reloads the repository it wraps and then rebuilds the filter from every product with prices, dropping the ones
+     * left without prices. Both run under the lock of the changes, so none is applied between them, and the filter is
+     * read from the source once the repository reloaded from it.
+     */
+    @Override
+    public synchronized boolean reload() {
+        if (delegate instanceof ReloadableProductPriceRepository reloadable) {
+            reloadable.reload();
+        }
+        rebuild();
+        return true;
+    }
+
+    /**
+     * Builds the next filter off to the side and publishes it once complete. Changes are serialized with it, so none
+     * is added to a filter about to be replaced.
+     */
+    private synchronized void rebuild() {
+        List<ProductPriceKey> keys = productPriceSource.getAllProductPriceKeys();
+        ProductPriceKeyBloomFilter rebuilt = new ProductPriceKeyBloomFilter(
+            Math.max(expectedKeys, keys.size()),
+            falsePositiveRate
+        );
+        keys.forEach(rebuilt::add);
+        filter = rebuilt;
+    }
+
+    private boolean isAbsent(ProductId productId, BrandId brandId) {
+        if (filter.mightContain(new ProductPriceKey(brandId, productId))) {
+            return false;
+        }
+        filtered.increment();
+        return true;
+    }
+
+    private void record(boolean isFound) {
+        (isFound ? found : notFound).increment();
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(LOOKUPS)
+            .description("Lookups filtered out as unknown products, or sent to the repository and found or not")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
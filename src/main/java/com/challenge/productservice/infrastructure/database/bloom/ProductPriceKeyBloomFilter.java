@@ -0,0 +1,88 @@
+package com.challenge.productservice.infrastructure.database.bloom;
+
+import com.challenge.productservice.infrastructure.database.ProductPriceKey;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter over products and brands. {@link #mightContain(ProductPriceKey)} never answers {@code false} for a key
+ * that was added, and answers {@code true} for a key that was not with a probability close to the false positive rate
+ * it was sized for, as long as no more keys than expected are added.
+ * <p>
+ * Both identifiers are mixed into two 64-bit hashes, combined into as many bit positions as hash functions by double
+ * hashing. Bits are set atomically, so keys can be added while the filter is read.
+ */
+class ProductPriceKeyBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashFunctions;
+
+    ProductPriceKeyBloomFilter(long expectedKeys, double falsePositiveRate) {
+        if (expectedKeys < 1) {
+            throw new IllegalArgumentException("Expected keys must be positive");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1");
+        }
+        long optimalBits = (long) Math.ceil(-expectedKeys * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = Math.toIntExact(Math.max(1, (optimalBits + Long.SIZE - 1) / Long.SIZE));
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words * Long.SIZE;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitCount / expectedKeys * Math.log(2)));
+    }
+
+    void add(ProductPriceKey key) {
+        long first = firstHash(key);
+        long second = secondHash(first);
+        for (int function = 0; function < hashFunctions; function++) {
+            long bit = Math.floorMod(first + function * second, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            if ((bits.get(word) & mask) == 0) {
+                bits.getAndAccumulate(word, mask, (current, added) -> current | added);
+            }
+        }
+    }
+
+    boolean mightContain(ProductPriceKey key) {
+        long first = firstHash(key);
+        long second = secondHash(first);
+        for (int function = 0; function < hashFunctions; function++) {
+            long bit = Math.floorMod(first + function * second, bitCount);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Probability of a false positive given the bits set so far, which grows past the rate the filter was sized for
+     * once more keys than expected are added.
+     */
+    double expectedFalsePositiveRate() {
+        long setBits = 0;
+        for (int word = 0; word < bits.length(); word++) {
+            setBits += Long.bitCount(bits.get(word));
+        }
+        return Math.pow((double) setBits / bitCount, hashFunctions);
+    }
+
+    private static long firstHash(ProductPriceKey key) {
+        return mix(key.productId().value() * 0x9E3779B97F4A7C15L ^ key.brandId().value());
+    }
+
+    private static long secondHash(long firstHash) {
+        return mix(firstHash + 0x9E3779B97F4A7C15L) | 1;
+    }
+
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,104 @@
+package com.challenge.productservice.infrastructure.database.cache;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.PriceTimeline;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import com.challenge.productservice.domain.productprice.WinningProductPrice;
+import com.challenge.productservice.infrastructure.database.ProductPriceChangeListener;
+import com.challenge.productservice.infrastructure.database.ProductPriceKey;
+import com.challenge.productservice.infrastructure.database.ProductPriceSource;
+import com.challenge.productservice.infrastructure.database.ReloadableProductPriceRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Read-through cache holding the {@link PriceTimeline} of the most used products.
+ * <p>
+ * A miss loads every price of the product and brand once; from then on any date is answered from the cached
+ * timeline, whose segments carry the winning price together with the dates it covers. Products without prices are
+ * cached too, so repeated lookups of unknown products do not reach the database either. The cache is bounded and
+ * evicts with Caffeine's W-TinyLFU policy.
+ */
+public class CachingProductPriceRepository
+    implements ProductPriceRepository, ProductPriceChangeListener, ReloadableProductPriceRepository {
+
+    public static final String CACHE_NAME = "product-price-timelines";
+
+    private final ProductPriceSource productPriceSource;
+    private final Cache<ProductPriceKey, PriceTimeline> timelines;
+
+    public CachingProductPriceRepository(
+        ProductPriceSource productPriceSource,
+        long maximumSize,
+        MeterRegistry meterRegistry
+    ) {
+        this.productPriceSource = productPriceSource;
+        this.timelines = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, timelines, CACHE_NAME);
+    }
+
+    @Override
+    public List<ProductPrice> getProductPrices(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        return getProductPrice(productId, brandId, validAt).map(List::of).orElse(List.of());
+    }
+
+    @Override
+    public Optional<ProductPrice> getProductPrice(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        PriceTimeline timeline = timelines.get(new ProductPriceKey(brandId, productId), this::load);
+        return timeline.priceAt(validAt);
+    }
+
+    @Override
+    public Optional<WinningProductPrice> getWinningProductPrice(
+        ProductId productId,
+        BrandId brandId,
+        LocalDateTime validAt
+    ) {
+        PriceTimeline timeline = timelines.get(new ProductPriceKey(brandId, productId), this::load);
+        return timeline.segmentAt(validAt)
+            .map(segment -> new WinningProductPrice(segment.productPrice(), segment.endDate()));
+    }
+
+    public void invalidate(ProductId productId, BrandId brandId) {
+        timelines.invalidate(new ProductPriceKey(brandId, productId));
+    }
+
+    public void invalidateAll() {
+        timelines.invalidateAll();
+    }
+
+    @Override
+    public void onProductPricesChanged(ProductId productId, BrandId brandId) {
+        invalidate(productId, brandId);
+    }
+
+    @Override
+    public void onProductPricesChanged(Collection<ProductPriceKey> keys) {
+        timelines.invalidateAll(keys);
+    }
+
+    /**
+     * Evicts every timeline, so each product is loaded again on its next lookup.
+     */
+    @Override
+    public boolean reload() {
+        invalidateAll();
+        return true;
+    }
+
+    private PriceTimeline load(ProductPriceKey key) {
+        return PriceTimeline.of(productPriceSource.getAllProductPrices(key.productId(), key.brandId()));
+    }
+}
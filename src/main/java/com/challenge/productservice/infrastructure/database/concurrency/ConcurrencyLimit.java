@@ -0,0 +1,56 @@
+package com.challenge.productservice.infrastructure.database.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Permits of the lookups running against the database at the same time. Lookups wait for one, in arrival order, for at
+ * most the given timeout and are rejected afterwards.
+ */
+public class ConcurrencyLimit {
+
+    public static final String REJECTED = "product.price.lookup.rejected";
+    public static final String AVAILABLE_PERMITS = "product.price.lookup.permits.available";
+
+    private final Semaphore permits;
+    private final long acquireTimeoutNanos;
+    private final Counter rejected;
+
+    public ConcurrencyLimit(int maxConcurrentLookups, Duration acquireTimeout, MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(maxConcurrentLookups, true);
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+        this.rejected = Counter.builder(REJECTED)
+            .description("Lookups rejected because the database was saturated")
+            .register(meterRegistry);
+        Gauge.builder(AVAILABLE_PERMITS, permits, Semaphore::availablePermits)
+            .description("Lookups that can still start against the database without waiting")
+            .register(meterRegistry);
+    }
+
+    public <T> T withPermit(Supplier<T> lookup) {
+        acquire();
+        try {
+            return lookup.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void acquire() {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                rejected.increment();
+                throw new ProductPriceRepositoryOverloadedException("Timed out waiting to query product prices");
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new ProductPriceRepositoryOverloadedException("Interrupted waiting to query product prices");
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.challenge.productservice.infrastructure.database.concurrency;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceQuery;
+import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import com.challenge.productservice.domain.productprice.WinningProductPrice;
+import com.challenge.productservice.infrastructure.database.ProductPriceChangeListener;
+import com.challenge.productservice.infrastructure.database.ProductPriceKey;
+import com.challenge.productservice.infrastructure.database.ReloadableProductPriceRepository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Bounds the number of lookups running against the database at the same time.
+ * <p>
+ * With virtual threads there is no longer a request thread pool limiting concurrency, so without this limit every
+ * request would queue for a connection inside the pool. Lookups wait here for a permit of the {@link ConcurrencyLimit}.
+ */
+public class ConcurrencyLimitedProductPriceRepository
+    implements ProductPriceRepository, ProductPriceChangeListener, ReloadableProductPriceRepository {
+
+    private final ProductPriceRepository delegate;
+    private final ConcurrencyLimit concurrencyLimit;
+
+    public ConcurrencyLimitedProductPriceRepository(
+        ProductPriceRepository delegate,
+        ConcurrencyLimit concurrencyLimit
+    ) {
+        this.delegate = delegate;
+        this.concurrencyLimit = concurrencyLimit;
+    }
+
+    @Override
+    public List<ProductPrice> getProductPrices(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        return concurrencyLimit.withPermit(() -> delegate.getProductPrices(productId, brandId, validAt));
+    }
+
+    @Override
+    public Optional<ProductPrice> getProductPrice(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        return concurrencyLimit.withPermit(() -> delegate.getProductPrice(productId, brandId, validAt));
+    }
+
+    @Override
+    public Optional<WinningProductPrice> getWinningProductPrice(
+        ProductId productId,
+        BrandId brandId,
+        LocalDateTime validAt
+    ) {
+        return concurrencyLimit.withPermit(() -> delegate.getWinningProductPrice(productId, brandId, validAt));
+    }
+
+    @Override
+    public Map<ProductPriceQuery, List<ProductPrice>> getProductPrices(Collection<ProductPriceQuery> queries) {
+        return concurrencyLimit.withPermit(() -> delegate.getProductPrices(queries));
+    }
+
+    @Override
+    public void onProductPricesChanged(ProductId productId, BrandId brandId) {
+        if (delegate instanceof ProductPriceChangeListener listener) {
+            listener.onProductPricesChanged(productId, brandId);
+        }
+    }
+
+    @Override
+    public void onProductPricesChanged(Collection<ProductPriceKey> keys) {
+        if (delegate instanceof ProductPriceChangeListener listener) {
+            listener.onProductPricesChanged(keys);
+        }
+    }
+
+    @Override
+    public boolean reload() {
+        return delegate instanceof ReloadableProductPriceRepository reloadable && reloadable.reload();
+    }
+}
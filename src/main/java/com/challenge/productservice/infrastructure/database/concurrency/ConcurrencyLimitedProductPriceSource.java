@@ -0,0 +1,66 @@
+package com.challenge.productservice.infrastructure.database.concurrency;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.infrastructure.database.ProductPriceKey;
+import com.challenge.productservice.infrastructure.database.ProductPriceSource;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Bounds the number of reads of a {@link ProductPriceSource} running against the database at the same time, for the
+ * decorators reading the database through a source instead of a repository. Placed below
+ * {@link com.challenge.productservice.infrastructure.database.singleflight.SingleFlightProductPriceRepository}, only
+ * the lookups actually reaching the database hold a permit, not the ones waiting for a lookup already in flight.
+ * Reads of every price are not limited, as they only load the in-memory repositories.
+ */
+public class ConcurrencyLimitedProductPriceSource implements ProductPriceSource {
+
+    private final ProductPriceSource delegate;
+    private final ConcurrencyLimit concurrencyLimit;
+
+    public ConcurrencyLimitedProductPriceSource(ProductPriceSource delegate, ConcurrencyLimit concurrencyLimit) {
+        this.delegate = delegate;
+        this.concurrencyLimit = concurrencyLimit;
+    }
+
+    @Override
+    public List<ProductPrice> getAllProductPrices() {
+        return delegate.getAllProductPrices();
+    }
+
+    @Override
+    public void forEachProductPriceInKeyOrder(Consumer<ProductPrice> consumer) {
+        delegate.forEachProductPriceInKeyOrder(consumer);
+    }
+
+    @Override
+    public List<ProductPriceKey> getAllProductPriceKeys() {
+        return delegate.getAllProductPriceKeys();
+    }
+
+    @Override
+    public List<ProductPrice> getAllProductPrices(ProductId productId, BrandId brandId) {
+        return concurrencyLimit.withPermit(() -> delegate.getAllProductPrices(productId, brandId));
+    }
+
+    @Override
+    public Map<ProductPriceKey, List<ProductPrice>> getAllProductPrices(Collection<ProductPriceKey> keys) {
+        return concurrencyLimit.withPermit(() -> delegate.getAllProductPrices(keys));
+    }
+
+    @Override
+    public List<ProductPrice> getOverlappingProductPrices(
+        ProductId productId,
+        BrandId brandId,
+        LocalDateTime from,
+        LocalDateTime to
+    ) {
+        return concurrencyLimit.withPermit(() -> delegate.getOverlappingProductPrices(productId, brandId, from, to));
+    }
+}
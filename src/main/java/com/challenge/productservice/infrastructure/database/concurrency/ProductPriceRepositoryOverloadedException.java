@@ -0,0 +1,8 @@
+package com.challenge.productservice.infrastructure.database.concurrency;
+
+public class ProductPriceRepositoryOverloadedException extends RuntimeException {
+
+    public ProductPriceRepositoryOverloadedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,80 @@
+package com.challenge.productservice.infrastructure.database.inmemory;
+
+import com.challenge.productservice.infrastructure.database.ProductPriceKey;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * In-memory structures of type {@code T} per product and brand, read without locks while they are being rebuilt.
+ * <p>
+ * Readers dereference the current {@link Version} through a single volatile field, and a version is never modified
+ * once published. Writers are serialized, build the next version off to the side, either whole or as a copy of the
+ * current one with a single product replaced, and publish it with one write. A reader therefore sees the previous or
+ * the next version, never one being built, and a version no reader refers to anymore is garbage collected.
+ * <p>
+ * Replacing products copies the map of the whole version, so its cost grows with the number of products held. Products
+ * changed together are replaced in a single version to pay it once.
+ */
+public final class CopyOnWriteProductPriceIndex<T> {
+
+    private volatile Version<T> current = new Version<>(0, Map.of());
+
+    /**
+     * Immutable set of structures, numbered in the order versions are published.
+     */
+    public record Version<T>(long number, Map<ProductPriceKey, T> entries) {
+
+        public T get(ProductPriceKey key) {
+            return entries.get(key);
+        }
+    }
+
+    public Version<T> current() {
+        return current;
+    }
+
+    public T get(ProductPriceKey key) {
+        return current.get(key);
+    }
+
+    public int size() {
+        return current.entries().size();
+    }
+
+    public synchronized Version<T> replaceAll(Map<ProductPriceKey, T> entries) {
+        return publish(Map.copyOf(entries));
+    }
+
+    /**
+     * Publishes a version where the given product holds {@code entry}, or is left out when {@code entry} is
+     * {@code null}.
+     */
+    public synchronized Version<T> replace(ProductPriceKey key, T entry) {
+        Map<ProductPriceKey, T> changes = new HashMap<>();
+        changes.put(key, entry);
+        return replace(changes);
+    }
+
+    /**
+     * Publishes a single version where each given product holds its entry, or is left out when its entry is
+     * {@code null}, so many products cost one copy of the map.
+     */
+    public synchronized Version<T> replace(Map<ProductPriceKey, T> changes) {
+        Map<ProductPriceKey, T> entries = new HashMap<>(current.entries());
+        changes.forEach((key, entry) -> {
+            if (entry == null) {
+                entries.remove(key);
+            } else {
+                entries.put(key, entry);
+            }
+        });
+        return publish(Map.copyOf(entries));
+    }
+
+    private Version<T> publish(Map<ProductPriceKey, T> entries) {
+        Version<T> next = new Version<>(current.number() + 1, entries);
+        current = next;
+        return next;
+    }
+}
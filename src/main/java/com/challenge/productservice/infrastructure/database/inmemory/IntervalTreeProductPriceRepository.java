@@ -0,0 +1,105 @@
+package com.challenge.productservice.infrastructure.database.inmemory;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import com.challenge.productservice.domain.productprice.WinningProductPrice;
+import com.challenge.productservice.infrastructure.database.ProductPriceChangeListener;
+import com.challenge.productservice.infrastructure.database.ProductPriceKey;
+import com.challenge.productservice.infrastructure.database.ProductPriceSource;
+import com.challenge.productservice.infrastructure.database.ReloadableProductPriceRepository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Serves lookups from an interval tree per product and brand, held in a {@link CopyOnWriteProductPriceIndex}.
+ */
+public class IntervalTreeProductPriceRepository
+    implements ProductPriceRepository, ProductPriceChangeListener, ReloadableProductPriceRepository {
+
+    private final ProductPriceSource productPriceSource;
+    private final CopyOnWriteProductPriceIndex<ProductPriceIntervalTree> index = new CopyOnWriteProductPriceIndex<>();
+
+    public IntervalTreeProductPriceRepository(ProductPriceSource productPriceSource) {
+        this.productPriceSource = productPriceSource;
+        reload();
+    }
+
+    /**
+     * Rebuilds every tree from the source, while lookups keep reading the previous ones.
+     */
+    @Override
+    public synchronized boolean reload() {
+        Map<ProductPriceKey, List<ProductPrice>> pricesByKey = productPriceSource.getAllProductPrices()
+            .stream()
+            .collect(Collectors.groupingBy(ProductPriceKey::of));
+
+        Map<ProductPriceKey, ProductPriceIntervalTree> trees = new HashMap<>(pricesByKey.size());
+        pricesByKey.forEach((key, prices) -> trees.put(key, ProductPriceIntervalTree.of(prices)));
+        index.replaceAll(trees);
+        return true;
+    }
+
+    /**
+     * Rebuilds the tree of a single product and brand from the source. The index is copied and swapped, so lookups
+     * running meanwhile keep reading the previous one.
+     */
+    public synchronized void refresh(ProductId productId, BrandId brandId) {
+        List<ProductPrice> prices = productPriceSource.getAllProductPrices(productId, brandId);
+        index.replace(
+            new ProductPriceKey(brandId, productId),
+            prices.isEmpty() ? null : ProductPriceIntervalTree.of(prices)
+        );
+    }
+
+    /**
+     * Rebuilds the trees of many products and brands from a single read of the source, published as one version.
+     */
+    public synchronized void refresh(Collection<ProductPriceKey> keys) {
+        Map<ProductPriceKey, ProductPriceIntervalTree> changes = new HashMap<>();
+        productPriceSource.getAllProductPrices(keys).forEach((key, prices) -> changes.put(
+            key,
+            prices.isEmpty() ? null : ProductPriceIntervalTree.of(prices)
+        ));
+        index.replace(changes);
+    }
+
+    @Override
+    public void onProductPricesChanged(ProductId productId, BrandId brandId) {
+        refresh(productId, brandId);
+    }
+
+    @Override
+    public void onProductPricesChanged(Collection<ProductPriceKey> keys) {
+        refresh(keys);
+    }
+
+    @Override
+    public List<ProductPrice> getProductPrices(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        ProductPriceIntervalTree tree = index.get(new ProductPriceKey(brandId, productId));
+        return tree == null ? List.of() : tree.findValidAt(validAt);
+    }
+
+    @Override
+    public Optional<ProductPrice> getProductPrice(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        ProductPriceIntervalTree tree = index.get(new ProductPriceKey(brandId, productId));
+        return tree == null ? Optional.empty() : tree.findWinnerAt(validAt);
+    }
+
+    @Override
+    public Optional<WinningProductPrice> getWinningProductPrice(
+        ProductId productId,
+        BrandId brandId,
+        LocalDateTime validAt
+    ) {
+        ProductPriceIntervalTree tree = index.get(new ProductPriceKey(brandId, productId));
+        return tree == null ? Optional.empty() : tree.findWinningAt(validAt);
+    }
+}
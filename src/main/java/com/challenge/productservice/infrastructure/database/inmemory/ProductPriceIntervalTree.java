@@ -0,0 +1,152 @@
+package com.challenge.productservice.infrastructure.database.inmemory;
+
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.WinningProductPrice;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Immutable interval tree over the prices of a single product and brand.
+ * <p>
+ * Prices are kept sorted by start date in an array that is traversed as an implicit balanced tree: the node of the
+ * range {@code [lo, hi)} is its middle element, and {@code maxEnd} holds the latest end date found in that range.
+ * A point-in-time lookup skips every range whose latest end date is before the requested date, so it costs
+ * O(log n + k), where k is the number of matching prices.
+ */
+public final class ProductPriceIntervalTree {
+
+    private static final Comparator<ProductPrice> BY_START_DATE = Comparator.comparing(ProductPrice::startDate);
+
+    private final ProductPrice[] prices;
+    private final LocalDateTime[] maxEnd;
+
+    private ProductPriceIntervalTree(ProductPrice[] prices) {
+        this.prices = prices;
+        this.maxEnd = new LocalDateTime[prices.length];
+        computeMaxEnd(0, prices.length);
+    }
+
+    public static ProductPriceIntervalTree of(Collection<ProductPrice> productPrices) {
+        ProductPrice[] sorted = productPrices.toArray(ProductPrice[]::new);
+        Arrays.sort(sorted, BY_START_DATE);
+        return new ProductPriceIntervalTree(sorted);
+    }
+
+    public List<ProductPrice> findValidAt(LocalDateTime validAt) {
+        List<ProductPrice> result = new ArrayList<>();
+        collectValidAt(0, prices.length, validAt, result);
+        return result;
+    }
+
+    /**
+     * Price with the highest {@link ProductPrice#PRECEDENCE} among the ones valid at the date, found with the same
+     * traversal as {@link #findValidAt(LocalDateTime)} but without collecting the others.
+     */
+    public Optional<ProductPrice> findWinnerAt(LocalDateTime validAt) {
+        return Optional.ofNullable(winnerAt(0, prices.length, validAt, null));
+    }
+
+    /**
+     * Same as {@link #findWinnerAt(LocalDateTime)}, along with the last date the price keeps winning.
+     */
+    public Optional<WinningProductPrice> findWinningAt(LocalDateTime validAt) {
+        return findWinnerAt(validAt)
+            .map(winner -> WinningProductPrice.of(winner, nextStartDate(validAt, winner)));
+    }
+
+    private LocalDateTime computeMaxEnd(int lo, int hi) {
+        if (lo >= hi) {
+            return LocalDateTime.MIN;
+        }
+        int mid = (lo + hi) >>> 1;
+        LocalDateTime max = prices[mid].endDate();
+        LocalDateTime left = computeMaxEnd(lo, mid);
+        LocalDateTime right = computeMaxEnd(mid + 1, hi);
+        if (left.isAfter(max)) {
+            max = left;
+        }
+        if (right.isAfter(max)) {
+            max = right;
+        }
+        maxEnd[mid] = max;
+        return max;
+    }
+
+    private void collectValidAt(int lo, int hi, LocalDateTime validAt, List<ProductPrice> result) {
+        if (lo >= hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        if (maxEnd[mid].isBefore(validAt)) {
+            return;
+        }
+        collectValidAt(lo, mid, validAt, result);
+
+        ProductPrice price = prices[mid];
+        if (price.startDate().isAfter(validAt)) {
+            // Everything on the right starts even later
+            return;
+        }
+        if (!price.endDate().isBefore(validAt)) {
+            result.add(price);
+        }
+        collectValidAt(mid + 1, hi, validAt, result);
+    }
+
+    /**
+     * Start date of the first price taking over from the winner, or {@code null} when none does before it ends.
+     */
+    private LocalDateTime nextStartDate(LocalDateTime validAt, ProductPrice winner) {
+        for (int i = firstStartingAfter(validAt); i < prices.length; i++) {
+            ProductPrice price = prices[i];
+            if (price.startDate().isAfter(winner.endDate())) {
+                return null;
+            }
+            if (WinningProductPrice.takesOver(price, winner)) {
+                return price.startDate();
+            }
+        }
+        return null;
+    }
+
+    private int firstStartingAfter(LocalDateTime date) {
+        int lo = 0;
+        int hi = prices.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (prices[mid].startDate().isAfter(date)) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+        }
+        return lo;
+    }
+
+    private ProductPrice winnerAt(int lo, int hi, LocalDateTime validAt, ProductPrice winner) {
+        if (lo >= hi) {
+            return winner;
+        }
+        int mid = (lo + hi) >>> 1;
+        if (maxEnd[mid].isBefore(validAt)) {
+            return winner;
+        }
+        winner = winnerAt(lo, mid, validAt, winner);
+
+        ProductPrice price = prices[mid];
+        if (price.startDate().isAfter(validAt)) {
+            return winner;
+        }
+        boolean valid = !price.endDate().isBefore(validAt);
+        if (valid && (winner == null || ProductPrice.PRECEDENCE.compare(price, winner) > 0)) {
+            winner = price;
+        }
+        return winnerAt(mid + 1, hi, validAt, winner);
+    }
+}
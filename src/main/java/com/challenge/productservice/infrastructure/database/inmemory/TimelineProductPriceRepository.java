@@ -0,0 +1,105 @@
+package com.challenge.productservice.infrastructure.database.inmemory;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.PriceTimeline;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import com.challenge.productservice.domain.productprice.WinningProductPrice;
+import com.challenge.productservice.infrastructure.database.ProductPriceChangeListener;
+import com.challenge.productservice.infrastructure.database.ProductPriceKey;
+import com.challenge.productservice.infrastructure.database.ProductPriceSource;
+import com.challenge.productservice.infrastructure.database.ReloadableProductPriceRepository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Serves lookups from a precomputed {@link PriceTimeline} per product and brand, so every lookup returns only the
+ * winning price. Timelines are held in a {@link CopyOnWriteProductPriceIndex}.
+ */
+public class TimelineProductPriceRepository
+    implements ProductPriceRepository, ProductPriceChangeListener, ReloadableProductPriceRepository {
+
+    private final ProductPriceSource productPriceSource;
+    private final CopyOnWriteProductPriceIndex<PriceTimeline> timelines = new CopyOnWriteProductPriceIndex<>();
+
+    public TimelineProductPriceRepository(ProductPriceSource productPriceSource) {
+        this.productPriceSource = productPriceSource;
+        reload();
+    }
+
+    /**
+     * Rebuilds every timeline from the source, while lookups keep reading the previous ones.
+     */
+    @Override
+    public synchronized boolean reload() {
+        Map<ProductPriceKey, PriceTimeline> loaded = new HashMap<>();
+        productPriceSource.getAllProductPrices()
+            .stream()
+            .collect(Collectors.groupingBy(ProductPriceKey::of))
+            .forEach((key, prices) -> loaded.put(key, PriceTimeline.of(prices)));
+        timelines.replaceAll(loaded);
+        return true;
+    }
+
+    /**
+     * Rebuilds the timeline of a single product and brand from the source, leaving the others untouched.
+     */
+    public synchronized void refresh(ProductId productId, BrandId brandId) {
+        PriceTimeline timeline = PriceTimeline.of(productPriceSource.getAllProductPrices(productId, brandId));
+        timelines.replace(new ProductPriceKey(brandId, productId), timeline.isEmpty() ? null : timeline);
+    }
+
+    /**
+     * Rebuilds the timelines of many products and brands from a single read of the source, published as one version.
+     */
+    public synchronized void refresh(Collection<ProductPriceKey> keys) {
+        Map<ProductPriceKey, PriceTimeline> changes = new HashMap<>();
+        productPriceSource.getAllProductPrices(keys).forEach((key, prices) -> {
+            PriceTimeline timeline = PriceTimeline.of(prices);
+            changes.put(key, timeline.isEmpty() ? null : timeline);
+        });
+        timelines.replace(changes);
+    }
+
+    @Override
+    public void onProductPricesChanged(ProductId productId, BrandId brandId) {
+        refresh(productId, brandId);
+    }
+
+    @Override
+    public void onProductPricesChanged(Collection<ProductPriceKey> keys) {
+        refresh(keys);
+    }
+
+    @Override
+    public List<ProductPrice> getProductPrices(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        return getProductPrice(productId, brandId, validAt).map(List::of).orElse(List.of());
+    }
+
+    @Override
+    public Optional<ProductPrice> getProductPrice(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        return timeline(productId, brandId).priceAt(validAt);
+    }
+
+    @Override
+    public Optional<WinningProductPrice> getWinningProductPrice(
+        ProductId productId,
+        BrandId brandId,
+        LocalDateTime validAt
+    ) {
+        return timeline(productId, brandId).segmentAt(validAt)
+            .map(segment -> new WinningProductPrice(segment.productPrice(), segment.endDate()));
+    }
+
+    private PriceTimeline timeline(ProductId productId, BrandId brandId) {
+        PriceTimeline timeline = timelines.get(new ProductPriceKey(brandId, productId));
+        return timeline == null ? PriceTimeline.empty() : timeline;
+    }
+}
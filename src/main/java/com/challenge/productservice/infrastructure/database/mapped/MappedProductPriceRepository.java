@@ -0,0 +1,267 @@
+package com.challenge.productservice.infrastructure.database.mapped;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import com.challenge.productservice.domain.productprice.WinningProductPrice;
+import com.challenge.productservice.infrastructure.database.ProductPriceChangeListener;
+import com.challenge.productservice.infrastructure.database.ProductPriceKey;
+import com.challenge.productservice.infrastructure.database.ProductPriceSource;
+import com.challenge.productservice.infrastructure.database.ReloadableProductPriceRepository;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serves lookups from {@link ProductPriceRecords} loaded at startup, keeping the prices off the heap. Candidates are
+ * compared on the mapped records and only the winning one is turned into a {@link ProductPrice}.
+ * <p>
+ * Products changed afterwards are reloaded from the source into a map on the heap, which takes precedence over the
+ * records. Once more than {@code maxChangedProducts} products changed, they are folded into new records read from the
+ * source instead, so the map never grows past that. The records and the map are published together behind a single
+ * volatile reference, and refreshes and reloads run one at a time, so a refresh never overwrites the prices read by a
+ * later one.
+ */
+public class MappedProductPriceRepository
+    implements ProductPriceRepository, ProductPriceChangeListener, ReloadableProductPriceRepository {
+
+    private final ProductPriceSource productPriceSource;
+    private final Path directory;
+    private final int maxChangedProducts;
+    private volatile MappedPrices prices;
+
+    public MappedProductPriceRepository(ProductPriceSource productPriceSource, Path directory, int maxChangedProducts) {
+        if (maxChangedProducts < 0) {
+            throw new IllegalArgumentException("Max changed products must not be negative");
+        }
+        this.productPriceSource = productPriceSource;
+        this.directory = directory;
+        this.maxChangedProducts = maxChangedProducts;
+        reload();
+    }
+
+    /**
+     * Writes every price to new records, read through {@link ProductPriceSource#forEachProductPriceInKeyOrder}, and
+     * publishes them with no changed products.
+     */
+    @Override
+    public synchronized boolean reload() {
+        ProductPriceRecords records = ProductPriceRecords.create(
+            directory,
+            productPriceSource::forEachProductPriceInKeyOrder
+        );
+        prices = new MappedPrices(records, new ConcurrentHashMap<>());
+        return true;
+    }
+
+    @Override
+    public synchronized void onProductPricesChanged(ProductId productId, BrandId brandId) {
+        ProductPriceKey key = new ProductPriceKey(brandId, productId);
+        if (exceedsMaxChangedProducts(List.of(key))) {
+            reload();
+            return;
+        }
+        prices.changedProductPrices().put(key, List.copyOf(productPriceSource.getAllProductPrices(productId, brandId)));
+    }
+
+    @Override
+    public synchronized void onProductPricesChanged(Collection<ProductPriceKey> keys) {
+        if (exceedsMaxChangedProducts(keys)) {
+            reload();
+            return;
+        }
+        Map<ProductPriceKey, List<ProductPrice>> changedProductPrices = prices.changedProductPrices();
+        productPriceSource.getAllProductPrices(keys)
+            .forEach((key, productPrices) -> changedProductPrices.put(key, List.copyOf(productPrices)));
+    }
+
+    private boolean exceedsMaxChangedProducts(Collection<ProductPriceKey> keys) {
+        Map<ProductPriceKey, List<ProductPrice>> changedProductPrices = prices.changedProductPrices();
+        long added = keys.stream()
+            .distinct()
+            .filter(key -> !changedProductPrices.containsKey(key))
+            .count();
+        return changedProductPrices.size() + added > maxChangedProducts;
+    }
+
+    @Override
+    public List<ProductPrice> getProductPrices(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        MappedPrices prices = this.prices;
+        List<ProductPrice> changed = prices.changedProductPrices().get(new ProductPriceKey(brandId, productId));
+        if (changed != null) {
+            return changed.stream().filter(productPrice -> isValidAt(productPrice, validAt)).toList();
+        }
+
+        ProductPriceRecords records = prices.records();
+        List<ProductPrice> productPrices = new ArrayList<>();
+        ValidityWindow window = ValidityWindow.of(validAt);
+        long first = records.firstIndexOf(brandId, productId);
+        for (long index = first; isCandidate(records, index, brandId, productId, window); index++) {
+            if (window.endsNotBefore(records, index)) {
+                productPrices.add(records.toProductPrice(index));
+            }
+        }
+        return productPrices;
+    }
+
+    @Override
+    public Optional<ProductPrice> getProductPrice(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        MappedPrices prices = this.prices;
+        List<ProductPrice> changed = prices.changedProductPrices().get(new ProductPriceKey(brandId, productId));
+        if (changed != null) {
+            return changed.stream()
+                .filter(productPrice -> isValidAt(productPrice, validAt))
+                .max(ProductPrice.PRECEDENCE);
+        }
+
+        ProductPriceRecords records = prices.records();
+        long winner = winnerIndex(records, brandId, productId, ValidityWindow.of(validAt));
+        return winner < 0 ? Optional.empty() : Optional.of(records.toProductPrice(winner));
+    }
+
+    @Override
+    public Optional<WinningProductPrice> getWinningProductPrice(
+        ProductId productId,
+        BrandId brandId,
+        LocalDateTime validAt
+    ) {
+        MappedPrices prices = this.prices;
+        List<ProductPrice> changed = prices.changedProductPrices().get(new ProductPriceKey(brandId, productId));
+        if (changed != null) {
+            return WinningProductPrice.resolve(changed, validAt);
+        }
+
+        ProductPriceRecords records = prices.records();
+        ValidityWindow window = ValidityWindow.of(validAt);
+        long winner = winnerIndex(records, brandId, productId, window);
+        if (winner < 0) {
+            return Optional.empty();
+        }
+        ProductPrice productPrice = records.toProductPrice(winner);
+        LocalDateTime nextStartDate = nextStartDate(records, brandId, productId, window, winner);
+        return Optional.of(WinningProductPrice.of(productPrice, nextStartDate));
+    }
+
+    private static long winnerIndex(
+        ProductPriceRecords records,
+        BrandId brandId,
+        ProductId productId,
+        ValidityWindow window
+    ) {
+        long winner = -1;
+        long first = records.firstIndexOf(brandId, productId);
+        for (long index = first; isCandidate(records, index, brandId, productId, window); index++) {
+            if (window.endsNotBefore(records, index)
+                && (winner < 0 || takesPrecedence(records, index, winner))) {
+                winner = index;
+            }
+        }
+        return winner;
+    }
+
+    /**
+     * Start date of the first record taking over from the winner, or {@code null} when none does before it ends.
+     * Every record starting after the date comes after the winner, as they are sorted by start date.
+     */
+    private static LocalDateTime nextStartDate(
+        ProductPriceRecords records,
+        BrandId brandId,
+        ProductId productId,
+        ValidityWindow window,
+        long winner
+    ) {
+        long winnerEndDate = records.endDate(winner);
+        int winnerEndNano = records.endNano(winner);
+        int winnerPriority = records.priority(winner);
+        for (long index = winner + 1; records.hasKey(index, brandId, productId); index++) {
+            long startDate = records.startDate(index);
+            int startNano = records.startNano(index);
+            if (compareDates(startDate, startNano, winnerEndDate, winnerEndNano) > 0) {
+                return null;
+            }
+            if (!window.startsNotAfter(records, index) && records.priority(index) >= winnerPriority) {
+                return LocalDateTime.ofEpochSecond(startDate, startNano, ZoneOffset.UTC);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Records are sorted by start date within a product, so the ones starting after the date end the search.
+     */
+    private static boolean isCandidate(
+        ProductPriceRecords records,
+        long index,
+        BrandId brandId,
+        ProductId productId,
+        ValidityWindow window
+    ) {
+        return records.hasKey(index, brandId, productId) && window.startsNotAfter(records, index);
+    }
+
+    /**
+     * Same order as {@link ProductPrice#PRECEDENCE}, compared on the records.
+     */
+    private static boolean takesPrecedence(ProductPriceRecords records, long index, long winner) {
+        int byPriority = Integer.compare(records.priority(index), records.priority(winner));
+        if (byPriority != 0) {
+            return byPriority > 0;
+        }
+        int byStartDate = compareDates(
+            records.startDate(index),
+            records.startNano(index),
+            records.startDate(winner),
+            records.startNano(winner)
+        );
+        if (byStartDate != 0) {
+            return byStartDate > 0;
+        }
+        return records.priceList(index) > records.priceList(winner);
+    }
+
+    /**
+     * Compares dates stored as epoch seconds and nanoseconds, without building them.
+     */
+    private static int compareDates(long second, int nano, long otherSecond, int otherNano) {
+        int bySecond = Long.compare(second, otherSecond);
+        return bySecond != 0 ? bySecond : Integer.compare(nano, otherNano);
+    }
+
+    private static boolean isValidAt(ProductPrice productPrice, LocalDateTime validAt) {
+        return !productPrice.startDate().isAfter(validAt) && !productPrice.endDate().isBefore(validAt);
+    }
+
+    /**
+     * Records loaded from the source, and the prices of the products changed since, taking precedence over them.
+     */
+    private record MappedPrices(
+        ProductPriceRecords records,
+        Map<ProductPriceKey, List<ProductPrice>> changedProductPrices
+    ) {}
+
+    /**
+     * Compares the dates of the records with the date prices are looked up at, split the way the records store them.
+     */
+    private record ValidityWindow(long second, int nano) {
+
+        static ValidityWindow of(LocalDateTime validAt) {
+            return new ValidityWindow(validAt.toEpochSecond(ZoneOffset.UTC), validAt.getNano());
+        }
+
+        boolean startsNotAfter(ProductPriceRecords records, long index) {
+            return compareDates(records.startDate(index), records.startNano(index), second, nano) <= 0;
+        }
+
+        boolean endsNotBefore(ProductPriceRecords records, long index) {
+            return compareDates(records.endDate(index), records.endNano(index), second, nano) >= 0;
+        }
+    }
+}
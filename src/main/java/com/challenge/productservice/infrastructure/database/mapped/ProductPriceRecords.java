@@ -0,0 +1,277 @@
+package com.challenge.productservice.infrastructure.database.mapped;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.Price;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.infrastructure.database.ProductPriceSource;
+
+import javax.money.CurrencyUnit;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Prices stored off-heap as fixed-width records in a memory-mapped file, sorted by brand, product and start date, so
+ * that the records themselves are the index searched by key.
+ * <p>
+ * Each record takes {@value #RECORD_BYTES} bytes:
+ * <pre>
+ * 0   long  brand ID
+ * 8   long  product ID
+ * 16  long  start date, as epoch seconds in UTC
+ * 24  long  end date, as epoch seconds in UTC
+ * 32  long  amount, unscaled
+ * 40  int   price list
+ * 44  int   priority
+ * 48  int   nanoseconds of the start date
+ * 52  int   nanoseconds of the end date
+ * 56  byte  currency, as an index in the dictionary kept on the heap
+ * 57  byte  scale of the amount
+ * </pre>
+ * Dates keep their nanoseconds, as prices often end right before the next one starts. Prices are written as they are
+ * read, so the file is created in a single pass without holding them on the heap. The file is split in several
+ * mappings, as each one is limited to 2 GB, and is deleted as soon as it is mapped, so its space is released once the
+ * mappings are garbage collected.
+ */
+public final class ProductPriceRecords {
+
+    static final int RECORD_BYTES = 64;
+
+    private static final int BRAND_ID = 0;
+    private static final int PRODUCT_ID = 8;
+    private static final int START_DATE = 16;
+    private static final int END_DATE = 24;
+    private static final int AMOUNT = 32;
+    private static final int PRICE_LIST = 40;
+    private static final int PRIORITY = 44;
+    private static final int START_NANO = 48;
+    private static final int END_NANO = 52;
+    private static final int CURRENCY = 56;
+    private static final int AMOUNT_SCALE = 57;
+
+    private static final int RECORDS_PER_MAPPING_SHIFT = 24;
+    private static final int RECORDS_PER_MAPPING = 1 << RECORDS_PER_MAPPING_SHIFT;
+    private static final int MAX_CURRENCIES = 256;
+    private static final int WRITE_BUFFER_RECORDS = 4096;
+
+    private final MappedByteBuffer[] mappings;
+    private final long size;
+    private final CurrencyUnit[] currencies;
+
+    private ProductPriceRecords(MappedByteBuffer[] mappings, long size, CurrencyUnit[] currencies) {
+        this.mappings = mappings;
+        this.size = size;
+        this.currencies = currencies;
+    }
+
+    /**
+     * Writes the prices that {@code productPrices} passes to the consumer it is given to a new file in the given
+     * directory, and maps it. Prices must come sorted by brand, product and start date, as passed by
+     * {@link ProductPriceSource#forEachProductPriceInKeyOrder(Consumer)}.
+     */
+    public static ProductPriceRecords create(Path directory, Consumer<Consumer<ProductPrice>> productPrices) {
+        try {
+            Path file = Files.createTempFile(directory, "prices", ".records");
+            try (FileChannel channel = FileChannel.open(file, READ, WRITE)) {
+                RecordWriter writer = new RecordWriter(channel);
+                productPrices.accept(writer);
+                writer.flush();
+                return new ProductPriceRecords(map(channel, writer.size), writer.size, writer.currencies());
+            } finally {
+                Files.delete(file);
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Position of the first record of the product and brand, or of the first record after them when they have none.
+     */
+    public long firstIndexOf(BrandId brandId, ProductId productId) {
+        long low = 0;
+        long high = size;
+        while (low < high) {
+            long middle = (low + high) >>> 1;
+            if (compareKey(middle, brandId.value(), productId.value()) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    public boolean hasKey(long index, BrandId brandId, ProductId productId) {
+        return index < size && compareKey(index, brandId.value(), productId.value()) == 0;
+    }
+
+    public long startDate(long index) {
+        return mapping(index).getLong(offset(index) + START_DATE);
+    }
+
+    public int startNano(long index) {
+        return mapping(index).getInt(offset(index) + START_NANO);
+    }
+
+    public long endDate(long index) {
+        return mapping(index).getLong(offset(index) + END_DATE);
+    }
+
+    public int endNano(long index) {
+        return mapping(index).getInt(offset(index) + END_NANO);
+    }
+
+    public int priceList(long index) {
+        return mapping(index).getInt(offset(index) + PRICE_LIST);
+    }
+
+    public int priority(long index) {
+        return mapping(index).getInt(offset(index) + PRIORITY);
+    }
+
+    public ProductPrice toProductPrice(long index) {
+        ByteBuffer mapping = mapping(index);
+        int offset = offset(index);
+        return new ProductPrice(
+            new BrandId(mapping.getLong(offset + BRAND_ID)),
+            LocalDateTime.ofEpochSecond(
+                mapping.getLong(offset + START_DATE),
+                mapping.getInt(offset + START_NANO),
+                ZoneOffset.UTC
+            ),
+            LocalDateTime.ofEpochSecond(
+                mapping.getLong(offset + END_DATE),
+                mapping.getInt(offset + END_NANO),
+                ZoneOffset.UTC
+            ),
+            mapping.getInt(offset + PRICE_LIST),
+            new ProductId(mapping.getLong(offset + PRODUCT_ID)),
+            mapping.getInt(offset + PRIORITY),
+            new Price(
+                BigDecimal.valueOf(mapping.getLong(offset + AMOUNT), mapping.get(offset + AMOUNT_SCALE)),
+                currencies[Byte.toUnsignedInt(mapping.get(offset + CURRENCY))]
+            )
+        );
+    }
+
+    private int compareKey(long index, long brandId, long productId) {
+        ByteBuffer mapping = mapping(index);
+        int offset = offset(index);
+        int byBrand = Long.compare(mapping.getLong(offset + BRAND_ID), brandId);
+        return byBrand != 0 ? byBrand : Long.compare(mapping.getLong(offset + PRODUCT_ID), productId);
+    }
+
+    private ByteBuffer mapping(long index) {
+        return mappings[(int) (index >>> RECORDS_PER_MAPPING_SHIFT)];
+    }
+
+    private static int offset(long index) {
+        return (int) (index & (RECORDS_PER_MAPPING - 1)) * RECORD_BYTES;
+    }
+
+    private static MappedByteBuffer[] map(FileChannel channel, long records) throws IOException {
+        int count = (int) ((records + RECORDS_PER_MAPPING - 1) >>> RECORDS_PER_MAPPING_SHIFT);
+        MappedByteBuffer[] mappings = new MappedByteBuffer[count];
+        for (int i = 0; i < count; i++) {
+            long first = (long) i << RECORDS_PER_MAPPING_SHIFT;
+            long length = Math.min(RECORDS_PER_MAPPING, records - first) * RECORD_BYTES;
+            mappings[i] = channel.map(FileChannel.MapMode.READ_ONLY, first * RECORD_BYTES, length);
+        }
+        return mappings;
+    }
+
+    /**
+     * Writes the records to the file through a direct buffer, checking they come in order and building the dictionary
+     * of currencies as they appear.
+     */
+    private static final class RecordWriter implements Consumer<ProductPrice> {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_RECORDS * RECORD_BYTES);
+        private final Map<CurrencyUnit, Integer> currencies = new LinkedHashMap<>();
+        private ProductPrice previous;
+        private long size;
+
+        private RecordWriter(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public void accept(ProductPrice productPrice) {
+            if (previous != null && ProductPriceSource.KEY_ORDER.compare(previous, productPrice) > 0) {
+                throw new IllegalArgumentException("Prices must be sorted by brand, product and start date");
+            }
+            if (!buffer.hasRemaining()) {
+                flush();
+            }
+            BigDecimal amount = productPrice.price().amount();
+            amount = amount.setScale(Math.max(0, amount.scale()));
+            if (amount.scale() > Byte.MAX_VALUE) {
+                throw new IllegalArgumentException("Amounts are limited to a scale of " + Byte.MAX_VALUE);
+            }
+            int offset = buffer.position();
+            buffer.putLong(offset + BRAND_ID, productPrice.brandId().value())
+                .putLong(offset + PRODUCT_ID, productPrice.productId().value())
+                .putLong(offset + START_DATE, productPrice.startDate().toEpochSecond(ZoneOffset.UTC))
+                .putLong(offset + END_DATE, productPrice.endDate().toEpochSecond(ZoneOffset.UTC))
+                .putLong(offset + AMOUNT, amount.unscaledValue().longValueExact())
+                .putInt(offset + PRICE_LIST, productPrice.priceList())
+                .putInt(offset + PRIORITY, productPrice.priority())
+                .putInt(offset + START_NANO, productPrice.startDate().getNano())
+                .putInt(offset + END_NANO, productPrice.endDate().getNano())
+                .put(offset + CURRENCY, currencyIndex(productPrice.price().currency()))
+                .put(offset + AMOUNT_SCALE, (byte) amount.scale());
+            buffer.position(offset + RECORD_BYTES);
+            previous = productPrice;
+            size++;
+        }
+
+        private byte currencyIndex(CurrencyUnit currency) {
+            Integer index = currencies.get(currency);
+            if (index == null) {
+                if (currencies.size() == MAX_CURRENCIES) {
+                    throw new IllegalArgumentException("Records are limited to " + MAX_CURRENCIES + " currencies");
+                }
+                index = currencies.size();
+                currencies.put(currency, index);
+            }
+            return index.byteValue();
+        }
+
+        private void flush() {
+            buffer.flip();
+            try {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+            buffer.clear();
+        }
+
+        private CurrencyUnit[] currencies() {
+            return currencies.keySet().toArray(CurrencyUnit[]::new);
+        }
+    }
+
+}
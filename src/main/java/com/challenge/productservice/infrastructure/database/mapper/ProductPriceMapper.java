@@ -4,9 +4,11 @@ import com.challenge.productservice.domain.productprice.BrandId;
 import com.challenge.productservice.domain.productprice.Price;
 import com.challenge.productservice.domain.productprice.ProductId;
 import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.WinningProductPrice;
 import com.challenge.productservice.infrastructure.database.entity.ProductPriceEntity;
-
-import javax.money.Monetary;
+import com.challenge.productservice.infrastructure.database.projection.ProductPriceRow;
+import com.challenge.productservice.infrastructure.database.projection.WinningProductPriceRow;
+import com.challenge.productservice.infrastructure.money.Currencies;
 
 public class ProductPriceMapper {
 
@@ -22,8 +24,39 @@ public class ProductPriceMapper {
             entity.getPriority(),
             new Price(
                 entity.getPrice(),
-                Monetary.getCurrency(entity.getCurrency())
+                Currencies.of(entity.getCurrency())
+            )
+        );
+    }
+
+    public static ProductPrice toDomain(ProductPriceRow row) {
+        return new ProductPrice(
+            new BrandId(row.brandId()),
+            row.startDate(),
+            row.endDate(),
+            row.priceList(),
+            new ProductId(row.productId()),
+            row.priority(),
+            new Price(
+                row.price(),
+                Currencies.of(row.currency())
+            )
+        );
+    }
+
+    public static WinningProductPrice toDomain(WinningProductPriceRow row) {
+        ProductPrice productPrice = new ProductPrice(
+            new BrandId(row.brandId()),
+            row.startDate(),
+            row.endDate(),
+            row.priceList(),
+            new ProductId(row.productId()),
+            row.priority(),
+            new Price(
+                row.price(),
+                Currencies.of(row.currency())
             )
         );
+        return WinningProductPrice.of(productPrice, row.nextStartDate());
     }
 }
@@ -0,0 +1,10 @@
+package com.challenge.productservice.infrastructure.database.projection;
+
+/**
+ * Product and brand of a row of the {@code prices} table, built straight from the result set by a constructor
+ * expression.
+ */
+public record ProductPriceKeyRow(
+    long brandId,
+    long productId
+) {}
@@ -0,0 +1,20 @@
+package com.challenge.productservice.infrastructure.database.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Columns of a row of the {@code prices} table, built straight from the result set by a constructor expression.
+ * Unlike {@link com.challenge.productservice.infrastructure.database.entity.ProductPriceEntity} it is not managed, so
+ * reading it neither registers it in the persistence context nor takes a snapshot for dirty checking.
+ */
+public record ProductPriceRow(
+    long brandId,
+    LocalDateTime startDate,
+    LocalDateTime endDate,
+    int priceList,
+    long productId,
+    int priority,
+    BigDecimal price,
+    String currency
+) {}
@@ -0,0 +1,20 @@
+package com.challenge.productservice.infrastructure.database.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Same columns as {@link ProductPriceRow}, along with the start date of the first price taking over from it, or
+ * {@code null} when none does, computed by the database in the same statement.
+ */
+public record WinningProductPriceRow(
+    long brandId,
+    LocalDateTime startDate,
+    LocalDateTime endDate,
+    int priceList,
+    long productId,
+    int priority,
+    BigDecimal price,
+    String currency,
+    LocalDateTime nextStartDate
+) {}
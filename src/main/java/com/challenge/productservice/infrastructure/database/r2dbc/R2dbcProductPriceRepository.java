@@ -0,0 +1,108 @@
+package com.challenge.productservice.infrastructure.database.r2dbc;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ReactiveProductPriceRepository;
+import com.challenge.productservice.domain.productprice.WinningProductPrice;
+import com.challenge.productservice.infrastructure.database.mapper.ProductPriceMapper;
+import com.challenge.productservice.infrastructure.database.projection.ProductPriceRow;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Resolves the winning price through R2DBC, in a single statement returning the winning row along with the start date
+ * of the first price taking over from it, so a lookup takes one round trip.
+ * <p>
+ * The H2 driver runs the statements synchronously on the subscribing thread, which would be a Netty event loop. Lookups
+ * are subscribed on a bounded scheduler with a thread per connection instead, so the event loops are never blocked,
+ * and each lookup holds one of those threads while it runs, as it would with JDBC.
+ * <p>
+ * Connections come from a pool of its own, which is disposed along with the scheduler when the repository is closed.
+ */
+public class R2dbcProductPriceRepository implements ReactiveProductPriceRepository, AutoCloseable {
+
+    private static final String SELECT_WINNING = """
+        SELECT p.brand_id, p.start_date, p.end_date, p.price_list, p.product_id, p.priority, p.price, p.currency,
+            (
+                SELECT MIN(n.start_date) FROM prices n
+                WHERE n.product_id = p.product_id
+                AND n.brand_id = p.brand_id
+                AND n.start_date > :validAt
+                AND n.start_date <= p.end_date
+                AND n.priority >= p.priority
+            ) AS next_start_date
+        FROM prices p
+        WHERE p.product_id = :productId
+        AND p.brand_id = :brandId
+        AND p.start_date <= :validAt
+        AND p.end_date >= :validAt
+        ORDER BY p.priority DESC, p.start_date DESC, p.price_list DESC
+        LIMIT 1
+        """;
+
+    private final ConnectionPool connectionPool;
+    private final DatabaseClient databaseClient;
+    private final Scheduler scheduler;
+
+    /**
+     * @param maxConnections size of the pool, and threads of the scheduler lookups run on
+     */
+    public R2dbcProductPriceRepository(ConnectionPool connectionPool, int maxConnections) {
+        this.connectionPool = connectionPool;
+        this.databaseClient = DatabaseClient.create(connectionPool);
+        this.scheduler = Schedulers.newBoundedElastic(
+            maxConnections,
+            Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE,
+            "r2dbc-lookup"
+        );
+    }
+
+    @Override
+    public CompletionStage<Optional<WinningProductPrice>> getWinningProductPrice(
+        ProductId productId,
+        BrandId brandId,
+        LocalDateTime validAt
+    ) {
+        return databaseClient.sql(SELECT_WINNING)
+            .bind("productId", productId.value())
+            .bind("brandId", brandId.value())
+            .bind("validAt", validAt)
+            .map(R2dbcProductPriceRepository::toWinningProductPrice)
+            .first()
+            .map(Optional::of)
+            .defaultIfEmpty(Optional.empty())
+            .subscribeOn(scheduler)
+            .toFuture();
+    }
+
+    @Override
+    public void close() {
+        connectionPool.dispose();
+        scheduler.dispose();
+    }
+
+    private static WinningProductPrice toWinningProductPrice(Readable row) {
+        ProductPriceRow productPriceRow = new ProductPriceRow(
+            row.get("brand_id", Long.class),
+            row.get("start_date", LocalDateTime.class),
+            row.get("end_date", LocalDateTime.class),
+            row.get("price_list", Integer.class),
+            row.get("product_id", Long.class),
+            row.get("priority", Integer.class),
+            row.get("price", BigDecimal.class),
+            row.get("currency", String.class)
+        );
+        return WinningProductPrice.of(
+            ProductPriceMapper.toDomain(productPriceRow),
+            row.get("next_start_date", LocalDateTime.class)
+        );
+    }
+}
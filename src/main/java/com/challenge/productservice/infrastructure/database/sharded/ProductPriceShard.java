@@ -0,0 +1,86 @@
+package com.challenge.productservice.infrastructure.database.sharded;
+
+import com.challenge.productservice.domain.productprice.PriceTimeline;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.infrastructure.database.ProductPriceKey;
+import com.challenge.productservice.infrastructure.database.inmemory.CopyOnWriteProductPriceIndex;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * One partition of the {@link ShardedProductPriceRepository}, holding the {@link PriceTimeline} of the products and
+ * brands routed to it.
+ * <p>
+ * Timelines are held in a {@link CopyOnWriteProductPriceIndex} per shard, so lookups read them without locking and
+ * rebuilds copy the map of this shard only, never blocking lookups nor rebuilds of the other shards.
+ */
+class ProductPriceShard {
+
+    private final Counter lookups;
+    private final Timer rebuilds;
+    private final CopyOnWriteProductPriceIndex<PriceTimeline> timelines = new CopyOnWriteProductPriceIndex<>();
+
+    ProductPriceShard(int shard, MeterRegistry meterRegistry) {
+        String tag = String.valueOf(shard);
+        this.lookups = Counter.builder(ShardedProductPriceRepository.SHARD_LOOKUPS)
+            .description("Lookups routed to the shard")
+            .tag("shard", tag)
+            .register(meterRegistry);
+        this.rebuilds = Timer.builder(ShardedProductPriceRepository.SHARD_REBUILDS)
+            .description("Time spent rebuilding the shard after its prices changed")
+            .tag("shard", tag)
+            .register(meterRegistry);
+        Gauge.builder(ShardedProductPriceRepository.SHARD_PRODUCTS, this, ProductPriceShard::size)
+            .description("Products and brands held by the shard")
+            .tag("shard", tag)
+            .register(meterRegistry);
+    }
+
+    PriceTimeline timeline(ProductPriceKey key) {
+        lookups.increment();
+        PriceTimeline timeline = timelines.get(key);
+        return timeline == null ? PriceTimeline.empty() : timeline;
+    }
+
+    void load(Map<ProductPriceKey, List<ProductPrice>> pricesByKey) {
+        Map<ProductPriceKey, PriceTimeline> loaded = new HashMap<>(pricesByKey.size());
+        pricesByKey.forEach((key, prices) -> loaded.put(key, PriceTimeline.of(prices)));
+        timelines.replaceAll(loaded);
+    }
+
+    /**
+     * Reads the prices of the product and replaces its timeline, serialized with the other refreshes of this shard so
+     * that the prices read last are the ones published last.
+     */
+    synchronized void refresh(ProductPriceKey key, Supplier<List<ProductPrice>> prices) {
+        rebuilds.record(() -> {
+            PriceTimeline timeline = PriceTimeline.of(prices.get());
+            timelines.replace(key, timeline.isEmpty() ? null : timeline);
+        });
+    }
+
+    /**
+     * Same as {@link #refresh(ProductPriceKey, Supplier)} for many products, published as a single version.
+     */
+    synchronized void refresh(Supplier<Map<ProductPriceKey, List<ProductPrice>>> pricesByKey) {
+        rebuilds.record(() -> {
+            Map<ProductPriceKey, PriceTimeline> changes = new HashMap<>();
+            pricesByKey.get().forEach((key, prices) -> {
+                PriceTimeline timeline = PriceTimeline.of(prices);
+                changes.put(key, timeline.isEmpty() ? null : timeline);
+            });
+            timelines.replace(changes);
+        });
+    }
+
+    int size() {
+        return timelines.size();
+    }
+}
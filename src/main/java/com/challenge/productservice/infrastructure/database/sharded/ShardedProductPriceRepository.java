@@ -0,0 +1,169 @@
+package com.challenge.productservice.infrastructure.database.sharded;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.PriceTimeline;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import com.challenge.productservice.domain.productprice.WinningProductPrice;
+import com.challenge.productservice.infrastructure.database.ProductPriceChangeListener;
+import com.challenge.productservice.infrastructure.database.ProductPriceKey;
+import com.challenge.productservice.infrastructure.database.ProductPriceSource;
+import com.challenge.productservice.infrastructure.database.ReloadableProductPriceRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+/**
+ * Serves lookups from {@link PriceTimeline}s split into shards by a hash of the product and brand, each one indexed and
+ * rebuilt on its own.
+ * <p>
+ * The shards are loaded in parallel at startup and on every reload. Refreshing a product afterwards only copies the
+ * shard it belongs to, so the cost of a rebuild shrinks with the number of shards and lookups of every shard keep
+ * reading without locks. Refreshes of different shards run at the same time, and a reload waits for them to finish.
+ * Lookups, rebuild times and sizes are reported per shard, to spot hot or unbalanced shards.
+ */
+public class ShardedProductPriceRepository
+    implements ProductPriceRepository, ProductPriceChangeListener, ReloadableProductPriceRepository {
+
+    public static final String SHARD_LOOKUPS = "product.price.shard.lookups";
+    public static final String SHARD_REBUILDS = "product.price.shard.rebuilds";
+    public static final String SHARD_PRODUCTS = "product.price.shard.products";
+
+    private final ProductPriceSource productPriceSource;
+    private final ProductPriceShard[] shards;
+    private final ReadWriteLock writers = new ReentrantReadWriteLock();
+
+    public ShardedProductPriceRepository(
+        ProductPriceSource productPriceSource,
+        int shards,
+        MeterRegistry meterRegistry
+    ) {
+        if (shards < 1) {
+            throw new IllegalArgumentException("There must be at least one shard");
+        }
+        this.productPriceSource = productPriceSource;
+        this.shards = IntStream.range(0, shards)
+            .mapToObj(shard -> new ProductPriceShard(shard, meterRegistry))
+            .toArray(ProductPriceShard[]::new);
+        reload();
+    }
+
+    /**
+     * Rebuilds every shard from the source, while lookups keep reading the previous timelines.
+     */
+    @Override
+    public boolean reload() {
+        writers.writeLock().lock();
+        try {
+            load();
+            return true;
+        } finally {
+            writers.writeLock().unlock();
+        }
+    }
+
+    private void load() {
+        List<Map<ProductPriceKey, List<ProductPrice>>> pricesByShard = IntStream.range(0, shards.length)
+            .<Map<ProductPriceKey, List<ProductPrice>>>mapToObj(shard -> new HashMap<>())
+            .toList();
+        for (ProductPrice productPrice : productPriceSource.getAllProductPrices()) {
+            ProductPriceKey key = ProductPriceKey.of(productPrice);
+            pricesByShard.get(shardOf(key))
+                .computeIfAbsent(key, ignored -> new ArrayList<>())
+                .add(productPrice);
+        }
+        IntStream.range(0, shards.length)
+            .parallel()
+            .forEach(shard -> shards[shard].load(pricesByShard.get(shard)));
+    }
+
+    /**
+     * Rebuilds the timeline of a single product and brand from the source, copying only the shard holding it.
+     */
+    public void refresh(ProductId productId, BrandId brandId) {
+        ProductPriceKey key = new ProductPriceKey(brandId, productId);
+        writers.readLock().lock();
+        try {
+            shardFor(key).refresh(key, () -> productPriceSource.getAllProductPrices(productId, brandId));
+        } finally {
+            writers.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rebuilds the timelines of many products and brands, with a single read of the source and a single copy per shard
+     * holding any of them.
+     */
+    public void refresh(Collection<ProductPriceKey> keys) {
+        Map<Integer, List<ProductPriceKey>> keysByShard = new HashMap<>();
+        keys.forEach(key -> keysByShard.computeIfAbsent(shardOf(key), ignored -> new ArrayList<>()).add(key));
+        writers.readLock().lock();
+        try {
+            keysByShard.forEach((shard, shardKeys) -> shards[shard].refresh(
+                () -> productPriceSource.getAllProductPrices(shardKeys)
+            ));
+        } finally {
+            writers.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void onProductPricesChanged(ProductId productId, BrandId brandId) {
+        refresh(productId, brandId);
+    }
+
+    @Override
+    public void onProductPricesChanged(Collection<ProductPriceKey> keys) {
+        refresh(keys);
+    }
+
+    @Override
+    public List<ProductPrice> getProductPrices(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        return getProductPrice(productId, brandId, validAt).map(List::of).orElse(List.of());
+    }
+
+    @Override
+    public Optional<ProductPrice> getProductPrice(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        return timeline(productId, brandId).priceAt(validAt);
+    }
+
+    @Override
+    public Optional<WinningProductPrice> getWinningProductPrice(
+        ProductId productId,
+        BrandId brandId,
+        LocalDateTime validAt
+    ) {
+        return timeline(productId, brandId).segmentAt(validAt)
+            .map(segment -> new WinningProductPrice(segment.productPrice(), segment.endDate()));
+    }
+
+    private PriceTimeline timeline(ProductId productId, BrandId brandId) {
+        ProductPriceKey key = new ProductPriceKey(brandId, productId);
+        return shardFor(key).timeline(key);
+    }
+
+    private ProductPriceShard shardFor(ProductPriceKey key) {
+        return shards[shardOf(key)];
+    }
+
+    /**
+     * Mixes both identifiers so that consecutive products of the same brand spread evenly over the shards.
+     */
+    int shardOf(ProductPriceKey key) {
+        long hash = key.productId().value() * 0x9E3779B97F4A7C15L + key.brandId().value();
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        return (int) Math.floorMod(hash, (long) shards.length);
+    }
+}
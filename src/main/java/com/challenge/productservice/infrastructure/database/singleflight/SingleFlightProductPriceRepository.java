@@ -0,0 +1,142 @@
+package com.challenge.productservice.infrastructure.database.singleflight;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import com.challenge.productservice.domain.productprice.WinningProductPrice;
+import com.challenge.productservice.infrastructure.database.ProductPriceSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Deduplicates concurrent lookups of the same product and brand.
+ * <p>
+ * Dates are grouped in buckets of a fixed duration. The first caller of a bucket queries every price overlapping the
+ * whole bucket, and the callers arriving while that query is in flight wait for it and share its result, each one
+ * keeping only the prices valid at its own date.
+ */
+public class SingleFlightProductPriceRepository implements ProductPriceRepository {
+
+    public static final String FLIGHTS = "product.price.lookup.flights";
+
+    private final ProductPriceSource productPriceSource;
+    private final long bucketSeconds;
+    private final ConcurrentMap<Flight, CompletableFuture<List<ProductPrice>>> inFlight = new ConcurrentHashMap<>();
+    private final Counter executed;
+    private final Counter coalesced;
+
+    public SingleFlightProductPriceRepository(
+        ProductPriceSource productPriceSource,
+        Duration bucket,
+        MeterRegistry meterRegistry
+    ) {
+        if (bucket.toSeconds() < 1) {
+            throw new IllegalArgumentException("Bucket must last at least one second");
+        }
+        this.productPriceSource = productPriceSource;
+        this.bucketSeconds = bucket.toSeconds();
+        this.executed = flightCounter(meterRegistry, "executed");
+        this.coalesced = flightCounter(meterRegistry, "coalesced");
+    }
+
+    @Override
+    public List<ProductPrice> getProductPrices(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        return bucketPrices(productId, brandId, validAt).stream()
+            .filter(price -> !price.startDate().isAfter(validAt))
+            .filter(price -> !price.endDate().isBefore(validAt))
+            .toList();
+    }
+
+    /**
+     * Resolved from the prices of the bucket, which hold every price taking over before the bucket ends but none
+     * after, so the winner is only known to keep winning until then.
+     */
+    @Override
+    public Optional<WinningProductPrice> getWinningProductPrice(
+        ProductId productId,
+        BrandId brandId,
+        LocalDateTime validAt
+    ) {
+        LocalDateTime bucketEnd = bucketEnd(bucketStart(validAt));
+        return WinningProductPrice.resolve(bucketPrices(productId, brandId, validAt), validAt)
+            .map(winner -> winner.validUntil().isAfter(bucketEnd)
+                ? new WinningProductPrice(winner.productPrice(), bucketEnd)
+                : winner
+            );
+    }
+
+    private List<ProductPrice> bucketPrices(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        Flight flight = new Flight(productId, brandId, bucketStart(validAt));
+        CompletableFuture<List<ProductPrice>> result = new CompletableFuture<>();
+        CompletableFuture<List<ProductPrice>> existing = inFlight.putIfAbsent(flight, result);
+
+        if (existing == null) {
+            executed.increment();
+            return execute(flight, result);
+        }
+        coalesced.increment();
+        return await(existing);
+    }
+
+    private List<ProductPrice> execute(Flight flight, CompletableFuture<List<ProductPrice>> result) {
+        try {
+            List<ProductPrice> bucketPrices = productPriceSource.getOverlappingProductPrices(
+                flight.productId(),
+                flight.brandId(),
+                flight.bucketStart(),
+                bucketEnd(flight.bucketStart())
+            );
+            result.complete(bucketPrices);
+            return bucketPrices;
+        } catch (RuntimeException exception) {
+            result.completeExceptionally(exception);
+            throw exception;
+        } finally {
+            inFlight.remove(flight, result);
+        }
+    }
+
+    private static List<ProductPrice> await(CompletableFuture<List<ProductPrice>> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw exception;
+        }
+    }
+
+    private LocalDateTime bucketStart(LocalDateTime validAt) {
+        long epochSecond = validAt.toEpochSecond(ZoneOffset.UTC);
+        return LocalDateTime.ofEpochSecond(
+            Math.floorDiv(epochSecond, bucketSeconds) * bucketSeconds,
+            0,
+            ZoneOffset.UTC
+        );
+    }
+
+    private LocalDateTime bucketEnd(LocalDateTime bucketStart) {
+        return bucketStart.plusSeconds(bucketSeconds).minusNanos(1);
+    }
+
+    private static Counter flightCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(FLIGHTS)
+            .description("Repository lookups executed against the database or coalesced into one already in flight")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    private record Flight(ProductId productId, BrandId brandId, LocalDateTime bucketStart) {}
+}
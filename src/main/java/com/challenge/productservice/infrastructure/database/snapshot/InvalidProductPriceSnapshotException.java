@@ -0,0 +1,10 @@
+package com.challenge.productservice.infrastructure.database.snapshot;
+
+import java.nio.file.Path;
+
+public class InvalidProductPriceSnapshotException extends RuntimeException {
+
+    public InvalidProductPriceSnapshotException(Path path, String reason) {
+        super(String.format("Snapshot %s is not valid: %s", path, reason));
+    }
+}
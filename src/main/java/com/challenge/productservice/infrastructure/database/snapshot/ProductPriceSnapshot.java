@@ -0,0 +1,318 @@
+package com.challenge.productservice.infrastructure.database.snapshot;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.Price;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.infrastructure.database.ProductPriceSource;
+import com.challenge.productservice.infrastructure.money.Currencies;
+
+import javax.money.CurrencyUnit;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Binary file holding every price, written and read through memory-mapped I/O.
+ * <p>
+ * A header is followed by one column per field, so that each column is copied in bulk:
+ * <pre>
+ * int     magic, version, rows, scale of the amounts
+ * byte    currencies in the dictionary, followed by their 3-letter codes
+ * long[]  brand IDs, product IDs, start dates and end dates, as epoch seconds in UTC
+ * int[]   nanoseconds of the start dates and of the end dates
+ * int[]   price lists and priorities
+ * long[]  amounts, unscaled
+ * byte[]  currencies, as indexes in the dictionary
+ * </pre>
+ * Rows are sorted by brand, product and start date, as in {@link ProductPriceSource#KEY_ORDER}, so they can be read
+ * one at a time in the order the repositories are loaded in. Files are limited to 2 GB, around 37 million prices.
+ */
+public final class ProductPriceSnapshot {
+
+    private static final int MAGIC = 0x50505331;
+    private static final int VERSION = 2;
+    private static final int HEADER_BYTES = 4 * Integer.BYTES + 1;
+    private static final int CURRENCY_CODE_BYTES = 3;
+    private static final int MAX_CURRENCIES = 255;
+    private static final int ROW_BYTES = 5 * Long.BYTES + 4 * Integer.BYTES + 1;
+    private static final int INITIAL_ROWS = 1024;
+
+    private ProductPriceSnapshot() {}
+
+    /**
+     * Writes the prices, sorting them by key first.
+     *
+     * @return the size of the snapshot, in bytes
+     * @see #write(Path, Consumer)
+     */
+    public static long write(Path path, List<ProductPrice> productPrices) {
+        return write(path, consumer -> productPrices.stream()
+            .sorted(ProductPriceSource.KEY_ORDER)
+            .forEach(consumer));
+    }
+
+    /**
+     * Writes the prices that {@code productPrices} passes to the consumer it is given, which must come sorted as
+     * passed by {@link ProductPriceSource#forEachProductPriceInKeyOrder(Consumer)}. They are gathered in one primitive
+     * array per column rather than kept as prices. The file is written next to the given one and moved into place, so
+     * that a snapshot being read is never partially written.
+     *
+     * @return the size of the snapshot, in bytes
+     */
+    public static long write(Path path, Consumer<Consumer<ProductPrice>> productPrices) {
+        Columns columns = new Columns();
+        productPrices.accept(columns);
+        int rows = columns.rows;
+        int amountScale = columns.amountScale;
+
+        long size = HEADER_BYTES + (long) columns.currencies.size() * CURRENCY_CODE_BYTES + (long) rows * ROW_BYTES;
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Snapshots are limited to 2 GB, " + rows + " prices do not fit");
+        }
+
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, CREATE, TRUNCATE_EXISTING, READ, WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.putInt(MAGIC)
+                .putInt(VERSION)
+                .putInt(rows)
+                .putInt(amountScale)
+                .put((byte) columns.currencies.size());
+            columns.currencies.keySet().forEach(currency -> buffer.put(currencyCode(currency)));
+
+            putLongs(buffer, columns.brandIds, rows);
+            putLongs(buffer, columns.productIds, rows);
+            putLongs(buffer, columns.startDates, rows);
+            putLongs(buffer, columns.endDates, rows);
+            putInts(buffer, columns.startNanos, rows);
+            putInts(buffer, columns.endNanos, rows);
+            putInts(buffer, columns.priceLists, rows);
+            putInts(buffer, columns.priorities, rows);
+            for (int row = 0; row < rows; row++) {
+                buffer.putLong(unscaled(columns.amounts[row], columns.amountScales[row], amountScale));
+            }
+            buffer.put(columns.currencyIndexes, 0, rows);
+            buffer.force();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+
+        try {
+            Files.move(temporary, path, REPLACE_EXISTING, ATOMIC_MOVE);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return size;
+    }
+
+    public static List<ProductPrice> read(Path path) {
+        List<ProductPrice> productPrices = new ArrayList<>();
+        forEach(path, productPrices::add);
+        return productPrices;
+    }
+
+    /**
+     * Passes every price to the consumer in {@link ProductPriceSource#KEY_ORDER}, reading the columns of each row from
+     * the mapped file rather than copying them to the heap first.
+     */
+    public static void forEach(Path path, Consumer<ProductPrice> consumer) {
+        try (FileChannel channel = FileChannel.open(path, READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES || size > Integer.MAX_VALUE) {
+                throw new InvalidProductPriceSnapshotException(path, "unexpected size of " + size + " bytes");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt() != MAGIC) {
+                throw new InvalidProductPriceSnapshotException(path, "not a price snapshot");
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new InvalidProductPriceSnapshotException(path, "unsupported version " + version);
+            }
+            int rows = buffer.getInt();
+            int amountScale = buffer.getInt();
+            CurrencyUnit[] currencies = readCurrencies(path, buffer);
+            if (rows < 0 || buffer.remaining() != (long) rows * ROW_BYTES) {
+                throw new InvalidProductPriceSnapshotException(path, "truncated or corrupted columns");
+            }
+
+            int brandIds = buffer.position();
+            int productIds = brandIds + rows * Long.BYTES;
+            int startDates = productIds + rows * Long.BYTES;
+            int endDates = startDates + rows * Long.BYTES;
+            int startNanos = endDates + rows * Long.BYTES;
+            int endNanos = startNanos + rows * Integer.BYTES;
+            int priceLists = endNanos + rows * Integer.BYTES;
+            int priorities = priceLists + rows * Integer.BYTES;
+            int amounts = priorities + rows * Integer.BYTES;
+            int currencyIndexes = amounts + rows * Long.BYTES;
+
+            for (int row = 0; row < rows; row++) {
+                int currency = Byte.toUnsignedInt(buffer.get(currencyIndexes + row));
+                if (currency >= currencies.length) {
+                    throw new InvalidProductPriceSnapshotException(path, "unknown currency index " + currency);
+                }
+                consumer.accept(new ProductPrice(
+                    new BrandId(buffer.getLong(brandIds + row * Long.BYTES)),
+                    LocalDateTime.ofEpochSecond(
+                        buffer.getLong(startDates + row * Long.BYTES),
+                        buffer.getInt(startNanos + row * Integer.BYTES),
+                        ZoneOffset.UTC
+                    ),
+                    LocalDateTime.ofEpochSecond(
+                        buffer.getLong(endDates + row * Long.BYTES),
+                        buffer.getInt(endNanos + row * Integer.BYTES),
+                        ZoneOffset.UTC
+                    ),
+                    buffer.getInt(priceLists + row * Integer.BYTES),
+                    new ProductId(buffer.getLong(productIds + row * Long.BYTES)),
+                    buffer.getInt(priorities + row * Integer.BYTES),
+                    new Price(
+                        BigDecimal.valueOf(buffer.getLong(amounts + row * Long.BYTES), amountScale),
+                        currencies[currency]
+                    )
+                ));
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private static byte[] currencyCode(CurrencyUnit currency) {
+        byte[] code = currency.getCurrencyCode().getBytes(StandardCharsets.US_ASCII);
+        if (code.length != CURRENCY_CODE_BYTES) {
+            throw new IllegalArgumentException("Currency '" + currency.getCurrencyCode() + "' has no 3-letter code");
+        }
+        return code;
+    }
+
+    private static CurrencyUnit[] readCurrencies(Path path, ByteBuffer buffer) {
+        CurrencyUnit[] currencies = new CurrencyUnit[Byte.toUnsignedInt(buffer.get())];
+        if (buffer.remaining() < currencies.length * CURRENCY_CODE_BYTES) {
+            throw new InvalidProductPriceSnapshotException(path, "truncated currencies");
+        }
+        byte[] code = new byte[CURRENCY_CODE_BYTES];
+        for (int i = 0; i < currencies.length; i++) {
+            buffer.get(code);
+            currencies[i] = Currencies.of(new String(code, StandardCharsets.US_ASCII));
+        }
+        return currencies;
+    }
+
+    private static long unscaled(long amount, int scale, int targetScale) {
+        return scale == targetScale
+            ? amount
+            : BigDecimal.valueOf(amount, scale).setScale(targetScale).unscaledValue().longValueExact();
+    }
+
+    private static void putLongs(ByteBuffer buffer, long[] column, int rows) {
+        buffer.asLongBuffer().put(column, 0, rows);
+        buffer.position(buffer.position() + rows * Long.BYTES);
+    }
+
+    private static void putInts(ByteBuffer buffer, int[] column, int rows) {
+        buffer.asIntBuffer().put(column, 0, rows);
+        buffer.position(buffer.position() + rows * Integer.BYTES);
+    }
+
+    /**
+     * Gathers the prices column by column, checking they come in order and building the dictionary of currencies as
+     * they appear.
+     */
+    private static final class Columns implements Consumer<ProductPrice> {
+
+        private final Map<CurrencyUnit, Integer> currencies = new LinkedHashMap<>();
+        private long[] brandIds = new long[INITIAL_ROWS];
+        private long[] productIds = new long[INITIAL_ROWS];
+        private long[] startDates = new long[INITIAL_ROWS];
+        private long[] endDates = new long[INITIAL_ROWS];
+        private int[] startNanos = new int[INITIAL_ROWS];
+        private int[] endNanos = new int[INITIAL_ROWS];
+        private int[] priceLists = new int[INITIAL_ROWS];
+        private int[] priorities = new int[INITIAL_ROWS];
+        private long[] amounts = new long[INITIAL_ROWS];
+        private byte[] amountScales = new byte[INITIAL_ROWS];
+        private byte[] currencyIndexes = new byte[INITIAL_ROWS];
+        private ProductPrice previous;
+        private int rows;
+        private int amountScale;
+
+        @Override
+        public void accept(ProductPrice productPrice) {
+            if (previous != null && ProductPriceSource.KEY_ORDER.compare(previous, productPrice) > 0) {
+                throw new IllegalArgumentException("Prices must be sorted by brand, product and start date");
+            }
+            if (rows == brandIds.length) {
+                grow();
+            }
+            BigDecimal amount = productPrice.price().amount();
+            amount = amount.setScale(Math.max(0, amount.scale()));
+            if (amount.scale() > Byte.MAX_VALUE) {
+                throw new IllegalArgumentException("Amounts are limited to a scale of " + Byte.MAX_VALUE);
+            }
+            brandIds[rows] = productPrice.brandId().value();
+            productIds[rows] = productPrice.productId().value();
+            startDates[rows] = productPrice.startDate().toEpochSecond(ZoneOffset.UTC);
+            endDates[rows] = productPrice.endDate().toEpochSecond(ZoneOffset.UTC);
+            startNanos[rows] = productPrice.startDate().getNano();
+            endNanos[rows] = productPrice.endDate().getNano();
+            priceLists[rows] = productPrice.priceList();
+            priorities[rows] = productPrice.priority();
+            amounts[rows] = amount.unscaledValue().longValueExact();
+            amountScales[rows] = (byte) amount.scale();
+            currencyIndexes[rows] = currencyIndex(productPrice.price().currency());
+            amountScale = Math.max(amountScale, amount.scale());
+            previous = productPrice;
+            rows++;
+        }
+
+        private byte currencyIndex(CurrencyUnit currency) {
+            Integer index = currencies.get(currency);
+            if (index == null) {
+                if (currencies.size() == MAX_CURRENCIES) {
+                    throw new IllegalArgumentException("Snapshots are limited to " + MAX_CURRENCIES + " currencies");
+                }
+                index = currencies.size();
+                currencies.put(currency, index);
+            }
+            return index.byteValue();
+        }
+
+        private void grow() {
+            int capacity = Math.multiplyExact(brandIds.length, 2);
+            brandIds = Arrays.copyOf(brandIds, capacity);
+            productIds = Arrays.copyOf(productIds, capacity);
+            startDates = Arrays.copyOf(startDates, capacity);
+            endDates = Arrays.copyOf(endDates, capacity);
+            startNanos = Arrays.copyOf(startNanos, capacity);
+            endNanos = Arrays.copyOf(endNanos, capacity);
+            priceLists = Arrays.copyOf(priceLists, capacity);
+            priorities = Arrays.copyOf(priorities, capacity);
+            amounts = Arrays.copyOf(amounts, capacity);
+            amountScales = Arrays.copyOf(amountScales, capacity);
+            currencyIndexes = Arrays.copyOf(currencyIndexes, capacity);
+        }
+    }
+}
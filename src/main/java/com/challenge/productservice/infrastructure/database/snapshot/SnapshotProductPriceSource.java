@@ -0,0 +1,114 @@
+package com.challenge.productservice.infrastructure.database.snapshot;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.infrastructure.database.ProductPriceKey;
+import com.challenge.productservice.infrastructure.database.ProductPriceSource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Loads every price from a {@link ProductPriceSnapshot} at startup when the file exists, instead of querying the
+ * database.
+ * <p>
+ * Only the first load of every price reads the snapshot. Later ones, made by reloads, query the database, as the
+ * snapshot is older than the prices it was loaded with. Lookups of some products and brands, used to refresh them
+ * after a change, always query the database, so that the changes made after the snapshot was written are picked up.
+ */
+public class SnapshotProductPriceSource implements ProductPriceSource {
+
+    private final Path snapshot;
+    private final ProductPriceSource database;
+    private boolean loaded;
+    private volatile List<ProductPriceKey> snapshotKeys;
+
+    public SnapshotProductPriceSource(Path snapshot, ProductPriceSource database) {
+        this.snapshot = snapshot;
+        this.database = database;
+    }
+
+    @Override
+    public List<ProductPrice> getAllProductPrices() {
+        if (!loadsSnapshot()) {
+            return database.getAllProductPrices();
+        }
+        List<ProductPrice> productPrices = new ArrayList<>();
+        forEachSnapshotProductPrice(productPrices::add);
+        return productPrices;
+    }
+
+    /**
+     * Streams the snapshot, written in key order, without holding its prices on the heap.
+     */
+    @Override
+    public void forEachProductPriceInKeyOrder(Consumer<ProductPrice> consumer) {
+        if (loadsSnapshot()) {
+            forEachSnapshotProductPrice(consumer);
+        } else {
+            database.forEachProductPriceInKeyOrder(consumer);
+        }
+    }
+
+    /**
+     * Keys of the prices last loaded, so they match the repository loaded with them: those gathered while reading the
+     * snapshot until every price is reloaded from the database.
+     */
+    @Override
+    public List<ProductPriceKey> getAllProductPriceKeys() {
+        List<ProductPriceKey> keys = snapshotKeys;
+        return keys != null ? keys : database.getAllProductPriceKeys();
+    }
+
+    private synchronized boolean loadsSnapshot() {
+        boolean loadsSnapshot = !loaded && Files.isRegularFile(snapshot);
+        loaded = true;
+        if (!loadsSnapshot) {
+            snapshotKeys = null;
+        }
+        return loadsSnapshot;
+    }
+
+    /**
+     * Rows come sorted by key, so each key is gathered once, when it differs from the previous one.
+     */
+    private void forEachSnapshotProductPrice(Consumer<ProductPrice> consumer) {
+        List<ProductPriceKey> keys = new ArrayList<>();
+        ProductPriceSnapshot.forEach(snapshot, productPrice -> {
+            ProductPriceKey key = ProductPriceKey.of(productPrice);
+            if (keys.isEmpty() || !keys.getLast().equals(key)) {
+                keys.add(key);
+            }
+            consumer.accept(productPrice);
+        });
+        snapshotKeys = Collections.unmodifiableList(keys);
+    }
+
+    @Override
+    public List<ProductPrice> getAllProductPrices(ProductId productId, BrandId brandId) {
+        return database.getAllProductPrices(productId, brandId);
+    }
+
+    @Override
+    public Map<ProductPriceKey, List<ProductPrice>> getAllProductPrices(Collection<ProductPriceKey> keys) {
+        return database.getAllProductPrices(keys);
+    }
+
+    @Override
+    public List<ProductPrice> getOverlappingProductPrices(
+        ProductId productId,
+        BrandId brandId,
+        LocalDateTime from,
+        LocalDateTime to
+    ) {
+        return database.getOverlappingProductPrices(productId, brandId, from, to);
+    }
+}
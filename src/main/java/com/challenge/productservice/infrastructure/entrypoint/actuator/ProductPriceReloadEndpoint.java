@@ -0,0 +1,34 @@
+package com.challenge.productservice.infrastructure.entrypoint.actuator;
+
+import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import com.challenge.productservice.infrastructure.database.ReloadableProductPriceRepository;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+import java.time.Duration;
+
+/**
+ * Reloads every price held in memory by the repository serving the lookups, which keeps answering them from the
+ * previous prices until the reloaded ones are published.
+ */
+@Endpoint(id = "pricereload")
+public class ProductPriceReloadEndpoint {
+
+    private final ProductPriceRepository productPriceRepository;
+
+    public ProductPriceReloadEndpoint(ProductPriceRepository productPriceRepository) {
+        this.productPriceRepository = productPriceRepository;
+    }
+
+    @WriteOperation
+    public Reload reload() {
+        long start = System.nanoTime();
+        boolean reloaded = productPriceRepository instanceof ReloadableProductPriceRepository reloadable
+            && reloadable.reload();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        return new Reload(reloaded, elapsed.toMillis());
+    }
+
+    public record Reload(boolean reloaded, long elapsedMillis) {}
+}
@@ -0,0 +1,40 @@
+package com.challenge.productservice.infrastructure.entrypoint.actuator;
+
+import com.challenge.productservice.infrastructure.database.ProductPriceSource;
+import com.challenge.productservice.infrastructure.database.snapshot.ProductPriceSnapshot;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Writes every price stored in the database to the configured snapshot, to be loaded by the next instances started.
+ * Prices are read through the database cursor in key order, the order the snapshot is written in.
+ */
+@Endpoint(id = "pricesnapshot")
+public class ProductPriceSnapshotEndpoint {
+
+    private final ProductPriceSource database;
+    private final Path snapshot;
+
+    public ProductPriceSnapshotEndpoint(ProductPriceSource database, Path snapshot) {
+        this.database = database;
+        this.snapshot = snapshot;
+    }
+
+    @WriteOperation
+    public WrittenSnapshot write() {
+        long start = System.nanoTime();
+        AtomicInteger rows = new AtomicInteger();
+        long bytes = ProductPriceSnapshot.write(snapshot, consumer -> database.forEachProductPriceInKeyOrder(
+            consumer.andThen(productPrice -> rows.incrementAndGet())
+        ));
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        return new WrittenSnapshot(snapshot.toString(), rows.get(), bytes, elapsed.toMillis());
+    }
+
+    public record WrittenSnapshot(String path, int rows, long bytes, long elapsedMillis) {}
+}
@@ -1,12 +1,22 @@
 package com.challenge.productservice.infrastructure.entrypoint.rest;
 
+import com.challenge.productservice.infrastructure.database.concurrency.ProductPriceRepositoryOverloadedException;
 import com.challenge.productservice.infrastructure.entrypoint.rest.response.Problem;
+import com.challenge.productservice.infrastructure.feed.InvalidProductPriceFeedException;
+import org.springframework.core.MethodParameter;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.server.MissingRequestValueException;
+import org.springframework.web.server.ServerWebInputException;
+
+import javax.money.UnknownCurrencyException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -19,6 +29,14 @@ public class GlobalExceptionHandler {
         return new Problem("An unexpected error occurred");
     }
 
+    @ExceptionHandler({
+        ProductPriceRepositoryOverloadedException.class,
+    })
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    Problem handle(ProductPriceRepositoryOverloadedException exception) {
+        return new Problem("The service is overloaded, try again later");
+    }
+
     @ExceptionHandler({
         MissingServletRequestParameterException.class,
     })
@@ -42,4 +60,71 @@ public class GlobalExceptionHandler {
         );
         return new Problem(message);
     }
+
+    /**
+     * Missing and mistyped request parameters of the reactive profile, answered like their servlet counterparts.
+     */
+    @ExceptionHandler({
+        ServerWebInputException.class,
+    })
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    Problem handle(ServerWebInputException exception) {
+        if (exception instanceof MissingRequestValueException missingValue) {
+            String message = String.format(
+                "Required request parameter '%s' is not present",
+                missingValue.getName()
+            );
+            return new Problem(message);
+        }
+        MethodParameter parameter = exception.getMethodParameter();
+        if (parameter == null) {
+            return new Problem("Request is not valid");
+        }
+        String message = String.format(
+            "Parameter '%s' has an invalid type",
+            parameter.getParameter().getName()
+        );
+        return new Problem(message);
+    }
+
+    @ExceptionHandler({
+        MethodArgumentNotValidException.class,
+    })
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    Problem handle(MethodArgumentNotValidException exception) {
+        FieldError fieldError = exception.getBindingResult().getFieldError();
+        if (fieldError == null) {
+            return new Problem("Request body is not valid");
+        }
+        String message = String.format(
+            "Field '%s' %s",
+            fieldError.getField(),
+            fieldError.getDefaultMessage()
+        );
+        return new Problem(message);
+    }
+
+    @ExceptionHandler({
+        HttpMessageNotReadableException.class,
+    })
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    Problem handle(HttpMessageNotReadableException exception) {
+        return new Problem("Request body is malformed");
+    }
+
+    @ExceptionHandler({
+        InvalidProductPriceFeedException.class,
+    })
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    Problem handle(InvalidProductPriceFeedException exception) {
+        return new Problem(exception.getMessage());
+    }
+
+    @ExceptionHandler({
+        UnknownCurrencyException.class,
+    })
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    Problem handle(UnknownCurrencyException exception) {
+        return new Problem(String.format("Currency '%s' is unknown", exception.getCurrencyCode()));
+    }
 }
@@ -5,6 +5,9 @@ import com.challenge.productservice.application.getproductprice.GetProductPriceR
 import com.challenge.productservice.application.getproductprice.GetProductPriceUseCase;
 import com.challenge.productservice.domain.productprice.BrandId;
 import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.infrastructure.config.ProductPriceHttpCacheProperties;
+import com.challenge.productservice.infrastructure.entrypoint.rest.request.BatchProductPriceRequest;
+import com.challenge.productservice.infrastructure.entrypoint.rest.response.BatchProductPriceResponse;
 import com.challenge.productservice.infrastructure.entrypoint.rest.response.Problem;
 import com.challenge.productservice.infrastructure.entrypoint.rest.response.ProductPriceResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -14,17 +17,26 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/prices")
 @Tag(
     name = "Product Price",
@@ -33,14 +45,23 @@ import java.time.LocalDateTime;
 public class ProductPriceController {
 
     private final GetProductPriceUseCase getProductPriceUseCase;
+    private final long maxAgeSeconds;
 
-    public ProductPriceController(GetProductPriceUseCase getProductPriceUseCase) {
+    public ProductPriceController(
+        GetProductPriceUseCase getProductPriceUseCase,
+        ProductPriceHttpCacheProperties httpCacheProperties
+    ) {
         this.getProductPriceUseCase = getProductPriceUseCase;
+        this.maxAgeSeconds = httpCacheProperties.maxAge().toSeconds();
     }
 
     @Operation(
         summary = "Get a product price",
-        description = "Fetches the price of a product valid at a provided date filtering by product ID and brand ID."
+        description = "Fetches the price of a product valid at a provided date filtering by product ID and brand ID. "
+            + "The response carries a strong ETag of the winning price and its media type, answering 304 when it "
+            + "matches If-None-Match, and may be cached per Accept header for as long as the winning price keeps "
+            + "winning, up to a configured limit. Accepting application/cbor answers in CBOR, with dates in epoch "
+            + "milliseconds, decimal below the millisecond, and amounts in hundredths."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -50,9 +71,17 @@ public class ProductPriceController {
                 @Content(
                     mediaType = "application/json",
                     schema = @Schema(implementation = ProductPriceResponse.class)
+                ),
+                @Content(
+                    mediaType = "application/cbor",
+                    schema = @Schema(implementation = ProductPriceResponse.class)
                 )
             }
         ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "The winning price still matches the ETag given in If-None-Match."
+        ),
         @ApiResponse(
             responseCode = "404",
             description = "Price not found for given parameters.",
@@ -79,7 +108,8 @@ public class ProductPriceController {
     public ResponseEntity<Object> getProductPrice(
         @Parameter(example = "35455") @RequestParam long productId,
         @Parameter(example = "1") @RequestParam long brandId,
-        @Parameter(example = "2020-06-14T15:50:00") @RequestParam LocalDateTime validAt
+        @Parameter(example = "2020-06-14T15:50:00") @RequestParam LocalDateTime validAt,
+        @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept
     ) {
 
         GetProductPriceRequest request = new GetProductPriceRequest(
@@ -89,22 +119,78 @@ public class ProductPriceController {
         );
         GetProductPriceResponse productPrice = getProductPriceUseCase.execute(request);
 
-        return switch (productPrice) {
-            case GetProductPriceResponse.Successful response -> ResponseEntity.ok(
-                new ProductPriceResponse(
-                    response.getProductPrice().productId().value(),
-                    response.getProductPrice().brandId().value(),
-                    response.getProductPrice().priceList(),
-                    response.getProductPrice().startDate(),
-                    response.getProductPrice().endDate(),
-                    response.getProductPrice().price().amount(),
-                    response.getProductPrice().price().currency().getCurrencyCode()
+        return ProductPriceResponses.toResponseEntity(productPrice, validAt, maxAgeSeconds, accept);
+    }
+
+    @Operation(
+        summary = "Get many product prices",
+        description = "Fetches the prices of up to " + BatchProductPriceRequest.MAX_ITEMS + " products at once. "
+            + "Every item is resolved independently and reports whether its price was found."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successful response",
+            content = {
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = BatchProductPriceResponse.class)
+                ),
+                @Content(
+                    mediaType = "application/cbor",
+                    schema = @Schema(implementation = BatchProductPriceResponse.class)
                 )
-            );
-            case GetProductPriceResponse.ProductPriceNotFound ignored -> {
-                Problem problem = new Problem("Price not found for given parameters.");
-                yield ResponseEntity.status(HttpStatus.NOT_FOUND).body(problem);
             }
-        };
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid request body.",
+            content = {
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = Problem.class)
+                )
+            }
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Internal server error",
+            content = {
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = Problem.class)
+                )
+            }
+        )
+    })
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.OK)
+    public BatchProductPriceResponse getProductPrices(@Valid @RequestBody BatchProductPriceRequest batchRequest) {
+        List<GetProductPriceRequest> requests = batchRequest.items().stream()
+            .map(item -> new GetProductPriceRequest(
+                new ProductId(item.productId()),
+                new BrandId(item.brandId()),
+                item.validAt()
+            ))
+            .toList();
+        List<GetProductPriceResponse> productPrices = getProductPriceUseCase.executeBatch(requests);
+
+        List<BatchProductPriceResponse.Item> items = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            GetProductPriceRequest request = requests.get(i);
+            ProductPriceResponse price = switch (productPrices.get(i)) {
+                case GetProductPriceResponse.Successful response ->
+                    ProductPriceResponses.toProductPriceResponse(response.getProductPrice());
+                case GetProductPriceResponse.ProductPriceNotFound ignored -> null;
+            };
+            items.add(new BatchProductPriceResponse.Item(
+                request.productId().value(),
+                request.brandId().value(),
+                request.validAt(),
+                price == null ? BatchProductPriceResponse.Status.NOT_FOUND : BatchProductPriceResponse.Status.FOUND,
+                price
+            ));
+        }
+        return new BatchProductPriceResponse(items);
     }
 }
@@ -0,0 +1,142 @@
+package com.challenge.productservice.infrastructure.entrypoint.rest;
+
+import com.challenge.productservice.application.exportproductprices.ExportProductPricesRequest;
+import com.challenge.productservice.application.exportproductprices.ExportProductPricesUseCase;
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.infrastructure.config.ProductPriceExportProperties;
+import com.challenge.productservice.infrastructure.entrypoint.rest.response.Problem;
+import com.challenge.productservice.infrastructure.feed.ProductPriceFeedWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/prices/export")
+@Tag(
+    name = "Product Price Export",
+    description = "API for exporting the prices of whole brands."
+)
+public class ProductPriceExportController {
+
+    private static final MediaType NDJSON = MediaType.valueOf(ProductPriceImportController.NDJSON);
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ExportProductPricesUseCase exportProductPricesUseCase;
+    private final ProductPriceFeedWriter productPriceFeedWriter;
+    private final int flushSize;
+
+    public ProductPriceExportController(
+        ExportProductPricesUseCase exportProductPricesUseCase,
+        ObjectMapper objectMapper,
+        ProductPriceExportProperties productPriceExportProperties
+    ) {
+        this.exportProductPricesUseCase = exportProductPricesUseCase;
+        this.productPriceFeedWriter = new ProductPriceFeedWriter(objectMapper);
+        this.flushSize = productPriceExportProperties.flushSize();
+    }
+
+    @Operation(
+        summary = "Export the prices of a brand",
+        description = "Streams the price valid at a provided date of every product of the brand, one JSON object per "
+            + "line ordered by product, in the format accepted by the import. Products without a price at that date "
+            + "are left out. Lines are sent as they are read from the database, so the first ones arrive before the "
+            + "export ends."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Export started",
+            content = {
+                @Content(mediaType = ProductPriceImportController.NDJSON)
+            }
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Missing or invalid parameter.",
+            content = {
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = Problem.class)
+                )
+            }
+        )
+    })
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> exportProductPrices(
+        @Parameter(example = "1") @RequestParam long brandId,
+        @Parameter(example = "2020-06-14T15:50:00") @RequestParam LocalDateTime validAt
+    ) {
+        ExportProductPricesRequest request = new ExportProductPricesRequest(new BrandId(brandId), validAt);
+        StreamingResponseBody body = output -> export(request, output);
+        return ResponseEntity.ok()
+            .contentType(NDJSON)
+            .body(body);
+    }
+
+    /**
+     * Runs once the response is committed, outside of the request thread. Writing blocks while the client is not
+     * reading, which in turn stops fetching rows from the database.
+     */
+    private void export(ExportProductPricesRequest request, OutputStream output) throws IOException {
+        NdjsonOutput ndjsonOutput = new NdjsonOutput(new BufferedOutputStream(output, BUFFER_SIZE));
+        try {
+            exportProductPricesUseCase.execute(request, ndjsonOutput);
+            ndjsonOutput.flush();
+        } catch (UncheckedIOException exception) {
+            throw exception.getCause();
+        }
+    }
+
+    /**
+     * Writes every price as a line and sends the written lines every {@code flushSize} prices, so that the client
+     * receives them steadily rather than in bursts of whatever fills the buffers.
+     */
+    private final class NdjsonOutput implements Consumer<ProductPrice> {
+
+        private final OutputStream output;
+        private int unflushed;
+
+        private NdjsonOutput(OutputStream output) {
+            this.output = output;
+        }
+
+        @Override
+        public void accept(ProductPrice productPrice) {
+            try {
+                productPriceFeedWriter.writeNdjson(productPrice, output);
+                if (++unflushed == flushSize) {
+                    flush();
+                }
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }
+
+        private void flush() throws IOException {
+            output.flush();
+            unflushed = 0;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.challenge.productservice.infrastructure.entrypoint.rest;
+
+import com.challenge.productservice.application.importproductprices.ImportProductPricesRequest;
+import com.challenge.productservice.application.importproductprices.ImportProductPricesResponse;
+import com.challenge.productservice.application.importproductprices.ImportProductPricesUseCase;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.infrastructure.entrypoint.rest.response.Problem;
+import com.challenge.productservice.infrastructure.entrypoint.rest.response.ProductPriceImportResponse;
+import com.challenge.productservice.infrastructure.feed.ProductPriceFeedFormat;
+import com.challenge.productservice.infrastructure.feed.ProductPriceFeedReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+import java.util.stream.Stream;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/prices/import")
+@Tag(
+    name = "Product Price Import",
+    description = "API for importing price feeds."
+)
+public class ProductPriceImportController {
+
+    public static final String NDJSON = "application/x-ndjson";
+    public static final String CSV = "text/csv";
+
+    private final ImportProductPricesUseCase importProductPricesUseCase;
+    private final ProductPriceFeedReader productPriceFeedReader;
+
+    public ProductPriceImportController(
+        ImportProductPricesUseCase importProductPricesUseCase,
+        ObjectMapper objectMapper
+    ) {
+        this.importProductPricesUseCase = importProductPricesUseCase;
+        this.productPriceFeedReader = new ProductPriceFeedReader(objectMapper);
+    }
+
+    @Operation(
+        summary = "Import a price feed",
+        description = "Streams a feed of prices, as CSV with a header line or as one JSON object per line, and stores "
+            + "them in chunks. Each chunk is stored atomically: if a line is invalid, the chunks stored before it are "
+            + "kept."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Feed imported",
+            content = {
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ProductPriceImportResponse.class)
+                )
+            }
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid line in the feed.",
+            content = {
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = Problem.class)
+                )
+            }
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Internal server error",
+            content = {
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = Problem.class)
+                )
+            }
+        )
+    })
+    @PostMapping(consumes = {CSV, NDJSON})
+    @ResponseStatus(HttpStatus.OK)
+    public ProductPriceImportResponse importProductPrices(
+        @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+        InputStream body
+    ) {
+        ProductPriceFeedFormat format = contentType.isCompatibleWith(MediaType.valueOf(NDJSON))
+            ? ProductPriceFeedFormat.NDJSON
+            : ProductPriceFeedFormat.CSV;
+        return importFeed(body, format);
+    }
+
+    private ProductPriceImportResponse importFeed(InputStream body, ProductPriceFeedFormat format) {
+        try (Stream<ProductPrice> productPrices = productPriceFeedReader.read(body, format)) {
+            ImportProductPricesResponse response = importProductPricesUseCase.execute(
+                new ImportProductPricesRequest(productPrices)
+            );
+            return new ProductPriceImportResponse(
+                response.importedRows(),
+                response.elapsed().toMillis(),
+                response.rowsPerSecond()
+            );
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.challenge.productservice.infrastructure.entrypoint.rest;
+
+import com.challenge.productservice.application.createproductprice.CreateProductPriceRequest;
+import com.challenge.productservice.application.createproductprice.CreateProductPriceResponse;
+import com.challenge.productservice.application.createproductprice.CreateProductPriceUseCase;
+import com.challenge.productservice.application.deleteproductprice.DeleteProductPriceRequest;
+import com.challenge.productservice.application.deleteproductprice.DeleteProductPriceResponse;
+import com.challenge.productservice.application.deleteproductprice.DeleteProductPriceUseCase;
+import com.challenge.productservice.application.updateproductprice.UpdateProductPriceRequest;
+import com.challenge.productservice.application.updateproductprice.UpdateProductPriceResponse;
+import com.challenge.productservice.application.updateproductprice.UpdateProductPriceUseCase;
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.Price;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceId;
+import com.challenge.productservice.infrastructure.entrypoint.rest.request.ProductPriceRequest;
+import com.challenge.productservice.infrastructure.entrypoint.rest.response.CreatedProductPriceResponse;
+import com.challenge.productservice.infrastructure.entrypoint.rest.response.Problem;
+import com.challenge.productservice.infrastructure.money.Currencies;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+import java.util.UUID;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/prices")
+@Tag(
+    name = "Product Price Management",
+    description = "API for creating, updating and deleting product prices."
+)
+public class ProductPriceManagementController {
+
+    private final CreateProductPriceUseCase createProductPriceUseCase;
+    private final UpdateProductPriceUseCase updateProductPriceUseCase;
+    private final DeleteProductPriceUseCase deleteProductPriceUseCase;
+
+    public ProductPriceManagementController(
+        CreateProductPriceUseCase createProductPriceUseCase,
+        UpdateProductPriceUseCase updateProductPriceUseCase,
+        DeleteProductPriceUseCase deleteProductPriceUseCase
+    ) {
+        this.createProductPriceUseCase = createProductPriceUseCase;
+        this.updateProductPriceUseCase = updateProductPriceUseCase;
+        this.deleteProductPriceUseCase = deleteProductPriceUseCase;
+    }
+
+    @Operation(
+        summary = "Create a product price",
+        description = "Creates a price of a product for a brand, valid between the provided dates."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "201",
+            description = "Price created",
+            content = {
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = CreatedProductPriceResponse.class)
+                )
+            }
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid request body.",
+            content = {
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = Problem.class)
+                )
+            }
+        )
+    })
+    @PostMapping
+    public ResponseEntity<CreatedProductPriceResponse> createProductPrice(
+        @Valid @RequestBody ProductPriceRequest request
+    ) {
+        CreateProductPriceResponse response = createProductPriceUseCase.execute(
+            new CreateProductPriceRequest(toProductPrice(request))
+        );
+
+        UUID id = response.id().value();
+        return ResponseEntity.created(URI.create("/prices/" + id))
+            .body(new CreatedProductPriceResponse(id));
+    }
+
+    @Operation(
+        summary = "Update a product price",
+        description = "Replaces every field of the price with the provided ID."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "204",
+            description = "Price updated"
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid request body.",
+            content = {
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = Problem.class)
+                )
+            }
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Price not found for given ID.",
+            content = {
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = Problem.class)
+                )
+            }
+        )
+    })
+    @PutMapping("/{id}")
+    public ResponseEntity<Object> updateProductPrice(
+        @PathVariable UUID id,
+        @Valid @RequestBody ProductPriceRequest request
+    ) {
+        UpdateProductPriceResponse response = updateProductPriceUseCase.execute(
+            new UpdateProductPriceRequest(new ProductPriceId(id), toProductPrice(request))
+        );
+
+        return switch (response) {
+            case UpdateProductPriceResponse.Updated ignored -> ResponseEntity.noContent().build();
+            case UpdateProductPriceResponse.ProductPriceNotFound ignored -> priceNotFound();
+        };
+    }
+
+    @Operation(
+        summary = "Delete a product price",
+        description = "Deletes the price with the provided ID."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "204",
+            description = "Price deleted"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Price not found for given ID.",
+            content = {
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = Problem.class)
+                )
+            }
+        )
+    })
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Object> deleteProductPrice(@PathVariable UUID id) {
+        DeleteProductPriceResponse response = deleteProductPriceUseCase.execute(
+            new DeleteProductPriceRequest(new ProductPriceId(id))
+        );
+
+        return switch (response) {
+            case DeleteProductPriceResponse.Deleted ignored -> ResponseEntity.noContent().build();
+            case DeleteProductPriceResponse.ProductPriceNotFound ignored -> priceNotFound();
+        };
+    }
+
+    private static ResponseEntity<Object> priceNotFound() {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new Problem("Price not found for given ID."));
+    }
+
+    private static ProductPrice toProductPrice(ProductPriceRequest request) {
+        return new ProductPrice(
+            new BrandId(request.brandId()),
+            request.startDate(),
+            request.endDate(),
+            request.priceList(),
+            new ProductId(request.productId()),
+            request.priority(),
+            new Price(request.price(), Currencies.of(request.currency()))
+        );
+    }
+}
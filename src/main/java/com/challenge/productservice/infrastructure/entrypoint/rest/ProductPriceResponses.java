@@ -0,0 +1,128 @@
+package com.challenge.productservice.infrastructure.entrypoint.rest;
+
+import com.challenge.productservice.application.getproductprice.GetProductPriceResponse;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.infrastructure.entrypoint.rest.response.Problem;
+import com.challenge.productservice.infrastructure.entrypoint.rest.response.ProductPriceResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Responses of a price lookup, shared by the servlet and the reactive controllers so that both answer alike.
+ */
+final class ProductPriceResponses {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private ProductPriceResponses() {}
+
+    static ResponseEntity<Object> toResponseEntity(
+        GetProductPriceResponse productPrice,
+        LocalDateTime validAt,
+        long maxAgeSeconds,
+        String accept
+    ) {
+        return switch (productPrice) {
+            case GetProductPriceResponse.Successful response -> {
+                MediaType mediaType = representation(accept);
+                yield ResponseEntity.ok()
+                    .contentType(mediaType)
+                    .eTag(eTag(response.getProductPrice(), mediaType))
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .cacheControl(cacheControl(validAt, response.getValidUntil(), maxAgeSeconds))
+                    .body(toProductPriceResponse(response.getProductPrice()));
+            }
+            case GetProductPriceResponse.ProductPriceNotFound ignored -> {
+                Problem problem = new Problem("Price not found for given parameters.");
+                yield ResponseEntity.status(HttpStatus.NOT_FOUND).body(problem);
+            }
+        };
+    }
+
+    static ProductPriceResponse toProductPriceResponse(ProductPrice productPrice) {
+        return new ProductPriceResponse(
+            productPrice.productId().value(),
+            productPrice.brandId().value(),
+            productPrice.priceList(),
+            productPrice.startDate(),
+            productPrice.endDate(),
+            productPrice.price().amount(),
+            productPrice.price().currency().getCurrencyCode()
+        );
+    }
+
+    /**
+     * Media type the price is written in. It is chosen here rather than left to content negotiation because the ETag
+     * depends on it, and conditional requests are answered before the converter is picked: CBOR when the client
+     * prefers it over JSON, JSON otherwise, including when it accepts neither.
+     */
+    static MediaType representation(String accept) {
+        List<MediaType> mediaTypes;
+        try {
+            mediaTypes = accept == null ? List.of() : MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return MediaType.APPLICATION_JSON;
+        }
+        return quality(mediaTypes, MediaType.APPLICATION_CBOR) > quality(mediaTypes, MediaType.APPLICATION_JSON)
+            ? MediaType.APPLICATION_CBOR
+            : MediaType.APPLICATION_JSON;
+    }
+
+    private static double quality(List<MediaType> mediaTypes, MediaType mediaType) {
+        double quality = 0;
+        for (MediaType accepted : mediaTypes) {
+            if (accepted.includes(mediaType)) {
+                quality = Math.max(quality, accepted.getQualityValue());
+            }
+        }
+        return quality;
+    }
+
+    /**
+     * A response stays the same while its price keeps winning, so it may be reused until the end of the validity
+     * window. The window is capped since writing prices can end it earlier.
+     */
+    private static CacheControl cacheControl(LocalDateTime validAt, LocalDateTime validUntil, long maxAgeSeconds) {
+        long seconds = Math.clamp(Duration.between(validAt, validUntil).toSeconds(), 0, maxAgeSeconds);
+        return CacheControl.maxAge(seconds, TimeUnit.SECONDS).cachePublic();
+    }
+
+    /**
+     * FNV-1a hash of every field of the winning price and of the media type it is written in, so the tag changes
+     * whenever the bytes of the response do. Fields are hashed as they are to keep the lookup free of intermediate
+     * strings.
+     */
+    private static String eTag(ProductPrice productPrice, MediaType mediaType) {
+        long hash = FNV_OFFSET_BASIS;
+        hash = fnv(hash, mediaType.getSubtype().hashCode());
+        hash = fnv(hash, productPrice.brandId().value());
+        hash = fnv(hash, productPrice.productId().value());
+        hash = fnv(hash, productPrice.startDate().toEpochSecond(ZoneOffset.UTC));
+        hash = fnv(hash, productPrice.startDate().getNano());
+        hash = fnv(hash, productPrice.endDate().toEpochSecond(ZoneOffset.UTC));
+        hash = fnv(hash, productPrice.endDate().getNano());
+        hash = fnv(hash, productPrice.priceList());
+        hash = fnv(hash, productPrice.priority());
+        hash = fnv(hash, productPrice.price().amount().hashCode());
+        hash = fnv(hash, productPrice.price().currency().getCurrencyCode().hashCode());
+        return "\"" + Long.toHexString(hash) + "\"";
+    }
+
+    private static long fnv(long hash, long value) {
+        for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+            hash = (hash ^ ((value >>> shift) & 0xff)) * FNV_PRIME;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,123 @@
+package com.challenge.productservice.infrastructure.entrypoint.rest;
+
+import com.challenge.productservice.application.getproductpricetimeline.GetProductPriceTimelineRequest;
+import com.challenge.productservice.application.getproductpricetimeline.GetProductPriceTimelineResponse;
+import com.challenge.productservice.application.getproductpricetimeline.GetProductPriceTimelineUseCase;
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.PriceTimeline.Segment;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.infrastructure.entrypoint.rest.response.Problem;
+import com.challenge.productservice.infrastructure.entrypoint.rest.response.ProductPriceResponse;
+import com.challenge.productservice.infrastructure.entrypoint.rest.response.ProductPriceTimelineResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/prices/timeline")
+@Tag(
+    name = "Product Price",
+    description = "API for managing and retrieving product prices based on search criteria."
+)
+public class ProductPriceTimelineController {
+
+    private final GetProductPriceTimelineUseCase getProductPriceTimelineUseCase;
+
+    public ProductPriceTimelineController(GetProductPriceTimelineUseCase getProductPriceTimelineUseCase) {
+        this.getProductPriceTimelineUseCase = getProductPriceTimelineUseCase;
+    }
+
+    @Operation(
+        summary = "Get the price timeline of a product",
+        description = "Fetches the prices of a product winning between two dates, as consecutive non-overlapping "
+            + "ranges each holding the price winning in it. Dates without any price are left out."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successful response",
+            content = {
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ProductPriceTimelineResponse.class)
+                )
+            }
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Missing or invalid parameter.",
+            content = {
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = Problem.class)
+                )
+            }
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Internal server error",
+            content = {
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = Problem.class)
+                )
+            }
+        )
+    })
+    @GetMapping
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseEntity<Object> getProductPriceTimeline(
+        @Parameter(example = "35455") @RequestParam long productId,
+        @Parameter(example = "1") @RequestParam long brandId,
+        @Parameter(example = "2020-06-14T00:00:00") @RequestParam LocalDateTime from,
+        @Parameter(example = "2020-07-14T00:00:00") @RequestParam LocalDateTime to
+    ) {
+        if (to.isBefore(from)) {
+            Problem problem = new Problem("Parameter 'to' must not be before 'from'");
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(problem);
+        }
+
+        GetProductPriceTimelineResponse timeline = getProductPriceTimelineUseCase.execute(
+            new GetProductPriceTimelineRequest(new ProductId(productId), new BrandId(brandId), from, to)
+        );
+
+        return ResponseEntity.ok(new ProductPriceTimelineResponse(
+            productId,
+            brandId,
+            timeline.segments().stream().map(this::toSegment).toList()
+        ));
+    }
+
+    private ProductPriceTimelineResponse.Segment toSegment(Segment segment) {
+        ProductPrice productPrice = segment.productPrice();
+        return new ProductPriceTimelineResponse.Segment(
+            segment.startDate(),
+            segment.endDate(),
+            new ProductPriceResponse(
+                productPrice.brandId().value(),
+                productPrice.productId().value(),
+                productPrice.priceList(),
+                productPrice.startDate(),
+                productPrice.endDate(),
+                productPrice.price().amount(),
+                productPrice.price().currency().getCurrencyCode()
+            )
+        );
+    }
+}
@@ -0,0 +1,68 @@
+package com.challenge.productservice.infrastructure.entrypoint.rest;
+
+import com.challenge.productservice.application.getproductprice.GetProductPriceReactiveUseCase;
+import com.challenge.productservice.application.getproductprice.GetProductPriceRequest;
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.infrastructure.config.ProductPriceHttpCacheProperties;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Price lookup of the {@code reactive} profile, answering like {@link ProductPriceController#getProductPrice} on the
+ * WebFlux event loop: the request thread moves on to other requests while the price is read.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/prices")
+@Tag(
+    name = "Product Price",
+    description = "API for managing and retrieving product prices based on search criteria."
+)
+public class ReactiveProductPriceController {
+
+    private final GetProductPriceReactiveUseCase getProductPriceReactiveUseCase;
+    private final long maxAgeSeconds;
+
+    public ReactiveProductPriceController(
+        GetProductPriceReactiveUseCase getProductPriceReactiveUseCase,
+        ProductPriceHttpCacheProperties httpCacheProperties
+    ) {
+        this.getProductPriceReactiveUseCase = getProductPriceReactiveUseCase;
+        this.maxAgeSeconds = httpCacheProperties.maxAge().toSeconds();
+    }
+
+    @Operation(
+        summary = "Get a product price",
+        description = "Fetches the price of a product valid at a provided date filtering by product ID and brand ID, "
+            + "without blocking while the price is read."
+    )
+    @GetMapping
+    public Mono<ResponseEntity<Object>> getProductPrice(
+        @Parameter(example = "35455") @RequestParam long productId,
+        @Parameter(example = "1") @RequestParam long brandId,
+        @Parameter(example = "2020-06-14T15:50:00") @RequestParam LocalDateTime validAt,
+        @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept
+    ) {
+        GetProductPriceRequest request = new GetProductPriceRequest(
+            new ProductId(productId),
+            new BrandId(brandId),
+            validAt
+        );
+
+        return Mono.fromCompletionStage(() -> getProductPriceReactiveUseCase.execute(request))
+            .map(productPrice -> ProductPriceResponses.toResponseEntity(productPrice, validAt, maxAgeSeconds, accept));
+    }
+}
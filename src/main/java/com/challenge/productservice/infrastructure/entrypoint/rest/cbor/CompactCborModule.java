@@ -0,0 +1,122 @@
+package com.challenge.productservice.infrastructure.entrypoint.rest.cbor;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Writes the dates and amounts of the {@code application/cbor} format as numbers instead of the ISO strings and
+ * decimal text of JSON, so neither is formatted nor parsed:
+ * <ul>
+ *     <li>dates are milliseconds since the epoch, taking them as UTC like the rest of the service. They are integers
+ *     unless they fall within a millisecond, like the end of a price right before the next one starts, which is written
+ *     as a decimal fraction of milliseconds so no nanosecond is lost</li>
+ *     <li>amounts are hundredths, the scale prices are stored with, so {@code 35.50} is written as {@code 3550}</li>
+ * </ul>
+ * Request bodies are read the same way.
+ */
+public class CompactCborModule extends SimpleModule {
+
+    public static final int AMOUNT_SCALE = 2;
+
+    private static final int NANOS_PER_MILLI = 1_000_000;
+    private static final BigInteger NANOS_PER_SECOND = BigInteger.valueOf(1_000_000_000);
+
+    public CompactCborModule() {
+        super(CompactCborModule.class.getSimpleName());
+        addSerializer(LocalDateTime.class, new EpochMillisSerializer());
+        addDeserializer(LocalDateTime.class, new EpochMillisDeserializer());
+        addSerializer(BigDecimal.class, new ScaledAmountSerializer());
+        addDeserializer(BigDecimal.class, new ScaledAmountDeserializer());
+    }
+
+    private static final class EpochMillisSerializer extends StdSerializer<LocalDateTime> {
+
+        private EpochMillisSerializer() {
+            super(LocalDateTime.class);
+        }
+
+        @Override
+        public void serialize(LocalDateTime value, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+            Instant instant = value.toInstant(ZoneOffset.UTC);
+            if (instant.getNano() % NANOS_PER_MILLI == 0) {
+                generator.writeNumber(instant.toEpochMilli());
+            } else {
+                generator.writeNumber(BigDecimal.valueOf(instant.getEpochSecond())
+                    .movePointRight(3)
+                    .add(BigDecimal.valueOf(instant.getNano(), 6)));
+            }
+        }
+    }
+
+    private static final class EpochMillisDeserializer extends StdDeserializer<LocalDateTime> {
+
+        private EpochMillisDeserializer() {
+            super(LocalDateTime.class);
+        }
+
+        @Override
+        public LocalDateTime deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            if (parser.currentToken() == JsonToken.VALUE_NUMBER_INT) {
+                return LocalDateTime.ofInstant(Instant.ofEpochMilli(parser.getLongValue()), ZoneOffset.UTC);
+            }
+            BigInteger[] secondsAndNanos = parser.getDecimalValue()
+                .movePointRight(6)
+                .toBigIntegerExact()
+                .divideAndRemainder(NANOS_PER_SECOND);
+            return LocalDateTime.ofInstant(
+                Instant.ofEpochSecond(secondsAndNanos[0].longValueExact(), secondsAndNanos[1].longValue()),
+                ZoneOffset.UTC
+            );
+        }
+    }
+
+    /**
+     * Fails rather than rounding an amount with more decimals than stored, which would change the price.
+     */
+    private static final class ScaledAmountSerializer extends StdSerializer<BigDecimal> {
+
+        private ScaledAmountSerializer() {
+            super(BigDecimal.class);
+        }
+
+        @Override
+        public void serialize(BigDecimal value, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+            BigDecimal amount = value.setScale(AMOUNT_SCALE, RoundingMode.UNNECESSARY);
+            generator.writeNumber(amount.unscaledValue().longValueExact());
+        }
+    }
+
+    /**
+     * Rejects anything but an integer, as a decimal amount would otherwise be truncated and read in hundredths.
+     */
+    private static final class ScaledAmountDeserializer extends StdDeserializer<BigDecimal> {
+
+        private ScaledAmountDeserializer() {
+            super(BigDecimal.class);
+        }
+
+        @Override
+        public BigDecimal deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            if (parser.currentToken() != JsonToken.VALUE_NUMBER_INT) {
+                return (BigDecimal) context.handleUnexpectedToken(BigDecimal.class, parser);
+            }
+            return BigDecimal.valueOf(parser.getLongValue(), AMOUNT_SCALE);
+        }
+    }
+}
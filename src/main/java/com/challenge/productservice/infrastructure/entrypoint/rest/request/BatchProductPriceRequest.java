@@ -0,0 +1,43 @@
+package com.challenge.productservice.infrastructure.entrypoint.rest.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record BatchProductPriceRequest(
+    @Schema(description = "Product prices to look up")
+    @NotEmpty
+    @Size(max = BatchProductPriceRequest.MAX_ITEMS)
+    List<@Valid @NotNull Item> items
+) {
+
+    public static final int MAX_ITEMS = 500;
+
+    public record Item(
+        @Schema(
+            description = "Product ID",
+            example = "35455"
+        )
+        @NotNull
+        Long productId,
+
+        @Schema(
+            description = "Brand ID",
+            example = "1"
+        )
+        @NotNull
+        Long brandId,
+
+        @Schema(
+            description = "Date at which the price must be valid",
+            example = "2020-06-14T15:50:00"
+        )
+        @NotNull
+        LocalDateTime validAt
+    ) {}
+}
@@ -0,0 +1,77 @@
+package com.challenge.productservice.infrastructure.entrypoint.rest.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record ProductPriceRequest(
+    @Schema(
+        description = "Brand ID",
+        example = "1"
+    )
+    @NotNull
+    Long brandId,
+
+    @Schema(
+        description = "Product ID",
+        example = "35455"
+    )
+    @NotNull
+    Long productId,
+
+    @Schema(
+        description = "Price list ID",
+        example = "1"
+    )
+    @NotNull
+    Integer priceList,
+
+    @Schema(
+        description = "Priority over other prices valid at the same date",
+        example = "0"
+    )
+    @NotNull
+    Integer priority,
+
+    @Schema(
+        description = "Price start date",
+        example = "2020-06-14T00:00:00"
+    )
+    @NotNull
+    LocalDateTime startDate,
+
+    @Schema(
+        description = "Price end date",
+        example = "2020-12-31T23:59:59"
+    )
+    @NotNull
+    LocalDateTime endDate,
+
+    @Schema(
+        description = "Price amount",
+        example = "35.50"
+    )
+    @NotNull
+    @DecimalMin("0")
+    BigDecimal price,
+
+    @Schema(
+        description = "Price currency",
+        example = "EUR"
+    )
+    @NotNull
+    @Pattern(regexp = "[A-Z]{3}")
+    String currency
+) {
+
+    @Schema(hidden = true)
+    @AssertTrue(message = "must not end before it starts")
+    public boolean isPeriod() {
+        return startDate == null || endDate == null || !endDate.isBefore(startDate);
+    }
+}
@@ -0,0 +1,46 @@
+package com.challenge.productservice.infrastructure.entrypoint.rest.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record BatchProductPriceResponse(
+    @Schema(description = "Results in the same order as the requested items")
+    List<Item> items
+) {
+
+    public enum Status {
+        FOUND,
+        NOT_FOUND
+    }
+
+    public record Item(
+        @Schema(
+            description = "Requested product ID",
+            example = "35455"
+        )
+        long productId,
+
+        @Schema(
+            description = "Requested brand ID",
+            example = "1"
+        )
+        long brandId,
+
+        @Schema(
+            description = "Requested date",
+            example = "2020-06-14T15:50:00"
+        )
+        LocalDateTime validAt,
+
+        @Schema(
+            description = "Whether a price was found for the requested item",
+            example = "FOUND"
+        )
+        Status status,
+
+        @Schema(description = "Price valid at the requested date, only present when found")
+        ProductPriceResponse price
+    ) {}
+}
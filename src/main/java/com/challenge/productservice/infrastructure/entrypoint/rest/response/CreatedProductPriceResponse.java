@@ -0,0 +1,13 @@
+package com.challenge.productservice.infrastructure.entrypoint.rest.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.UUID;
+
+public record CreatedProductPriceResponse(
+    @Schema(
+        description = "Price ID",
+        example = "0ea91671-539e-4aea-b5e0-df8253e9d8e3"
+    )
+    UUID id
+) {}
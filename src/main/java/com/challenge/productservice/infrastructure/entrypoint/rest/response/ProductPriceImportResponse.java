@@ -0,0 +1,23 @@
+package com.challenge.productservice.infrastructure.entrypoint.rest.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record ProductPriceImportResponse(
+    @Schema(
+        description = "Rows imported",
+        example = "1000000"
+    )
+    long importedRows,
+
+    @Schema(
+        description = "Time spent importing the rows, in milliseconds",
+        example = "8250"
+    )
+    long elapsedMillis,
+
+    @Schema(
+        description = "Rows imported per second",
+        example = "121212.12"
+    )
+    double rowsPerSecond
+) {}
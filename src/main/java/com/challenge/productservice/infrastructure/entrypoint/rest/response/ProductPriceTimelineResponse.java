@@ -0,0 +1,41 @@
+package com.challenge.productservice.infrastructure.entrypoint.rest.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record ProductPriceTimelineResponse(
+    @Schema(
+        description = "Requested product ID",
+        example = "35455"
+    )
+    long productId,
+
+    @Schema(
+        description = "Requested brand ID",
+        example = "1"
+    )
+    long brandId,
+
+    @Schema(description = "Ranges of the requested dates in order, leaving out dates without any price")
+    List<Segment> segments
+) {
+
+    public record Segment(
+        @Schema(
+            description = "First date in which the price wins, included",
+            example = "2020-06-14T15:00:00"
+        )
+        LocalDateTime from,
+
+        @Schema(
+            description = "Last date in which the price wins, included",
+            example = "2020-06-14T18:30:00"
+        )
+        LocalDateTime to,
+
+        @Schema(description = "Price winning between both dates")
+        ProductPriceResponse price
+    ) {}
+}
@@ -0,0 +1,52 @@
+package com.challenge.productservice.infrastructure.events;
+
+import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import com.challenge.productservice.domain.productprice.ProductPricesChangedEvent;
+import com.challenge.productservice.infrastructure.database.ProductPriceChangeListener;
+import com.challenge.productservice.infrastructure.database.ProductPriceKey;
+import com.challenge.productservice.infrastructure.database.ReloadableProductPriceRepository;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Notifies the price repository of every change, once the transaction that made it has been committed, so that the
+ * refreshed prices are read from the committed data.
+ * <p>
+ * The products of an event are refreshed together. Events changing more than {@code maxRefreshedProducts} products,
+ * like the chunks of a large import, reload the whole repository instead, which reads every price once rather than
+ * looking up that many products.
+ */
+public class ProductPricesChangedEventListener {
+
+    private final ProductPriceRepository productPriceRepository;
+    private final int maxRefreshedProducts;
+
+    public ProductPricesChangedEventListener(ProductPriceRepository productPriceRepository, int maxRefreshedProducts) {
+        if (maxRefreshedProducts < 1) {
+            throw new IllegalArgumentException("Max refreshed products must be positive");
+        }
+        this.productPriceRepository = productPriceRepository;
+        this.maxRefreshedProducts = maxRefreshedProducts;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(ProductPricesChangedEvent event) {
+        if (!(productPriceRepository instanceof ProductPriceChangeListener listener)) {
+            return;
+        }
+        if (event.products().size() > maxRefreshedProducts
+            && productPriceRepository instanceof ReloadableProductPriceRepository reloadable
+            && reloadable.reload()) {
+            return;
+        }
+        List<ProductPriceKey> keys = event.products().stream()
+            .map(product -> new ProductPriceKey(product.brandId(), product.productId()))
+            .toList();
+        if (keys.size() == 1) {
+            listener.onProductPricesChanged(keys.getFirst().productId(), keys.getFirst().brandId());
+        } else {
+            listener.onProductPricesChanged(keys);
+        }
+    }
+}
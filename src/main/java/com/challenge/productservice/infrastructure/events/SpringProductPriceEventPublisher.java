@@ -0,0 +1,19 @@
+package com.challenge.productservice.infrastructure.events;
+
+import com.challenge.productservice.domain.productprice.ProductPriceEventPublisher;
+import com.challenge.productservice.domain.productprice.ProductPricesChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+
+public class SpringProductPriceEventPublisher implements ProductPriceEventPublisher {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public SpringProductPriceEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+
+    @Override
+    public void publish(ProductPricesChangedEvent event) {
+        applicationEventPublisher.publishEvent(event);
+    }
+}
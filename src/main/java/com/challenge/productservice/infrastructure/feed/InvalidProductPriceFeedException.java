@@ -0,0 +1,8 @@
+package com.challenge.productservice.infrastructure.feed;
+
+public class InvalidProductPriceFeedException extends RuntimeException {
+
+    public InvalidProductPriceFeedException(long line, String reason) {
+        super(String.format("Line %d: %s", line, reason));
+    }
+}
@@ -0,0 +1,12 @@
+package com.challenge.productservice.infrastructure.feed;
+
+public enum ProductPriceFeedFormat {
+    /**
+     * Comma separated values preceded by the {@link ProductPriceFeedRow#CSV_HEADER} header line.
+     */
+    CSV,
+    /**
+     * One JSON object per line, with the fields of {@link ProductPriceFeedRow}.
+     */
+    NDJSON
+}
@@ -0,0 +1,102 @@
+package com.challenge.productservice.infrastructure.feed;
+
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.LineNumberReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+/**
+ * Reads price feeds line by line: the returned stream parses each line only when it is consumed, so feeds of any
+ * size can be read without holding them in memory. Invalid lines fail the stream with an
+ * {@link InvalidProductPriceFeedException} reporting their line number.
+ */
+public class ProductPriceFeedReader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ObjectMapper objectMapper;
+
+    public ProductPriceFeedReader(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Returns the prices of the feed. The stream must be closed to release the input.
+     */
+    public Stream<ProductPrice> read(InputStream input, ProductPriceFeedFormat format) {
+        LineNumberReader reader = new LineNumberReader(
+            new InputStreamReader(input, StandardCharsets.UTF_8),
+            BUFFER_SIZE
+        );
+        if (format == ProductPriceFeedFormat.CSV) {
+            readCsvHeader(reader);
+        }
+
+        return reader.lines()
+            .filter(line -> !line.isBlank())
+            .map(line -> parse(line, reader.getLineNumber(), format))
+            .onClose(() -> close(reader));
+    }
+
+    private static void readCsvHeader(LineNumberReader reader) {
+        String header;
+        try {
+            header = reader.readLine();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        if (header == null || !header.strip().equals(ProductPriceFeedRow.CSV_HEADER)) {
+            throw new InvalidProductPriceFeedException(1, "expected header " + ProductPriceFeedRow.CSV_HEADER);
+        }
+    }
+
+    private ProductPrice parse(String line, long lineNumber, ProductPriceFeedFormat format) {
+        ProductPriceFeedRow row = switch (format) {
+            case CSV -> parseCsv(line, lineNumber);
+            case NDJSON -> parseJson(line, lineNumber);
+        };
+        try {
+            return row.toDomain();
+        } catch (RuntimeException exception) {
+            throw new InvalidProductPriceFeedException(lineNumber, exception.getMessage());
+        }
+    }
+
+    private static ProductPriceFeedRow parseCsv(String line, long lineNumber) {
+        String[] columns = line.split(",", -1);
+        if (columns.length != ProductPriceFeedRow.CSV_COLUMNS) {
+            throw new InvalidProductPriceFeedException(
+                lineNumber,
+                String.format("expected %d columns but found %d", ProductPriceFeedRow.CSV_COLUMNS, columns.length)
+            );
+        }
+        try {
+            return ProductPriceFeedRow.fromCsv(columns);
+        } catch (RuntimeException exception) {
+            throw new InvalidProductPriceFeedException(lineNumber, exception.getMessage());
+        }
+    }
+
+    private ProductPriceFeedRow parseJson(String line, long lineNumber) {
+        try {
+            return objectMapper.readValue(line, ProductPriceFeedRow.class);
+        } catch (JsonProcessingException exception) {
+            throw new InvalidProductPriceFeedException(lineNumber, exception.getOriginalMessage());
+        }
+    }
+
+    private static void close(LineNumberReader reader) {
+        try {
+            reader.close();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
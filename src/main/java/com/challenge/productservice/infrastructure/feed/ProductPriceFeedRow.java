@@ -0,0 +1,92 @@
+package com.challenge.productservice.infrastructure.feed;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.Price;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.infrastructure.money.Currencies;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * A row of a price feed as read, before being validated.
+ */
+public record ProductPriceFeedRow(
+    Long brandId,
+    LocalDateTime startDate,
+    LocalDateTime endDate,
+    Integer priceList,
+    Long productId,
+    Integer priority,
+    BigDecimal price,
+    String currency
+) {
+
+    public static final String CSV_HEADER = "brand_id,start_date,end_date,price_list,product_id,priority,price,currency";
+    public static final int CSV_COLUMNS = 8;
+
+    public static ProductPriceFeedRow of(ProductPrice productPrice) {
+        return new ProductPriceFeedRow(
+            productPrice.brandId().value(),
+            productPrice.startDate(),
+            productPrice.endDate(),
+            productPrice.priceList(),
+            productPrice.productId().value(),
+            productPrice.priority(),
+            productPrice.price().amount(),
+            productPrice.price().currency().getCurrencyCode()
+        );
+    }
+
+    public static ProductPriceFeedRow fromCsv(String[] columns) {
+        return new ProductPriceFeedRow(
+            Long.parseLong(columns[0].trim()),
+            LocalDateTime.parse(columns[1].trim()),
+            LocalDateTime.parse(columns[2].trim()),
+            Integer.parseInt(columns[3].trim()),
+            Long.parseLong(columns[4].trim()),
+            Integer.parseInt(columns[5].trim()),
+            new BigDecimal(columns[6].trim()),
+            columns[7].trim()
+        );
+    }
+
+    /**
+     * Validates the row and builds the price it describes.
+     *
+     * @throws IllegalArgumentException describing the first invalid field
+     */
+    public ProductPrice toDomain() {
+        requireField(brandId, "brandId");
+        requireField(startDate, "startDate");
+        requireField(endDate, "endDate");
+        requireField(priceList, "priceList");
+        requireField(productId, "productId");
+        requireField(priority, "priority");
+        requireField(price, "price");
+        requireField(currency, "currency");
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("endDate is before startDate");
+        }
+        if (price.signum() < 0) {
+            throw new IllegalArgumentException("price is negative");
+        }
+
+        return new ProductPrice(
+            new BrandId(brandId),
+            startDate,
+            endDate,
+            priceList,
+            new ProductId(productId),
+            priority,
+            new Price(price, Currencies.of(currency))
+        );
+    }
+
+    private static void requireField(Object value, String field) {
+        if (value == null) {
+            throw new IllegalArgumentException(String.format("Field '%s' is missing", field));
+        }
+    }
+}
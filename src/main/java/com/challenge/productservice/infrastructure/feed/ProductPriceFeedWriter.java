@@ -0,0 +1,33 @@
+package com.challenge.productservice.infrastructure.feed;
+
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes prices as NDJSON feed lines, in the format read back by {@link ProductPriceFeedReader}.
+ * <p>
+ * Lines are written to the output without flushing or closing it, leaving to the caller when the written lines are
+ * sent.
+ */
+public class ProductPriceFeedWriter {
+
+    private final ObjectWriter rowWriter;
+
+    public ProductPriceFeedWriter(ObjectMapper objectMapper) {
+        this.rowWriter = objectMapper.writerFor(ProductPriceFeedRow.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .without(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+    }
+
+    public void writeNdjson(ProductPrice productPrice, OutputStream output) throws IOException {
+        rowWriter.writeValue(output, ProductPriceFeedRow.of(productPrice));
+        output.write('\n');
+    }
+}
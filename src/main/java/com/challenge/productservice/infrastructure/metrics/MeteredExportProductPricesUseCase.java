@@ -0,0 +1,43 @@
+package com.challenge.productservice.infrastructure.metrics;
+
+import com.challenge.productservice.application.exportproductprices.ExportProductPricesRequest;
+import com.challenge.productservice.application.exportproductprices.ExportProductPricesResponse;
+import com.challenge.productservice.application.exportproductprices.ExportProductPricesUseCase;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceExportRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.function.Consumer;
+
+/**
+ * Records how long each export takes and how many products it writes, as the export runs after the response is
+ * committed and its outcome never reaches the client.
+ */
+public class MeteredExportProductPricesUseCase extends ExportProductPricesUseCase {
+
+    private final Timer exportTimer;
+    private final DistributionSummary exportedProducts;
+
+    public MeteredExportProductPricesUseCase(
+        ProductPriceExportRepository productPriceExportRepository,
+        MeterRegistry meterRegistry
+    ) {
+        super(productPriceExportRepository);
+        this.exportTimer = Timer.builder(ProductPriceMetrics.EXPORT)
+            .description("Time spent exporting the prices of a brand, including writing them to the client")
+            .register(meterRegistry);
+        this.exportedProducts = DistributionSummary.builder(ProductPriceMetrics.EXPORT_PRODUCTS)
+            .description("Products written per export")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public ExportProductPricesResponse execute(ExportProductPricesRequest request, Consumer<ProductPrice> output) {
+        ExportProductPricesResponse response = super.execute(request, output);
+        exportTimer.record(response.elapsed());
+        exportedProducts.record(response.exportedProducts());
+        return response;
+    }
+}
@@ -0,0 +1,67 @@
+package com.challenge.productservice.infrastructure.metrics;
+
+import com.challenge.productservice.application.getproductprice.GetProductPriceRequest;
+import com.challenge.productservice.application.getproductprice.GetProductPriceResponse;
+import com.challenge.productservice.application.getproductprice.GetProductPriceUseCase;
+import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.List;
+
+/**
+ * Records how long the use case takes and how many lookups end up without a price, keeping the application layer
+ * free of any metrics library.
+ */
+public class MeteredGetProductPriceUseCase extends GetProductPriceUseCase {
+
+    private final Timer singleLookupTimer;
+    private final Timer batchLookupTimer;
+    private final Counter found;
+    private final Counter notFound;
+
+    public MeteredGetProductPriceUseCase(ProductPriceRepository productPriceRepository, MeterRegistry meterRegistry) {
+        super(productPriceRepository);
+        this.singleLookupTimer = ProductPriceMetrics.lookupTimer(
+            meterRegistry,
+            ProductPriceMetrics.STAGE_USE_CASE,
+            ProductPriceMetrics.OPERATION_SINGLE
+        );
+        this.batchLookupTimer = ProductPriceMetrics.lookupTimer(
+            meterRegistry,
+            ProductPriceMetrics.STAGE_USE_CASE,
+            ProductPriceMetrics.OPERATION_BATCH
+        );
+        this.found = resultCounter(meterRegistry, "found");
+        this.notFound = resultCounter(meterRegistry, "not_found");
+    }
+
+    @Override
+    public GetProductPriceResponse execute(GetProductPriceRequest request) {
+        GetProductPriceResponse response = singleLookupTimer.record(() -> super.execute(request));
+        countResult(response);
+        return response;
+    }
+
+    @Override
+    public List<GetProductPriceResponse> executeBatch(List<GetProductPriceRequest> requests) {
+        List<GetProductPriceResponse> responses = batchLookupTimer.record(() -> super.executeBatch(requests));
+        responses.forEach(this::countResult);
+        return responses;
+    }
+
+    private void countResult(GetProductPriceResponse response) {
+        switch (response) {
+            case GetProductPriceResponse.Successful ignored -> found.increment();
+            case GetProductPriceResponse.ProductPriceNotFound ignored -> notFound.increment();
+        }
+    }
+
+    private static Counter resultCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder(ProductPriceMetrics.LOOKUP_RESULTS)
+            .description("Resolved lookups by outcome, used to compute the not found ratio")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+}
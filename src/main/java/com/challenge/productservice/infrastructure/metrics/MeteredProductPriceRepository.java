@@ -0,0 +1,98 @@
+package com.challenge.productservice.infrastructure.metrics;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceQuery;
+import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import com.challenge.productservice.domain.productprice.WinningProductPrice;
+import com.challenge.productservice.infrastructure.database.ProductPriceChangeListener;
+import com.challenge.productservice.infrastructure.database.ProductPriceKey;
+import com.challenge.productservice.infrastructure.database.ReloadableProductPriceRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Records the time spent in the repository per lookup. Single lookups resolve the winner in the repository, so only
+ * the lookups of a batch record how many prices the winner is resolved from.
+ */
+public class MeteredProductPriceRepository
+    implements ProductPriceRepository, ProductPriceChangeListener, ReloadableProductPriceRepository {
+
+    private final ProductPriceRepository delegate;
+    private final Timer singleLookupTimer;
+    private final Timer batchLookupTimer;
+    private final DistributionSummary batchCandidates;
+
+    public MeteredProductPriceRepository(ProductPriceRepository delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.singleLookupTimer = ProductPriceMetrics.lookupTimer(
+            meterRegistry,
+            ProductPriceMetrics.STAGE_REPOSITORY,
+            ProductPriceMetrics.OPERATION_SINGLE
+        );
+        this.batchLookupTimer = ProductPriceMetrics.lookupTimer(
+            meterRegistry,
+            ProductPriceMetrics.STAGE_REPOSITORY,
+            ProductPriceMetrics.OPERATION_BATCH
+        );
+        this.batchCandidates = DistributionSummary.builder(ProductPriceMetrics.BATCH_LOOKUP_CANDIDATES)
+            .description("Prices returned by the repository per lookup of a batch, before resolving the winner")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    @Override
+    public List<ProductPrice> getProductPrices(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        return singleLookupTimer.record(() -> delegate.getProductPrices(productId, brandId, validAt));
+    }
+
+    @Override
+    public Optional<ProductPrice> getProductPrice(ProductId productId, BrandId brandId, LocalDateTime validAt) {
+        return singleLookupTimer.record(() -> delegate.getProductPrice(productId, brandId, validAt));
+    }
+
+    @Override
+    public Optional<WinningProductPrice> getWinningProductPrice(
+        ProductId productId,
+        BrandId brandId,
+        LocalDateTime validAt
+    ) {
+        return singleLookupTimer.record(() -> delegate.getWinningProductPrice(productId, brandId, validAt));
+    }
+
+    @Override
+    public Map<ProductPriceQuery, List<ProductPrice>> getProductPrices(Collection<ProductPriceQuery> queries) {
+        Map<ProductPriceQuery, List<ProductPrice>> productPrices = batchLookupTimer.record(
+            () -> delegate.getProductPrices(queries)
+        );
+        productPrices.values().forEach(prices -> batchCandidates.record(prices.size()));
+        return productPrices;
+    }
+
+    @Override
+    public void onProductPricesChanged(ProductId productId, BrandId brandId) {
+        if (delegate instanceof ProductPriceChangeListener listener) {
+            listener.onProductPricesChanged(productId, brandId);
+        }
+    }
+
+    @Override
+    public void onProductPricesChanged(Collection<ProductPriceKey> keys) {
+        if (delegate instanceof ProductPriceChangeListener listener) {
+            listener.onProductPricesChanged(keys);
+        }
+    }
+
+    @Override
+    public boolean reload() {
+        return delegate instanceof ReloadableProductPriceRepository reloadable && reloadable.reload();
+    }
+}
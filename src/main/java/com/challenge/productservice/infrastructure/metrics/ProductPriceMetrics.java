@@ -0,0 +1,37 @@
+package com.challenge.productservice.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Names of the meters recorded along the price lookup path.
+ * <p>
+ * Every stage records the same {@code product.price.lookup} timer tagged with its {@code stage}, so the time spent in
+ * the repository can be compared with the time spent in the whole use case, and both with the
+ * {@code http.server.requests} timer recorded by Spring MVC for the controller. Exports are recorded apart, as they
+ * run after the response is committed.
+ */
+public final class ProductPriceMetrics {
+
+    public static final String LOOKUP = "product.price.lookup";
+    public static final String LOOKUP_RESULTS = "product.price.lookup.results";
+    public static final String BATCH_LOOKUP_CANDIDATES = "product.price.lookup.batch.candidates";
+    public static final String EXPORT = "product.price.export";
+    public static final String EXPORT_PRODUCTS = "product.price.export.products";
+
+    public static final String STAGE_USE_CASE = "use_case";
+    public static final String STAGE_REPOSITORY = "repository";
+    public static final String OPERATION_SINGLE = "single";
+    public static final String OPERATION_BATCH = "batch";
+
+    private ProductPriceMetrics() {}
+
+    static Timer lookupTimer(MeterRegistry meterRegistry, String stage, String operation) {
+        return Timer.builder(LOOKUP)
+            .description("Time spent resolving product prices, per stage")
+            .tag("stage", stage)
+            .tag("operation", operation)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+}
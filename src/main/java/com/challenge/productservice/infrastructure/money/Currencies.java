@@ -0,0 +1,25 @@
+package com.challenge.productservice.infrastructure.money;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Currencies by code, looked up once. {@link Monetary#getCurrency(String)} queries every currency provider and builds
+ * a new query on each call, which is wasteful when mapping every row read.
+ */
+public final class Currencies {
+
+    private static final Map<String, CurrencyUnit> CURRENCIES = new ConcurrentHashMap<>();
+
+    private Currencies() {}
+
+    /**
+     * @throws javax.money.UnknownCurrencyException if no currency has the given code. Unknown codes are not cached
+     */
+    public static CurrencyUnit of(String code) {
+        CurrencyUnit currency = CURRENCIES.get(code);
+        return currency != null ? currency : CURRENCIES.computeIfAbsent(code, Monetary::getCurrency);
+    }
+}
@@ -8,4 +8,17 @@ CREATE TABLE IF NOT EXISTS prices (
     priority    INT             NOT NULL,
     price       DECIMAL(10, 2)  NOT NULL,
     currency    VARCHAR(3)      NOT NULL
-);
\ No newline at end of file
+);
+
+-- Serves the point-in-time lookups: equality on brand and product, range on the start date, and the remaining columns
+-- are included so that the rows are read from the index without visiting the table
+CREATE INDEX IF NOT EXISTS idx_prices_lookup ON prices (
+    brand_id,
+    product_id,
+    start_date,
+    end_date,
+    priority,
+    price_list,
+    price,
+    currency
+);
@@ -0,0 +1,57 @@
+package com.challenge.productservice.application.createproductprice;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.Price;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceEventPublisher;
+import com.challenge.productservice.domain.productprice.ProductPriceId;
+import com.challenge.productservice.domain.productprice.ProductPriceWriteRepository;
+import com.challenge.productservice.domain.productprice.ProductPricesChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CreateProductPriceUseCaseTest {
+    private final ProductPriceWriteRepository productPriceWriteRepository = mock(ProductPriceWriteRepository.class);
+    private final ProductPriceEventPublisher productPriceEventPublisher = mock(ProductPriceEventPublisher.class);
+    private final CreateProductPriceUseCase useCase = new CreateProductPriceUseCase(
+        productPriceWriteRepository,
+        productPriceEventPublisher
+    );
+
+    ProductId productId = new ProductId(2525);
+    BrandId brandId = new BrandId(1);
+    LocalDateTime startDate = LocalDateTime.now();
+    ProductPrice productPrice = new ProductPrice(
+        brandId,
+        startDate,
+        startDate.plusDays(1),
+        1,
+        productId,
+        0,
+        new Price(BigDecimal.TEN, Monetary.getCurrency("EUR"))
+    );
+
+    @Test
+    void shouldCreateThePriceAndNotifyItsProductAsChanged() {
+        // Given
+        ProductPriceId id = new ProductPriceId(UUID.randomUUID());
+        when(productPriceWriteRepository.create(productPrice)).thenReturn(id);
+
+        // When
+        CreateProductPriceResponse response = useCase.execute(new CreateProductPriceRequest(productPrice));
+
+        // Then
+        assertThat(response).isEqualTo(new CreateProductPriceResponse(id));
+        verify(productPriceEventPublisher).publish(new ProductPricesChangedEvent(productId, brandId));
+    }
+}
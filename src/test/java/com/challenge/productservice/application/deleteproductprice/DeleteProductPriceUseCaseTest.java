@@ -0,0 +1,72 @@
+package com.challenge.productservice.application.deleteproductprice;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.Price;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceEventPublisher;
+import com.challenge.productservice.domain.productprice.ProductPriceId;
+import com.challenge.productservice.domain.productprice.ProductPriceWriteRepository;
+import com.challenge.productservice.domain.productprice.ProductPricesChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class DeleteProductPriceUseCaseTest {
+    private final ProductPriceWriteRepository productPriceWriteRepository = mock(ProductPriceWriteRepository.class);
+    private final ProductPriceEventPublisher productPriceEventPublisher = mock(ProductPriceEventPublisher.class);
+    private final DeleteProductPriceUseCase useCase = new DeleteProductPriceUseCase(
+        productPriceWriteRepository,
+        productPriceEventPublisher
+    );
+
+    ProductPriceId id = new ProductPriceId(UUID.randomUUID());
+    ProductId productId = new ProductId(2525);
+    BrandId brandId = new BrandId(1);
+    LocalDateTime startDate = LocalDateTime.now();
+
+    @Test
+    void shouldDeleteThePriceAndNotifyItsProductAsChanged() {
+        // Given
+        ProductPrice deleted = new ProductPrice(
+            brandId,
+            startDate,
+            startDate.plusDays(1),
+            1,
+            productId,
+            0,
+            new Price(BigDecimal.TEN, Monetary.getCurrency("EUR"))
+        );
+        when(productPriceWriteRepository.delete(id)).thenReturn(Optional.of(deleted));
+
+        // When
+        DeleteProductPriceResponse response = useCase.execute(new DeleteProductPriceRequest(id));
+
+        // Then
+        assertThat(response).isInstanceOf(DeleteProductPriceResponse.Deleted.class);
+        verify(productPriceEventPublisher).publish(new ProductPricesChangedEvent(productId, brandId));
+    }
+
+    @Test
+    void shouldGetAPriceNotFoundResponseIfNoneFound() {
+        // Given
+        when(productPriceWriteRepository.delete(id)).thenReturn(Optional.empty());
+
+        // When
+        DeleteProductPriceResponse response = useCase.execute(new DeleteProductPriceRequest(id));
+
+        // Then
+        assertThat(response).isInstanceOf(DeleteProductPriceResponse.ProductPriceNotFound.class);
+        verifyNoInteractions(productPriceEventPublisher);
+    }
+}
@@ -0,0 +1,58 @@
+package com.challenge.productservice.application.exportproductprices;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.Price;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceExportRepository;
+import org.junit.jupiter.api.Test;
+
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExportProductPricesUseCaseTest {
+
+    BrandId brandId = new BrandId(1);
+    LocalDateTime validAt = LocalDateTime.parse("2020-06-14T16:00:00");
+
+    @Test
+    void shouldPassEveryExportedPriceToTheOutput() {
+        // Given
+        List<ProductPrice> productPrices = IntStream.range(0, 3).mapToObj(this::createProductPrice).toList();
+        List<Object> queries = new ArrayList<>();
+        ProductPriceExportRepository repository = (brandId, validAt, consumer) -> {
+            queries.add(List.of(brandId, validAt));
+            productPrices.forEach(consumer);
+        };
+        List<ProductPrice> output = new ArrayList<>();
+
+        // When
+        ExportProductPricesResponse response = new ExportProductPricesUseCase(repository).execute(
+            new ExportProductPricesRequest(brandId, validAt),
+            output::add
+        );
+
+        // Then
+        assertThat(output).containsExactlyElementsOf(productPrices);
+        assertThat(response.exportedProducts()).isEqualTo(3);
+        assertThat(queries).containsExactly(List.of(brandId, validAt));
+    }
+
+    private ProductPrice createProductPrice(int product) {
+        return new ProductPrice(
+            brandId,
+            validAt.minusDays(1),
+            validAt.plusDays(1),
+            1,
+            new ProductId(35455 + product),
+            0,
+            new Price(new BigDecimal("9.99"), Monetary.getCurrency("EUR"))
+        );
+    }
+}
@@ -0,0 +1,68 @@
+package com.challenge.productservice.application.getproductprice;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.Price;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ReactiveProductPriceRepository;
+import com.challenge.productservice.domain.productprice.WinningProductPrice;
+import org.junit.jupiter.api.Test;
+
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GetProductPriceReactiveUseCaseTest {
+    private final ReactiveProductPriceRepository productPriceRepository = mock(ReactiveProductPriceRepository.class);
+    private final GetProductPriceReactiveUseCase useCase = new GetProductPriceReactiveUseCase(productPriceRepository);
+
+    ProductId productId = new ProductId(2525);
+    BrandId brandId = new BrandId(1);
+    LocalDateTime validAt = LocalDateTime.now();
+    LocalDateTime endDate = validAt.plusDays(1);
+    ProductPrice productPrice = new ProductPrice(
+        brandId,
+        validAt.minusDays(1),
+        endDate,
+        1,
+        productId,
+        0,
+        new Price(BigDecimal.TEN, Monetary.getCurrency("EUR"))
+    );
+    GetProductPriceRequest request = new GetProductPriceRequest(productId, brandId, validAt);
+
+    @Test
+    void shouldGetTheProductPriceResolvedByTheRepository() {
+        // Given
+        CompletableFuture<Optional<WinningProductPrice>> winningProductPrice = new CompletableFuture<>();
+        when(productPriceRepository.getWinningProductPrice(productId, brandId, validAt))
+            .thenReturn(winningProductPrice);
+
+        // When
+        CompletableFuture<GetProductPriceResponse> response = useCase.execute(request).toCompletableFuture();
+
+        // Then
+        assertThat(response).isNotDone();
+        winningProductPrice.complete(Optional.of(new WinningProductPrice(productPrice, endDate)));
+        assertThat(response).isCompletedWithValue(new GetProductPriceResponse.Successful(productPrice, endDate));
+    }
+
+    @Test
+    void shouldGetAPriceNotFoundResponseIfNoneFound() {
+        // Given
+        when(productPriceRepository.getWinningProductPrice(productId, brandId, validAt))
+            .thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+
+        // When
+        GetProductPriceResponse response = useCase.execute(request).toCompletableFuture().join();
+
+        // Then
+        assertThat(response).isInstanceOf(GetProductPriceResponse.ProductPriceNotFound.class);
+    }
+}
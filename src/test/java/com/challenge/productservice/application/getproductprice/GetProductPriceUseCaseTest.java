@@ -4,16 +4,21 @@ import com.challenge.productservice.domain.productprice.BrandId;
 import com.challenge.productservice.domain.productprice.Price;
 import com.challenge.productservice.domain.productprice.ProductId;
 import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceQuery;
 import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import com.challenge.productservice.domain.productprice.WinningProductPrice;
 import org.junit.jupiter.api.Test;
 
 import javax.money.Monetary;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -30,40 +35,42 @@ class GetProductPriceUseCaseTest {
     GetProductPriceRequest request = new GetProductPriceRequest(productId, brandId, validAt);
 
     @Test
-    void shouldGetTheProductPriceWhenOnlyOnePriceIsFound() {
+    void shouldGetTheProductPriceResolvedByTheRepository() {
         // Given
         ProductPrice expectedProductPrice = createProductPriceWithPriority(0);
-        when(productPriceRepository.getProductPrices(productId, brandId, validAt))
-            .thenReturn(List.of(expectedProductPrice));
+        when(productPriceRepository.getWinningProductPrice(productId, brandId, validAt))
+            .thenReturn(Optional.of(new WinningProductPrice(expectedProductPrice, endDate)));
 
         // When
         GetProductPriceResponse response = useCase.execute(request);
 
         // Then
-        assertThat(response).isEqualTo(new GetProductPriceResponse.Successful(expectedProductPrice));
-        verify(productPriceRepository).getProductPrices(productId, brandId, validAt);
+        assertThat(response).isEqualTo(new GetProductPriceResponse.Successful(expectedProductPrice, endDate));
+        verify(productPriceRepository).getWinningProductPrice(productId, brandId, validAt);
+        verify(productPriceRepository, never()).getProductPrices(productId, brandId, validAt);
     }
 
     @Test
-    void shouldGetAProductPriceWithHighestPriorityWhenMultiplePricesFound() {
+    void shouldGetAProductPriceWithHighestPriorityWhenTheRepositoryReturnsEveryCandidate() {
         // Given
-        ProductPrice productPriceWithLessPriority = createProductPriceWithPriority(0);
-        ProductPrice productPriceWithHighestPriority = createProductPriceWithPriority(1);
-        when(productPriceRepository.getProductPrices(productId, brandId, validAt))
-            .thenReturn(List.of(productPriceWithHighestPriority, productPriceWithLessPriority));
+        ProductPriceRepository listingRepository = (productId, brandId, validAt) -> List.of(
+            createProductPriceWithPriority(0),
+            createProductPriceWithPriority(1)
+        );
 
         // When
-        GetProductPriceResponse response = useCase.execute(request);
+        GetProductPriceResponse response = new GetProductPriceUseCase(listingRepository).execute(request);
 
         // Then
-        assertThat(response).isEqualTo(new GetProductPriceResponse.Successful(productPriceWithHighestPriority));
-        verify(productPriceRepository).getProductPrices(productId, brandId, validAt);
+        assertThat(response).isEqualTo(
+            new GetProductPriceResponse.Successful(createProductPriceWithPriority(1), validAt)
+        );
     }
 
     @Test
     void ShouldGetAPriceNotFoundResponseIfNoneFound() {
         // Given
-        when(productPriceRepository.getProductPrices(productId, brandId, validAt)).thenReturn(List.of());
+        when(productPriceRepository.getWinningProductPrice(productId, brandId, validAt)).thenReturn(Optional.empty());
 
         // When
         GetProductPriceResponse response = useCase.execute(request);
@@ -72,6 +79,31 @@ class GetProductPriceUseCaseTest {
         assertThat(response).isInstanceOf(GetProductPriceResponse.ProductPriceNotFound.class);
     }
 
+    @Test
+    void shouldResolveABatchOfRequestsWithASingleRepositoryCall() {
+        // Given
+        ProductId anotherProductId = new ProductId(2526);
+        GetProductPriceRequest anotherRequest = new GetProductPriceRequest(anotherProductId, brandId, validAt);
+        ProductPriceQuery query = new ProductPriceQuery(productId, brandId, validAt);
+        ProductPriceQuery anotherQuery = new ProductPriceQuery(anotherProductId, brandId, validAt);
+        ProductPrice productPriceWithLessPriority = createProductPriceWithPriority(0);
+        ProductPrice productPriceWithHighestPriority = createProductPriceWithPriority(1);
+        when(productPriceRepository.getProductPrices(List.of(query, anotherQuery)))
+            .thenReturn(Map.of(
+                query, List.of(productPriceWithLessPriority, productPriceWithHighestPriority),
+                anotherQuery, List.of()
+            ));
+
+        // When
+        List<GetProductPriceResponse> responses = useCase.executeBatch(List.of(request, anotherRequest));
+
+        // Then
+        assertThat(responses.get(0))
+            .isEqualTo(new GetProductPriceResponse.Successful(productPriceWithHighestPriority, validAt));
+        assertThat(responses.get(1)).isInstanceOf(GetProductPriceResponse.ProductPriceNotFound.class);
+        verify(productPriceRepository).getProductPrices(List.of(query, anotherQuery));
+    }
+
     private ProductPrice createProductPriceWithPriority(int priority) {
         return new ProductPrice(
             brandId,
@@ -0,0 +1,92 @@
+package com.challenge.productservice.application.getproductpricetimeline;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.Price;
+import com.challenge.productservice.domain.productprice.PriceTimeline.Segment;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceHistoryRepository;
+import org.junit.jupiter.api.Test;
+
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class GetProductPriceTimelineUseCaseTest {
+    private final ProductPriceHistoryRepository productPriceHistoryRepository =
+        mock(ProductPriceHistoryRepository.class);
+    private final GetProductPriceTimelineUseCase useCase =
+        new GetProductPriceTimelineUseCase(productPriceHistoryRepository);
+
+    ProductId productId = new ProductId(35455);
+    BrandId brandId = new BrandId(1);
+    LocalDateTime from = LocalDateTime.parse("2020-06-14T00:00:00");
+    LocalDateTime to = LocalDateTime.parse("2020-07-14T00:00:00");
+
+    @Test
+    void shouldGetTheWinningPricesAcrossTheRangeWithASingleRepositoryCall() {
+        // Given
+        ProductPrice basePrice = createProductPrice(from.minusDays(10), from.plusDays(10), 0);
+        ProductPrice promotion = createProductPrice(from.plusDays(1), from.plusDays(2), 1);
+        ProductPrice nextPrice = createProductPrice(from.plusDays(20), to.plusDays(10), 0);
+        when(productPriceHistoryRepository.getOverlappingProductPrices(productId, brandId, from, to))
+            .thenReturn(List.of(nextPrice, promotion, basePrice));
+
+        // When
+        GetProductPriceTimelineResponse response = useCase.execute(
+            new GetProductPriceTimelineRequest(productId, brandId, from, to)
+        );
+
+        // Then
+        assertThat(response.segments()).containsExactly(
+            new Segment(from, promotion.startDate().minusNanos(1), basePrice),
+            new Segment(promotion.startDate(), promotion.endDate(), promotion),
+            new Segment(promotion.endDate().plusNanos(1), basePrice.endDate(), basePrice),
+            new Segment(nextPrice.startDate(), to, nextPrice)
+        );
+        verify(productPriceHistoryRepository).getOverlappingProductPrices(productId, brandId, from, to);
+    }
+
+    @Test
+    void shouldGetAnEmptyTimelineWhenNoPriceOverlapsTheRange() {
+        // Given
+        when(productPriceHistoryRepository.getOverlappingProductPrices(productId, brandId, from, to))
+            .thenReturn(List.of());
+
+        // When
+        GetProductPriceTimelineResponse response = useCase.execute(
+            new GetProductPriceTimelineRequest(productId, brandId, from, to)
+        );
+
+        // Then
+        assertThat(response.segments()).isEmpty();
+    }
+
+    @Test
+    void shouldRejectARangeEndingBeforeItStarts() {
+        // When / Then
+        assertThatThrownBy(() -> useCase.execute(new GetProductPriceTimelineRequest(productId, brandId, to, from)))
+            .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(productPriceHistoryRepository);
+    }
+
+    private ProductPrice createProductPrice(LocalDateTime startDate, LocalDateTime endDate, int priority) {
+        return new ProductPrice(
+            brandId,
+            startDate,
+            endDate,
+            1,
+            productId,
+            priority,
+            new Price(new BigDecimal("9.99"), Monetary.getCurrency("EUR"))
+        );
+    }
+}
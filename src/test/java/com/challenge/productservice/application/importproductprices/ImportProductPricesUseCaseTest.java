@@ -0,0 +1,128 @@
+package com.challenge.productservice.application.importproductprices;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.Price;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceEventPublisher;
+import com.challenge.productservice.domain.productprice.ProductPriceWriteRepository;
+import com.challenge.productservice.domain.productprice.ProductPricesChangedEvent;
+import com.challenge.productservice.domain.productprice.ProductPricesChangedEvent.ChangedProduct;
+import org.junit.jupiter.api.Test;
+
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+class ImportProductPricesUseCaseTest {
+    private final ProductPriceWriteRepository productPriceWriteRepository = mock(ProductPriceWriteRepository.class);
+    private final ProductPriceEventPublisher productPriceEventPublisher = mock(ProductPriceEventPublisher.class);
+    private final ImportProductPricesUseCase useCase = new ImportProductPricesUseCase(
+        productPriceWriteRepository,
+        productPriceEventPublisher,
+        2
+    );
+
+    ProductId productId = new ProductId(35455);
+    BrandId brandId = new BrandId(1);
+    LocalDateTime startDate = LocalDateTime.parse("2020-06-14T00:00:00");
+
+    @Test
+    void shouldSaveThePricesInChunks() {
+        // Given
+        List<ProductPrice> productPrices = IntStream.range(0, 5).mapToObj(this::createProductPrice).toList();
+
+        // When
+        ImportProductPricesResponse response = useCase.execute(
+            new ImportProductPricesRequest(productPrices.stream())
+        );
+
+        // Then
+        assertThat(response.importedRows()).isEqualTo(5);
+        assertThat(response.rowsPerSecond()).isPositive();
+        verify(productPriceWriteRepository).saveAll(productPrices.subList(0, 2));
+        verify(productPriceWriteRepository).saveAll(productPrices.subList(2, 4));
+        verify(productPriceWriteRepository).saveAll(productPrices.subList(4, 5));
+        verify(productPriceEventPublisher, times(3)).publish(new ProductPricesChangedEvent(productId, brandId));
+    }
+
+    @Test
+    void shouldNotifyEveryProductOfAChunkInASingleEvent() {
+        // Given
+        ProductId anotherProductId = new ProductId(2526);
+        ProductPrice productPrice = createProductPrice(0);
+        ProductPrice anotherProductPrice = new ProductPrice(
+            brandId,
+            startDate,
+            startDate.plusDays(1),
+            1,
+            anotherProductId,
+            0,
+            new Price(new BigDecimal("9.99"), Monetary.getCurrency("EUR"))
+        );
+
+        // When
+        useCase.execute(new ImportProductPricesRequest(Stream.of(productPrice, anotherProductPrice)));
+
+        // Then
+        verify(productPriceEventPublisher).publish(new ProductPricesChangedEvent(Set.of(
+            new ChangedProduct(productId, brandId),
+            new ChangedProduct(anotherProductId, brandId)
+        )));
+        verifyNoMoreInteractions(productPriceEventPublisher);
+    }
+
+    @Test
+    void shouldNotSaveAnythingWhenTheFeedIsEmpty() {
+        // When
+        ImportProductPricesResponse response = useCase.execute(new ImportProductPricesRequest(Stream.empty()));
+
+        // Then
+        assertThat(response.importedRows()).isZero();
+        verify(productPriceWriteRepository, never()).saveAll(any());
+        verifyNoInteractions(productPriceEventPublisher);
+    }
+
+    @Test
+    void shouldKeepTheChunksSavedBeforeTheFeedFails() {
+        // Given
+        Stream<ProductPrice> productPrices = Stream.concat(
+            Stream.of(createProductPrice(0), createProductPrice(1), createProductPrice(2)),
+            Stream.generate(() -> {
+                throw new IllegalStateException("Invalid line");
+            })
+        );
+
+        // When / Then
+        assertThatThrownBy(() -> useCase.execute(new ImportProductPricesRequest(productPrices)))
+            .isInstanceOf(IllegalStateException.class);
+        verify(productPriceWriteRepository).saveAll(List.of(createProductPrice(0), createProductPrice(1)));
+        verify(productPriceWriteRepository, never()).saveAll(List.of(createProductPrice(2)));
+    }
+
+    private ProductPrice createProductPrice(int priceList) {
+        return new ProductPrice(
+            brandId,
+            startDate,
+            startDate.plusDays(1),
+            priceList,
+            productId,
+            0,
+            new Price(new BigDecimal("9.99"), Monetary.getCurrency("EUR"))
+        );
+    }
+}
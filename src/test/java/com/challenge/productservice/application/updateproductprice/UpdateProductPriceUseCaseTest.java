@@ -0,0 +1,101 @@
+package com.challenge.productservice.application.updateproductprice;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.Price;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceEventPublisher;
+import com.challenge.productservice.domain.productprice.ProductPriceId;
+import com.challenge.productservice.domain.productprice.ProductPriceWriteRepository;
+import com.challenge.productservice.domain.productprice.ProductPricesChangedEvent;
+import com.challenge.productservice.domain.productprice.ProductPricesChangedEvent.ChangedProduct;
+import org.junit.jupiter.api.Test;
+
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+class UpdateProductPriceUseCaseTest {
+    private final ProductPriceWriteRepository productPriceWriteRepository = mock(ProductPriceWriteRepository.class);
+    private final ProductPriceEventPublisher productPriceEventPublisher = mock(ProductPriceEventPublisher.class);
+    private final UpdateProductPriceUseCase useCase = new UpdateProductPriceUseCase(
+        productPriceWriteRepository,
+        productPriceEventPublisher
+    );
+
+    ProductPriceId id = new ProductPriceId(UUID.randomUUID());
+    ProductId productId = new ProductId(2525);
+    BrandId brandId = new BrandId(1);
+    LocalDateTime startDate = LocalDateTime.now();
+
+    @Test
+    void shouldUpdateThePriceAndNotifyItsProductAsChanged() {
+        // Given
+        ProductPrice previous = createProductPrice(productId, new BigDecimal("10.00"));
+        ProductPrice updated = createProductPrice(productId, new BigDecimal("12.00"));
+        when(productPriceWriteRepository.update(id, updated)).thenReturn(Optional.of(previous));
+
+        // When
+        UpdateProductPriceResponse response = useCase.execute(new UpdateProductPriceRequest(id, updated));
+
+        // Then
+        assertThat(response).isInstanceOf(UpdateProductPriceResponse.Updated.class);
+        verify(productPriceEventPublisher).publish(new ProductPricesChangedEvent(productId, brandId));
+        verifyNoMoreInteractions(productPriceEventPublisher);
+    }
+
+    @Test
+    void shouldNotifyBothProductsAsChangedInOneEventWhenThePriceMovesToAnotherProduct() {
+        // Given
+        ProductId anotherProductId = new ProductId(2526);
+        ProductPrice previous = createProductPrice(productId, BigDecimal.TEN);
+        ProductPrice updated = createProductPrice(anotherProductId, BigDecimal.TEN);
+        when(productPriceWriteRepository.update(id, updated)).thenReturn(Optional.of(previous));
+
+        // When
+        useCase.execute(new UpdateProductPriceRequest(id, updated));
+
+        // Then
+        verify(productPriceEventPublisher).publish(new ProductPricesChangedEvent(Set.of(
+            new ChangedProduct(anotherProductId, brandId),
+            new ChangedProduct(productId, brandId)
+        )));
+        verifyNoMoreInteractions(productPriceEventPublisher);
+    }
+
+    @Test
+    void shouldGetAPriceNotFoundResponseIfNoneFound() {
+        // Given
+        ProductPrice updated = createProductPrice(productId, BigDecimal.TEN);
+        when(productPriceWriteRepository.update(id, updated)).thenReturn(Optional.empty());
+
+        // When
+        UpdateProductPriceResponse response = useCase.execute(new UpdateProductPriceRequest(id, updated));
+
+        // Then
+        assertThat(response).isInstanceOf(UpdateProductPriceResponse.ProductPriceNotFound.class);
+        verifyNoInteractions(productPriceEventPublisher);
+    }
+
+    private ProductPrice createProductPrice(ProductId productId, BigDecimal amount) {
+        return new ProductPrice(
+            brandId,
+            startDate,
+            startDate.plusDays(1),
+            1,
+            productId,
+            0,
+            new Price(amount, Monetary.getCurrency("EUR"))
+        );
+    }
+}
@@ -0,0 +1,28 @@
+package com.challenge.productservice.component;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.netty.NettyWebServer;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("reactive")
+class ReactiveServerComponentTest {
+
+    @Autowired
+    private ReactiveWebServerApplicationContext context;
+
+    @Test
+    void shouldServeTheReactiveProfileFromNetty() {
+        // When
+        WebServer webServer = context.getWebServer();
+
+        // Then
+        assertThat(webServer).isInstanceOf(NettyWebServer.class);
+    }
+}
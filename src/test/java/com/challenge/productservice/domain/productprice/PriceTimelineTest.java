@@ -0,0 +1,160 @@
+package com.challenge.productservice.domain.productprice;
+
+import com.challenge.productservice.domain.productprice.PriceTimeline.Segment;
+import org.junit.jupiter.api.Test;
+
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PriceTimelineTest {
+
+    ProductId productId = new ProductId(35455);
+    BrandId brandId = new BrandId(1);
+
+    ProductPrice basePrice = createProductPrice("2020-06-14T00:00:00", "2020-12-31T23:59:59", 1, 0);
+    ProductPrice afternoonPromotion = createProductPrice("2020-06-14T15:00:00", "2020-06-14T18:30:00", 2, 1);
+    ProductPrice morningPromotion = createProductPrice("2020-06-15T00:00:00", "2020-06-15T11:00:00", 3, 1);
+    ProductPrice summerPrice = createProductPrice("2020-06-15T16:00:00", "2020-12-31T23:59:59", 4, 1);
+
+    @Test
+    void shouldFlattenOverlappingPricesIntoSegmentsHoldingTheWinningPrice() {
+        // When
+        PriceTimeline timeline = PriceTimeline.of(List.of(basePrice, afternoonPromotion, morningPromotion, summerPrice));
+
+        // Then
+        assertThat(timeline.segments()).containsExactly(
+            new Segment(date("2020-06-14T00:00:00"), date("2020-06-14T14:59:59.999999999"), basePrice),
+            new Segment(date("2020-06-14T15:00:00"), date("2020-06-14T18:30:00"), afternoonPromotion),
+            new Segment(date("2020-06-14T18:30:00.000000001"), date("2020-06-14T23:59:59.999999999"), basePrice),
+            new Segment(date("2020-06-15T00:00:00"), date("2020-06-15T11:00:00"), morningPromotion),
+            new Segment(date("2020-06-15T11:00:00.000000001"), date("2020-06-15T15:59:59.999999999"), basePrice),
+            new Segment(date("2020-06-15T16:00:00"), date("2020-12-31T23:59:59"), summerPrice)
+        );
+    }
+
+    @Test
+    void shouldResolveTheWinningPriceAtGivenDate() {
+        // Given
+        PriceTimeline timeline = PriceTimeline.of(List.of(basePrice, afternoonPromotion, morningPromotion, summerPrice));
+
+        // Then
+        assertThat(timeline.priceAt(date("2020-06-14T10:00:00"))).contains(basePrice);
+        assertThat(timeline.priceAt(date("2020-06-14T16:00:00"))).contains(afternoonPromotion);
+        assertThat(timeline.priceAt(date("2020-06-14T18:30:00"))).contains(afternoonPromotion);
+        assertThat(timeline.priceAt(date("2020-06-14T21:00:00"))).contains(basePrice);
+        assertThat(timeline.priceAt(date("2020-06-15T10:00:00"))).contains(morningPromotion);
+        assertThat(timeline.priceAt(date("2020-06-16T21:00:00"))).contains(summerPrice);
+        assertThat(timeline.priceAt(date("2020-12-31T23:59:59"))).contains(summerPrice);
+    }
+
+    @Test
+    void shouldNotResolveAPriceOutsideOfAnyRange() {
+        // Given
+        ProductPrice june = createProductPrice("2020-06-01T00:00:00", "2020-06-30T23:59:59", 1, 0);
+        ProductPrice august = createProductPrice("2020-08-01T00:00:00", "2020-08-31T23:59:59", 2, 0);
+        PriceTimeline timeline = PriceTimeline.of(List.of(june, august));
+
+        // Then
+        assertThat(timeline.priceAt(date("2020-05-31T23:59:59"))).isEmpty();
+        assertThat(timeline.priceAt(date("2020-07-15T00:00:00"))).isEmpty();
+        assertThat(timeline.priceAt(date("2020-09-01T00:00:00"))).isEmpty();
+        assertThat(PriceTimeline.of(List.of()).priceAt(date("2020-06-15T00:00:00"))).isEmpty();
+    }
+
+    @Test
+    void shouldBreakPriorityTiesWithTheMostRecentStartDateAndThenTheHighestPriceList() {
+        // Given
+        ProductPrice older = createProductPrice("2020-06-01T00:00:00", "2020-06-30T23:59:59", 1, 1);
+        ProductPrice newer = createProductPrice("2020-06-10T00:00:00", "2020-06-20T23:59:59", 2, 1);
+        ProductPrice newerWithHigherPriceList = createProductPrice("2020-06-10T00:00:00", "2020-06-15T23:59:59", 3, 1);
+        PriceTimeline timeline = PriceTimeline.of(List.of(newerWithHigherPriceList, older, newer));
+
+        // Then
+        assertThat(timeline.priceAt(date("2020-06-05T00:00:00"))).contains(older);
+        assertThat(timeline.priceAt(date("2020-06-12T00:00:00"))).contains(newerWithHigherPriceList);
+        assertThat(timeline.priceAt(date("2020-06-18T00:00:00"))).contains(newer);
+        assertThat(timeline.priceAt(date("2020-06-25T00:00:00"))).contains(older);
+    }
+
+    @Test
+    void shouldMatchTheWinnerOfALinearScan() {
+        // Given
+        LocalDateTime origin = date("2020-06-14T00:00:00");
+        List<ProductPrice> productPrices = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            LocalDateTime startDate = origin.plusHours((i * 37L) % 101);
+            LocalDateTime endDate = startDate.plusHours((i * 13L) % 29);
+            productPrices.add(createProductPrice(startDate, endDate, i, i % 5));
+        }
+        PriceTimeline timeline = PriceTimeline.of(productPrices);
+
+        for (int hour = -1; hour < 135; hour++) {
+            LocalDateTime date = origin.plusHours(hour);
+            Optional<ProductPrice> expected = productPrices.stream()
+                .filter(price -> !price.startDate().isAfter(date) && !price.endDate().isBefore(date))
+                .max(ProductPrice.PRECEDENCE);
+
+            // Then
+            assertThat(timeline.priceAt(date)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void shouldCutTheSegmentsToTheGivenRange() {
+        // Given
+        PriceTimeline timeline = PriceTimeline.of(List.of(basePrice, afternoonPromotion, morningPromotion, summerPrice));
+
+        // When
+        List<Segment> segments = timeline.segmentsBetween(date("2020-06-14T16:00:00"), date("2020-06-15T05:00:00"));
+
+        // Then
+        assertThat(segments).containsExactly(
+            new Segment(date("2020-06-14T16:00:00"), date("2020-06-14T18:30:00"), afternoonPromotion),
+            new Segment(date("2020-06-14T18:30:00.000000001"), date("2020-06-14T23:59:59.999999999"), basePrice),
+            new Segment(date("2020-06-15T00:00:00"), date("2020-06-15T05:00:00"), morningPromotion)
+        );
+    }
+
+    @Test
+    void shouldNotGetAnySegmentOutsideOfTheTimeline() {
+        // Given
+        PriceTimeline timeline = PriceTimeline.of(List.of(basePrice, afternoonPromotion));
+
+        // When
+        List<Segment> segments = timeline.segmentsBetween(date("2021-01-01T00:00:00"), date("2021-02-01T00:00:00"));
+
+        // Then
+        assertThat(segments).isEmpty();
+    }
+
+    private static LocalDateTime date(String date) {
+        return LocalDateTime.parse(date);
+    }
+
+    private ProductPrice createProductPrice(String startDate, String endDate, int priceList, int priority) {
+        return createProductPrice(date(startDate), date(endDate), priceList, priority);
+    }
+
+    private ProductPrice createProductPrice(
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        int priceList,
+        int priority
+    ) {
+        return new ProductPrice(
+            brandId,
+            startDate,
+            endDate,
+            priceList,
+            productId,
+            priority,
+            new Price(new BigDecimal("9.99"), Monetary.getCurrency("EUR"))
+        );
+    }
+}
@@ -0,0 +1,81 @@
+package com.challenge.productservice.domain.productprice;
+
+import org.junit.jupiter.api.Test;
+
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WinningProductPriceTest {
+
+    ProductId productId = new ProductId(35455);
+    BrandId brandId = new BrandId(1);
+
+    ProductPrice basePrice = createProductPrice("2020-06-14T00:00:00", "2020-12-31T23:59:59", 1, 0);
+    ProductPrice afternoonPromotion = createProductPrice("2020-06-14T15:00:00", "2020-06-14T18:30:00", 2, 1);
+    ProductPrice morningPromotion = createProductPrice("2020-06-15T00:00:00", "2020-06-15T11:00:00", 3, 1);
+    ProductPrice summerPrice = createProductPrice("2020-06-15T10:00:00", "2020-12-31T23:59:59", 4, 1);
+    List<ProductPrice> productPrices = List.of(basePrice, afternoonPromotion, morningPromotion, summerPrice);
+
+    @Test
+    void shouldKeepWinningUntilAPriceWithAtLeastTheSamePriorityStarts() {
+        // When
+        Optional<WinningProductPrice> beforeAfternoon = WinningProductPrice.resolve(
+            productPrices,
+            date("2020-06-14T10:00:00")
+        );
+        Optional<WinningProductPrice> beforeSummer = WinningProductPrice.resolve(
+            productPrices,
+            date("2020-06-15T09:00:00")
+        );
+
+        // Then
+        assertThat(beforeAfternoon)
+            .contains(new WinningProductPrice(basePrice, date("2020-06-14T14:59:59.999999999")));
+        assertThat(beforeSummer)
+            .contains(new WinningProductPrice(morningPromotion, date("2020-06-15T09:59:59.999999999")));
+    }
+
+    @Test
+    void shouldKeepWinningUntilItEndsWhenNoPriceTakesOver() {
+        // When
+        Optional<WinningProductPrice> afternoon = WinningProductPrice.resolve(
+            productPrices,
+            date("2020-06-14T16:00:00")
+        );
+        Optional<WinningProductPrice> summer = WinningProductPrice.resolve(productPrices, date("2020-07-01T00:00:00"));
+
+        // Then
+        assertThat(afternoon).contains(new WinningProductPrice(afternoonPromotion, afternoonPromotion.endDate()));
+        assertThat(summer).contains(new WinningProductPrice(summerPrice, summerPrice.endDate()));
+    }
+
+    @Test
+    void shouldNotResolveAnyPriceWhenNoneIsValid() {
+        // When
+        Optional<WinningProductPrice> result = WinningProductPrice.resolve(productPrices, date("2021-01-01T00:00:00"));
+
+        // Then
+        assertThat(result).isEmpty();
+    }
+
+    private static LocalDateTime date(String date) {
+        return LocalDateTime.parse(date);
+    }
+
+    private ProductPrice createProductPrice(String startDate, String endDate, int priceList, int priority) {
+        return new ProductPrice(
+            brandId,
+            date(startDate),
+            date(endDate),
+            priceList,
+            productId,
+            priority,
+            new Price(new BigDecimal("9.99"), Monetary.getCurrency("EUR"))
+        );
+    }
+}
@@ -0,0 +1,123 @@
+package com.challenge.productservice.infrastructure.database;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.Price;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.infrastructure.config.DatabaseConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@DataJpaTest
+@Import({
+        DatabaseConfig.class,
+        SimpleMeterRegistry.class
+})
+class JdbcProductPriceExportRepositoryIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private JdbcProductPriceWriteRepository writeRepository;
+    private JdbcProductPriceExportRepository repository;
+
+    BrandId brandId = new BrandId(8);
+    LocalDateTime validAt = LocalDateTime.parse("2021-06-14T16:00:00");
+
+    @BeforeEach
+    void setUp() {
+        writeRepository = new JdbcProductPriceWriteRepository(jdbcTemplate, transactionManager, 100);
+        repository = new JdbcProductPriceExportRepository(jdbcTemplate, transactionManager, 2);
+    }
+
+    @Test
+    void shouldExportTheWinningPriceOfEveryProductOrderedByProduct() {
+        // Given
+        ProductPrice basePrice = createProductPrice(brandId, 99002, validAt.minusDays(10), validAt.plusDays(10), 0);
+        ProductPrice promotion = createProductPrice(brandId, 99002, validAt.minusHours(1), validAt.plusHours(1), 1);
+        ProductPrice anotherProductPrice = createProductPrice(
+            brandId,
+            99001,
+            validAt.minusDays(1),
+            validAt.plusDays(1),
+            0
+        );
+        ProductPrice expired = createProductPrice(brandId, 99003, validAt.minusDays(2), validAt.minusDays(1), 0);
+        ProductPrice anotherBrandPrice = createProductPrice(
+            new BrandId(9),
+            99001,
+            validAt.minusDays(1),
+            validAt.plusDays(1),
+            0
+        );
+        writeRepository.saveAll(List.of(basePrice, promotion, anotherProductPrice, expired, anotherBrandPrice));
+
+        // When
+        List<ProductPrice> result = new ArrayList<>();
+        repository.forEachWinningProductPrice(brandId, validAt, result::add);
+
+        // Then
+        assertThat(result).containsExactly(anotherProductPrice, promotion);
+    }
+
+    @Test
+    void shouldExportMoreProductsThanRowsPerFetch() {
+        // Given
+        List<ProductPrice> productPrices = IntStream.range(0, 7)
+            .mapToObj(product -> createProductPrice(
+                brandId,
+                99010 + product,
+                validAt.minusDays(1),
+                validAt.plusDays(1),
+                0
+            ))
+            .toList();
+        writeRepository.saveAll(productPrices);
+
+        // When
+        List<ProductPrice> result = new ArrayList<>();
+        repository.forEachWinningProductPrice(brandId, validAt, result::add);
+
+        // Then
+        assertThat(result).containsExactlyElementsOf(productPrices);
+    }
+
+    private ProductPrice createProductPrice(
+        BrandId brandId,
+        long productId,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        int priority
+    ) {
+        return new ProductPrice(
+            brandId,
+            startDate,
+            endDate,
+            1,
+            new ProductId(productId),
+            priority,
+            new Price(new BigDecimal("9.99"), Monetary.getCurrency("EUR"))
+        );
+    }
+}
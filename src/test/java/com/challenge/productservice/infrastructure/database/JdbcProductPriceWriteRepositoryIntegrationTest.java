@@ -0,0 +1,141 @@
+package com.challenge.productservice.infrastructure.database;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.Price;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceId;
+import com.challenge.productservice.infrastructure.config.DatabaseConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@DataJpaTest
+@Import({
+        DatabaseConfig.class,
+        SimpleMeterRegistry.class
+})
+class JdbcProductPriceWriteRepositoryIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JpaProductPriceRepository jpaProductPriceRepository;
+
+    private JdbcProductPriceWriteRepository repository;
+
+    ProductId productId = new ProductId(99001);
+    BrandId brandId = new BrandId(7);
+    LocalDateTime startDate = LocalDateTime.parse("2021-01-01T00:00:00");
+
+    @BeforeEach
+    void setUp() {
+        repository = new JdbcProductPriceWriteRepository(jdbcTemplate, transactionManager, 2);
+    }
+
+    @Test
+    void shouldInsertEveryPriceAcrossSeveralBatches() {
+        // Given
+        List<ProductPrice> productPrices = IntStream.range(0, 5)
+            .mapToObj(priceList -> createProductPrice(priceList, new BigDecimal("9.99")))
+            .toList();
+
+        // When
+        repository.saveAll(productPrices);
+
+        // Then
+        assertThat(jpaProductPriceRepository.getAllProductPrices(productId, brandId))
+            .containsExactlyInAnyOrderElementsOf(productPrices);
+    }
+
+    @Test
+    void shouldCreateAPrice() {
+        // Given
+        ProductPrice productPrice = createProductPrice(1, new BigDecimal("9.99"));
+
+        // When
+        ProductPriceId id = repository.create(productPrice);
+
+        // Then
+        assertThat(id.value()).isNotNull();
+        assertThat(jpaProductPriceRepository.findById(id.value())).isPresent();
+        assertThat(jpaProductPriceRepository.getAllProductPrices(productId, brandId)).containsExactly(productPrice);
+    }
+
+    @Test
+    void shouldUpdateAPriceAndReturnItsPreviousValue() {
+        // Given
+        ProductPrice productPrice = createProductPrice(1, new BigDecimal("9.99"));
+        ProductPrice updated = createProductPrice(1, new BigDecimal("12.50"));
+        ProductPriceId id = repository.create(productPrice);
+
+        // When
+        Optional<ProductPrice> previous = repository.update(id, updated);
+
+        // Then
+        assertThat(previous).contains(productPrice);
+        assertThat(jpaProductPriceRepository.getAllProductPrices(productId, brandId)).containsExactly(updated);
+    }
+
+    @Test
+    void shouldDeleteAPriceAndReturnIt() {
+        // Given
+        ProductPrice productPrice = createProductPrice(1, new BigDecimal("9.99"));
+        ProductPriceId id = repository.create(productPrice);
+
+        // When
+        Optional<ProductPrice> deleted = repository.delete(id);
+
+        // Then
+        assertThat(deleted).contains(productPrice);
+        assertThat(jpaProductPriceRepository.getAllProductPrices(productId, brandId)).isEmpty();
+    }
+
+    @Test
+    void shouldNotUpdateOrDeleteAnUnknownPrice() {
+        // Given
+        ProductPriceId unknownId = new ProductPriceId(UUID.randomUUID());
+
+        // When
+        Optional<ProductPrice> updated = repository.update(unknownId, createProductPrice(1, BigDecimal.ONE));
+        Optional<ProductPrice> deleted = repository.delete(unknownId);
+
+        // Then
+        assertThat(updated).isEmpty();
+        assertThat(deleted).isEmpty();
+    }
+
+    private ProductPrice createProductPrice(int priceList, BigDecimal amount) {
+        return new ProductPrice(
+            brandId,
+            startDate.plusDays(priceList),
+            startDate.plusDays(priceList + 1),
+            priceList,
+            productId,
+            priceList,
+            new Price(amount, Monetary.getCurrency("EUR"))
+        );
+    }
+}
@@ -4,12 +4,16 @@ import com.challenge.productservice.domain.productprice.BrandId;
 import com.challenge.productservice.domain.productprice.Price;
 import com.challenge.productservice.domain.productprice.ProductId;
 import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceQuery;
 import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import com.challenge.productservice.domain.productprice.WinningProductPrice;
 import com.challenge.productservice.infrastructure.config.DatabaseConfig;
 import com.challenge.productservice.infrastructure.database.entity.ProductPriceEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import org.assertj.core.api.AssertionsForClassTypes;
+import org.hibernate.Session;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -21,7 +25,10 @@ import javax.money.Monetary;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -29,13 +36,17 @@ import static org.assertj.core.api.Assertions.assertThat;
 @ExtendWith(SpringExtension.class)
 @DataJpaTest
 @Import({
-        DatabaseConfig.class
+        DatabaseConfig.class,
+        SimpleMeterRegistry.class
 })
 class JpaProductPriceRepositoryIntegrationTest {
 
     @Autowired
     private ProductPriceRepository productPriceRepository;
 
+    @Autowired
+    private JpaProductPriceRepository jpaProductPriceRepository;
+
     @PersistenceContext
     private EntityManager entityManager;
 
@@ -213,6 +224,423 @@ class JpaProductPriceRepositoryIntegrationTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    void shouldNotKeepTheProductPricesOfASingleLookupInThePersistenceContext() {
+        // Given
+        ProductId productId = new ProductId(randomLong());
+        BrandId brandId = new BrandId(randomLong());
+        ProductPrice productPrice = createProductPrice(
+            brandId,
+            productId,
+            validAt.minusDays(1),
+            validAt.plusDays(1),
+            0
+        );
+        givenExistingProductPrice(productPrice);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<ProductPrice> result = productPriceRepository.getProductPrices(productId, brandId, validAt);
+
+        // Then
+        assertThat(result).containsExactly(productPrice);
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    void shouldGetProductPricesForManyQueriesAtOnce() {
+        // Given
+        ProductId productId = new ProductId(randomLong());
+        ProductId anotherProductId = new ProductId(productId.value() + 1);
+        ProductId unknownProductId = new ProductId(productId.value() + 2);
+        BrandId brandId = new BrandId(randomLong());
+        ProductPrice yesterdayPrice = createProductPrice(
+            brandId,
+            productId,
+            validAt.minusDays(2),
+            validAt.minusDays(1),
+            0
+        );
+        ProductPrice todayPrice = createProductPrice(
+            brandId,
+            productId,
+            validAt.minusHours(1),
+            validAt.plusHours(1),
+            0
+        );
+        ProductPrice anotherProductPrice = createProductPrice(
+            brandId,
+            anotherProductId,
+            validAt.minusDays(1),
+            validAt.plusDays(1),
+            0
+        );
+        givenExistingProductPrice(yesterdayPrice);
+        givenExistingProductPrice(todayPrice);
+        givenExistingProductPrice(anotherProductPrice);
+        ProductPriceQuery yesterdayQuery = new ProductPriceQuery(productId, brandId, validAt.minusDays(1));
+        ProductPriceQuery todayQuery = new ProductPriceQuery(productId, brandId, validAt);
+        ProductPriceQuery anotherProductQuery = new ProductPriceQuery(anotherProductId, brandId, validAt);
+        ProductPriceQuery unknownProductQuery = new ProductPriceQuery(unknownProductId, brandId, validAt);
+
+        // When
+        Map<ProductPriceQuery, List<ProductPrice>> result = productPriceRepository.getProductPrices(
+            List.of(yesterdayQuery, todayQuery, anotherProductQuery, unknownProductQuery)
+        );
+
+        // Then
+        assertThat(result).isEqualTo(Map.of(
+            yesterdayQuery, List.of(yesterdayPrice),
+            todayQuery, List.of(todayPrice),
+            anotherProductQuery, List.of(anotherProductPrice),
+            unknownProductQuery, List.of()
+        ));
+    }
+
+    @Test
+    void shouldOnlyMatchTheProductAndBrandOfEachQueryOfABatchWithoutKeepingThemInThePersistenceContext() {
+        // Given
+        ProductId productId = new ProductId(randomLong());
+        ProductId anotherProductId = new ProductId(productId.value() + 1);
+        BrandId brandId = new BrandId(randomLong());
+        BrandId anotherBrandId = new BrandId(brandId.value() + 1);
+        ProductPrice productPrice = createProductPrice(brandId, productId, validAt.minusDays(1), validAt, 0);
+        ProductPrice anotherProductPrice = createProductPrice(
+            anotherBrandId,
+            anotherProductId,
+            validAt,
+            validAt.plusDays(1),
+            0
+        );
+        givenExistingProductPrice(productPrice);
+        givenExistingProductPrice(anotherProductPrice);
+        givenExistingProductPrice(createProductPrice(anotherBrandId, productId, validAt, validAt.plusDays(1), 0));
+        givenExistingProductPrice(createProductPrice(brandId, anotherProductId, validAt, validAt.plusDays(1), 0));
+        entityManager.flush();
+        entityManager.clear();
+        ProductPriceQuery query = new ProductPriceQuery(productId, brandId, validAt);
+        ProductPriceQuery anotherQuery = new ProductPriceQuery(anotherProductId, anotherBrandId, validAt);
+
+        // When
+        Map<ProductPriceQuery, List<ProductPrice>> result = productPriceRepository.getProductPrices(
+            List.of(query, anotherQuery, query)
+        );
+
+        // Then
+        assertThat(result).isEqualTo(Map.of(
+            query, List.of(productPrice),
+            anotherQuery, List.of(anotherProductPrice)
+        ));
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    void shouldGetProductPricesOverlappingGivenRange() {
+        // Given
+        ProductId productId = new ProductId(randomLong());
+        BrandId brandId = new BrandId(randomLong());
+        ProductPrice endingBeforeRange = createProductPrice(
+            brandId,
+            productId,
+            validAt.minusDays(3),
+            validAt.minusDays(2),
+            0
+        );
+        ProductPrice endingInRange = createProductPrice(
+            brandId,
+            productId,
+            validAt.minusDays(3),
+            validAt.minusHours(1),
+            0
+        );
+        ProductPrice startingInRange = createProductPrice(
+            brandId,
+            productId,
+            validAt.plusHours(1),
+            validAt.plusDays(3),
+            0
+        );
+        ProductPrice startingAfterRange = createProductPrice(
+            brandId,
+            productId,
+            validAt.plusDays(2),
+            validAt.plusDays(3),
+            0
+        );
+        givenExistingProductPrice(endingBeforeRange);
+        givenExistingProductPrice(endingInRange);
+        givenExistingProductPrice(startingInRange);
+        givenExistingProductPrice(startingAfterRange);
+
+        // When
+        List<ProductPrice> result = jpaProductPriceRepository.getOverlappingProductPrices(
+            productId,
+            brandId,
+            validAt.minusDays(1),
+            validAt.plusDays(1)
+        );
+
+        // Then
+        assertThat(result).containsExactlyInAnyOrder(endingInRange, startingInRange);
+    }
+
+    @Test
+    void shouldGetEveryPriceOfAProductWithoutKeepingThemInThePersistenceContext() {
+        // Given
+        ProductId productId = new ProductId(randomLong());
+        BrandId brandId = new BrandId(randomLong());
+        ProductPrice yesterdayPrice = createProductPrice(brandId, productId, validAt.minusDays(2), validAt, 0);
+        ProductPrice todayPrice = createProductPrice(brandId, productId, validAt, validAt.plusDays(2), 1);
+        givenExistingProductPrice(yesterdayPrice);
+        givenExistingProductPrice(todayPrice);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<ProductPrice> result = jpaProductPriceRepository.getAllProductPrices(productId, brandId);
+        List<ProductPrice> overlapping = jpaProductPriceRepository.getOverlappingProductPrices(
+            productId,
+            brandId,
+            validAt.plusHours(1),
+            validAt.plusHours(2)
+        );
+
+        // Then
+        assertThat(result).containsExactlyInAnyOrder(yesterdayPrice, todayPrice);
+        assertThat(overlapping).containsExactly(todayPrice);
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    void shouldGetOnlyTheProductPriceWithHighestPriority() {
+        // Given
+        ProductId productId = new ProductId(randomLong());
+        BrandId brandId = new BrandId(randomLong());
+        ProductPrice basePrice = createProductPrice(brandId, productId, validAt.minusDays(10), validAt.plusDays(10), 0);
+        ProductPrice promotion = createProductPrice(brandId, productId, validAt.minusDays(1), validAt.plusDays(1), 1);
+        ProductPrice expiredPromotion = createProductPrice(
+            brandId,
+            productId,
+            validAt.minusDays(3),
+            validAt.minusDays(2),
+            2
+        );
+        givenExistingProductPrice(basePrice);
+        givenExistingProductPrice(promotion);
+        givenExistingProductPrice(expiredPromotion);
+
+        // When
+        Optional<ProductPrice> result = productPriceRepository.getProductPrice(productId, brandId, validAt);
+
+        // Then
+        assertThat(result).contains(promotion);
+    }
+
+    @Test
+    void shouldBreakPriorityTiesByLatestStartDateAndThenByHighestPriceList() {
+        // Given
+        ProductId productId = new ProductId(randomLong());
+        BrandId brandId = new BrandId(randomLong());
+        ProductPrice olderPrice = createProductPrice(brandId, productId, validAt.minusDays(2), validAt.plusDays(1), 1);
+        ProductPrice newerPrice = createProductPrice(brandId, productId, validAt.minusDays(1), validAt.plusDays(1), 1);
+        ProductPrice newerPriceInHigherList = new ProductPrice(
+            brandId,
+            newerPrice.startDate(),
+            newerPrice.endDate(),
+            2,
+            productId,
+            1,
+            newerPrice.price()
+        );
+        givenExistingProductPrice(newerPriceInHigherList);
+        givenExistingProductPrice(olderPrice);
+        givenExistingProductPrice(newerPrice);
+
+        // When
+        Optional<ProductPrice> result = productPriceRepository.getProductPrice(productId, brandId, validAt);
+
+        // Then
+        assertThat(result).contains(newerPriceInHigherList);
+    }
+
+    @Test
+    void shouldGetTheWinningProductPriceUntilAnotherOneTakesOver() {
+        // Given
+        ProductId productId = new ProductId(randomLong());
+        BrandId brandId = new BrandId(randomLong());
+        ProductPrice basePrice = createProductPrice(brandId, productId, validAt.minusDays(10), validAt.plusDays(10), 1);
+        ProductPrice lowerPriority = createProductPrice(
+            brandId,
+            productId,
+            validAt.plusHours(1),
+            validAt.plusDays(1),
+            0
+        );
+        ProductPrice promotion = createProductPrice(brandId, productId, validAt.plusHours(2), validAt.plusDays(1), 1);
+        givenExistingProductPrice(basePrice);
+        givenExistingProductPrice(lowerPriority);
+        givenExistingProductPrice(promotion);
+
+        // When
+        Optional<WinningProductPrice> result = productPriceRepository.getWinningProductPrice(
+            productId,
+            brandId,
+            validAt
+        );
+
+        // Then
+        assertThat(result).contains(new WinningProductPrice(basePrice, promotion.startDate().minusNanos(1)));
+    }
+
+    @Test
+    void shouldGetTheWinningProductPriceUntilItEndsWhenNoneTakesOver() {
+        // Given
+        ProductId productId = new ProductId(randomLong());
+        BrandId brandId = new BrandId(randomLong());
+        ProductPrice promotion = createProductPrice(brandId, productId, validAt.minusDays(1), validAt.plusDays(1), 1);
+        ProductPrice afterPromotion = createProductPrice(
+            brandId,
+            productId,
+            validAt.plusDays(2),
+            validAt.plusDays(3),
+            1
+        );
+        givenExistingProductPrice(promotion);
+        givenExistingProductPrice(afterPromotion);
+
+        // When
+        Optional<WinningProductPrice> result = productPriceRepository.getWinningProductPrice(
+            productId,
+            brandId,
+            validAt
+        );
+
+        // Then
+        assertThat(result).contains(new WinningProductPrice(promotion, promotion.endDate()));
+    }
+
+    @Test
+    void shouldNotGetAnyProductPriceWhenNoneIsValidAtGivenDate() {
+        // When
+        Optional<ProductPrice> result = productPriceRepository.getProductPrice(
+            new ProductId(randomLong()),
+            new BrandId(randomLong()),
+            validAt
+        );
+
+        // Then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void shouldGetEveryPriceOfManyProductsAndBrandsAtOnce() {
+        // Given
+        ProductId productId = new ProductId(randomLong());
+        ProductId anotherProductId = new ProductId(productId.value() + 1);
+        ProductId unknownProductId = new ProductId(productId.value() + 2);
+        BrandId brandId = new BrandId(randomLong());
+        ProductPrice yesterdayPrice = createProductPrice(brandId, productId, validAt.minusDays(2), validAt, 0);
+        ProductPrice todayPrice = createProductPrice(brandId, productId, validAt, validAt.plusDays(2), 1);
+        ProductPrice anotherProductPrice = createProductPrice(
+            brandId,
+            anotherProductId,
+            validAt,
+            validAt.plusDays(1),
+            0
+        );
+        givenExistingProductPrice(yesterdayPrice);
+        givenExistingProductPrice(todayPrice);
+        givenExistingProductPrice(anotherProductPrice);
+        entityManager.flush();
+        ProductPriceKey key = new ProductPriceKey(brandId, productId);
+        ProductPriceKey anotherKey = new ProductPriceKey(brandId, anotherProductId);
+        ProductPriceKey unknownKey = new ProductPriceKey(brandId, unknownProductId);
+
+        // When
+        Map<ProductPriceKey, List<ProductPrice>> result = jpaProductPriceRepository.getAllProductPrices(
+            List.of(key, anotherKey, unknownKey)
+        );
+
+        // Then
+        assertThat(result).containsOnlyKeys(key, anotherKey, unknownKey);
+        assertThat(result.get(key)).containsExactlyInAnyOrder(yesterdayPrice, todayPrice);
+        assertThat(result.get(anotherKey)).containsExactly(anotherProductPrice);
+        assertThat(result.get(unknownKey)).isEmpty();
+    }
+
+    @Test
+    void shouldPassEveryPriceSortedByBrandProductAndStartDate() {
+        // Given
+        ProductId productId = new ProductId(randomLong());
+        ProductId anotherProductId = new ProductId(productId.value() + 1);
+        BrandId brandId = new BrandId(randomLong());
+        ProductPrice anotherProductPrice = createProductPrice(
+            brandId,
+            anotherProductId,
+            validAt,
+            validAt.plusDays(1),
+            0
+        );
+        ProductPrice todayPrice = createProductPrice(brandId, productId, validAt, validAt.plusDays(2), 1);
+        ProductPrice yesterdayPrice = createProductPrice(brandId, productId, validAt.minusDays(2), validAt, 0);
+        givenExistingProductPrice(anotherProductPrice);
+        givenExistingProductPrice(todayPrice);
+        givenExistingProductPrice(yesterdayPrice);
+        entityManager.flush();
+
+        // When
+        List<ProductPrice> result = new ArrayList<>();
+        jpaProductPriceRepository.forEachProductPriceInKeyOrder(result::add);
+
+        // Then
+        assertThat(result).isSortedAccordingTo(ProductPriceSource.KEY_ORDER);
+        assertThat(result)
+            .filteredOn(productPrice -> productPrice.brandId().equals(brandId))
+            .containsExactly(yesterdayPrice, todayPrice, anotherProductPrice);
+    }
+
+    @Test
+    void shouldGetEveryPriceWithoutKeepingThemInThePersistenceContext() {
+        // Given
+        ProductPrice productPrice = createProductPrice(
+            new BrandId(randomLong()),
+            new ProductId(randomLong()),
+            validAt.minusDays(1),
+            validAt.plusDays(1),
+            0
+        );
+        givenExistingProductPrice(productPrice);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<ProductPrice> result = jpaProductPriceRepository.getAllProductPrices();
+
+        // Then
+        assertThat(result).contains(productPrice).isSortedAccordingTo(ProductPriceSource.KEY_ORDER);
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    void shouldGetEveryProductAndBrandWithPricesOnce() {
+        // Given
+        ProductId productId = new ProductId(randomLong());
+        ProductId anotherProductId = new ProductId(productId.value() + 1);
+        BrandId brandId = new BrandId(randomLong());
+        givenExistingProductPrice(createProductPrice(brandId, productId, validAt.minusDays(2), validAt, 0));
+        givenExistingProductPrice(createProductPrice(brandId, productId, validAt, validAt.plusDays(2), 1));
+        givenExistingProductPrice(createProductPrice(brandId, anotherProductId, validAt, validAt.plusDays(1), 0));
+
+        // When
+        List<ProductPriceKey> result = jpaProductPriceRepository.getAllProductPriceKeys();
+
+        // Then
+        assertThat(result)
+            .contains(new ProductPriceKey(brandId, productId), new ProductPriceKey(brandId, anotherProductId))
+            .doesNotHaveDuplicates();
+    }
+
     private void givenExistingProductPrice(ProductPrice productPrice) {
         ProductPriceEntity entity = new ProductPriceEntity();
         entity.setId(UUID.randomUUID());
@@ -0,0 +1,137 @@
+package com.challenge.productservice.infrastructure.database;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.infrastructure.config.DatabaseConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs {@code EXPLAIN} on the SQL generated for the lookup queries and fails if H2 stops resolving them through the
+ * lookup index of {@code schema.sql}, or if a lookup takes more statements than expected.
+ */
+@ExtendWith(SpringExtension.class)
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.challenge.productservice.infrastructure.database.RecordingStatementInspector"
+})
+@Import({
+        DatabaseConfig.class,
+        SimpleMeterRegistry.class
+})
+class ProductPriceQueryPlanIntegrationTest {
+
+    private static final String LOOKUP_INDEX = "IDX_PRICES_LOOKUP";
+    private static final String TABLE_SCAN = "tableScan";
+
+    @Autowired
+    private JpaProductPriceRepository jpaProductPriceRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    long productId = 35455;
+    long brandId = 1;
+    LocalDateTime validAt = LocalDateTime.parse("2020-06-14T16:00:00");
+
+    @Test
+    void shouldResolveTheWinningPriceThroughTheLookupIndex() {
+        // When
+        String plan = explain(() -> jpaProductPriceRepository.findProductPriceRowsByPrecedence(
+            productId,
+            brandId,
+            validAt,
+            Limit.of(1)
+        ));
+
+        // Then
+        assertThat(plan).contains(LOOKUP_INDEX).doesNotContain(TABLE_SCAN);
+    }
+
+    @Test
+    void shouldResolveTheWinningPriceAndWhenItStopsWinningThroughTheLookupIndex() {
+        // When
+        String plan = explain(
+            () -> jpaProductPriceRepository.findWinningProductPriceRowsByPrecedence(
+                productId,
+                brandId,
+                validAt,
+                Limit.of(1)
+            ),
+            List.of(validAt, productId, brandId, validAt, validAt)
+        );
+
+        // Then
+        assertThat(plan).contains(LOOKUP_INDEX).doesNotContain(TABLE_SCAN);
+    }
+
+    @Test
+    void shouldResolveTheWinningPriceAndWhenItStopsWinningWithASingleStatement() {
+        // Given
+        RecordingStatementInspector.clear();
+
+        // When
+        jpaProductPriceRepository.getWinningProductPrice(new ProductId(productId), new BrandId(brandId), validAt);
+
+        // Then
+        assertThat(RecordingStatementInspector.statements()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldListThePricesValidAtGivenDateThroughTheLookupIndex() {
+        // When
+        String plan = explain(() -> jpaProductPriceRepository.findProductPriceRows(productId, brandId, validAt));
+
+        // Then
+        assertThat(plan).contains(LOOKUP_INDEX).doesNotContain(TABLE_SCAN);
+    }
+
+    @Test
+    void shouldListThePricesOverlappingGivenRangeThroughTheLookupIndex() {
+        // When
+        String plan = explain(() -> jpaProductPriceRepository.findOverlappingProductPriceRows(
+            productId,
+            brandId,
+            validAt,
+            validAt
+        ));
+
+        // Then
+        assertThat(plan).contains(LOOKUP_INDEX).doesNotContain(TABLE_SCAN);
+    }
+
+    /**
+     * Runs the query to capture its SQL and explains it. Most queries bind the product, the brand and two dates, in
+     * that order, and any parameter left is a row limit.
+     */
+    private String explain(Runnable query) {
+        return explain(query, List.of(productId, brandId, validAt, validAt));
+    }
+
+    private String explain(Runnable query, List<Object> boundParameters) {
+        RecordingStatementInspector.clear();
+        query.run();
+        String sql = RecordingStatementInspector.lastStatement();
+        assertThat(sql).isNotNull();
+
+        List<Object> parameters = new ArrayList<>(boundParameters);
+        long placeholders = sql.chars().filter(character -> character == '?').count();
+        while (parameters.size() < placeholders) {
+            parameters.add(1);
+        }
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, parameters.toArray());
+    }
+}
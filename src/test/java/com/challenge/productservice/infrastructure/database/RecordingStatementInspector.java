@@ -0,0 +1,35 @@
+package com.challenge.productservice.infrastructure.database;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps the last SQL statement generated by Hibernate and counts them, so that tests can check how they are executed
+ * by the database and how many round trips a lookup takes.
+ */
+public class RecordingStatementInspector implements StatementInspector {
+
+    private static final AtomicInteger statements = new AtomicInteger();
+    private static volatile String lastStatement;
+
+    @Override
+    public String inspect(String sql) {
+        lastStatement = sql;
+        statements.incrementAndGet();
+        return sql;
+    }
+
+    static String lastStatement() {
+        return lastStatement;
+    }
+
+    static int statements() {
+        return statements.get();
+    }
+
+    static void clear() {
+        lastStatement = null;
+        statements.set(0);
+    }
+}
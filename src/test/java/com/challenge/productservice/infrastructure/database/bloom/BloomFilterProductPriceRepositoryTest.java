@@ -0,0 +1,177 @@
+package com.challenge.productservice.infrastructure.database.bloom;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.Price;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceQuery;
+import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import com.challenge.productservice.domain.productprice.WinningProductPrice;
+import com.challenge.productservice.infrastructure.database.ProductPriceKey;
+import com.challenge.productservice.infrastructure.database.ProductPriceSource;
+import com.challenge.productservice.infrastructure.database.ReloadableProductPriceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+class BloomFilterProductPriceRepositoryTest {
+    private final ProductPriceRepository delegate = mock(ProductPriceRepository.class);
+    private final ProductPriceSource productPriceSource = mock(ProductPriceSource.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    ProductId productId = new ProductId(35455);
+    ProductId unknownProductId = new ProductId(99999);
+    BrandId brandId = new BrandId(1);
+    LocalDateTime validAt = LocalDateTime.parse("2020-06-14T16:00:00");
+    ProductPrice productPrice = new ProductPrice(
+        brandId,
+        validAt.minusDays(1),
+        validAt.plusDays(1),
+        1,
+        productId,
+        0,
+        new Price(new BigDecimal("35.50"), Monetary.getCurrency("EUR"))
+    );
+
+    @Test
+    void shouldNotReachTheRepositoryForUnknownProducts() {
+        // Given
+        BloomFilterProductPriceRepository repository = givenRepositoryWithProducts(productId);
+
+        // When
+        Optional<WinningProductPrice> result = repository.getWinningProductPrice(unknownProductId, brandId, validAt);
+        Optional<ProductPrice> anotherBrandResult = repository.getProductPrice(productId, new BrandId(2), validAt);
+
+        // Then
+        assertThat(result).isEmpty();
+        assertThat(anotherBrandResult).isEmpty();
+        verify(delegate, never()).getWinningProductPrice(any(), any(), any());
+        verify(delegate, never()).getProductPrice(any(), any(), any());
+        assertThat(lookups("filtered")).isEqualTo(2);
+    }
+
+    @Test
+    void shouldLookUpKnownProductsInTheRepository() {
+        // Given
+        BloomFilterProductPriceRepository repository = givenRepositoryWithProducts(productId);
+        WinningProductPrice winningProductPrice = new WinningProductPrice(productPrice, productPrice.endDate());
+        when(delegate.getWinningProductPrice(productId, brandId, validAt)).thenReturn(Optional.of(winningProductPrice));
+
+        // When
+        Optional<WinningProductPrice> result = repository.getWinningProductPrice(productId, brandId, validAt);
+        Optional<WinningProductPrice> beforeAnyPrice = repository.getWinningProductPrice(
+            productId,
+            brandId,
+            validAt.minusYears(1)
+        );
+
+        // Then
+        assertThat(result).contains(winningProductPrice);
+        assertThat(beforeAnyPrice).isEmpty();
+        assertThat(lookups("found")).isEqualTo(1);
+        assertThat(lookups("not_found")).isEqualTo(1);
+        assertThat(lookups("filtered")).isZero();
+    }
+
+    @Test
+    void shouldOnlySendTheQueriesOfKnownProductsToTheRepository() {
+        // Given
+        BloomFilterProductPriceRepository repository = givenRepositoryWithProducts(productId);
+        ProductPriceQuery query = new ProductPriceQuery(productId, brandId, validAt);
+        ProductPriceQuery unknownQuery = new ProductPriceQuery(unknownProductId, brandId, validAt);
+        when(delegate.getProductPrices(List.of(query))).thenReturn(Map.of(query, List.of(productPrice)));
+
+        // When
+        Map<ProductPriceQuery, List<ProductPrice>> result = repository.getProductPrices(List.of(query, unknownQuery));
+
+        // Then
+        assertThat(result).containsExactlyInAnyOrderEntriesOf(Map.of(
+            query, List.of(productPrice),
+            unknownQuery, List.of()
+        ));
+        verify(delegate).getProductPrices(List.of(query));
+    }
+
+    @Test
+    void shouldLookUpProductsAddedAfterTheFilterWasBuilt() {
+        // Given
+        BloomFilterProductPriceRepository repository = givenRepositoryWithProducts(productId);
+        when(delegate.getProductPrices(unknownProductId, brandId, validAt)).thenReturn(List.of(productPrice));
+
+        // When
+        repository.onProductPricesChanged(unknownProductId, brandId);
+        List<ProductPrice> result = repository.getProductPrices(unknownProductId, brandId, validAt);
+
+        // Then
+        assertThat(result).containsExactly(productPrice);
+    }
+
+    @Test
+    void shouldFilterOutProductsLeftWithoutPricesAfterReload() {
+        // Given
+        BloomFilterProductPriceRepository repository = givenRepositoryWithProducts(productId);
+        when(productPriceSource.getAllProductPriceKeys()).thenReturn(List.of());
+
+        // When
+        boolean reloaded = repository.reload();
+        List<ProductPrice> result = repository.getProductPrices(productId, brandId, validAt);
+
+        // Then
+        assertThat(reloaded).isTrue();
+        assertThat(result).isEmpty();
+        verify(delegate, never()).getProductPrices(productId, brandId, validAt);
+    }
+
+    @Test
+    void shouldRebuildTheFilterOnceTheRepositoryItWrapsIsReloaded() {
+        // Given
+        ProductPriceRepository reloadableDelegate = mock(
+            ProductPriceRepository.class,
+            withSettings().extraInterfaces(ReloadableProductPriceRepository.class)
+        );
+        when(productPriceSource.getAllProductPriceKeys()).thenReturn(List.of());
+        BloomFilterProductPriceRepository repository = new BloomFilterProductPriceRepository(
+            reloadableDelegate,
+            productPriceSource,
+            100,
+            0.01,
+            meterRegistry
+        );
+        InOrder inOrder = inOrder(reloadableDelegate, productPriceSource);
+
+        // When
+        repository.reload();
+
+        // Then
+        inOrder.verify((ReloadableProductPriceRepository) reloadableDelegate).reload();
+        inOrder.verify(productPriceSource).getAllProductPriceKeys();
+    }
+
+    private BloomFilterProductPriceRepository givenRepositoryWithProducts(ProductId... productIds) {
+        List<ProductPriceKey> keys = List.of(productIds).stream()
+            .map(id -> new ProductPriceKey(brandId, id))
+            .toList();
+        when(productPriceSource.getAllProductPriceKeys()).thenReturn(keys);
+        return new BloomFilterProductPriceRepository(delegate, productPriceSource, 100, 0.01, meterRegistry);
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get(BloomFilterProductPriceRepository.LOOKUPS).tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,66 @@
+package com.challenge.productservice.infrastructure.database.bloom;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.infrastructure.database.ProductPriceKey;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductPriceKeyBloomFilterTest {
+    private static final int KEYS = 10_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final ProductPriceKeyBloomFilter filter = new ProductPriceKeyBloomFilter(KEYS, FALSE_POSITIVE_RATE);
+
+    @Test
+    void shouldContainEveryAddedKey() {
+        // Given
+        List<ProductPriceKey> keys = keys(0, KEYS);
+
+        // When
+        keys.forEach(filter::add);
+
+        // Then
+        assertThat(keys).allMatch(filter::mightContain);
+    }
+
+    @Test
+    void shouldKeepFalsePositivesCloseToTheConfiguredRate() {
+        // Given
+        keys(0, KEYS).forEach(filter::add);
+
+        // When
+        long falsePositives = keys(KEYS, 2 * KEYS).stream().filter(filter::mightContain).count();
+
+        // Then
+        assertThat((double) falsePositives / KEYS).isLessThan(2 * FALSE_POSITIVE_RATE);
+        assertThat(filter.expectedFalsePositiveRate()).isBetween(FALSE_POSITIVE_RATE / 2, 2 * FALSE_POSITIVE_RATE);
+    }
+
+    @Test
+    void shouldNotContainAnyKeyWhenEmpty() {
+        // When
+        boolean result = filter.mightContain(new ProductPriceKey(new BrandId(1), new ProductId(35455)));
+
+        // Then
+        assertThat(result).isFalse();
+        assertThat(filter.expectedFalsePositiveRate()).isZero();
+    }
+
+    @Test
+    void shouldRejectAnInvalidFalsePositiveRate() {
+        assertThatThrownBy(() -> new ProductPriceKeyBloomFilter(KEYS, 1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<ProductPriceKey> keys(long fromProduct, long toProduct) {
+        return LongStream.range(fromProduct, toProduct)
+            .mapToObj(product -> new ProductPriceKey(new BrandId(1 + product % 3), new ProductId(product)))
+            .toList();
+    }
+}
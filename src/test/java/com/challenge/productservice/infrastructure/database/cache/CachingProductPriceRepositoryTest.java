@@ -0,0 +1,129 @@
+package com.challenge.productservice.infrastructure.database.cache;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.Price;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.infrastructure.database.ProductPriceSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingProductPriceRepositoryTest {
+    private final ProductPriceSource productPriceSource = mock(ProductPriceSource.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CachingProductPriceRepository repository = new CachingProductPriceRepository(
+        productPriceSource,
+        100,
+        meterRegistry
+    );
+
+    ProductId productId = new ProductId(35455);
+    BrandId brandId = new BrandId(1);
+    LocalDateTime validAt = LocalDateTime.parse("2020-06-14T16:00:00");
+    ProductPrice basePrice = createProductPrice(validAt.minusDays(1), validAt.plusDays(1), 0);
+    ProductPrice promotion = createProductPrice(validAt.minusHours(1), validAt.plusHours(1), 1);
+
+    @Test
+    void shouldServeLaterLookupsOfTheSameProductFromTheCache() {
+        // Given
+        when(productPriceSource.getAllProductPrices(productId, brandId)).thenReturn(List.of(basePrice, promotion));
+
+        // When
+        List<ProductPrice> first = repository.getProductPrices(productId, brandId, validAt);
+        List<ProductPrice> secondsLater = repository.getProductPrices(productId, brandId, validAt.plusSeconds(5));
+        List<ProductPrice> afterPromotion = repository.getProductPrices(productId, brandId, validAt.plusHours(2));
+
+        // Then
+        assertThat(first).containsExactly(promotion);
+        assertThat(secondsLater).containsExactly(promotion);
+        assertThat(afterPromotion).containsExactly(basePrice);
+        verify(productPriceSource, times(1)).getAllProductPrices(productId, brandId);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCacheProductsWithoutPrices() {
+        // Given
+        when(productPriceSource.getAllProductPrices(productId, brandId)).thenReturn(List.of());
+
+        // When
+        List<ProductPrice> first = repository.getProductPrices(productId, brandId, validAt);
+        List<ProductPrice> second = repository.getProductPrices(productId, brandId, validAt);
+
+        // Then
+        assertThat(first).isEmpty();
+        assertThat(second).isEmpty();
+        verify(productPriceSource, times(1)).getAllProductPrices(productId, brandId);
+    }
+
+    @Test
+    void shouldReloadTheProductAfterItIsInvalidated() {
+        // Given
+        when(productPriceSource.getAllProductPrices(productId, brandId)).thenReturn(List.of(basePrice));
+        repository.getProductPrices(productId, brandId, validAt);
+        when(productPriceSource.getAllProductPrices(productId, brandId)).thenReturn(List.of(basePrice, promotion));
+
+        // When
+        repository.invalidate(productId, brandId);
+        List<ProductPrice> result = repository.getProductPrices(productId, brandId, validAt);
+
+        // Then
+        assertThat(result).containsExactly(promotion);
+        verify(productPriceSource, times(2)).getAllProductPrices(productId, brandId);
+    }
+
+    @Test
+    void shouldReloadEveryProductAfterInvalidatingAll() {
+        // Given
+        when(productPriceSource.getAllProductPrices(productId, brandId)).thenReturn(List.of(basePrice));
+        repository.getProductPrices(productId, brandId, validAt);
+
+        // When
+        repository.invalidateAll();
+        repository.getProductPrices(productId, brandId, validAt);
+
+        // Then
+        verify(productPriceSource, times(2)).getAllProductPrices(productId, brandId);
+    }
+
+    @Test
+    void shouldReloadEveryProductAfterAReload() {
+        // Given
+        when(productPriceSource.getAllProductPrices(productId, brandId)).thenReturn(List.of(basePrice));
+        repository.getProductPrices(productId, brandId, validAt);
+        when(productPriceSource.getAllProductPrices(productId, brandId)).thenReturn(List.of(basePrice, promotion));
+
+        // When
+        boolean reloaded = repository.reload();
+        List<ProductPrice> result = repository.getProductPrices(productId, brandId, validAt);
+
+        // Then
+        assertThat(reloaded).isTrue();
+        assertThat(result).containsExactly(promotion);
+        verify(productPriceSource, times(2)).getAllProductPrices(productId, brandId);
+    }
+
+    private ProductPrice createProductPrice(LocalDateTime startDate, LocalDateTime endDate, int priority) {
+        return new ProductPrice(
+            brandId,
+            startDate,
+            endDate,
+            1,
+            productId,
+            priority,
+            new Price(new BigDecimal("9.99"), Monetary.getCurrency("EUR"))
+        );
+    }
+}
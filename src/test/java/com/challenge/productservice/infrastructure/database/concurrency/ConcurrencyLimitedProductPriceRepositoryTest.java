@@ -0,0 +1,113 @@
+package com.challenge.productservice.infrastructure.database.concurrency;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.Price;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceQuery;
+import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ConcurrencyLimitedProductPriceRepositoryTest {
+    private final ProductPriceRepository delegate = mock(ProductPriceRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConcurrencyLimitedProductPriceRepository repository = new ConcurrencyLimitedProductPriceRepository(
+        delegate,
+        new ConcurrencyLimit(1, Duration.ofMillis(50), meterRegistry)
+    );
+
+    ProductId productId = new ProductId(35455);
+    BrandId brandId = new BrandId(1);
+    LocalDateTime validAt = LocalDateTime.parse("2020-06-14T16:00:00");
+    ProductPrice productPrice = new ProductPrice(
+        brandId,
+        validAt.minusDays(1),
+        validAt.plusDays(1),
+        1,
+        productId,
+        0,
+        new Price(new BigDecimal("9.99"), Monetary.getCurrency("EUR"))
+    );
+
+    @Test
+    void shouldForwardLookupsToTheDelegate() {
+        // Given
+        ProductPriceQuery query = new ProductPriceQuery(productId, brandId, validAt);
+        when(delegate.getProductPrices(productId, brandId, validAt)).thenReturn(List.of(productPrice));
+        when(delegate.getProductPrice(productId, brandId, validAt)).thenReturn(Optional.of(productPrice));
+        when(delegate.getProductPrices(List.of(query))).thenReturn(Map.of(query, List.of(productPrice)));
+
+        // When
+        List<ProductPrice> single = repository.getProductPrices(productId, brandId, validAt);
+        Optional<ProductPrice> resolved = repository.getProductPrice(productId, brandId, validAt);
+        Map<ProductPriceQuery, List<ProductPrice>> batch = repository.getProductPrices(List.of(query));
+
+        // Then
+        assertThat(single).containsExactly(productPrice);
+        assertThat(resolved).contains(productPrice);
+        assertThat(batch).containsExactly(Map.entry(query, List.of(productPrice)));
+        assertThat(meterRegistry.get(ConcurrencyLimit.AVAILABLE_PERMITS).gauge().value())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectLookupsThatWaitLongerThanTheTimeout() throws Exception {
+        // Given
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.getProductPrices(productId, brandId, validAt)).thenAnswer(invocation -> {
+            running.countDown();
+            release.await();
+            return List.of(productPrice);
+        });
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<List<ProductPrice>> holder = executor.submit(
+                () -> repository.getProductPrices(productId, brandId, validAt)
+            );
+            running.await();
+
+            // When / Then
+            assertThatThrownBy(() -> repository.getProductPrices(productId, brandId, validAt))
+                .isInstanceOf(ProductPriceRepositoryOverloadedException.class);
+            release.countDown();
+            assertThat(holder.get()).containsExactly(productPrice);
+        }
+        assertThat(meterRegistry.get(ConcurrencyLimit.REJECTED).counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void shouldReleaseThePermitWhenTheLookupFails() {
+        // Given
+        when(delegate.getProductPrices(productId, brandId, validAt))
+            .thenThrow(new IllegalStateException("Database down"))
+            .thenReturn(List.of(productPrice));
+
+        // When
+        assertThatThrownBy(() -> repository.getProductPrices(productId, brandId, validAt))
+            .isInstanceOf(IllegalStateException.class);
+        List<ProductPrice> result = repository.getProductPrices(productId, brandId, validAt);
+
+        // Then
+        assertThat(result).containsExactly(productPrice);
+    }
+}
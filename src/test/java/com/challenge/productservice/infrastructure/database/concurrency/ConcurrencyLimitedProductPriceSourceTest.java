@@ -0,0 +1,120 @@
+package com.challenge.productservice.infrastructure.database.concurrency;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.Price;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.infrastructure.database.ProductPriceSource;
+import com.challenge.productservice.infrastructure.database.singleflight.SingleFlightProductPriceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ConcurrencyLimitedProductPriceSourceTest {
+    private final ProductPriceSource delegate = mock(ProductPriceSource.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConcurrencyLimitedProductPriceSource source = new ConcurrencyLimitedProductPriceSource(
+        delegate,
+        new ConcurrencyLimit(1, Duration.ofMillis(50), meterRegistry)
+    );
+
+    ProductId productId = new ProductId(35455);
+    BrandId brandId = new BrandId(1);
+    LocalDateTime validAt = LocalDateTime.parse("2020-06-14T16:00:00");
+    ProductPrice productPrice = new ProductPrice(
+        brandId,
+        validAt.minusDays(1),
+        validAt.plusDays(1),
+        1,
+        productId,
+        0,
+        new Price(new BigDecimal("9.99"), Monetary.getCurrency("EUR"))
+    );
+
+    @Test
+    void shouldRejectReadsThatWaitLongerThanTheTimeout() throws Exception {
+        // Given
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.getOverlappingProductPrices(productId, brandId, validAt, validAt)).thenAnswer(invocation -> {
+            running.countDown();
+            release.await();
+            return List.of(productPrice);
+        });
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<List<ProductPrice>> holder = executor.submit(
+                () -> source.getOverlappingProductPrices(productId, brandId, validAt, validAt)
+            );
+            running.await();
+
+            // When / Then
+            assertThatThrownBy(() -> source.getOverlappingProductPrices(productId, brandId, validAt, validAt))
+                .isInstanceOf(ProductPriceRepositoryOverloadedException.class);
+            release.countDown();
+            assertThat(holder.get()).containsExactly(productPrice);
+        }
+    }
+
+    @Test
+    void shouldNotHoldPermitsForLookupsWaitingForOneAlreadyInFlight() throws Exception {
+        // Given
+        int callers = 4;
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.getOverlappingProductPrices(eq(productId), eq(brandId), any(), any())).thenAnswer(invocation -> {
+            release.await();
+            return List.of(productPrice);
+        });
+        SingleFlightProductPriceRepository repository = new SingleFlightProductPriceRepository(
+            source,
+            Duration.ofMinutes(1),
+            meterRegistry
+        );
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        try {
+            // When
+            List<Future<List<ProductPrice>>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> repository.getProductPrices(productId, brandId, validAt)));
+            }
+            while (coalescedFlights() < callers - 1) {
+                Thread.onSpinWait();
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            // Then
+            for (Future<List<ProductPrice>> result : results) {
+                assertThat(result.get()).containsExactly(productPrice);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(meterRegistry.get(ConcurrencyLimit.REJECTED).counter().count()).isZero();
+    }
+
+    private double coalescedFlights() {
+        return meterRegistry.get(SingleFlightProductPriceRepository.FLIGHTS)
+            .tag("result", "coalesced")
+            .counter()
+            .count();
+    }
+}
@@ -0,0 +1,153 @@
+package com.challenge.productservice.infrastructure.database.inmemory;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.infrastructure.database.ProductPriceKey;
+import com.challenge.productservice.infrastructure.database.inmemory.CopyOnWriteProductPriceIndex.Version;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CopyOnWriteProductPriceIndexTest {
+    private static final int PRODUCTS = 1_000;
+    private static final int READERS = 4;
+    private static final int GENERATIONS = 500;
+
+    private final CopyOnWriteProductPriceIndex<Integer> index = new CopyOnWriteProductPriceIndex<>();
+
+    ProductPriceKey key = new ProductPriceKey(new BrandId(1), new ProductId(35455));
+    ProductPriceKey anotherKey = new ProductPriceKey(new BrandId(1), new ProductId(35456));
+
+    @Test
+    void shouldPublishANewVersionWithoutChangingThePreviousOne() {
+        // Given
+        Version<Integer> previous = index.replaceAll(Map.of(key, 1, anotherKey, 1));
+
+        // When
+        Version<Integer> next = index.replace(key, 2);
+
+        // Then
+        assertThat(index.current()).isSameAs(next);
+        assertThat(next.number()).isEqualTo(previous.number() + 1);
+        assertThat(next.entries()).containsExactlyInAnyOrderEntriesOf(Map.of(key, 2, anotherKey, 1));
+        assertThat(previous.entries()).containsExactlyInAnyOrderEntriesOf(Map.of(key, 1, anotherKey, 1));
+    }
+
+    @Test
+    void shouldRemoveTheProductReplacedWithoutEntry() {
+        // Given
+        index.replaceAll(Map.of(key, 1, anotherKey, 1));
+
+        // When
+        index.replace(key, null);
+
+        // Then
+        assertThat(index.get(key)).isNull();
+        assertThat(index.get(anotherKey)).isEqualTo(1);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReplaceManyProductsInASingleVersion() {
+        // Given
+        ProductPriceKey newKey = new ProductPriceKey(new BrandId(1), new ProductId(35457));
+        Version<Integer> previous = index.replaceAll(Map.of(key, 1, anotherKey, 1));
+        Map<ProductPriceKey, Integer> changes = new HashMap<>();
+        changes.put(key, 2);
+        changes.put(anotherKey, null);
+        changes.put(newKey, 3);
+
+        // When
+        Version<Integer> next = index.replace(changes);
+
+        // Then
+        assertThat(next.number()).isEqualTo(previous.number() + 1);
+        assertThat(next.entries()).containsExactlyInAnyOrderEntriesOf(Map.of(key, 2, newKey, 3));
+    }
+
+    @Test
+    void shouldNeverExposeAVersionBeingBuiltToConcurrentReaders() throws Exception {
+        // Given
+        List<ProductPriceKey> keys = IntStream.range(0, PRODUCTS)
+            .mapToObj(product -> new ProductPriceKey(new BrandId(1), new ProductId(product)))
+            .toList();
+        index.replaceAll(generation(keys, 0));
+        AtomicBoolean writing = new AtomicBoolean(true);
+        CountDownLatch start = new CountDownLatch(1);
+        ConcurrentLinkedQueue<String> violations = new ConcurrentLinkedQueue<>();
+
+        // When
+        List<Future<Long>> readers = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(READERS + 1)) {
+            for (int reader = 0; reader < READERS; reader++) {
+                readers.add(executor.submit(() -> read(keys, writing, start, violations)));
+            }
+            executor.submit(() -> {
+                start.countDown();
+                for (int generation = 1; generation <= GENERATIONS; generation++) {
+                    index.replaceAll(generation(keys, generation));
+                }
+                writing.set(false);
+            });
+        }
+
+        // Then
+        assertThat(violations).isEmpty();
+        for (Future<Long> reader : readers) {
+            assertThat(reader.get()).isPositive();
+        }
+        assertThat(index.current().get(keys.getFirst())).isEqualTo(GENERATIONS);
+    }
+
+    /**
+     * Reads whole versions while they are being replaced, recording any version missing products, mixing entries of
+     * different generations or older than one already read.
+     */
+    private long read(
+        List<ProductPriceKey> keys,
+        AtomicBoolean writing,
+        CountDownLatch start,
+        ConcurrentLinkedQueue<String> violations
+    ) throws InterruptedException {
+        start.await();
+        long reads = 0;
+        long lastNumber = -1;
+        do {
+            Version<Integer> version = index.current();
+            if (version.number() < lastNumber) {
+                violations.add("Version " + version.number() + " read after " + lastNumber);
+            }
+            lastNumber = version.number();
+            if (version.entries().size() != keys.size()) {
+                violations.add("Version " + version.number() + " holds " + version.entries().size() + " products");
+            }
+            Integer generation = version.get(keys.getFirst());
+            for (ProductPriceKey productKey : keys) {
+                if (!generation.equals(version.get(productKey))) {
+                    violations.add("Version " + version.number() + " mixes generations");
+                    break;
+                }
+            }
+            reads++;
+        } while (writing.get());
+        return reads;
+    }
+
+    private static Map<ProductPriceKey, Integer> generation(List<ProductPriceKey> keys, int generation) {
+        Map<ProductPriceKey, Integer> entries = new HashMap<>();
+        keys.forEach(productKey -> entries.put(productKey, generation));
+        return entries;
+    }
+}
@@ -0,0 +1,220 @@
+package com.challenge.productservice.infrastructure.database.inmemory;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.Price;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.WinningProductPrice;
+import com.challenge.productservice.infrastructure.database.ProductPriceSource;
+import org.junit.jupiter.api.Test;
+
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IntervalTreeProductPriceRepositoryTest {
+    private final ProductPriceSource productPriceSource = mock(ProductPriceSource.class);
+
+    ProductId productId = new ProductId(35455);
+    BrandId brandId = new BrandId(1);
+    LocalDateTime validAt = LocalDateTime.parse("2020-06-14T16:00:00");
+
+    @Test
+    void shouldGetAllProductPricesValidAtGivenDate() {
+        // Given
+        ProductPrice wholeYear = createProductPrice(validAt.minusDays(10), validAt.plusMonths(6), 0);
+        ProductPrice afternoon = createProductPrice(validAt.minusHours(1), validAt.plusHours(2), 1);
+        ProductPrice yesterday = createProductPrice(validAt.minusDays(1), validAt.minusHours(20), 1);
+        ProductPrice tomorrow = createProductPrice(validAt.plusDays(1), validAt.plusDays(2), 1);
+        givenExistingProductPrices(List.of(tomorrow, afternoon, yesterday, wholeYear));
+        IntervalTreeProductPriceRepository repository = new IntervalTreeProductPriceRepository(productPriceSource);
+
+        // When
+        List<ProductPrice> result = repository.getProductPrices(productId, brandId, validAt);
+
+        // Then
+        assertThat(result).containsExactlyInAnyOrder(wholeYear, afternoon);
+    }
+
+    @Test
+    void shouldGetProductPriceWhenStartOrEndDateIsEqualToValidAtDate() {
+        // Given
+        ProductPrice endingAtValidAt = createProductPrice(validAt.minusDays(1), validAt, 0);
+        ProductPrice startingAtValidAt = createProductPrice(validAt, validAt.plusDays(1), 0);
+        givenExistingProductPrices(List.of(endingAtValidAt, startingAtValidAt));
+        IntervalTreeProductPriceRepository repository = new IntervalTreeProductPriceRepository(productPriceSource);
+
+        // When
+        List<ProductPrice> result = repository.getProductPrices(productId, brandId, validAt);
+
+        // Then
+        assertThat(result).containsExactlyInAnyOrder(endingAtValidAt, startingAtValidAt);
+    }
+
+    @Test
+    void shouldGetTheWinningProductPrice() {
+        // Given
+        ProductPrice wholeYear = createProductPrice(validAt.minusDays(10), validAt.plusMonths(6), 0);
+        ProductPrice afternoon = createProductPrice(validAt.minusHours(1), validAt.plusHours(2), 1);
+        ProductPrice lastHour = createProductPrice(validAt.minusMinutes(30), validAt.plusMinutes(30), 1);
+        ProductPrice tomorrow = createProductPrice(validAt.plusDays(1), validAt.plusDays(2), 2);
+        givenExistingProductPrices(List.of(tomorrow, lastHour, afternoon, wholeYear));
+        IntervalTreeProductPriceRepository repository = new IntervalTreeProductPriceRepository(productPriceSource);
+
+        // When
+        Optional<ProductPrice> result = repository.getProductPrice(productId, brandId, validAt);
+
+        // Then
+        assertThat(result).contains(lastHour);
+    }
+
+    @Test
+    void shouldGetTheWinningProductPriceUntilAnotherOneTakesOver() {
+        // Given
+        ProductPrice wholeYear = createProductPrice(validAt.minusDays(10), validAt.plusMonths(6), 0);
+        ProductPrice afternoon = createProductPrice(validAt.minusHours(1), validAt.plusHours(2), 1);
+        ProductPrice lowerPriority = createProductPrice(validAt.plusMinutes(30), validAt.plusHours(3), 0);
+        ProductPrice laterPromotion = createProductPrice(validAt.plusHours(1), validAt.plusHours(3), 1);
+        givenExistingProductPrices(List.of(laterPromotion, lowerPriority, afternoon, wholeYear));
+        IntervalTreeProductPriceRepository repository = new IntervalTreeProductPriceRepository(productPriceSource);
+
+        // When
+        Optional<WinningProductPrice> result = repository.getWinningProductPrice(productId, brandId, validAt);
+        Optional<WinningProductPrice> afterPromotion = repository.getWinningProductPrice(
+            productId,
+            brandId,
+            validAt.plusHours(4)
+        );
+
+        // Then
+        assertThat(result).contains(new WinningProductPrice(afternoon, laterPromotion.startDate().minusNanos(1)));
+        assertThat(afterPromotion).contains(new WinningProductPrice(wholeYear, wholeYear.endDate()));
+    }
+
+    @Test
+    void shouldMatchTheSameResultsAsALinearScan() {
+        // Given
+        List<ProductPrice> productPrices = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            LocalDateTime startDate = validAt.plusHours((i * 37L) % 101);
+            productPrices.add(createProductPrice(startDate, startDate.plusHours((i * 13L) % 29), i % 3));
+        }
+        givenExistingProductPrices(productPrices);
+        IntervalTreeProductPriceRepository repository = new IntervalTreeProductPriceRepository(productPriceSource);
+
+        for (int hour = -1; hour < 135; hour++) {
+            LocalDateTime date = validAt.plusHours(hour);
+            List<ProductPrice> expected = productPrices.stream()
+                .filter(price -> !price.startDate().isAfter(date) && !price.endDate().isBefore(date))
+                .toList();
+
+            // When
+            List<ProductPrice> result = repository.getProductPrices(productId, brandId, date);
+
+            Optional<WinningProductPrice> winner = repository.getWinningProductPrice(productId, brandId, date);
+
+            // Then
+            assertThat(result).containsExactlyInAnyOrderElementsOf(expected);
+            assertThat(winner).isEqualTo(WinningProductPrice.resolve(productPrices, date));
+        }
+    }
+
+    @Test
+    void shouldNotGetAProductPriceWithDifferentBrandIdOrProductId() {
+        // Given
+        givenExistingProductPrices(List.of(createProductPrice(validAt.minusDays(1), validAt.plusDays(1), 0)));
+        IntervalTreeProductPriceRepository repository = new IntervalTreeProductPriceRepository(productPriceSource);
+
+        // When
+        List<ProductPrice> anotherBrandResult = repository.getProductPrices(productId, new BrandId(2), validAt);
+        List<ProductPrice> anotherProductResult = repository.getProductPrices(new ProductId(1), brandId, validAt);
+
+        // Then
+        assertThat(anotherBrandResult).isEmpty();
+        assertThat(anotherProductResult).isEmpty();
+    }
+
+    @Test
+    void shouldServeNewPricesAfterReload() {
+        // Given
+        givenExistingProductPrices(List.of());
+        IntervalTreeProductPriceRepository repository = new IntervalTreeProductPriceRepository(productPriceSource);
+        ProductPrice productPrice = createProductPrice(validAt.minusDays(1), validAt.plusDays(1), 0);
+        givenExistingProductPrices(List.of(productPrice));
+
+        // When
+        repository.reload();
+
+        // Then
+        assertThat(repository.getProductPrices(productId, brandId, validAt)).containsExactly(productPrice);
+    }
+
+    @Test
+    void shouldRefreshOnlyTheChangedProduct() {
+        // Given
+        ProductId anotherProductId = new ProductId(35456);
+        ProductPrice basePrice = createProductPrice(validAt.minusDays(1), validAt.plusDays(1), 0);
+        ProductPrice anotherProductPrice = new ProductPrice(
+            brandId,
+            basePrice.startDate(),
+            basePrice.endDate(),
+            1,
+            anotherProductId,
+            0,
+            basePrice.price()
+        );
+        ProductPrice promotion = createProductPrice(validAt.minusHours(1), validAt.plusHours(1), 1);
+        givenExistingProductPrices(List.of(basePrice, anotherProductPrice));
+        IntervalTreeProductPriceRepository repository = new IntervalTreeProductPriceRepository(productPriceSource);
+        when(productPriceSource.getAllProductPrices(productId, brandId)).thenReturn(List.of(basePrice, promotion));
+
+        // When
+        repository.onProductPricesChanged(productId, brandId);
+
+        // Then
+        assertThat(repository.getProductPrices(productId, brandId, validAt))
+            .containsExactlyInAnyOrder(basePrice, promotion);
+        assertThat(repository.getProductPrices(anotherProductId, brandId, validAt))
+            .containsExactly(anotherProductPrice);
+        verify(productPriceSource, times(1)).getAllProductPrices();
+    }
+
+    @Test
+    void shouldRemoveAProductWhoseLastPriceWasDeleted() {
+        // Given
+        givenExistingProductPrices(List.of(createProductPrice(validAt.minusDays(1), validAt.plusDays(1), 0)));
+        IntervalTreeProductPriceRepository repository = new IntervalTreeProductPriceRepository(productPriceSource);
+        when(productPriceSource.getAllProductPrices(productId, brandId)).thenReturn(List.of());
+
+        // When
+        repository.onProductPricesChanged(productId, brandId);
+
+        // Then
+        assertThat(repository.getProductPrices(productId, brandId, validAt)).isEmpty();
+    }
+
+    private void givenExistingProductPrices(List<ProductPrice> productPrices) {
+        when(productPriceSource.getAllProductPrices()).thenReturn(productPrices);
+    }
+
+    private ProductPrice createProductPrice(LocalDateTime startDate, LocalDateTime endDate, int priority) {
+        return new ProductPrice(
+            brandId,
+            startDate,
+            endDate,
+            1,
+            productId,
+            priority,
+            new Price(new BigDecimal("9.99"), Monetary.getCurrency("EUR"))
+        );
+    }
+}
@@ -0,0 +1,195 @@
+package com.challenge.productservice.infrastructure.database.inmemory;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.Price;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.WinningProductPrice;
+import com.challenge.productservice.infrastructure.database.ProductPriceKey;
+import com.challenge.productservice.infrastructure.database.ProductPriceSource;
+import org.junit.jupiter.api.Test;
+
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TimelineProductPriceRepositoryTest {
+    private final ProductPriceSource productPriceSource = mock(ProductPriceSource.class);
+
+    ProductId productId = new ProductId(35455);
+    ProductId anotherProductId = new ProductId(35456);
+    BrandId brandId = new BrandId(1);
+    LocalDateTime validAt = LocalDateTime.parse("2020-06-14T16:00:00");
+
+    @Test
+    void shouldGetOnlyTheWinningProductPrice() {
+        // Given
+        ProductPrice lowPriority = createProductPrice(productId, 0, "9.99");
+        ProductPrice highPriority = createProductPrice(productId, 1, "7.99");
+        when(productPriceSource.getAllProductPrices()).thenReturn(List.of(highPriority, lowPriority));
+        TimelineProductPriceRepository repository = new TimelineProductPriceRepository(productPriceSource);
+
+        // When
+        List<ProductPrice> result = repository.getProductPrices(productId, brandId, validAt);
+
+        // Then
+        assertThat(result).containsExactly(highPriority);
+    }
+
+    @Test
+    void shouldGetTheWinningProductPrice() {
+        // Given
+        ProductPrice lowPriority = createProductPrice(productId, 0, "9.99");
+        ProductPrice highPriority = createProductPrice(productId, 1, "7.99");
+        when(productPriceSource.getAllProductPrices()).thenReturn(List.of(highPriority, lowPriority));
+        TimelineProductPriceRepository repository = new TimelineProductPriceRepository(productPriceSource);
+
+        // When
+        Optional<ProductPrice> result = repository.getProductPrice(productId, brandId, validAt);
+        Optional<ProductPrice> unknownProduct = repository.getProductPrice(anotherProductId, brandId, validAt);
+
+        // Then
+        assertThat(result).contains(highPriority);
+        assertThat(unknownProduct).isEmpty();
+    }
+
+    @Test
+    void shouldGetTheWinningProductPriceUntilAnotherOneTakesOver() {
+        // Given
+        ProductPrice basePrice = createProductPrice(productId, 0, "9.99");
+        ProductPrice promotion = new ProductPrice(
+            brandId,
+            validAt.plusHours(1),
+            validAt.plusHours(2),
+            1,
+            productId,
+            1,
+            new Price(new BigDecimal("7.99"), Monetary.getCurrency("EUR"))
+        );
+        when(productPriceSource.getAllProductPrices()).thenReturn(List.of(basePrice, promotion));
+        TimelineProductPriceRepository repository = new TimelineProductPriceRepository(productPriceSource);
+
+        // When
+        Optional<WinningProductPrice> result = repository.getWinningProductPrice(productId, brandId, validAt);
+        Optional<WinningProductPrice> duringPromotion = repository.getWinningProductPrice(
+            productId,
+            brandId,
+            validAt.plusHours(1)
+        );
+
+        // Then
+        assertThat(result)
+            .contains(new WinningProductPrice(basePrice, promotion.startDate().minusNanos(1)));
+        assertThat(duringPromotion).contains(new WinningProductPrice(promotion, promotion.endDate()));
+    }
+
+    @Test
+    void shouldNotGetAProductPriceWhenNonFound() {
+        // Given
+        when(productPriceSource.getAllProductPrices()).thenReturn(List.of());
+        TimelineProductPriceRepository repository = new TimelineProductPriceRepository(productPriceSource);
+
+        // When
+        List<ProductPrice> result = repository.getProductPrices(productId, brandId, validAt);
+
+        // Then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void shouldServeNewPricesAfterReload() {
+        // Given
+        ProductPrice productPrice = createProductPrice(productId, 0, "9.99");
+        when(productPriceSource.getAllProductPrices()).thenReturn(List.of(productPrice));
+        TimelineProductPriceRepository repository = new TimelineProductPriceRepository(productPriceSource);
+        ProductPrice anotherProductPrice = createProductPrice(anotherProductId, 0, "19.99");
+        when(productPriceSource.getAllProductPrices()).thenReturn(List.of(anotherProductPrice));
+
+        // When
+        boolean reloaded = repository.reload();
+
+        // Then
+        assertThat(reloaded).isTrue();
+        assertThat(repository.getProductPrices(productId, brandId, validAt)).isEmpty();
+        assertThat(repository.getProductPrices(anotherProductId, brandId, validAt)).containsExactly(anotherProductPrice);
+    }
+
+    @Test
+    void shouldRebuildOnlyTheTimelineOfTheRefreshedProduct() {
+        // Given
+        ProductPrice productPrice = createProductPrice(productId, 0, "9.99");
+        ProductPrice anotherProductPrice = createProductPrice(anotherProductId, 0, "19.99");
+        when(productPriceSource.getAllProductPrices()).thenReturn(List.of(productPrice, anotherProductPrice));
+        TimelineProductPriceRepository repository = new TimelineProductPriceRepository(productPriceSource);
+        ProductPrice newProductPrice = createProductPrice(productId, 1, "4.99");
+        when(productPriceSource.getAllProductPrices(productId, brandId))
+            .thenReturn(List.of(productPrice, newProductPrice));
+
+        // When
+        repository.refresh(productId, brandId);
+
+        // Then
+        assertThat(repository.getProductPrices(productId, brandId, validAt)).containsExactly(newProductPrice);
+        assertThat(repository.getProductPrices(anotherProductId, brandId, validAt)).containsExactly(anotherProductPrice);
+        verify(productPriceSource, never()).getAllProductPrices(anotherProductId, brandId);
+    }
+
+    @Test
+    void shouldRemoveTheTimelineWhenTheRefreshedProductHasNoPricesLeft() {
+        // Given
+        when(productPriceSource.getAllProductPrices()).thenReturn(List.of(createProductPrice(productId, 0, "9.99")));
+        TimelineProductPriceRepository repository = new TimelineProductPriceRepository(productPriceSource);
+        when(productPriceSource.getAllProductPrices(productId, brandId)).thenReturn(List.of());
+
+        // When
+        repository.refresh(productId, brandId);
+
+        // Then
+        assertThat(repository.getProductPrices(productId, brandId, validAt)).isEmpty();
+    }
+
+    @Test
+    void shouldRebuildTheTimelinesOfProductsChangedTogetherFromASingleRead() {
+        // Given
+        ProductPrice productPrice = createProductPrice(productId, 0, "9.99");
+        ProductPrice anotherProductPrice = createProductPrice(anotherProductId, 0, "19.99");
+        when(productPriceSource.getAllProductPrices()).thenReturn(List.of(productPrice, anotherProductPrice));
+        TimelineProductPriceRepository repository = new TimelineProductPriceRepository(productPriceSource);
+        ProductPriceKey key = new ProductPriceKey(brandId, productId);
+        ProductPriceKey anotherKey = new ProductPriceKey(brandId, anotherProductId);
+        ProductPrice newProductPrice = createProductPrice(productId, 1, "4.99");
+        when(productPriceSource.getAllProductPrices(List.of(key, anotherKey))).thenReturn(Map.of(
+            key, List.of(productPrice, newProductPrice),
+            anotherKey, List.of()
+        ));
+
+        // When
+        repository.onProductPricesChanged(List.of(key, anotherKey));
+
+        // Then
+        assertThat(repository.getProductPrices(productId, brandId, validAt)).containsExactly(newProductPrice);
+        assertThat(repository.getProductPrices(anotherProductId, brandId, validAt)).isEmpty();
+        verify(productPriceSource, never()).getAllProductPrices(productId, brandId);
+    }
+
+    private ProductPrice createProductPrice(ProductId productId, int priority, String amount) {
+        return new ProductPrice(
+            brandId,
+            validAt.minusDays(1),
+            validAt.plusDays(1),
+            1,
+            productId,
+            priority,
+            new Price(new BigDecimal(amount), Monetary.getCurrency("EUR"))
+        );
+    }
+}
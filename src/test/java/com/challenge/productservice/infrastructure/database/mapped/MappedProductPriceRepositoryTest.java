@@ -0,0 +1,243 @@
+package com.challenge.productservice.infrastructure.database.mapped;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.Price;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.WinningProductPrice;
+import com.challenge.productservice.infrastructure.database.ProductPriceSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.money.Monetary;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MappedProductPriceRepositoryTest {
+    private final ProductPriceSource productPriceSource = mock(ProductPriceSource.class);
+
+    @TempDir
+    Path directory;
+
+    ProductId productId = new ProductId(35455);
+    ProductId anotherProductId = new ProductId(35456);
+    BrandId brandId = new BrandId(1);
+    LocalDateTime validAt = LocalDateTime.parse("2020-06-14T16:00:00");
+
+    @Test
+    void shouldGetAllProductPricesValidAtGivenDate() {
+        // Given
+        ProductPrice wholeYear = createProductPrice(productId, validAt.minusDays(10), validAt.plusMonths(6), 0, 1);
+        ProductPrice afternoon = createProductPrice(productId, validAt.minusHours(1), validAt.plusHours(2), 1, 2);
+        ProductPrice yesterday = createProductPrice(productId, validAt.minusDays(1), validAt.minusHours(20), 1, 3);
+        ProductPrice tomorrow = createProductPrice(productId, validAt.plusDays(1), validAt.plusDays(2), 1, 4);
+        ProductPrice anotherProduct = createProductPrice(anotherProductId, validAt.minusDays(1), validAt, 0, 1);
+        MappedProductPriceRepository repository = givenARepository(
+            List.of(tomorrow, anotherProduct, afternoon, yesterday, wholeYear)
+        );
+
+        // When
+        List<ProductPrice> result = repository.getProductPrices(productId, brandId, validAt);
+
+        // Then
+        assertThat(result).containsExactlyInAnyOrder(wholeYear, afternoon);
+    }
+
+    @Test
+    void shouldGetTheWinningProductPrice() {
+        // Given
+        ProductPrice basePrice = createProductPrice(productId, validAt.minusDays(10), validAt.plusMonths(6), 0, 1);
+        ProductPrice promotion = createProductPrice(productId, validAt.minusHours(1), validAt.plusHours(2), 1, 2);
+        ProductPrice latest = createProductPrice(productId, validAt.minusMinutes(5), validAt.plusHours(1), 1, 3);
+        MappedProductPriceRepository repository = givenARepository(List.of(latest, basePrice, promotion));
+
+        // When
+        Optional<ProductPrice> result = repository.getProductPrice(productId, brandId, validAt);
+
+        // Then
+        assertThat(result).contains(latest);
+    }
+
+    @Test
+    void shouldGetTheWinningProductPriceUntilAnotherOneTakesOver() {
+        // Given
+        ProductPrice basePrice = createProductPrice(productId, validAt.minusDays(10), validAt.plusMonths(6), 0, 1);
+        ProductPrice lowerPriority = createProductPrice(productId, validAt.plusMinutes(30), validAt.plusHours(3), 0, 2);
+        ProductPrice promotion = createProductPrice(productId, validAt.plusHours(1), validAt.plusHours(2), 1, 3);
+        MappedProductPriceRepository repository = givenARepository(List.of(promotion, lowerPriority, basePrice));
+
+        // When
+        Optional<WinningProductPrice> result = repository.getWinningProductPrice(productId, brandId, validAt);
+
+        // Then
+        assertThat(result).contains(new WinningProductPrice(basePrice, promotion.startDate().minusNanos(1)));
+    }
+
+    @Test
+    void shouldGetProductPriceWhenStartOrEndDateIsEqualToValidAtDate() {
+        // Given
+        ProductPrice endingAtValidAt = createProductPrice(productId, validAt.minusDays(1), validAt, 0, 1);
+        ProductPrice startingAtValidAt = createProductPrice(productId, validAt, validAt.plusDays(1), 0, 2);
+        MappedProductPriceRepository repository = givenARepository(List.of(endingAtValidAt, startingAtValidAt));
+
+        // When
+        List<ProductPrice> result = repository.getProductPrices(productId, brandId, validAt);
+        List<ProductPrice> justAfter = repository.getProductPrices(productId, brandId, validAt.plusNanos(1));
+
+        // Then
+        assertThat(result).containsExactlyInAnyOrder(endingAtValidAt, startingAtValidAt);
+        assertThat(justAfter).containsExactly(startingAtValidAt);
+    }
+
+    @Test
+    void shouldKeepTheFractionOfASecondOfTheDates() {
+        // Given
+        LocalDateTime endOfDay = LocalDateTime.parse("2020-06-14T23:59:59.999999");
+        ProductPrice today = createProductPrice(productId, validAt.minusHours(1).plusNanos(500), endOfDay, 1, 1);
+        ProductPrice basePrice = createProductPrice(productId, validAt.minusDays(1), validAt.plusDays(1), 0, 2);
+        MappedProductPriceRepository repository = givenARepository(List.of(today, basePrice));
+
+        // When
+        Optional<ProductPrice> inTheLastSecond = repository.getProductPrice(
+            productId,
+            brandId,
+            LocalDateTime.parse("2020-06-14T23:59:59.5")
+        );
+        Optional<ProductPrice> afterTheEnd = repository.getProductPrice(productId, brandId, endOfDay.plusNanos(1));
+        Optional<WinningProductPrice> winning = repository.getWinningProductPrice(productId, brandId, validAt);
+
+        // Then
+        assertThat(inTheLastSecond).contains(today);
+        assertThat(inTheLastSecond.orElseThrow().endDate()).isEqualTo(endOfDay);
+        assertThat(afterTheEnd).contains(basePrice);
+        assertThat(winning).contains(new WinningProductPrice(today, endOfDay));
+    }
+
+    @Test
+    void shouldNotGetProductPricesOfUnknownProducts() {
+        // Given
+        MappedProductPriceRepository repository = givenARepository(List.of(
+            createProductPrice(anotherProductId, validAt.minusDays(1), validAt.plusDays(1), 0, 1)
+        ));
+
+        // When
+        Optional<ProductPrice> result = repository.getProductPrice(productId, brandId, validAt);
+
+        // Then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void shouldServeTheChangedProductFromTheSource() {
+        // Given
+        ProductPrice basePrice = createProductPrice(productId, validAt.minusDays(10), validAt.plusMonths(6), 0, 1);
+        ProductPrice promotion = createProductPrice(productId, validAt.minusHours(1), validAt.plusHours(2), 1, 2);
+        ProductPrice anotherProduct = createProductPrice(anotherProductId, validAt.minusDays(1), validAt, 0, 1);
+        MappedProductPriceRepository repository = givenARepository(List.of(basePrice, anotherProduct));
+        when(productPriceSource.getAllProductPrices(productId, brandId)).thenReturn(List.of(basePrice, promotion));
+
+        // When
+        repository.onProductPricesChanged(productId, brandId);
+
+        // Then
+        assertThat(repository.getProductPrice(productId, brandId, validAt)).contains(promotion);
+        assertThat(repository.getProductPrice(anotherProductId, brandId, validAt)).contains(anotherProduct);
+    }
+
+    @Test
+    void shouldNotLeaveTheRecordsFileBehind() throws IOException {
+        // When
+        givenARepository(List.of(createProductPrice(productId, validAt, validAt.plusDays(1), 0, 1)));
+
+        // Then
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    void shouldWriteTheChangedProductsToNewRecordsOnceThereAreTooMany() {
+        // Given
+        ProductPrice basePrice = createProductPrice(productId, validAt.minusDays(10), validAt.plusMonths(6), 0, 1);
+        ProductPrice promotion = createProductPrice(productId, validAt.minusHours(1), validAt.plusHours(2), 1, 2);
+        ProductPrice anotherProduct = createProductPrice(anotherProductId, validAt.minusDays(1), validAt, 0, 1);
+        ProductPrice anotherPromotion = createProductPrice(anotherProductId, validAt.minusHours(1), validAt, 1, 2);
+        MappedProductPriceRepository repository = givenARepository(List.of(basePrice, anotherProduct), 1);
+        when(productPriceSource.getAllProductPrices(productId, brandId)).thenReturn(List.of(basePrice, promotion));
+        repository.onProductPricesChanged(productId, brandId);
+        when(productPriceSource.getAllProductPrices())
+            .thenReturn(List.of(basePrice, promotion, anotherProduct, anotherPromotion));
+
+        // When
+        repository.onProductPricesChanged(anotherProductId, brandId);
+
+        // Then
+        assertThat(repository.getProductPrice(productId, brandId, validAt)).contains(promotion);
+        assertThat(repository.getProductPrice(anotherProductId, brandId, validAt)).contains(anotherPromotion);
+        verify(productPriceSource, times(2)).getAllProductPrices();
+        verify(productPriceSource, never()).getAllProductPrices(anotherProductId, brandId);
+    }
+
+    @Test
+    void shouldRejectPricesNotSortedByKey() {
+        // Given
+        ProductPrice tomorrow = createProductPrice(productId, validAt.plusDays(1), validAt.plusDays(2), 0, 1);
+        ProductPrice today = createProductPrice(productId, validAt, validAt.plusDays(1), 0, 2);
+        doAnswer(invocation -> {
+            Consumer<ProductPrice> consumer = invocation.getArgument(0);
+            consumer.accept(tomorrow);
+            consumer.accept(today);
+            return null;
+        }).when(productPriceSource).forEachProductPriceInKeyOrder(any());
+
+        // When / Then
+        assertThatThrownBy(() -> new MappedProductPriceRepository(productPriceSource, directory, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private MappedProductPriceRepository givenARepository(List<ProductPrice> productPrices) {
+        return givenARepository(productPrices, 1000);
+    }
+
+    private MappedProductPriceRepository givenARepository(List<ProductPrice> productPrices, int maxChangedProducts) {
+        when(productPriceSource.getAllProductPrices()).thenReturn(productPrices);
+        doCallRealMethod().when(productPriceSource).forEachProductPriceInKeyOrder(any());
+        return new MappedProductPriceRepository(productPriceSource, directory, maxChangedProducts);
+    }
+
+    private ProductPrice createProductPrice(
+        ProductId productId,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        int priority,
+        int priceList
+    ) {
+        return new ProductPrice(
+            brandId,
+            startDate,
+            endDate,
+            priceList,
+            productId,
+            priority,
+            new Price(new BigDecimal("9.99"), Monetary.getCurrency("EUR"))
+        );
+    }
+}
@@ -0,0 +1,136 @@
+package com.challenge.productservice.infrastructure.database.r2dbc;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.Price;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.WinningProductPrice;
+import io.r2dbc.h2.H2ConnectionFactory;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class R2dbcProductPriceRepositoryIntegrationTest {
+    private final ConnectionPool connectionPool = new ConnectionPool(
+        ConnectionPoolConfiguration.builder(H2ConnectionFactory.inMemory("r2dbc-" + UUID.randomUUID())).build()
+    );
+    private final DatabaseClient databaseClient = DatabaseClient.create(connectionPool);
+    private final R2dbcProductPriceRepository repository = givenRepositoryWithSchema();
+
+    ProductId productId = new ProductId(35455);
+    BrandId brandId = new BrandId(1);
+    LocalDateTime validAt = LocalDateTime.parse("2020-06-14T16:00:00");
+
+    @AfterEach
+    void tearDown() {
+        repository.close();
+    }
+
+    @Test
+    void shouldGetTheWinningProductPriceUntilAnotherOneTakesOver() {
+        // Given
+        ProductPrice basePrice = createProductPrice(validAt.minusDays(1), validAt.plusDays(10), 0);
+        ProductPrice promotion = createProductPrice(validAt.minusHours(1), validAt.plusDays(1), 1);
+        ProductPrice lowerPriority = createProductPrice(validAt.plusHours(1), validAt.plusDays(2), 0);
+        ProductPrice nextPromotion = createProductPrice(validAt.plusHours(2), validAt.plusDays(2), 1);
+        givenExistingProductPrice(basePrice);
+        givenExistingProductPrice(promotion);
+        givenExistingProductPrice(lowerPriority);
+        givenExistingProductPrice(nextPromotion);
+
+        // When
+        Optional<WinningProductPrice> result = repository.getWinningProductPrice(productId, brandId, validAt)
+            .toCompletableFuture()
+            .join();
+
+        // Then
+        assertThat(result).contains(new WinningProductPrice(promotion, validAt.plusHours(2).minusNanos(1)));
+    }
+
+    @Test
+    void shouldGetTheWinningProductPriceUntilItEndsWhenNoneTakesOver() {
+        // Given
+        ProductPrice productPrice = createProductPrice(validAt.minusDays(1), validAt.plusDays(1), 0);
+        givenExistingProductPrice(productPrice);
+
+        // When
+        Optional<WinningProductPrice> result = repository.getWinningProductPrice(productId, brandId, validAt)
+            .toCompletableFuture()
+            .join();
+
+        // Then
+        assertThat(result).contains(new WinningProductPrice(productPrice, productPrice.endDate()));
+    }
+
+    @Test
+    void shouldNotGetAnyProductPriceWhenNoneIsValidAtGivenDate() {
+        // Given
+        ProductPrice startingLater = createProductPrice(validAt.plusHours(1), validAt.plusDays(1), 0);
+        ProductPrice anotherBrandPrice = new ProductPrice(
+            new BrandId(2),
+            validAt.minusDays(1),
+            validAt.plusDays(1),
+            1,
+            productId,
+            0,
+            new Price(new BigDecimal("9.99"), Monetary.getCurrency("EUR"))
+        );
+        givenExistingProductPrice(startingLater);
+        givenExistingProductPrice(anotherBrandPrice);
+
+        // When
+        Optional<WinningProductPrice> result = repository.getWinningProductPrice(productId, brandId, validAt)
+            .toCompletableFuture()
+            .join();
+
+        // Then
+        assertThat(result).isEmpty();
+    }
+
+    private R2dbcProductPriceRepository givenRepositoryWithSchema() {
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).populate(connectionPool).block();
+        return new R2dbcProductPriceRepository(connectionPool, 10);
+    }
+
+    private void givenExistingProductPrice(ProductPrice productPrice) {
+        databaseClient.sql("""
+            INSERT INTO prices (id, brand_id, start_date, end_date, price_list, product_id, priority, price, currency)
+            VALUES (:id, :brandId, :startDate, :endDate, :priceList, :productId, :priority, :price, :currency)
+            """)
+            .bind("id", UUID.randomUUID())
+            .bind("brandId", productPrice.brandId().value())
+            .bind("startDate", productPrice.startDate())
+            .bind("endDate", productPrice.endDate())
+            .bind("priceList", productPrice.priceList())
+            .bind("productId", productPrice.productId().value())
+            .bind("priority", productPrice.priority())
+            .bind("price", productPrice.price().amount())
+            .bind("currency", productPrice.price().currency().getCurrencyCode())
+            .then()
+            .block();
+    }
+
+    private ProductPrice createProductPrice(LocalDateTime startDate, LocalDateTime endDate, int priority) {
+        return new ProductPrice(
+            brandId,
+            startDate,
+            endDate,
+            1,
+            productId,
+            priority,
+            new Price(new BigDecimal("9.99"), Monetary.getCurrency("EUR"))
+        );
+    }
+}
@@ -0,0 +1,241 @@
+package com.challenge.productservice.infrastructure.database.sharded;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.Price;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.WinningProductPrice;
+import com.challenge.productservice.infrastructure.database.ProductPriceKey;
+import com.challenge.productservice.infrastructure.database.ProductPriceSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ShardedProductPriceRepositoryTest {
+    private static final int SHARDS = 4;
+
+    private final ProductPriceSource productPriceSource = mock(ProductPriceSource.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    ProductId productId = new ProductId(35455);
+    ProductId anotherProductId = new ProductId(35456);
+    BrandId brandId = new BrandId(1);
+    LocalDateTime validAt = LocalDateTime.parse("2020-06-14T16:00:00");
+
+    @Test
+    void shouldGetTheWinningProductPriceOfProductsSpreadOverEveryShard() {
+        // Given
+        List<ProductPrice> productPrices = LongStream.range(0, 100)
+            .mapToObj(id -> createProductPrice(new ProductId(id), 0, "9.99"))
+            .toList();
+        when(productPriceSource.getAllProductPrices()).thenReturn(productPrices);
+        ShardedProductPriceRepository repository = createRepository();
+
+        // When
+        List<Optional<ProductPrice>> result = productPrices.stream()
+            .map(productPrice -> repository.getProductPrice(productPrice.productId(), brandId, validAt))
+            .toList();
+
+        // Then
+        assertThat(result).containsExactlyElementsOf(productPrices.stream().map(Optional::of).toList());
+        for (int shard = 0; shard < SHARDS; shard++) {
+            assertThat(shardProducts(shard)).isPositive();
+            assertThat(shardLookups(shard)).isEqualTo(shardProducts(shard));
+        }
+    }
+
+    @Test
+    void shouldGetOnlyTheWinningProductPrice() {
+        // Given
+        ProductPrice lowPriority = createProductPrice(productId, 0, "9.99");
+        ProductPrice highPriority = createProductPrice(productId, 1, "7.99");
+        when(productPriceSource.getAllProductPrices()).thenReturn(List.of(highPriority, lowPriority));
+        ShardedProductPriceRepository repository = createRepository();
+
+        // When
+        List<ProductPrice> result = repository.getProductPrices(productId, brandId, validAt);
+        List<ProductPrice> unknownProduct = repository.getProductPrices(anotherProductId, brandId, validAt);
+
+        // Then
+        assertThat(result).containsExactly(highPriority);
+        assertThat(unknownProduct).isEmpty();
+    }
+
+    @Test
+    void shouldGetTheWinningProductPriceUntilAnotherOneTakesOver() {
+        // Given
+        ProductPrice basePrice = createProductPrice(productId, 0, "9.99");
+        ProductPrice promotion = new ProductPrice(
+            brandId,
+            validAt.plusHours(1),
+            validAt.plusHours(2),
+            1,
+            productId,
+            1,
+            new Price(new BigDecimal("7.99"), Monetary.getCurrency("EUR"))
+        );
+        when(productPriceSource.getAllProductPrices()).thenReturn(List.of(basePrice, promotion));
+        ShardedProductPriceRepository repository = createRepository();
+
+        // When
+        Optional<WinningProductPrice> result = repository.getWinningProductPrice(productId, brandId, validAt);
+
+        // Then
+        assertThat(result)
+            .contains(new WinningProductPrice(basePrice, promotion.startDate().minusNanos(1)));
+    }
+
+    @Test
+    void shouldRebuildOnlyTheShardOfTheRefreshedProduct() {
+        // Given
+        ProductPrice productPrice = createProductPrice(productId, 0, "9.99");
+        ProductPrice anotherProductPrice = createProductPrice(anotherProductId, 0, "19.99");
+        when(productPriceSource.getAllProductPrices()).thenReturn(List.of(productPrice, anotherProductPrice));
+        ShardedProductPriceRepository repository = createRepository();
+        ProductPrice newProductPrice = createProductPrice(productId, 1, "4.99");
+        when(productPriceSource.getAllProductPrices(productId, brandId))
+            .thenReturn(List.of(productPrice, newProductPrice));
+        int shard = repository.shardOf(new ProductPriceKey(brandId, productId));
+
+        // When
+        repository.onProductPricesChanged(productId, brandId);
+
+        // Then
+        assertThat(repository.getProductPrices(productId, brandId, validAt)).containsExactly(newProductPrice);
+        assertThat(repository.getProductPrices(anotherProductId, brandId, validAt)).containsExactly(anotherProductPrice);
+        verify(productPriceSource, never()).getAllProductPrices(anotherProductId, brandId);
+        for (int otherShard = 0; otherShard < SHARDS; otherShard++) {
+            assertThat(shardRebuilds(otherShard)).isEqualTo(otherShard == shard ? 1 : 0);
+        }
+    }
+
+    @Test
+    void shouldRebuildEachShardOnceForProductsChangedTogether() {
+        // Given
+        ProductPrice productPrice = createProductPrice(productId, 0, "9.99");
+        ProductPrice anotherProductPrice = createProductPrice(anotherProductId, 0, "19.99");
+        when(productPriceSource.getAllProductPrices()).thenReturn(List.of(productPrice, anotherProductPrice));
+        ShardedProductPriceRepository repository = createRepository();
+        ProductPriceKey key = new ProductPriceKey(brandId, productId);
+        ProductPriceKey anotherKey = new ProductPriceKey(brandId, anotherProductId);
+        ProductPrice newProductPrice = createProductPrice(productId, 1, "4.99");
+        Map<ProductPriceKey, List<ProductPrice>> changed = Map.of(
+            key, List.of(productPrice, newProductPrice),
+            anotherKey, List.of()
+        );
+        when(productPriceSource.getAllProductPrices(anyCollection())).thenAnswer(invocation -> {
+            Collection<ProductPriceKey> keys = invocation.getArgument(0);
+            return keys.stream().collect(Collectors.toMap(Function.identity(), changed::get));
+        });
+        Set<Integer> changedShards = Set.of(repository.shardOf(key), repository.shardOf(anotherKey));
+
+        // When
+        repository.onProductPricesChanged(List.of(key, anotherKey));
+
+        // Then
+        assertThat(repository.getProductPrices(productId, brandId, validAt)).containsExactly(newProductPrice);
+        assertThat(repository.getProductPrices(anotherProductId, brandId, validAt)).isEmpty();
+        verify(productPriceSource, times(changedShards.size())).getAllProductPrices(anyCollection());
+        for (int shard = 0; shard < SHARDS; shard++) {
+            assertThat(shardRebuilds(shard)).isEqualTo(changedShards.contains(shard) ? 1 : 0);
+        }
+    }
+
+    @Test
+    void shouldRemoveTheProductWhenTheRefreshedProductHasNoPricesLeft() {
+        // Given
+        when(productPriceSource.getAllProductPrices()).thenReturn(List.of(createProductPrice(productId, 0, "9.99")));
+        ShardedProductPriceRepository repository = createRepository();
+        when(productPriceSource.getAllProductPrices(productId, brandId)).thenReturn(List.of());
+        int shard = repository.shardOf(new ProductPriceKey(brandId, productId));
+
+        // When
+        repository.refresh(productId, brandId);
+
+        // Then
+        assertThat(repository.getProductPrices(productId, brandId, validAt)).isEmpty();
+        assertThat(shardProducts(shard)).isZero();
+    }
+
+    @Test
+    void shouldServeNewPricesAfterReload() {
+        // Given
+        ProductPrice productPrice = createProductPrice(productId, 0, "9.99");
+        when(productPriceSource.getAllProductPrices()).thenReturn(List.of(productPrice));
+        ShardedProductPriceRepository repository = createRepository();
+        ProductPrice anotherProductPrice = createProductPrice(anotherProductId, 0, "19.99");
+        when(productPriceSource.getAllProductPrices()).thenReturn(List.of(anotherProductPrice));
+
+        // When
+        boolean reloaded = repository.reload();
+
+        // Then
+        assertThat(reloaded).isTrue();
+        assertThat(repository.getProductPrices(productId, brandId, validAt)).isEmpty();
+        assertThat(repository.getProductPrices(anotherProductId, brandId, validAt)).containsExactly(anotherProductPrice);
+    }
+
+    @Test
+    void shouldRequireAtLeastOneShard() {
+        assertThatThrownBy(() -> new ShardedProductPriceRepository(productPriceSource, 0, meterRegistry))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ShardedProductPriceRepository createRepository() {
+        return new ShardedProductPriceRepository(productPriceSource, SHARDS, meterRegistry);
+    }
+
+    private double shardProducts(int shard) {
+        Gauge gauge = meterRegistry.get(ShardedProductPriceRepository.SHARD_PRODUCTS)
+            .tag("shard", String.valueOf(shard))
+            .gauge();
+        return gauge.value();
+    }
+
+    private double shardLookups(int shard) {
+        return meterRegistry.get(ShardedProductPriceRepository.SHARD_LOOKUPS)
+            .tag("shard", String.valueOf(shard))
+            .counter()
+            .count();
+    }
+
+    private long shardRebuilds(int shard) {
+        return meterRegistry.get(ShardedProductPriceRepository.SHARD_REBUILDS)
+            .tag("shard", String.valueOf(shard))
+            .timer()
+            .count();
+    }
+
+    private ProductPrice createProductPrice(ProductId productId, int priority, String amount) {
+        return new ProductPrice(
+            brandId,
+            validAt.minusDays(1),
+            validAt.plusDays(1),
+            1,
+            productId,
+            priority,
+            new Price(new BigDecimal(amount), Monetary.getCurrency("EUR"))
+        );
+    }
+}
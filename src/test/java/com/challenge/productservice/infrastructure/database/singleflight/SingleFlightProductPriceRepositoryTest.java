@@ -0,0 +1,178 @@
+package com.challenge.productservice.infrastructure.database.singleflight;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.Price;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.WinningProductPrice;
+import com.challenge.productservice.infrastructure.database.ProductPriceSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SingleFlightProductPriceRepositoryTest {
+    private final ProductPriceSource productPriceSource = mock(ProductPriceSource.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlightProductPriceRepository repository = new SingleFlightProductPriceRepository(
+        productPriceSource,
+        Duration.ofMinutes(1),
+        meterRegistry
+    );
+
+    ProductId productId = new ProductId(35455);
+    BrandId brandId = new BrandId(1);
+    LocalDateTime bucketStart = LocalDateTime.parse("2020-06-14T16:00:00");
+    LocalDateTime bucketEnd = LocalDateTime.parse("2020-06-14T16:00:59.999999999");
+
+    @Test
+    void shouldQueryTheWholeBucketAndKeepOnlyThePricesValidAtGivenDate() {
+        // Given
+        ProductPrice basePrice = createProductPrice(bucketStart.minusDays(1), bucketStart.plusDays(1));
+        ProductPrice endingMidBucket = createProductPrice(bucketStart.minusDays(1), bucketStart.plusSeconds(30));
+        when(productPriceSource.getOverlappingProductPrices(productId, brandId, bucketStart, bucketEnd))
+            .thenReturn(List.of(basePrice, endingMidBucket));
+
+        // When
+        List<ProductPrice> result = repository.getProductPrices(productId, brandId, bucketStart.plusSeconds(45));
+
+        // Then
+        assertThat(result).containsExactly(basePrice);
+        verify(productPriceSource).getOverlappingProductPrices(productId, brandId, bucketStart, bucketEnd);
+    }
+
+    @Test
+    void shouldGetTheWinningProductPriceUntilAnotherOneOfTheBucketTakesOver() {
+        // Given
+        ProductPrice basePrice = createProductPrice(bucketStart.minusDays(1), bucketStart.plusDays(1));
+        ProductPrice startingMidBucket = createProductPrice(bucketStart.plusSeconds(30), bucketStart.plusHours(1));
+        when(productPriceSource.getOverlappingProductPrices(productId, brandId, bucketStart, bucketEnd))
+            .thenReturn(List.of(basePrice, startingMidBucket));
+
+        // When
+        Optional<WinningProductPrice> result = repository.getWinningProductPrice(
+            productId,
+            brandId,
+            bucketStart.plusSeconds(10)
+        );
+
+        // Then
+        assertThat(result).contains(new WinningProductPrice(basePrice, startingMidBucket.startDate().minusNanos(1)));
+    }
+
+    @Test
+    void shouldGetTheWinningProductPriceUntilTheBucketEnds() {
+        // Given
+        ProductPrice basePrice = createProductPrice(bucketStart.minusDays(1), bucketStart.plusDays(1));
+        when(productPriceSource.getOverlappingProductPrices(productId, brandId, bucketStart, bucketEnd))
+            .thenReturn(List.of(basePrice));
+
+        // When
+        Optional<WinningProductPrice> result = repository.getWinningProductPrice(
+            productId,
+            brandId,
+            bucketStart.plusSeconds(10)
+        );
+
+        // Then
+        assertThat(result).contains(new WinningProductPrice(basePrice, bucketEnd));
+        verify(productPriceSource).getOverlappingProductPrices(productId, brandId, bucketStart, bucketEnd);
+    }
+
+    @Test
+    void shouldShareASingleQueryBetweenConcurrentLookupsOfTheSameBucket() throws Exception {
+        // Given
+        int callers = 8;
+        ProductPrice basePrice = createProductPrice(bucketStart.minusDays(1), bucketStart.plusDays(1));
+        CountDownLatch release = new CountDownLatch(1);
+        when(productPriceSource.getOverlappingProductPrices(productId, brandId, bucketStart, bucketEnd))
+            .thenAnswer(invocation -> {
+                release.await();
+                return List.of(basePrice);
+            });
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        try {
+            // When
+            List<Future<List<ProductPrice>>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                LocalDateTime validAt = bucketStart.plusSeconds(i);
+                results.add(executor.submit(() -> repository.getProductPrices(productId, brandId, validAt)));
+            }
+            while (flights("coalesced") < callers - 1) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            // Then
+            for (Future<List<ProductPrice>> result : results) {
+                assertThat(result.get()).containsExactly(basePrice);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(productPriceSource, times(1)).getOverlappingProductPrices(productId, brandId, bucketStart, bucketEnd);
+        assertThat(flights("executed")).isEqualTo(1);
+        assertThat(flights("coalesced")).isEqualTo(callers - 1);
+    }
+
+    @Test
+    void shouldQueryAgainOnceThePreviousQueryOfTheBucketHasFinished() {
+        // Given
+        when(productPriceSource.getOverlappingProductPrices(productId, brandId, bucketStart, bucketEnd))
+            .thenReturn(List.of());
+
+        // When
+        repository.getProductPrices(productId, brandId, bucketStart);
+        repository.getProductPrices(productId, brandId, bucketStart);
+
+        // Then
+        verify(productPriceSource, times(2)).getOverlappingProductPrices(productId, brandId, bucketStart, bucketEnd);
+        assertThat(flights("executed")).isEqualTo(2);
+    }
+
+    @Test
+    void shouldPropagateTheFailureOfTheQuery() {
+        // Given
+        when(productPriceSource.getOverlappingProductPrices(productId, brandId, bucketStart, bucketEnd))
+            .thenThrow(new IllegalStateException("Database is down"));
+
+        // Then
+        assertThatThrownBy(() -> repository.getProductPrices(productId, brandId, bucketStart))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Database is down");
+    }
+
+    private double flights(String result) {
+        return meterRegistry.get(SingleFlightProductPriceRepository.FLIGHTS).tag("result", result).counter().count();
+    }
+
+    private ProductPrice createProductPrice(LocalDateTime startDate, LocalDateTime endDate) {
+        return new ProductPrice(
+            brandId,
+            startDate,
+            endDate,
+            1,
+            productId,
+            0,
+            new Price(new BigDecimal("9.99"), Monetary.getCurrency("EUR"))
+        );
+    }
+}
@@ -0,0 +1,169 @@
+package com.challenge.productservice.infrastructure.database.snapshot;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.Price;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.money.Monetary;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductPriceSnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    ProductPrice basePrice = createProductPrice(
+        new ProductId(35455),
+        new BrandId(1),
+        LocalDateTime.parse("2020-06-14T00:00:00"),
+        LocalDateTime.parse("2020-12-31T23:59:59"),
+        new Price(new BigDecimal("35.50"), Monetary.getCurrency("EUR"))
+    );
+    ProductPrice promotion = createProductPrice(
+        new ProductId(35456),
+        new BrandId(2),
+        LocalDateTime.parse("2020-06-14T15:00:00"),
+        LocalDateTime.parse("2020-06-14T18:30:00"),
+        new Price(new BigDecimal("25.45"), Monetary.getCurrency("USD"))
+    );
+
+    @Test
+    void shouldReadTheWrittenPrices() throws IOException {
+        // Given
+        Path snapshot = directory.resolve("prices.snapshot");
+
+        // When
+        long bytes = ProductPriceSnapshot.write(snapshot, List.of(basePrice, promotion));
+        List<ProductPrice> result = ProductPriceSnapshot.read(snapshot);
+
+        // Then
+        assertThat(result).containsExactly(basePrice, promotion);
+        assertThat(Files.size(snapshot)).isEqualTo(bytes);
+    }
+
+    @Test
+    void shouldKeepTheFractionOfASecondOfTheDates() {
+        // Given
+        Path snapshot = directory.resolve("prices.snapshot");
+        ProductPrice endingWithinASecond = createProductPrice(
+            new ProductId(35455),
+            new BrandId(1),
+            LocalDateTime.parse("2020-06-14T00:00:00.5"),
+            LocalDateTime.parse("2020-12-31T23:59:59.999999"),
+            new Price(new BigDecimal("35.50"), Monetary.getCurrency("EUR"))
+        );
+
+        // When
+        ProductPriceSnapshot.write(snapshot, List.of(endingWithinASecond));
+        List<ProductPrice> result = ProductPriceSnapshot.read(snapshot);
+
+        // Then
+        assertThat(result).containsExactly(endingWithinASecond);
+        assertThat(result.getFirst().endDate()).isEqualTo(LocalDateTime.parse("2020-12-31T23:59:59.999999"));
+    }
+
+    @Test
+    void shouldWriteThePricesSortedByKey() {
+        // Given
+        Path snapshot = directory.resolve("prices.snapshot");
+        List<ProductPrice> result = new ArrayList<>();
+
+        // When
+        ProductPriceSnapshot.write(snapshot, List.of(promotion, basePrice));
+        ProductPriceSnapshot.forEach(snapshot, result::add);
+
+        // Then
+        assertThat(result).containsExactly(basePrice, promotion);
+    }
+
+    @Test
+    void shouldRejectStreamedPricesNotSortedByKey() {
+        // Given
+        Path snapshot = directory.resolve("prices.snapshot");
+
+        // When / Then
+        assertThatThrownBy(() -> ProductPriceSnapshot.write(snapshot, consumer -> {
+            consumer.accept(promotion);
+            consumer.accept(basePrice);
+        })).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldReadAnEmptySnapshot() {
+        // Given
+        Path snapshot = directory.resolve("prices.snapshot");
+
+        // When
+        ProductPriceSnapshot.write(snapshot, List.of());
+        List<ProductPrice> result = ProductPriceSnapshot.read(snapshot);
+
+        // Then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void shouldReplaceThePreviousSnapshot() throws IOException {
+        // Given
+        Path snapshot = directory.resolve("prices.snapshot");
+        ProductPriceSnapshot.write(snapshot, List.of(basePrice));
+
+        // When
+        ProductPriceSnapshot.write(snapshot, List.of(promotion));
+
+        // Then
+        assertThat(ProductPriceSnapshot.read(snapshot)).containsExactly(promotion);
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files).containsExactly(snapshot);
+        }
+    }
+
+    @Test
+    void shouldRejectFilesThatAreNotSnapshots() throws IOException {
+        // Given
+        Path snapshot = directory.resolve("prices.snapshot");
+        Files.writeString(snapshot, "brand_id,start_date,end_date,price_list,product_id,priority,price,currency");
+
+        // When / Then
+        assertThatThrownBy(() -> ProductPriceSnapshot.read(snapshot))
+            .isInstanceOf(InvalidProductPriceSnapshotException.class)
+            .hasMessageEndingWith("not a price snapshot");
+    }
+
+    @Test
+    void shouldRejectTruncatedSnapshots() throws IOException {
+        // Given
+        Path snapshot = directory.resolve("prices.snapshot");
+        ProductPriceSnapshot.write(snapshot, List.of(basePrice, promotion));
+        byte[] content = Files.readAllBytes(snapshot);
+        Files.write(snapshot, Arrays.copyOf(content, content.length - 1));
+
+        // When / Then
+        assertThatThrownBy(() -> ProductPriceSnapshot.read(snapshot))
+            .isInstanceOf(InvalidProductPriceSnapshotException.class)
+            .hasMessageEndingWith("truncated or corrupted columns");
+    }
+
+    private ProductPrice createProductPrice(
+        ProductId productId,
+        BrandId brandId,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        Price price
+    ) {
+        return new ProductPrice(brandId, startDate, endDate, 1, productId, 0, price);
+    }
+}
@@ -0,0 +1,163 @@
+package com.challenge.productservice.infrastructure.database.snapshot;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.Price;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.infrastructure.database.ProductPriceKey;
+import com.challenge.productservice.infrastructure.database.ProductPriceSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.money.Monetary;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class SnapshotProductPriceSourceTest {
+    private final ProductPriceSource database = mock(ProductPriceSource.class);
+
+    @TempDir
+    Path directory;
+
+    ProductId productId = new ProductId(35455);
+    BrandId brandId = new BrandId(1);
+    ProductPrice snapshotPrice = createProductPrice("35.50");
+    ProductPrice databasePrice = createProductPrice("25.45");
+
+    @Test
+    void shouldLoadEveryPriceFromTheSnapshot() {
+        // Given
+        Path snapshot = directory.resolve("prices.snapshot");
+        ProductPriceSnapshot.write(snapshot, List.of(snapshotPrice));
+        SnapshotProductPriceSource source = new SnapshotProductPriceSource(snapshot, database);
+
+        // When
+        List<ProductPrice> result = source.getAllProductPrices();
+
+        // Then
+        assertThat(result).containsExactly(snapshotPrice);
+        verifyNoInteractions(database);
+    }
+
+    @Test
+    void shouldLoadEveryPriceFromTheDatabaseWithoutSnapshot() {
+        // Given
+        when(database.getAllProductPrices()).thenReturn(List.of(databasePrice));
+        SnapshotProductPriceSource source = new SnapshotProductPriceSource(
+            directory.resolve("missing.snapshot"),
+            database
+        );
+
+        // When
+        List<ProductPrice> result = source.getAllProductPrices();
+
+        // Then
+        assertThat(result).containsExactly(databasePrice);
+    }
+
+    @Test
+    void shouldReloadEveryPriceFromTheDatabaseAfterLoadingTheSnapshot() {
+        // Given
+        Path snapshot = directory.resolve("prices.snapshot");
+        ProductPriceSnapshot.write(snapshot, List.of(snapshotPrice));
+        when(database.getAllProductPrices()).thenReturn(List.of(databasePrice));
+        SnapshotProductPriceSource source = new SnapshotProductPriceSource(snapshot, database);
+        source.getAllProductPrices();
+
+        // When
+        List<ProductPrice> result = new ArrayList<>(source.getAllProductPrices());
+        source.forEachProductPriceInKeyOrder(result::add);
+
+        // Then
+        assertThat(result).containsExactly(databasePrice);
+        verify(database).forEachProductPriceInKeyOrder(any());
+    }
+
+    @Test
+    void shouldGetTheKeysOfTheSnapshotUntilEveryPriceIsReloaded() {
+        // Given
+        Path snapshot = directory.resolve("prices.snapshot");
+        ProductPriceSnapshot.write(snapshot, List.of(snapshotPrice));
+        ProductPriceKey databaseKey = new ProductPriceKey(brandId, new ProductId(35456));
+        when(database.getAllProductPriceKeys()).thenReturn(List.of(databaseKey));
+        SnapshotProductPriceSource source = new SnapshotProductPriceSource(snapshot, database);
+        source.getAllProductPrices();
+
+        // When
+        List<ProductPriceKey> loadedKeys = source.getAllProductPriceKeys();
+        source.getAllProductPrices();
+        List<ProductPriceKey> reloadedKeys = source.getAllProductPriceKeys();
+
+        // Then
+        assertThat(loadedKeys).containsExactly(ProductPriceKey.of(snapshotPrice));
+        assertThat(reloadedKeys).containsExactly(databaseKey);
+    }
+
+    @Test
+    void shouldKeepTheKeysReadWhileStreamingTheSnapshot() throws IOException {
+        // Given
+        Path snapshot = directory.resolve("prices.snapshot");
+        ProductPrice anotherProductPrice = new ProductPrice(
+            brandId,
+            snapshotPrice.startDate(),
+            snapshotPrice.endDate(),
+            1,
+            new ProductId(35456),
+            0,
+            snapshotPrice.price()
+        );
+        ProductPriceSnapshot.write(snapshot, List.of(anotherProductPrice, snapshotPrice, databasePrice));
+        SnapshotProductPriceSource source = new SnapshotProductPriceSource(snapshot, database);
+        List<ProductPrice> loaded = new ArrayList<>();
+
+        // When
+        source.forEachProductPriceInKeyOrder(loaded::add);
+        Files.delete(snapshot);
+        List<ProductPriceKey> keys = source.getAllProductPriceKeys();
+
+        // Then
+        assertThat(loaded).isSortedAccordingTo(ProductPriceSource.KEY_ORDER).hasSize(3);
+        assertThat(keys).containsExactly(ProductPriceKey.of(snapshotPrice), ProductPriceKey.of(anotherProductPrice));
+        verifyNoInteractions(database);
+    }
+
+    @Test
+    void shouldRefreshASingleProductFromTheDatabase() {
+        // Given
+        Path snapshot = directory.resolve("prices.snapshot");
+        ProductPriceSnapshot.write(snapshot, List.of(snapshotPrice));
+        when(database.getAllProductPrices(productId, brandId)).thenReturn(List.of(databasePrice));
+        SnapshotProductPriceSource source = new SnapshotProductPriceSource(snapshot, database);
+
+        // When
+        List<ProductPrice> result = source.getAllProductPrices(productId, brandId);
+
+        // Then
+        assertThat(result).containsExactly(databasePrice);
+        verify(database).getAllProductPrices(productId, brandId);
+    }
+
+    private ProductPrice createProductPrice(String amount) {
+        return new ProductPrice(
+            brandId,
+            LocalDateTime.parse("2020-06-14T00:00:00"),
+            LocalDateTime.parse("2020-12-31T23:59:59"),
+            1,
+            productId,
+            0,
+            new Price(new BigDecimal(amount), Monetary.getCurrency("EUR"))
+        );
+    }
+}
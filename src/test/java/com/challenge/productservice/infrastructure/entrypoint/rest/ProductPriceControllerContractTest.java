@@ -8,9 +8,15 @@ import com.challenge.productservice.domain.productprice.Price;
 import com.challenge.productservice.domain.productprice.ProductId;
 import com.challenge.productservice.domain.productprice.ProductPrice;
 import com.challenge.productservice.infrastructure.config.ObjectMapperConfig;
+import com.challenge.productservice.infrastructure.config.RestConfig;
+import com.challenge.productservice.infrastructure.database.concurrency.ProductPriceRepositoryOverloadedException;
+import com.challenge.productservice.infrastructure.entrypoint.rest.request.BatchProductPriceRequest;
+import com.challenge.productservice.infrastructure.entrypoint.rest.response.BatchProductPriceResponse;
 import com.challenge.productservice.infrastructure.entrypoint.rest.response.ProductPriceResponse;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import io.restassured.http.ContentType;
 import io.restassured.module.mockmvc.RestAssuredMockMvc;
 import io.restassured.module.mockmvc.response.MockMvcResponse;
@@ -22,29 +28,41 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.context.WebApplicationContext;
 
 import javax.money.Monetary;
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.List;
 
 import static com.challenge.productservice.application.getproductprice.GetProductPriceResponse.Successful;
 import static com.challenge.productservice.application.getproductprice.GetProductPriceResponse.ProductPriceNotFound;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
-@Import({ObjectMapperConfig.class})
+@Import({ObjectMapperConfig.class, RestConfig.class})
 @WebMvcTest(controllers = ProductPriceController.class)
 class ProductPriceControllerContractTest {
 
+    private static final String CBOR = "application/cbor";
+
     @Autowired
     private WebApplicationContext context;
 
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private CBORMapper cborMapper;
+
     @MockBean
     private GetProductPriceUseCase getProductPriceUseCase;
 
@@ -69,7 +87,7 @@ class ProductPriceControllerContractTest {
     @Test
     void getProductPrice() throws JsonProcessingException {
         // Given
-        GetProductPriceResponse useCaseResponse = new Successful(productPrice);
+        GetProductPriceResponse useCaseResponse = new Successful(productPrice, endDate);
         when(getProductPriceUseCase.execute(useCaseRequest)).thenReturn(useCaseResponse);
         ProductPriceResponse productPriceResponse = new ProductPriceResponse(
             productId.value(),
@@ -92,6 +110,135 @@ class ProductPriceControllerContractTest {
         verify(getProductPriceUseCase).execute(useCaseRequest);
     }
 
+    @Test
+    void shouldAnswerInCborWhenAccepted() throws IOException {
+        // Given
+        when(getProductPriceUseCase.execute(useCaseRequest)).thenReturn(new Successful(productPrice, endDate));
+
+        // When
+        MockMvcResponse response = RestAssuredMockMvc
+            .given()
+            .webAppContextSetup(context)
+            .accept(CBOR)
+            .param("productId", productId.value())
+            .param("brandId", brandId.value())
+            .param("validAt", validAt.toString())
+            .when()
+            .get("/prices");
+
+        // Then
+        response.then()
+            .statusCode(HttpStatus.OK.value())
+            .contentType(CBOR);
+        JsonNode body = cborMapper.readTree(response.asByteArray());
+        assertThat(body.get("productId").asLong()).isEqualTo(productId.value());
+        assertThat(body.get("startDate").asLong()).isEqualTo(startDate.toInstant(ZoneOffset.UTC).toEpochMilli());
+        assertThat(body.get("endDate").asLong()).isEqualTo(endDate.toInstant(ZoneOffset.UTC).toEpochMilli());
+        assertThat(body.get("price").asLong()).isEqualTo(999);
+        assertThat(body.get("currency").asText()).isEqualTo("EUR");
+    }
+
+    @Test
+    void shouldAllowCachingTheResponseUntilThePriceStopsWinning() {
+        // Given
+        when(getProductPriceUseCase.execute(useCaseRequest))
+            .thenReturn(new Successful(productPrice, validAt.plusMinutes(10)));
+
+        // When
+        MockMvcResponse response = whenARequestToGetAProductPriceIsReceived();
+
+        // Then
+        response.then()
+            .statusCode(HttpStatus.OK.value())
+            .header(HttpHeaders.ETAG, CoreMatchers.startsWith("\""))
+            .header(HttpHeaders.CACHE_CONTROL, CoreMatchers.equalTo("max-age=600, public"));
+    }
+
+    @Test
+    void shouldCapTheTimeTheResponseCanBeCached() {
+        // Given
+        when(getProductPriceUseCase.execute(useCaseRequest)).thenReturn(new Successful(productPrice, endDate));
+
+        // When
+        MockMvcResponse response = whenARequestToGetAProductPriceIsReceived();
+
+        // Then
+        response.then()
+            .statusCode(HttpStatus.OK.value())
+            .header(HttpHeaders.CACHE_CONTROL, CoreMatchers.equalTo("max-age=3600, public"));
+    }
+
+    @Test
+    void shouldReturn304WhenTheWinningPriceMatchesTheETag() {
+        // Given
+        when(getProductPriceUseCase.execute(useCaseRequest)).thenReturn(new Successful(productPrice, endDate));
+        String eTag = whenARequestToGetAProductPriceIsReceived().header(HttpHeaders.ETAG);
+
+        // When
+        MockMvcResponse response = RestAssuredMockMvc
+            .given()
+            .webAppContextSetup(context)
+            .header(HttpHeaders.IF_NONE_MATCH, eTag)
+            .param("productId", productId.value())
+            .param("brandId", brandId.value())
+            .param("validAt", validAt.toString())
+            .when()
+            .get("/prices");
+
+        // Then
+        response.then()
+            .statusCode(HttpStatus.NOT_MODIFIED.value())
+            .header(HttpHeaders.ETAG, CoreMatchers.equalTo(eTag))
+            .body(CoreMatchers.equalTo(""));
+    }
+
+    @Test
+    void shouldChangeTheETagWhenTheWinningPriceChanges() {
+        // Given
+        ProductPrice anotherProductPrice = new ProductPrice(
+            brandId,
+            startDate,
+            endDate,
+            priceList,
+            productId,
+            1,
+            new Price(new BigDecimal("10.99"), Monetary.getCurrency("EUR"))
+        );
+        when(getProductPriceUseCase.execute(useCaseRequest))
+            .thenReturn(new Successful(productPrice, endDate))
+            .thenReturn(new Successful(anotherProductPrice, endDate));
+
+        // When
+        String eTag = whenARequestToGetAProductPriceIsReceived().header(HttpHeaders.ETAG);
+        String anotherETag = whenARequestToGetAProductPriceIsReceived().header(HttpHeaders.ETAG);
+
+        // Then
+        assertThat(anotherETag).isNotEqualTo(eTag);
+    }
+
+    @Test
+    void shouldTagTheJsonAndCborRepresentationsApart() {
+        // Given
+        when(getProductPriceUseCase.execute(useCaseRequest)).thenReturn(new Successful(productPrice, endDate));
+
+        // When
+        MockMvcResponse jsonResponse = whenARequestToGetAProductPriceIsReceived();
+        MockMvcResponse cborResponse = RestAssuredMockMvc
+            .given()
+            .webAppContextSetup(context)
+            .accept(CBOR)
+            .param("productId", productId.value())
+            .param("brandId", brandId.value())
+            .param("validAt", validAt.toString())
+            .when()
+            .get("/prices");
+
+        // Then
+        jsonResponse.then().header(HttpHeaders.VARY, CoreMatchers.containsString(HttpHeaders.ACCEPT));
+        cborResponse.then().header(HttpHeaders.VARY, CoreMatchers.containsString(HttpHeaders.ACCEPT));
+        assertThat(cborResponse.header(HttpHeaders.ETAG)).isNotEqualTo(jsonResponse.header(HttpHeaders.ETAG));
+    }
+
     @Test
     void shouldReturn404WhenPriceNotFoundForGivenParameters() {
         // Given
@@ -201,6 +348,176 @@ class ProductPriceControllerContractTest {
         verify(getProductPriceUseCase).execute(useCaseRequest);
     }
 
+    @Test
+    void shouldReturn503WhenTheRepositoryIsOverloaded() {
+        // Given
+        when(getProductPriceUseCase.execute(useCaseRequest))
+            .thenThrow(new ProductPriceRepositoryOverloadedException("Timed out waiting to query product prices"));
+
+        // When
+        MockMvcResponse response = whenARequestToGetAProductPriceIsReceived();
+
+        // Then
+        response.then()
+            .statusCode(HttpStatus.SERVICE_UNAVAILABLE.value())
+            .body("detail", CoreMatchers.equalTo("The service is overloaded, try again later"));
+        verify(getProductPriceUseCase).execute(useCaseRequest);
+    }
+
+    @Test
+    void getProductPricesInBatch() throws JsonProcessingException {
+        // Given
+        ProductId anotherProductId = new ProductId(2526);
+        GetProductPriceRequest anotherUseCaseRequest = new GetProductPriceRequest(anotherProductId, brandId, validAt);
+        when(getProductPriceUseCase.executeBatch(List.of(useCaseRequest, anotherUseCaseRequest)))
+            .thenReturn(List.of(new Successful(productPrice, endDate), new ProductPriceNotFound()));
+        BatchProductPriceResponse batchResponse = new BatchProductPriceResponse(List.of(
+            new BatchProductPriceResponse.Item(
+                productId.value(),
+                brandId.value(),
+                validAt,
+                BatchProductPriceResponse.Status.FOUND,
+                new ProductPriceResponse(
+                    productId.value(),
+                    brandId.value(),
+                    priceList,
+                    startDate,
+                    endDate,
+                    price.amount(),
+                    price.currency().getCurrencyCode()
+                )
+            ),
+            new BatchProductPriceResponse.Item(
+                anotherProductId.value(),
+                brandId.value(),
+                validAt,
+                BatchProductPriceResponse.Status.NOT_FOUND,
+                null
+            )
+        ));
+        String expectedJsonResponse = objectMapper.writeValueAsString(batchResponse);
+
+        // When
+        MockMvcResponse response = whenABatchRequestIsReceived(new BatchProductPriceRequest(List.of(
+            new BatchProductPriceRequest.Item(productId.value(), brandId.value(), validAt),
+            new BatchProductPriceRequest.Item(anotherProductId.value(), brandId.value(), validAt)
+        )));
+
+        // Then
+        response.then()
+            .statusCode(HttpStatus.OK.value())
+            .body(CoreMatchers.equalTo(expectedJsonResponse));
+        verify(getProductPriceUseCase).executeBatch(List.of(useCaseRequest, anotherUseCaseRequest));
+    }
+
+    @Test
+    void getProductPricesInBatchInCbor() throws IOException {
+        // Given
+        LocalDateTime batchValidAt = validAt.truncatedTo(ChronoUnit.MILLIS);
+        GetProductPriceRequest batchUseCaseRequest = new GetProductPriceRequest(productId, brandId, batchValidAt);
+        when(getProductPriceUseCase.executeBatch(List.of(batchUseCaseRequest)))
+            .thenReturn(List.of(new Successful(productPrice, endDate)));
+        BatchProductPriceRequest request = new BatchProductPriceRequest(List.of(
+            new BatchProductPriceRequest.Item(productId.value(), brandId.value(), batchValidAt)
+        ));
+
+        // When
+        MockMvcResponse response = RestAssuredMockMvc
+            .given()
+            .webAppContextSetup(context)
+            .contentType(CBOR)
+            .accept(CBOR)
+            .body(cborMapper.writeValueAsBytes(request))
+            .when()
+            .post("/prices/batch");
+
+        // Then
+        response.then()
+            .statusCode(HttpStatus.OK.value())
+            .contentType(CBOR);
+        JsonNode item = cborMapper.readTree(response.asByteArray()).get("items").get(0);
+        assertThat(item.get("validAt").asLong()).isEqualTo(batchValidAt.toInstant(ZoneOffset.UTC).toEpochMilli());
+        assertThat(item.get("status").asText()).isEqualTo("FOUND");
+        assertThat(item.get("price").get("price").asLong()).isEqualTo(999);
+        verify(getProductPriceUseCase).executeBatch(List.of(batchUseCaseRequest));
+    }
+
+    @Test
+    void shouldReturn400WhenBatchHasNoItems() throws JsonProcessingException {
+        // When
+        MockMvcResponse response = whenABatchRequestIsReceived(new BatchProductPriceRequest(List.of()));
+
+        // Then
+        response.then()
+            .statusCode(HttpStatus.BAD_REQUEST.value())
+            .body("detail", CoreMatchers.equalTo("Field 'items' must not be empty"));
+        verifyNoInteractions(getProductPriceUseCase);
+    }
+
+    @Test
+    void shouldReturn400WhenBatchExceedsTheMaximumNumberOfItems() throws JsonProcessingException {
+        // Given
+        BatchProductPriceRequest.Item item = new BatchProductPriceRequest.Item(
+            productId.value(),
+            brandId.value(),
+            validAt
+        );
+        List<BatchProductPriceRequest.Item> items = Collections.nCopies(BatchProductPriceRequest.MAX_ITEMS + 1, item);
+
+        // When
+        MockMvcResponse response = whenABatchRequestIsReceived(new BatchProductPriceRequest(items));
+
+        // Then
+        response.then()
+            .statusCode(HttpStatus.BAD_REQUEST.value())
+            .body("detail", CoreMatchers.startsWith("Field 'items' size must be between"));
+        verifyNoInteractions(getProductPriceUseCase);
+    }
+
+    @Test
+    void shouldReturn400WhenABatchItemHasAMissingField() throws JsonProcessingException {
+        // When
+        MockMvcResponse response = whenABatchRequestIsReceived(new BatchProductPriceRequest(List.of(
+            new BatchProductPriceRequest.Item(productId.value(), null, validAt)
+        )));
+
+        // Then
+        response.then()
+            .statusCode(HttpStatus.BAD_REQUEST.value())
+            .body("detail", CoreMatchers.equalTo("Field 'items[0].brandId' must not be null"));
+        verifyNoInteractions(getProductPriceUseCase);
+    }
+
+    @Test
+    void shouldReturn400WhenBatchBodyIsMalformed() {
+        // When
+        MockMvcResponse response = RestAssuredMockMvc
+            .given()
+            .webAppContextSetup(context)
+            .contentType(ContentType.JSON)
+            .body("{\"items\": [")
+            .when()
+            .post("/prices/batch");
+
+        // Then
+        response.then()
+            .statusCode(HttpStatus.BAD_REQUEST.value())
+            .body("detail", CoreMatchers.equalTo("Request body is malformed"));
+        verifyNoInteractions(getProductPriceUseCase);
+    }
+
+    private MockMvcResponse whenABatchRequestIsReceived(
+        BatchProductPriceRequest request
+    ) throws JsonProcessingException {
+        return RestAssuredMockMvc
+            .given()
+            .webAppContextSetup(context)
+            .contentType(ContentType.JSON)
+            .body(objectMapper.writeValueAsString(request))
+            .when()
+            .post("/prices/batch");
+    }
+
     private MockMvcResponse whenARequestToGetAProductPriceIsReceived() {
         return whenARequestToGetAProductPriceIsReceived(
             String.valueOf(productId.value()),
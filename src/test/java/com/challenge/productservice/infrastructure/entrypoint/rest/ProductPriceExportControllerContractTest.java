@@ -0,0 +1,129 @@
+package com.challenge.productservice.infrastructure.entrypoint.rest;
+
+import com.challenge.productservice.application.exportproductprices.ExportProductPricesRequest;
+import com.challenge.productservice.application.exportproductprices.ExportProductPricesResponse;
+import com.challenge.productservice.application.exportproductprices.ExportProductPricesUseCase;
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.Price;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.infrastructure.config.ObjectMapperConfig;
+import com.challenge.productservice.infrastructure.config.RestConfig;
+import com.challenge.productservice.infrastructure.feed.ProductPriceFeedFormat;
+import com.challenge.productservice.infrastructure.feed.ProductPriceFeedReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import javax.money.Monetary;
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Import({ObjectMapperConfig.class, RestConfig.class})
+@WebMvcTest(controllers = ProductPriceExportController.class)
+class ProductPriceExportControllerContractTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private ExportProductPricesUseCase exportProductPricesUseCase;
+
+    BrandId brandId = new BrandId(1);
+    LocalDateTime validAt = LocalDateTime.parse("2020-06-14T16:00:00");
+    ProductPrice productPrice = new ProductPrice(
+        brandId,
+        LocalDateTime.parse("2020-06-14T15:00:00"),
+        LocalDateTime.parse("2020-06-14T18:30:00"),
+        2,
+        new ProductId(35455),
+        1,
+        new Price(new BigDecimal("25.45"), Monetary.getCurrency("EUR"))
+    );
+    ProductPrice anotherProductPrice = new ProductPrice(
+        brandId,
+        LocalDateTime.parse("2020-06-14T00:00:00"),
+        LocalDateTime.parse("2020-12-31T23:59:59"),
+        1,
+        new ProductId(35456),
+        0,
+        new Price(new BigDecimal("35.50"), Monetary.getCurrency("EUR"))
+    );
+
+    @Test
+    void exportProductPricesAsAnImportableFeed() throws Exception {
+        // Given
+        givenTheUseCaseExports(List.of(productPrice, anotherProductPrice));
+
+        // When
+        MvcResult started = mockMvc.perform(get("/prices/export")
+                .param("brandId", String.valueOf(brandId.value()))
+                .param("validAt", validAt.toString()))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        MockHttpServletResponse response = mockMvc.perform(asyncDispatch(started))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse();
+
+        // Then
+        assertThat(response.getContentType()).isEqualTo(ProductPriceImportController.NDJSON);
+        assertThat(response.getContentAsString()).endsWith("\n");
+        try (Stream<ProductPrice> exported = new ProductPriceFeedReader(objectMapper).read(
+            new ByteArrayInputStream(response.getContentAsByteArray()),
+            ProductPriceFeedFormat.NDJSON
+        )) {
+            assertThat(exported).containsExactly(productPrice, anotherProductPrice);
+        }
+    }
+
+    @Test
+    void shouldReturn400WhenValidAtIsMissing() throws Exception {
+        // When
+        ResultActions response = mockMvc.perform(
+            get("/prices/export").param("brandId", String.valueOf(brandId.value()))
+        );
+
+        // Then
+        response
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.detail", equalTo("Required request parameter 'validAt' is not present")));
+        verifyNoInteractions(exportProductPricesUseCase);
+    }
+
+    private void givenTheUseCaseExports(List<ProductPrice> productPrices) {
+        when(exportProductPricesUseCase.execute(eq(new ExportProductPricesRequest(brandId, validAt)), any()))
+            .thenAnswer(invocation -> {
+                Consumer<ProductPrice> output = invocation.getArgument(1);
+                productPrices.forEach(output);
+                return new ExportProductPricesResponse(productPrices.size(), Duration.ofSeconds(1));
+            });
+    }
+}
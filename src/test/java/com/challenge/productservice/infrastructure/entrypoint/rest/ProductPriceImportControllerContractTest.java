@@ -0,0 +1,159 @@
+package com.challenge.productservice.infrastructure.entrypoint.rest;
+
+import com.challenge.productservice.application.importproductprices.ImportProductPricesRequest;
+import com.challenge.productservice.application.importproductprices.ImportProductPricesResponse;
+import com.challenge.productservice.application.importproductprices.ImportProductPricesUseCase;
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.Price;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.infrastructure.config.ObjectMapperConfig;
+import io.restassured.module.mockmvc.RestAssuredMockMvc;
+import io.restassured.module.mockmvc.response.MockMvcResponse;
+import org.hamcrest.CoreMatchers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.context.WebApplicationContext;
+
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@Import({ObjectMapperConfig.class})
+@WebMvcTest(controllers = ProductPriceImportController.class)
+class ProductPriceImportControllerContractTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @MockBean
+    private ImportProductPricesUseCase importProductPricesUseCase;
+
+    List<ProductPrice> importedPrices = new ArrayList<>();
+    ProductPrice basePrice = new ProductPrice(
+        new BrandId(1),
+        LocalDateTime.parse("2020-06-14T00:00:00"),
+        LocalDateTime.parse("2020-12-31T23:59:59"),
+        1,
+        new ProductId(35455),
+        0,
+        new Price(new BigDecimal("35.50"), Monetary.getCurrency("EUR"))
+    );
+    ProductPrice promotion = new ProductPrice(
+        new BrandId(1),
+        LocalDateTime.parse("2020-06-14T15:00:00"),
+        LocalDateTime.parse("2020-06-14T18:30:00"),
+        2,
+        new ProductId(35455),
+        1,
+        new Price(new BigDecimal("25.45"), Monetary.getCurrency("EUR"))
+    );
+
+    @Test
+    void importCsvFeed() {
+        // Given
+        givenTheUseCaseImportsTheFeed();
+        String feed = """
+            brand_id,start_date,end_date,price_list,product_id,priority,price,currency
+            1,2020-06-14T00:00:00,2020-12-31T23:59:59,1,35455,0,35.50,EUR
+            1,2020-06-14T15:00:00,2020-06-14T18:30:00,2,35455,1,25.45,EUR
+            """;
+
+        // When
+        MockMvcResponse response = whenAFeedIsReceived(ProductPriceImportController.CSV, feed);
+
+        // Then
+        response.then()
+            .statusCode(HttpStatus.OK.value())
+            .body("importedRows", CoreMatchers.equalTo(2))
+            .body("elapsedMillis", CoreMatchers.equalTo(1000));
+        assertThat(importedPrices).containsExactly(basePrice, promotion);
+    }
+
+    @Test
+    void importNdjsonFeed() {
+        // Given
+        givenTheUseCaseImportsTheFeed();
+        String feed = """
+            {"brandId":1,"startDate":"2020-06-14T00:00:00","endDate":"2020-12-31T23:59:59","priceList":1,\
+            "productId":35455,"priority":0,"price":35.50,"currency":"EUR"}
+
+            {"brandId":1,"startDate":"2020-06-14T15:00:00","endDate":"2020-06-14T18:30:00","priceList":2,\
+            "productId":35455,"priority":1,"price":25.45,"currency":"EUR"}
+            """;
+
+        // When
+        MockMvcResponse response = whenAFeedIsReceived(ProductPriceImportController.NDJSON, feed);
+
+        // Then
+        response.then()
+            .statusCode(HttpStatus.OK.value())
+            .body("importedRows", CoreMatchers.equalTo(2));
+        assertThat(importedPrices).containsExactly(basePrice, promotion);
+    }
+
+    @Test
+    void shouldReturn400WithTheLineNumberWhenALineIsInvalid() {
+        // Given
+        givenTheUseCaseImportsTheFeed();
+        String feed = """
+            brand_id,start_date,end_date,price_list,product_id,priority,price,currency
+            1,2020-06-14T00:00:00,2020-12-31T23:59:59,1,35455,0,35.50,EUR
+            1,2020-06-14T15:00:00,2020-06-14T14:00:00,2,35455,1,25.45,EUR
+            """;
+
+        // When
+        MockMvcResponse response = whenAFeedIsReceived(ProductPriceImportController.CSV, feed);
+
+        // Then
+        response.then()
+            .statusCode(HttpStatus.BAD_REQUEST.value())
+            .body("detail", CoreMatchers.equalTo("Line 3: endDate is before startDate"));
+    }
+
+    @Test
+    void shouldReturn400WhenTheCsvHeaderIsMissing() {
+        // Given
+        givenTheUseCaseImportsTheFeed();
+        String feed = """
+            1,2020-06-14T00:00:00,2020-12-31T23:59:59,1,35455,0,35.50,EUR
+            """;
+
+        // When
+        MockMvcResponse response = whenAFeedIsReceived(ProductPriceImportController.CSV, feed);
+
+        // Then
+        response.then()
+            .statusCode(HttpStatus.BAD_REQUEST.value())
+            .body("detail", CoreMatchers.startsWith("Line 1: expected header"));
+    }
+
+    private void givenTheUseCaseImportsTheFeed() {
+        when(importProductPricesUseCase.execute(any())).thenAnswer(invocation -> {
+            ImportProductPricesRequest request = invocation.getArgument(0);
+            request.productPrices().forEach(importedPrices::add);
+            return new ImportProductPricesResponse(importedPrices.size(), Duration.ofSeconds(1));
+        });
+    }
+
+    private MockMvcResponse whenAFeedIsReceived(String contentType, String feed) {
+        return RestAssuredMockMvc
+            .given()
+            .webAppContextSetup(context)
+            .contentType(contentType)
+            .body(feed)
+            .when()
+            .post("/prices/import");
+    }
+}
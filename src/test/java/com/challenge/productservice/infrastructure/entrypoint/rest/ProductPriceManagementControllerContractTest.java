@@ -0,0 +1,255 @@
+package com.challenge.productservice.infrastructure.entrypoint.rest;
+
+import com.challenge.productservice.application.createproductprice.CreateProductPriceRequest;
+import com.challenge.productservice.application.createproductprice.CreateProductPriceResponse;
+import com.challenge.productservice.application.createproductprice.CreateProductPriceUseCase;
+import com.challenge.productservice.application.deleteproductprice.DeleteProductPriceRequest;
+import com.challenge.productservice.application.deleteproductprice.DeleteProductPriceResponse;
+import com.challenge.productservice.application.deleteproductprice.DeleteProductPriceUseCase;
+import com.challenge.productservice.application.updateproductprice.UpdateProductPriceRequest;
+import com.challenge.productservice.application.updateproductprice.UpdateProductPriceResponse;
+import com.challenge.productservice.application.updateproductprice.UpdateProductPriceUseCase;
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.Price;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceId;
+import com.challenge.productservice.infrastructure.config.ObjectMapperConfig;
+import com.challenge.productservice.infrastructure.config.RestConfig;
+import com.challenge.productservice.infrastructure.entrypoint.rest.request.ProductPriceRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import io.restassured.http.ContentType;
+import io.restassured.module.mockmvc.RestAssuredMockMvc;
+import io.restassured.module.mockmvc.response.MockMvcResponse;
+import io.restassured.module.mockmvc.specification.MockMvcRequestSpecification;
+import org.hamcrest.CoreMatchers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.context.WebApplicationContext;
+
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@Import({ObjectMapperConfig.class, RestConfig.class})
+@WebMvcTest(controllers = ProductPriceManagementController.class)
+class ProductPriceManagementControllerContractTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CBORMapper cborMapper;
+
+    @MockBean
+    private CreateProductPriceUseCase createProductPriceUseCase;
+
+    @MockBean
+    private UpdateProductPriceUseCase updateProductPriceUseCase;
+
+    @MockBean
+    private DeleteProductPriceUseCase deleteProductPriceUseCase;
+
+    UUID id = UUID.randomUUID();
+    LocalDateTime startDate = LocalDateTime.parse("2020-06-14T00:00:00");
+    LocalDateTime endDate = LocalDateTime.parse("2020-12-31T23:59:59");
+    ProductPriceRequest request = new ProductPriceRequest(
+        1L,
+        35455L,
+        1,
+        0,
+        startDate,
+        endDate,
+        new BigDecimal("35.50"),
+        "EUR"
+    );
+    ProductPrice productPrice = new ProductPrice(
+        new BrandId(1),
+        startDate,
+        endDate,
+        1,
+        new ProductId(35455),
+        0,
+        new Price(new BigDecimal("35.50"), Monetary.getCurrency("EUR"))
+    );
+
+    @Test
+    void createProductPrice() throws JsonProcessingException {
+        // Given
+        when(createProductPriceUseCase.execute(new CreateProductPriceRequest(productPrice)))
+            .thenReturn(new CreateProductPriceResponse(new ProductPriceId(id)));
+
+        // When
+        MockMvcResponse response = whenARequestIsReceived(request).post("/prices");
+
+        // Then
+        response.then()
+            .statusCode(HttpStatus.CREATED.value())
+            .header("Location", CoreMatchers.endsWith("/prices/" + id))
+            .body("id", CoreMatchers.equalTo(id.toString()));
+    }
+
+    @Test
+    void updateProductPrice() throws JsonProcessingException {
+        // Given
+        when(updateProductPriceUseCase.execute(new UpdateProductPriceRequest(new ProductPriceId(id), productPrice)))
+            .thenReturn(new UpdateProductPriceResponse.Updated());
+
+        // When
+        MockMvcResponse response = whenARequestIsReceived(request).put("/prices/" + id);
+
+        // Then
+        response.then().statusCode(HttpStatus.NO_CONTENT.value());
+    }
+
+    @Test
+    void shouldReturn404WhenUpdatingAnUnknownPrice() throws JsonProcessingException {
+        // Given
+        when(updateProductPriceUseCase.execute(new UpdateProductPriceRequest(new ProductPriceId(id), productPrice)))
+            .thenReturn(new UpdateProductPriceResponse.ProductPriceNotFound());
+
+        // When
+        MockMvcResponse response = whenARequestIsReceived(request).put("/prices/" + id);
+
+        // Then
+        response.then()
+            .statusCode(HttpStatus.NOT_FOUND.value())
+            .body("detail", CoreMatchers.equalTo("Price not found for given ID."));
+    }
+
+    @Test
+    void deleteProductPrice() {
+        // Given
+        when(deleteProductPriceUseCase.execute(new DeleteProductPriceRequest(new ProductPriceId(id))))
+            .thenReturn(new DeleteProductPriceResponse.Deleted());
+
+        // When
+        MockMvcResponse response = RestAssuredMockMvc
+            .given()
+            .webAppContextSetup(context)
+            .when()
+            .delete("/prices/" + id);
+
+        // Then
+        response.then().statusCode(HttpStatus.NO_CONTENT.value());
+    }
+
+    @Test
+    void shouldReturn404WhenDeletingAnUnknownPrice() {
+        // Given
+        when(deleteProductPriceUseCase.execute(new DeleteProductPriceRequest(new ProductPriceId(id))))
+            .thenReturn(new DeleteProductPriceResponse.ProductPriceNotFound());
+
+        // When
+        MockMvcResponse response = RestAssuredMockMvc
+            .given()
+            .webAppContextSetup(context)
+            .when()
+            .delete("/prices/" + id);
+
+        // Then
+        response.then()
+            .statusCode(HttpStatus.NOT_FOUND.value())
+            .body("detail", CoreMatchers.equalTo("Price not found for given ID."));
+    }
+
+    @Test
+    void shouldReturn400WhenThePriceEndsBeforeItStarts() throws JsonProcessingException {
+        // Given
+        ProductPriceRequest invalidRequest = new ProductPriceRequest(
+            1L,
+            35455L,
+            1,
+            0,
+            endDate,
+            startDate,
+            new BigDecimal("35.50"),
+            "EUR"
+        );
+
+        // When
+        MockMvcResponse response = whenARequestIsReceived(invalidRequest).post("/prices");
+
+        // Then
+        response.then()
+            .statusCode(HttpStatus.BAD_REQUEST.value())
+            .body("detail", CoreMatchers.equalTo("Field 'period' must not end before it starts"));
+        verifyNoInteractions(createProductPriceUseCase);
+    }
+
+    @Test
+    void shouldReturn400WhenTheCurrencyIsUnknown() throws JsonProcessingException {
+        // Given
+        ProductPriceRequest invalidRequest = new ProductPriceRequest(
+            1L,
+            35455L,
+            1,
+            0,
+            startDate,
+            endDate,
+            new BigDecimal("35.50"),
+            "XXZ"
+        );
+
+        // When
+        MockMvcResponse response = whenARequestIsReceived(invalidRequest).post("/prices");
+
+        // Then
+        response.then()
+            .statusCode(HttpStatus.BAD_REQUEST.value())
+            .body("detail", CoreMatchers.equalTo("Currency 'XXZ' is unknown"));
+        verifyNoInteractions(createProductPriceUseCase);
+    }
+
+    @Test
+    void shouldReturn400WhenACborAmountIsNotInHundredths() throws JsonProcessingException {
+        // Given
+        byte[] body = cborMapper.writeValueAsBytes(Map.of(
+            "brandId", 1,
+            "productId", 35455,
+            "priceList", 1,
+            "priority", 0,
+            "startDate", startDate.toInstant(ZoneOffset.UTC).toEpochMilli(),
+            "endDate", endDate.toInstant(ZoneOffset.UTC).toEpochMilli(),
+            "price", 35.5,
+            "currency", "EUR"
+        ));
+
+        // When
+        MockMvcResponse response = RestAssuredMockMvc
+            .given()
+            .webAppContextSetup(context)
+            .contentType("application/cbor")
+            .body(body)
+            .when()
+            .post("/prices");
+
+        // Then
+        response.then().statusCode(HttpStatus.BAD_REQUEST.value());
+        verifyNoInteractions(createProductPriceUseCase);
+    }
+
+    private MockMvcRequestSpecification whenARequestIsReceived(ProductPriceRequest request) throws JsonProcessingException {
+        return RestAssuredMockMvc
+            .given()
+            .webAppContextSetup(context)
+            .contentType(ContentType.JSON)
+            .body(objectMapper.writeValueAsString(request))
+            .when();
+    }
+}
@@ -0,0 +1,133 @@
+package com.challenge.productservice.infrastructure.entrypoint.rest;
+
+import com.challenge.productservice.application.getproductpricetimeline.GetProductPriceTimelineRequest;
+import com.challenge.productservice.application.getproductpricetimeline.GetProductPriceTimelineResponse;
+import com.challenge.productservice.application.getproductpricetimeline.GetProductPriceTimelineUseCase;
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.Price;
+import com.challenge.productservice.domain.productprice.PriceTimeline.Segment;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.infrastructure.config.ObjectMapperConfig;
+import com.challenge.productservice.infrastructure.entrypoint.rest.response.ProductPriceResponse;
+import com.challenge.productservice.infrastructure.entrypoint.rest.response.ProductPriceTimelineResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.module.mockmvc.RestAssuredMockMvc;
+import io.restassured.module.mockmvc.response.MockMvcResponse;
+import org.hamcrest.CoreMatchers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.context.WebApplicationContext;
+
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@Import({ObjectMapperConfig.class})
+@WebMvcTest(controllers = ProductPriceTimelineController.class)
+class ProductPriceTimelineControllerContractTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private GetProductPriceTimelineUseCase getProductPriceTimelineUseCase;
+
+    ProductId productId = new ProductId(35455);
+    BrandId brandId = new BrandId(1);
+    LocalDateTime from = LocalDateTime.parse("2020-06-14T00:00:00");
+    LocalDateTime to = LocalDateTime.parse("2020-07-14T00:00:00");
+    ProductPrice productPrice = new ProductPrice(
+        brandId,
+        LocalDateTime.parse("2020-06-14T15:00:00"),
+        LocalDateTime.parse("2020-06-14T18:30:00"),
+        2,
+        productId,
+        1,
+        new Price(new BigDecimal("25.45"), Monetary.getCurrency("EUR"))
+    );
+    GetProductPriceTimelineRequest useCaseRequest = new GetProductPriceTimelineRequest(productId, brandId, from, to);
+
+    @Test
+    void getProductPriceTimeline() throws JsonProcessingException {
+        // Given
+        when(getProductPriceTimelineUseCase.execute(useCaseRequest)).thenReturn(new GetProductPriceTimelineResponse(
+            List.of(new Segment(productPrice.startDate(), productPrice.endDate(), productPrice))
+        ));
+        String expectedJsonResponse = objectMapper.writeValueAsString(new ProductPriceTimelineResponse(
+            productId.value(),
+            brandId.value(),
+            List.of(new ProductPriceTimelineResponse.Segment(
+                productPrice.startDate(),
+                productPrice.endDate(),
+                new ProductPriceResponse(
+                    brandId.value(),
+                    productId.value(),
+                    2,
+                    productPrice.startDate(),
+                    productPrice.endDate(),
+                    new BigDecimal("25.45"),
+                    "EUR"
+                )
+            ))
+        ));
+
+        // When
+        MockMvcResponse response = whenATimelineRequestIsReceived(from.toString(), to.toString());
+
+        // Then
+        response.then()
+            .statusCode(HttpStatus.OK.value())
+            .body(CoreMatchers.equalTo(expectedJsonResponse));
+        verify(getProductPriceTimelineUseCase).execute(useCaseRequest);
+    }
+
+    @Test
+    void shouldReturn400WhenTheRangeEndsBeforeItStarts() {
+        // When
+        MockMvcResponse response = whenATimelineRequestIsReceived(to.toString(), from.toString());
+
+        // Then
+        response.then()
+            .statusCode(HttpStatus.BAD_REQUEST.value())
+            .body("detail", CoreMatchers.equalTo("Parameter 'to' must not be before 'from'"));
+        verifyNoInteractions(getProductPriceTimelineUseCase);
+    }
+
+    @Test
+    void shouldReturn400WhenADateHasAnInvalidFormat() {
+        // When
+        MockMvcResponse response = whenATimelineRequestIsReceived(from.toString(), "2020/7/14");
+
+        // Then
+        response.then()
+            .statusCode(HttpStatus.BAD_REQUEST.value())
+            .body("detail", CoreMatchers.equalTo("Parameter 'to' has an invalid type"));
+        verifyNoInteractions(getProductPriceTimelineUseCase);
+    }
+
+    private MockMvcResponse whenATimelineRequestIsReceived(String from, String to) {
+        return RestAssuredMockMvc
+            .given()
+            .webAppContextSetup(context)
+            .param("productId", productId.value())
+            .param("brandId", brandId.value())
+            .param("from", from)
+            .param("to", to)
+            .when()
+            .get("/prices/timeline");
+    }
+}
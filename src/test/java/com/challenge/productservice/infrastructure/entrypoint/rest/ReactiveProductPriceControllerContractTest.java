@@ -0,0 +1,268 @@
+package com.challenge.productservice.infrastructure.entrypoint.rest;
+
+import com.challenge.productservice.application.getproductprice.GetProductPriceReactiveUseCase;
+import com.challenge.productservice.application.getproductprice.GetProductPriceRequest;
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.Price;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.infrastructure.config.ObjectMapperConfig;
+import com.challenge.productservice.infrastructure.config.RestConfig;
+import com.challenge.productservice.infrastructure.entrypoint.rest.response.ProductPriceResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import javax.money.Monetary;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static com.challenge.productservice.application.getproductprice.GetProductPriceResponse.ProductPriceNotFound;
+import static com.challenge.productservice.application.getproductprice.GetProductPriceResponse.Successful;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@Import({ObjectMapperConfig.class, RestConfig.class})
+@ActiveProfiles("reactive")
+@WebFluxTest(controllers = ReactiveProductPriceController.class)
+class ReactiveProductPriceControllerContractTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CBORMapper cborMapper;
+
+    @MockBean
+    private GetProductPriceReactiveUseCase getProductPriceReactiveUseCase;
+
+    ProductId productId = new ProductId(2525);
+    BrandId brandId = new BrandId(1);
+    LocalDateTime validAt = LocalDateTime.parse("2020-06-14T16:00:00");
+    LocalDateTime startDate = validAt.minusDays(1);
+    LocalDateTime endDate = validAt.plusDays(1);
+    Price price = new Price(new BigDecimal("9.99"), Monetary.getCurrency("EUR"));
+    int priceList = 1;
+    ProductPrice productPrice = new ProductPrice(
+        brandId,
+        startDate,
+        endDate,
+        priceList,
+        productId,
+        1,
+        price
+    );
+    GetProductPriceRequest useCaseRequest = new GetProductPriceRequest(productId, brandId, validAt);
+
+    @Test
+    void getProductPrice() throws JsonProcessingException {
+        // Given
+        when(getProductPriceReactiveUseCase.execute(useCaseRequest))
+            .thenReturn(CompletableFuture.completedFuture(new Successful(productPrice, endDate)));
+        ProductPriceResponse productPriceResponse = new ProductPriceResponse(
+            productId.value(),
+            brandId.value(),
+            priceList,
+            startDate,
+            endDate,
+            price.amount(),
+            price.currency().getCurrencyCode()
+        );
+        String expectedJsonResponse = objectMapper.writeValueAsString(productPriceResponse);
+
+        // When
+        WebTestClient.ResponseSpec response = whenARequestToGetAProductPriceIsReceived(requestParams());
+
+        // Then
+        response.expectStatus().isOk()
+            .expectHeader().valueEquals(HttpHeaders.CACHE_CONTROL, "max-age=3600, public")
+            .expectBody().json(expectedJsonResponse);
+        verify(getProductPriceReactiveUseCase).execute(useCaseRequest);
+    }
+
+    @Test
+    void shouldAnswerInCborWhenAccepted() throws IOException {
+        // Given
+        when(getProductPriceReactiveUseCase.execute(useCaseRequest))
+            .thenReturn(CompletableFuture.completedFuture(new Successful(productPrice, endDate)));
+
+        // When
+        WebTestClient.ResponseSpec response = webTestClient.get()
+            .uri(uriBuilder -> uriBuilder.path("/prices")
+                .queryParam("productId", productId.value())
+                .queryParam("brandId", brandId.value())
+                .queryParam("validAt", validAt)
+                .build()
+            )
+            .accept(MediaType.APPLICATION_CBOR)
+            .exchange();
+
+        // Then
+        byte[] body = response.expectStatus().isOk()
+            .expectHeader().contentType(MediaType.APPLICATION_CBOR)
+            .expectBody().returnResult()
+            .getResponseBodyContent();
+        JsonNode productPriceResponse = cborMapper.readTree(body);
+        assertThat(productPriceResponse.get("startDate").asLong())
+            .isEqualTo(startDate.toInstant(ZoneOffset.UTC).toEpochMilli());
+        assertThat(productPriceResponse.get("price").asLong()).isEqualTo(999);
+    }
+
+    @Test
+    void shouldReturn304WhenTheWinningPriceMatchesTheETag() {
+        // Given
+        when(getProductPriceReactiveUseCase.execute(useCaseRequest))
+            .thenReturn(CompletableFuture.completedFuture(new Successful(productPrice, endDate)));
+        String eTag = whenARequestToGetAProductPriceIsReceived(requestParams())
+            .returnResult(String.class)
+            .getResponseHeaders()
+            .getETag();
+
+        // When
+        WebTestClient.ResponseSpec response = webTestClient.get()
+            .uri(uriBuilder -> uriBuilder.path("/prices")
+                .queryParam("productId", productId.value())
+                .queryParam("brandId", brandId.value())
+                .queryParam("validAt", validAt)
+                .build()
+            )
+            .header(HttpHeaders.IF_NONE_MATCH, eTag)
+            .exchange();
+
+        // Then
+        response.expectStatus().isNotModified()
+            .expectHeader().valueEquals(HttpHeaders.ETAG, eTag)
+            .expectBody().isEmpty();
+    }
+
+    @Test
+    void shouldNotMatchTheETagOfAnotherRepresentation() {
+        // Given
+        when(getProductPriceReactiveUseCase.execute(useCaseRequest))
+            .thenReturn(CompletableFuture.completedFuture(new Successful(productPrice, endDate)));
+        String jsonETag = whenARequestToGetAProductPriceIsReceived(requestParams())
+            .returnResult(String.class)
+            .getResponseHeaders()
+            .getETag();
+
+        // When
+        WebTestClient.ResponseSpec response = webTestClient.get()
+            .uri(uriBuilder -> uriBuilder.path("/prices")
+                .queryParam("productId", productId.value())
+                .queryParam("brandId", brandId.value())
+                .queryParam("validAt", validAt)
+                .build()
+            )
+            .accept(MediaType.APPLICATION_CBOR)
+            .header(HttpHeaders.IF_NONE_MATCH, jsonETag)
+            .exchange();
+
+        // Then
+        response.expectStatus().isOk()
+            .expectHeader().contentType(MediaType.APPLICATION_CBOR)
+            .expectHeader().valueMatches(HttpHeaders.VARY, ".*Accept.*");
+        assertThat(response.returnResult(byte[].class).getResponseHeaders().getETag()).isNotEqualTo(jsonETag);
+    }
+
+    @Test
+    void shouldReturn404WhenPriceNotFoundForGivenParameters() {
+        // Given
+        when(getProductPriceReactiveUseCase.execute(useCaseRequest))
+            .thenReturn(CompletableFuture.completedFuture(new ProductPriceNotFound()));
+
+        // When
+        WebTestClient.ResponseSpec response = whenARequestToGetAProductPriceIsReceived(requestParams());
+
+        // Then
+        response.expectStatus().isNotFound()
+            .expectBody().jsonPath("$.detail").isEqualTo("Price not found for given parameters.");
+        verify(getProductPriceReactiveUseCase).execute(useCaseRequest);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"productId", "brandId", "validAt"})
+    void shouldReturn400WhenAParamIsMissing(String missingParamName) {
+        // Given
+        Map<String, Object> params = requestParams();
+        params.remove(missingParamName);
+
+        // When
+        WebTestClient.ResponseSpec response = whenARequestToGetAProductPriceIsReceived(params);
+
+        // Then
+        response.expectStatus().isBadRequest()
+            .expectBody().jsonPath("$.detail").isEqualTo(
+                String.format("Required request parameter '%s' is not present", missingParamName)
+            );
+        verifyNoInteractions(getProductPriceReactiveUseCase);
+    }
+
+    @Test
+    void shouldReturn400WhenValidAtParamHasInvalidDateTimeFormat() {
+        // Given
+        Map<String, Object> params = requestParams();
+        params.put("validAt", "2024/7/2");
+
+        // When
+        WebTestClient.ResponseSpec response = whenARequestToGetAProductPriceIsReceived(params);
+
+        // Then
+        response.expectStatus().isBadRequest()
+            .expectBody().jsonPath("$.detail").isEqualTo("Parameter 'validAt' has an invalid type");
+        verifyNoInteractions(getProductPriceReactiveUseCase);
+    }
+
+    @Test
+    void shouldReturn500WhenErrorOccurs() {
+        // Given
+        when(getProductPriceReactiveUseCase.execute(useCaseRequest))
+            .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Unexpected error")));
+
+        // When
+        WebTestClient.ResponseSpec response = whenARequestToGetAProductPriceIsReceived(requestParams());
+
+        // Then
+        response.expectStatus().is5xxServerError()
+            .expectBody().jsonPath("$.detail").isEqualTo("An unexpected error occurred");
+    }
+
+    private Map<String, Object> requestParams() {
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("productId", productId.value());
+        params.put("brandId", brandId.value());
+        params.put("validAt", validAt);
+        return params;
+    }
+
+    private WebTestClient.ResponseSpec whenARequestToGetAProductPriceIsReceived(Map<String, Object> params) {
+        return webTestClient.get()
+            .uri(uriBuilder -> {
+                uriBuilder.path("/prices");
+                params.forEach(uriBuilder::queryParam);
+                return uriBuilder.build();
+            })
+            .exchange();
+    }
+}
@@ -0,0 +1,119 @@
+package com.challenge.productservice.infrastructure.entrypoint.rest.cbor;
+
+import com.challenge.productservice.infrastructure.config.ObjectMapperConfig;
+import com.challenge.productservice.infrastructure.entrypoint.rest.response.ProductPriceResponse;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompactCborModuleTest {
+    private final CBORMapper cborMapper = new ObjectMapperConfig().cborMapper();
+
+    ProductPriceResponse productPriceResponse = new ProductPriceResponse(
+        1,
+        35455,
+        4,
+        LocalDateTime.parse("2020-06-14T00:00:00"),
+        LocalDateTime.parse("2020-12-31T23:59:59.250"),
+        new BigDecimal("35.50"),
+        "EUR"
+    );
+
+    @Test
+    void shouldWriteDatesAsEpochMillisAndAmountsAsHundredths() throws IOException {
+        // When
+        JsonNode result = cborMapper.readTree(cborMapper.writeValueAsBytes(productPriceResponse));
+
+        // Then
+        assertThat(result.get("startDate").isIntegralNumber()).isTrue();
+        assertThat(result.get("startDate").asLong()).isEqualTo(1_592_092_800_000L);
+        assertThat(result.get("endDate").asLong()).isEqualTo(1_609_459_199_250L);
+        assertThat(result.get("price").isIntegralNumber()).isTrue();
+        assertThat(result.get("price").asLong()).isEqualTo(3550);
+        assertThat(result.get("currency").asText()).isEqualTo("EUR");
+    }
+
+    @Test
+    void shouldReadWhatItWrites() throws IOException {
+        // When
+        ProductPriceResponse result = cborMapper.readValue(
+            cborMapper.writeValueAsBytes(productPriceResponse),
+            ProductPriceResponse.class
+        );
+
+        // Then
+        assertThat(result).isEqualTo(productPriceResponse);
+    }
+
+    @Test
+    void shouldKeepTheNanosecondsOfDatesWithinAMillisecond() throws IOException {
+        // Given
+        ProductPriceResponse endingRightBeforeTheNextPrice = new ProductPriceResponse(
+            1,
+            35455,
+            4,
+            productPriceResponse.startDate(),
+            LocalDateTime.parse("2020-06-15T00:00:00").minusNanos(1),
+            productPriceResponse.price(),
+            "EUR"
+        );
+
+        // When
+        byte[] bytes = cborMapper.writeValueAsBytes(endingRightBeforeTheNextPrice);
+        JsonNode tree = cborMapper.readTree(bytes);
+        ProductPriceResponse result = cborMapper.readValue(bytes, ProductPriceResponse.class);
+
+        // Then
+        assertThat(tree.get("startDate").isIntegralNumber()).isTrue();
+        assertThat(tree.get("endDate").isIntegralNumber()).isFalse();
+        assertThat(result.endDate()).isEqualTo(LocalDateTime.parse("2020-06-14T23:59:59.999999999"));
+        assertThat(result).isEqualTo(endingRightBeforeTheNextPrice);
+    }
+
+    @Test
+    void shouldNotRoundAmountsWithMoreDecimalsThanStored() {
+        // Given
+        ProductPriceResponse withThreeDecimals = new ProductPriceResponse(
+            1,
+            35455,
+            4,
+            productPriceResponse.startDate(),
+            productPriceResponse.endDate(),
+            new BigDecimal("35.505"),
+            "EUR"
+        );
+
+        // When / Then
+        assertThatThrownBy(() -> cborMapper.writeValueAsBytes(withThreeDecimals))
+            .isInstanceOf(JsonMappingException.class)
+            .hasRootCauseInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void shouldRejectAmountsThatAreNotHundredths() throws IOException {
+        // Given
+        byte[] withDecimalPrice = cborMapper.writeValueAsBytes(Map.of(
+            "brandId", 1,
+            "productId", 35455,
+            "priceList", 4,
+            "startDate", 1_592_092_800_000L,
+            "endDate", 1_609_459_199_250L,
+            "price", 35.5,
+            "currency", "EUR"
+        ));
+
+        // When / Then
+        assertThatThrownBy(() -> cborMapper.readValue(withDecimalPrice, ProductPriceResponse.class))
+            .isInstanceOf(MismatchedInputException.class);
+    }
+}
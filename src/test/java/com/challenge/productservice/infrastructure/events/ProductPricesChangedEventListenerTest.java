@@ -0,0 +1,106 @@
+package com.challenge.productservice.infrastructure.events;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import com.challenge.productservice.domain.productprice.ProductPricesChangedEvent;
+import com.challenge.productservice.domain.productprice.ProductPricesChangedEvent.ChangedProduct;
+import com.challenge.productservice.infrastructure.database.ProductPriceKey;
+import com.challenge.productservice.infrastructure.database.cache.CachingProductPriceRepository;
+import com.challenge.productservice.infrastructure.metrics.MeteredProductPriceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class ProductPricesChangedEventListenerTest {
+    private final CachingProductPriceRepository cachingProductPriceRepository = mock(
+        CachingProductPriceRepository.class
+    );
+
+    ProductId productId = new ProductId(35455);
+    ProductId anotherProductId = new ProductId(35456);
+    BrandId brandId = new BrandId(1);
+
+    @Test
+    void shouldNotifyTheRepositoryWrappedByDecorators() {
+        // Given
+        ProductPricesChangedEventListener listener = new ProductPricesChangedEventListener(
+            new MeteredProductPriceRepository(cachingProductPriceRepository, new SimpleMeterRegistry()),
+            2
+        );
+
+        // When
+        listener.on(new ProductPricesChangedEvent(productId, brandId));
+
+        // Then
+        verify(cachingProductPriceRepository).onProductPricesChanged(productId, brandId);
+    }
+
+    @Test
+    void shouldRefreshTheProductsChangedTogetherAtOnce() {
+        // Given
+        ProductPricesChangedEventListener listener = new ProductPricesChangedEventListener(
+            cachingProductPriceRepository,
+            2
+        );
+
+        // When
+        listener.on(new ProductPricesChangedEvent(Set.of(
+            new ChangedProduct(productId, brandId),
+            new ChangedProduct(anotherProductId, brandId)
+        )));
+
+        // Then
+        verify(cachingProductPriceRepository).onProductPricesChanged(argThat(keys -> Set.copyOf(keys).equals(Set.of(
+            new ProductPriceKey(brandId, productId),
+            new ProductPriceKey(brandId, anotherProductId)
+        ))));
+        verify(cachingProductPriceRepository, never()).reload();
+    }
+
+    @Test
+    void shouldReloadTheRepositoryWhenTooManyProductsChangedTogether() {
+        // Given
+        ProductPricesChangedEventListener listener = new ProductPricesChangedEventListener(
+            cachingProductPriceRepository,
+            2
+        );
+        when(cachingProductPriceRepository.reload()).thenReturn(true);
+
+        // When
+        listener.on(new ProductPricesChangedEvent(Set.of(
+            new ChangedProduct(productId, brandId),
+            new ChangedProduct(anotherProductId, brandId),
+            new ChangedProduct(new ProductId(35457), brandId)
+        )));
+
+        // Then
+        verify(cachingProductPriceRepository).reload();
+        verify(cachingProductPriceRepository, never()).onProductPricesChanged(anyCollection());
+    }
+
+    @Test
+    void shouldIgnoreChangesWhenTheRepositoryHoldsNoPrices() {
+        // Given
+        ProductPriceRepository productPriceRepository = mock(ProductPriceRepository.class);
+        ProductPricesChangedEventListener listener = new ProductPricesChangedEventListener(
+            productPriceRepository,
+            2
+        );
+
+        // When
+        listener.on(new ProductPricesChangedEvent(productId, brandId));
+
+        // Then
+        verifyNoInteractions(productPriceRepository);
+    }
+}
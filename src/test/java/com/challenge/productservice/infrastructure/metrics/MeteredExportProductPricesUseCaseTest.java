@@ -0,0 +1,52 @@
+package com.challenge.productservice.infrastructure.metrics;
+
+import com.challenge.productservice.application.exportproductprices.ExportProductPricesRequest;
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.Price;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceExportRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MeteredExportProductPricesUseCaseTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    BrandId brandId = new BrandId(1);
+    LocalDateTime validAt = LocalDateTime.parse("2020-06-14T16:00:00");
+
+    @Test
+    void shouldRecordExportTimeAndExportedProducts() {
+        // Given
+        List<ProductPrice> productPrices = IntStream.range(0, 3).mapToObj(this::createProductPrice).toList();
+        ProductPriceExportRepository repository = (brandId, validAt, consumer) -> productPrices.forEach(consumer);
+        MeteredExportProductPricesUseCase useCase = new MeteredExportProductPricesUseCase(repository, meterRegistry);
+
+        // When
+        useCase.execute(new ExportProductPricesRequest(brandId, validAt), productPrice -> {});
+
+        // Then
+        assertThat(meterRegistry.get(ProductPriceMetrics.EXPORT).timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(ProductPriceMetrics.EXPORT_PRODUCTS).summary().totalAmount()).isEqualTo(3);
+    }
+
+    private ProductPrice createProductPrice(int product) {
+        return new ProductPrice(
+            brandId,
+            validAt.minusDays(1),
+            validAt.plusDays(1),
+            1,
+            new ProductId(35455 + product),
+            0,
+            new Price(new BigDecimal("9.99"), Monetary.getCurrency("EUR"))
+        );
+    }
+}
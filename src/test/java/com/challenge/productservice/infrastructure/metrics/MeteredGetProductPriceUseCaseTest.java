@@ -0,0 +1,101 @@
+package com.challenge.productservice.infrastructure.metrics;
+
+import com.challenge.productservice.application.getproductprice.GetProductPriceRequest;
+import com.challenge.productservice.application.getproductprice.GetProductPriceResponse;
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.Price;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceQuery;
+import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import com.challenge.productservice.domain.productprice.WinningProductPrice;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MeteredGetProductPriceUseCaseTest {
+    private final ProductPriceRepository productPriceRepository = mock(ProductPriceRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MeteredGetProductPriceUseCase useCase = new MeteredGetProductPriceUseCase(
+        productPriceRepository,
+        meterRegistry
+    );
+
+    ProductId productId = new ProductId(2525);
+    ProductId unknownProductId = new ProductId(2526);
+    BrandId brandId = new BrandId(1);
+    LocalDateTime validAt = LocalDateTime.now();
+    ProductPrice productPrice = new ProductPrice(
+        brandId,
+        validAt.minusDays(1),
+        validAt.plusDays(1),
+        1,
+        productId,
+        0,
+        new Price(BigDecimal.TEN, Monetary.getCurrency("EUR"))
+    );
+
+    @Test
+    void shouldRecordLookupTimeAndOutcome() {
+        // Given
+        when(productPriceRepository.getWinningProductPrice(productId, brandId, validAt))
+            .thenReturn(Optional.of(new WinningProductPrice(productPrice, productPrice.endDate())));
+        when(productPriceRepository.getWinningProductPrice(unknownProductId, brandId, validAt))
+            .thenReturn(Optional.empty());
+
+        // When
+        GetProductPriceResponse response = useCase.execute(new GetProductPriceRequest(productId, brandId, validAt));
+        useCase.execute(new GetProductPriceRequest(unknownProductId, brandId, validAt));
+
+        // Then
+        assertThat(response).isEqualTo(new GetProductPriceResponse.Successful(productPrice, productPrice.endDate()));
+        assertThat(lookupCount(ProductPriceMetrics.OPERATION_SINGLE)).isEqualTo(2);
+        assertThat(resultCount("found")).isEqualTo(1);
+        assertThat(resultCount("not_found")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRecordBatchLookupTimeAndOutcomeOfEveryRequest() {
+        // Given
+        ProductPriceQuery query = new ProductPriceQuery(productId, brandId, validAt);
+        ProductPriceQuery unknownProductQuery = new ProductPriceQuery(unknownProductId, brandId, validAt);
+        when(productPriceRepository.getProductPrices(List.of(query, unknownProductQuery)))
+            .thenReturn(Map.of(query, List.of(productPrice), unknownProductQuery, List.of()));
+
+        // When
+        useCase.executeBatch(List.of(
+            new GetProductPriceRequest(productId, brandId, validAt),
+            new GetProductPriceRequest(unknownProductId, brandId, validAt)
+        ));
+
+        // Then
+        assertThat(lookupCount(ProductPriceMetrics.OPERATION_BATCH)).isEqualTo(1);
+        assertThat(resultCount("found")).isEqualTo(1);
+        assertThat(resultCount("not_found")).isEqualTo(1);
+    }
+
+    private long lookupCount(String operation) {
+        return meterRegistry.get(ProductPriceMetrics.LOOKUP)
+            .tag("stage", ProductPriceMetrics.STAGE_USE_CASE)
+            .tag("operation", operation)
+            .timer()
+            .count();
+    }
+
+    private double resultCount(String outcome) {
+        return meterRegistry.get(ProductPriceMetrics.LOOKUP_RESULTS)
+            .tag("outcome", outcome)
+            .counter()
+            .count();
+    }
+}
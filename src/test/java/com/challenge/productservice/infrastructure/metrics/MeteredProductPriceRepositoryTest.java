@@ -0,0 +1,114 @@
+package com.challenge.productservice.infrastructure.metrics;
+
+import com.challenge.productservice.domain.productprice.BrandId;
+import com.challenge.productservice.domain.productprice.Price;
+import com.challenge.productservice.domain.productprice.ProductId;
+import com.challenge.productservice.domain.productprice.ProductPrice;
+import com.challenge.productservice.domain.productprice.ProductPriceQuery;
+import com.challenge.productservice.domain.productprice.ProductPriceRepository;
+import com.challenge.productservice.infrastructure.database.inmemory.TimelineProductPriceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import javax.money.Monetary;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MeteredProductPriceRepositoryTest {
+    private final ProductPriceRepository delegate = mock(ProductPriceRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MeteredProductPriceRepository repository = new MeteredProductPriceRepository(delegate, meterRegistry);
+
+    ProductId productId = new ProductId(2525);
+    BrandId brandId = new BrandId(1);
+    LocalDateTime validAt = LocalDateTime.now();
+    ProductPrice productPrice = new ProductPrice(
+        brandId,
+        validAt.minusDays(1),
+        validAt.plusDays(1),
+        1,
+        productId,
+        0,
+        new Price(BigDecimal.TEN, Monetary.getCurrency("EUR"))
+    );
+
+    @Test
+    void shouldRecordLookupTimeWithoutBatchCandidates() {
+        // Given
+        when(delegate.getProductPrices(productId, brandId, validAt)).thenReturn(List.of(productPrice, productPrice));
+
+        // When
+        List<ProductPrice> result = repository.getProductPrices(productId, brandId, validAt);
+
+        // Then
+        assertThat(result).containsExactly(productPrice, productPrice);
+        assertThat(lookupCount(ProductPriceMetrics.OPERATION_SINGLE)).isEqualTo(1);
+        assertThat(meterRegistry.get(ProductPriceMetrics.BATCH_LOOKUP_CANDIDATES).summary().count()).isZero();
+    }
+
+    @Test
+    void shouldRecordLookupTimeOfTheResolvedPrice() {
+        // Given
+        when(delegate.getProductPrice(productId, brandId, validAt)).thenReturn(Optional.of(productPrice));
+
+        // When
+        Optional<ProductPrice> result = repository.getProductPrice(productId, brandId, validAt);
+
+        // Then
+        assertThat(result).contains(productPrice);
+        assertThat(lookupCount(ProductPriceMetrics.OPERATION_SINGLE)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRecordBatchLookupTimeAndCandidatesOfEveryQuery() {
+        // Given
+        ProductPriceQuery query = new ProductPriceQuery(productId, brandId, validAt);
+        ProductPriceQuery anotherQuery = new ProductPriceQuery(productId, brandId, validAt.plusDays(5));
+        when(delegate.getProductPrices(List.of(query, anotherQuery)))
+            .thenReturn(Map.of(query, List.of(productPrice), anotherQuery, List.of()));
+
+        // When
+        repository.getProductPrices(List.of(query, anotherQuery));
+
+        // Then
+        assertThat(lookupCount(ProductPriceMetrics.OPERATION_BATCH)).isEqualTo(1);
+        assertThat(meterRegistry.get(ProductPriceMetrics.BATCH_LOOKUP_CANDIDATES).summary().count()).isEqualTo(2);
+        assertThat(meterRegistry.get(ProductPriceMetrics.BATCH_LOOKUP_CANDIDATES).summary().totalAmount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldForwardReloadsToTheRepositoryItWraps() {
+        // Given
+        TimelineProductPriceRepository reloadable = mock(TimelineProductPriceRepository.class);
+        when(reloadable.reload()).thenReturn(true);
+        MeteredProductPriceRepository reloadableRepository = new MeteredProductPriceRepository(
+            reloadable,
+            meterRegistry
+        );
+
+        // When
+        boolean reloaded = reloadableRepository.reload();
+        boolean notReloadable = repository.reload();
+
+        // Then
+        assertThat(reloaded).isTrue();
+        assertThat(notReloadable).isFalse();
+        verify(reloadable).reload();
+    }
+
+    private long lookupCount(String operation) {
+        return meterRegistry.get(ProductPriceMetrics.LOOKUP)
+            .tag("stage", ProductPriceMetrics.STAGE_REPOSITORY)
+            .tag("operation", operation)
+            .timer()
+            .count();
+    }
+}
@@ -0,0 +1,31 @@
+package com.challenge.productservice.infrastructure.money;
+
+import org.junit.jupiter.api.Test;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import javax.money.UnknownCurrencyException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CurrenciesTest {
+
+    @Test
+    void shouldReuseTheSameCurrency() {
+        // When
+        CurrencyUnit first = Currencies.of("EUR");
+        CurrencyUnit second = Currencies.of(new String("EUR"));
+
+        // Then
+        assertThat(first).isEqualTo(Monetary.getCurrency("EUR"));
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void shouldRejectUnknownCurrencies() {
+        // When / Then
+        assertThatThrownBy(() -> Currencies.of("XXZ"))
+            .isInstanceOf(UnknownCurrencyException.class);
+    }
+}